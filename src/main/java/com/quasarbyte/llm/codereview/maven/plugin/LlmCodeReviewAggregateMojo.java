@@ -0,0 +1,91 @@
+package com.quasarbyte.llm.codereview.maven.plugin;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReactorReviewParameterExpanderImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReactorReviewParameterExpander;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.project.MavenProject;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reviews all modules of the reactor in a single run.
+ * <p>
+ * The configured review targets are applied to every reactor project, with relative file group paths resolved
+ * against the project base directory. {@code pom} projects containing other modules are skipped, so that files of
+ * a module are not reviewed a second time through the directory of its aggregator. Batching, batch planning and parallel execution therefore span the whole
+ * reactor, and one merged report is written for the project the goal runs on.
+ * </p>
+ */
+@Mojo(name = "llm-code-review-aggregate", defaultPhase = LifecyclePhase.VERIFY, aggregator = true)
+public class LlmCodeReviewAggregateMojo extends LlmCodeReviewMojo {
+
+    private ReactorReviewParameterExpander reactorReviewParameterExpander;
+
+    public LlmCodeReviewAggregateMojo() {
+        reactorReviewParameterExpander = new ReactorReviewParameterExpanderImpl();
+    }
+
+    public ReactorReviewParameterExpander getReactorReviewParameterExpander() {
+        return reactorReviewParameterExpander;
+    }
+
+    public LlmCodeReviewAggregateMojo setReactorReviewParameterExpander(ReactorReviewParameterExpander reactorReviewParameterExpander) {
+        this.reactorReviewParameterExpander = reactorReviewParameterExpander;
+        return this;
+    }
+
+    @Override
+    protected PReviewParameter resolveReviewParameter() {
+        final List<MavenProject> reactorProjects = getReactorProjects();
+        if (reactorProjects == null || reactorProjects.isEmpty()) {
+            getLog().info("No reactor projects found, reviewing the configured targets only.");
+            return getReviewParameter();
+        }
+
+        final Map<String, Path> modules = new LinkedHashMap<>();
+        for (MavenProject reactorProject : reactorProjects) {
+            if (reactorProject.getBasedir() == null) {
+                continue;
+            }
+            if (isAggregatorOfOtherModules(reactorProject, reactorProjects)) {
+                // Recursive patterns of the aggregator would match the files of its modules a second time
+                getLog().debug("Skipping aggregator project " + reactorProject.getArtifactId() + ", its modules are reviewed on their own.");
+                continue;
+            }
+            String moduleName = reactorProject.getArtifactId();
+            if (modules.containsKey(moduleName)) {
+                moduleName = reactorProject.getGroupId() + ":" + reactorProject.getArtifactId();
+            }
+            modules.put(moduleName, reactorProject.getBasedir().toPath());
+        }
+
+        getLog().info("Aggregating review over " + modules.size() + " reactor projects.");
+        return reactorReviewParameterExpander.expand(getReviewParameter(), modules);
+    }
+
+    /**
+     * Tells whether the project is a {@code pom} project whose base directory contains the base directory of
+     * another reactor project.
+     */
+    static boolean isAggregatorOfOtherModules(MavenProject project, List<MavenProject> reactorProjects) {
+        if (!"pom".equals(project.getPackaging())) {
+            return false;
+        }
+        final Path baseDirectory = project.getBasedir().toPath().toAbsolutePath().normalize();
+        for (MavenProject other : reactorProjects) {
+            if (other == project || other.getBasedir() == null) {
+                continue;
+            }
+            Path otherDirectory = other.getBasedir().toPath().toAbsolutePath().normalize();
+            if (!otherDirectory.equals(baseDirectory) && otherDirectory.startsWith(baseDirectory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
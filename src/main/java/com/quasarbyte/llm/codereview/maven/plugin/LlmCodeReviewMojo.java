@@ -2,22 +2,103 @@ package com.quasarbyte.llm.codereview.maven.plugin;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.BudgetExceededException;
 import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException;
 import com.quasarbyte.llm.codereview.maven.plugin.exception.ValidationException;
 import com.quasarbyte.llm.codereview.maven.plugin.model.*;
+import com.quasarbyte.llm.codereview.maven.plugin.service.CachingPRulesFileReader;
+import com.quasarbyte.llm.codereview.maven.plugin.service.FileGroupPathResolver;
 import com.quasarbyte.llm.codereview.maven.plugin.service.FileService;
 import com.quasarbyte.llm.codereview.maven.plugin.service.PRulesFileReader;
 import com.quasarbyte.llm.codereview.maven.plugin.service.ResourceLoader;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.BudgetPlan;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.ReviewBudgetService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.CachedReviewService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.ReviewCache;
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.ReviewCacheKeyCalculator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.client.LlmClientRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastReviewService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.concurrency.ConcurrencyLimiter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.digest.DigestUtils;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.HedgingPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.LlmClientDispatcher;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.WeightedLlmClient;
+import com.quasarbyte.llm.codereview.maven.plugin.service.exchange.LlmExchangeKeyCalculator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.exchange.LlmExchangeProxy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.executor.ExecutorServiceRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.executor.ExecutorServiceStatistics;
+import com.quasarbyte.llm.codereview.maven.plugin.service.git.ChangedFilesDetector;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.CachingPRulesFileReaderImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.FileGroupPathResolverImpl;
 import com.quasarbyte.llm.codereview.maven.plugin.service.impl.FileServiceImpl;
 import com.quasarbyte.llm.codereview.maven.plugin.service.impl.PRulesFileReaderImpl;
 import com.quasarbyte.llm.codereview.maven.plugin.service.impl.PRulesJsonParserImpl;
-import com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser.PRulesXmlParserImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache.CachedReviewServiceImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache.ReviewCacheKeyCalculatorImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache.SegmentFileReviewCacheImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.concurrency.AimdConcurrencyLimiterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.budget.BudgetPlannerImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.budget.ReviewBudgetServiceImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch.LeastOutstandingLlmClientDispatcherImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.exchange.LlmExchangeKeyCalculatorImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.exchange.LoopbackLlmExchangeProxyImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.ConcurrencyLimitedExecutorService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.ExecutorServiceRegistryImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.FailFastExecutorService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.NamedThreadFactory;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.failfast.BatchFailFastReviewServiceImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.failfast.SeverityThresholdFailFastMonitorImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.git.JGitChangedFilesDetectorImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser.CachingResourceLoaderImpl;
 import com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser.ResourceLoaderImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser.StaxPRulesXmlParserImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.planning.BatchPlannerImpl;
 import com.quasarbyte.llm.codereview.maven.plugin.service.impl.pmapper.*;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.ratelimit.TokenBucketLlmRequestRateLimiterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.report.JsonLinesReportWriterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.report.ReportFileWriterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.report.ReportIndexGeneratorImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.report.ReviewResultSharderImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.report.StreamingReviewReportWriterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ChangedFilesFilterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewBatchSplitterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterSplitterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewResultMergerImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.serialization.SerializationServiceImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.session.SessionServicesRegistryImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.token.TokenEstimatorFactoryImpl;
 import com.quasarbyte.llm.codereview.maven.plugin.service.parser.PRulesJsonParser;
 import com.quasarbyte.llm.codereview.maven.plugin.service.parser.PRulesXmlParser;
+import com.quasarbyte.llm.codereview.maven.plugin.service.planning.BatchBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.planning.BatchPlan;
+import com.quasarbyte.llm.codereview.maven.plugin.service.planning.BatchPlanner;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.*;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.LlmRequestRateLimiter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.TokenBucket;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.TokenBucketRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.JsonLinesReportWriter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportContent;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportFileWriter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportIndexGenerator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportShard;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReviewReportWriter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReviewResultSharder;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ChangedFilesFilter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatchSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewParameterSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultListener;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultMerger;
+import com.quasarbyte.llm.codereview.maven.plugin.service.serialization.SerializationService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.session.SessionServices;
+import com.quasarbyte.llm.codereview.maven.plugin.service.session.SessionServicesRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimatorFactory;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmClientConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
@@ -28,31 +109,60 @@ import com.quasarbyte.llm.codereview.sdk.model.run.RunFailureConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.statistics.SeverityStatistics;
 import com.quasarbyte.llm.codereview.sdk.service.*;
 import com.quasarbyte.llm.codereview.sdk.service.impl.*;
-import com.quasarbyte.llm.codereview.sdk.service.report.csv.CodeReviewReportCsvService;
-import com.quasarbyte.llm.codereview.sdk.service.report.csv.impl.CodeReviewReportCsvServiceFactoryImpl;
-import com.quasarbyte.llm.codereview.sdk.service.report.html.CodeReviewReportHtmlService;
-import com.quasarbyte.llm.codereview.sdk.service.report.html.impl.CodeReviewReportHtmlServiceFactoryImpl;
-import com.quasarbyte.llm.codereview.sdk.service.report.markdown.CodeReviewReportMarkdownService;
-import com.quasarbyte.llm.codereview.sdk.service.report.markdown.impl.CodeReviewReportMarkdownServiceFactoryImpl;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Mojo(name = "llm-code-review", defaultPhase = LifecyclePhase.VERIFY)
 public class LlmCodeReviewMojo extends AbstractMojo {
 
+    private static final String DEFAULT_REVIEW_CACHE_DIRECTORY = ".llm-code-review-cache";
+    private static final String DEFAULT_LLM_EXCHANGE_CACHE_DIRECTORY = ".llm-code-review-exchanges";
+    private static final int DEFAULT_OUTPUT_RESERVE_TOKENS = 4096;
+    private static final int DEFAULT_REQUEST_OVERHEAD_TOKENS = 512;
+    private static final int DEFAULT_FILE_OVERHEAD_TOKENS = 32;
+    private static final int DEFAULT_OUTPUT_TOKENS_PER_REQUEST = 1024;
+    private static final double DEFAULT_CHARACTERS_PER_TOKEN = 4.0;
+    private static final int DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final int DEFAULT_CONFIGURATION_LOAD_THREADS = 8;
+    // Threads of helper tasks: waiting for parts of a review, loading the configuration and writing reports
+    private static final String COORDINATOR_POOL_KEY = "coordinator";
+
+    // Pools are shared by the executions running at the same time and shut down with their last lease
+    private static final ExecutorServiceRegistry SHARED_EXECUTOR_SERVICE_REGISTRY =
+            new ExecutorServiceRegistryImpl(TimeUnit.SECONDS.toMillis(DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS));
+    private static final SerializationService SHARED_SERIALIZATION_SERVICE = new SerializationServiceImpl();
+    // Plugin classes can outlive a build (Maven daemon, embedded Maven), so clients, rate limits and circuit breakers
+    // are scoped to the Maven session and shared by the modules of one reactor build only
+    private static final SessionServicesRegistry SHARED_SESSION_SERVICES_REGISTRY =
+            new SessionServicesRegistryImpl(SHARED_SERIALIZATION_SERVICE.getObjectMapper());
+
     @Parameter(property = "reviewParameter")
     private PReviewParameter reviewParameter;
 
@@ -74,56 +184,128 @@ public class LlmCodeReviewMojo extends AbstractMojo {
     @Parameter(property = "llmClientsConfiguration")
     private List<PLlmClientConfiguration> llmClientsConfiguration;
 
-    private CodeReviewReportCsvService codeReviewReportCsvService;
-    private CodeReviewReportHtmlService codeReviewReportHtmlService;
-    private CodeReviewReportMarkdownService codeReviewReportMarkdownService;
+    @Parameter(property = "reviewCacheConfiguration")
+    private PReviewCacheConfiguration reviewCacheConfiguration;
+
+    @Parameter(property = "gitDiffConfiguration")
+    private PGitDiffConfiguration gitDiffConfiguration;
+
+    @Parameter(property = "batchPlanningConfiguration")
+    private PBatchPlanningConfiguration batchPlanningConfiguration;
+
+    @Parameter(property = "hedgingConfiguration")
+    private PHedgingConfiguration hedgingConfiguration;
+
+    @Parameter(property = "circuitBreakerConfiguration")
+    private PCircuitBreakerConfiguration circuitBreakerConfiguration;
+
+    @Parameter(property = "llmExchangeCacheConfiguration")
+    private PLlmExchangeCacheConfiguration llmExchangeCacheConfiguration;
+
+    @Parameter(defaultValue = "${project}", readonly = true)
+    private MavenProject project;
+
+    @Parameter(defaultValue = "${reactorProjects}", readonly = true)
+    private List<MavenProject> reactorProjects;
+
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession session;
+
+    private BatchPlanner batchPlanner;
+    private CachedReviewService cachedReviewService;
+    private ChangedFilesDetector changedFilesDetector;
+    private ChangedFilesFilter changedFilesFilter;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ExecutorServiceRegistry executorServiceRegistry;
+    private FailFastReviewService failFastReviewService;
+    private ReviewReportWriter reviewReportWriter;
+    private FileGroupPathResolver fileGroupPathResolver;
     private FileService fileService;
+    private LlmClientDispatcher llmClientDispatcher;
+    private LlmExchangeKeyCalculator llmExchangeKeyCalculator;
+    private LlmClientRegistry llmClientRegistry;
+    private SessionServicesRegistry sessionServicesRegistry;
     private LlmMessMapperRhinoConfigRepository llmMessMapperRhinoConfigRepository;
     private PFileGroupMapper fileGroupMapper;
     private PLlmClientConfigurationMapper clientConfigurationMapper;
     private PLlmQuotaMapper quotaMapper;
     private PProxyMapper proxyMapper;
     private PReviewParameterMapper reviewParameterMapper;
+    private PReviewParameterPreloader reviewParameterPreloader;
     private PReviewTargetMapper reviewTargetMapper;
     private PRhinoConfigurationMapper rhinoConfigurationMapper;
     private PRuleMapper ruleMapper;
     private PRulesFileReader rulesFileReader;
+    private ReportFileWriter reportFileWriter;
+    private ReportIndexGenerator reportIndexGenerator;
     private PRulesJsonParser rulesJsonParser;
     private PRulesXmlParser rulesXmlParser;
     private ParallelExecutionParameterMapper parallelExecutionParameterMapper;
     private PPersistenceConfigurationMapper persistenceConfigurationMapper;
     private PDataSourceConfigurationMapper dataSourceConfigurationMapper;
     private ResourceLoader resourceLoader;
+    private ReviewBatchSplitter reviewBatchSplitter;
+    private ReviewBudgetService reviewBudgetService;
+    private ReviewCacheKeyCalculator reviewCacheKeyCalculator;
     private ReviewParallelExecutionService reviewParallelExecutionService;
+    private ReviewParameterSplitter reviewParameterSplitter;
+    private ReviewResultMerger reviewResultMerger;
+    private ReviewResultSharder reviewResultSharder;
     private ReviewService reviewService;
     private RunFailureChecker runFailureChecker;
+    private SerializationService serializationService;
     private SeverityStatisticsCalculator severityStatisticsCalculator;
+    private TokenBucketRegistry tokenBucketRegistry;
+    private TokenEstimatorFactory tokenEstimatorFactory;
+
+    private LlmExchangeProxy llmExchangeProxy;
 
     public LlmCodeReviewMojo() {
-        codeReviewReportMarkdownService = new CodeReviewReportMarkdownServiceFactoryImpl().create();
-        codeReviewReportHtmlService = new CodeReviewReportHtmlServiceFactoryImpl().create();
-        codeReviewReportCsvService = new CodeReviewReportCsvServiceFactoryImpl().create();
-        rulesJsonParser = new PRulesJsonParserImpl();
-        rulesXmlParser = new PRulesXmlParserImpl();
+        reportFileWriter = new ReportFileWriterImpl();
+        serializationService = SHARED_SERIALIZATION_SERVICE;
+        rulesJsonParser = new PRulesJsonParserImpl(serializationService);
+        rulesXmlParser = new StaxPRulesXmlParserImpl();
         fileService = new FileServiceImpl();
         resourceLoader = new ResourceLoaderImpl();
-        rulesFileReader = new PRulesFileReaderImpl(fileService, rulesJsonParser, rulesXmlParser, resourceLoader);
-        ruleMapper = new PRuleMapperImpl();
+        rulesFileReader = new CachingPRulesFileReaderImpl(new PRulesFileReaderImpl(fileService, rulesJsonParser, rulesXmlParser, resourceLoader));
+        // The Rhino script is preloaded with the rule files and then mapped from memory
+        final ResourceLoader scriptLoader = new CachingResourceLoaderImpl(resourceLoader);
+        reviewParameterPreloader = new PReviewParameterPreloaderImpl(rulesFileReader, scriptLoader, DEFAULT_CONFIGURATION_LOAD_THREADS);
+        ruleMapper = new PRuleMapperImpl(serializationService);
         fileGroupMapper = new PFileGroupMapperImpl(ruleMapper, rulesFileReader);
-        reviewTargetMapper = new PReviewTargetMapperImpl(fileGroupMapper, ruleMapper, rulesFileReader);
+        reviewTargetMapper = new PReviewTargetMapperImpl(fileGroupMapper, ruleMapper, rulesFileReader, serializationService);
         llmMessMapperRhinoConfigRepository = new LlmMessMapperRhinoConfigRepositoryFactoryImpl().create();
-        rhinoConfigurationMapper = new PRhinoConfigurationMapperImpl(llmMessMapperRhinoConfigRepository, resourceLoader);
+        rhinoConfigurationMapper = new PRhinoConfigurationMapperImpl(llmMessMapperRhinoConfigRepository, scriptLoader, serializationService);
         quotaMapper = new PLlmQuotaMapperImpl();
-        reviewParameterMapper = new PReviewParameterMapperImpl(quotaMapper, reviewTargetMapper, rhinoConfigurationMapper, ruleMapper, rulesFileReader);
+        reviewParameterMapper = new PReviewParameterMapperImpl(quotaMapper, reviewTargetMapper, rhinoConfigurationMapper, ruleMapper, rulesFileReader, serializationService);
         proxyMapper = new PProxyMapperImpl();
         clientConfigurationMapper = new PLlmClientConfigurationMapperImpl(proxyMapper);
-        parallelExecutionParameterMapper = new ParallelExecutionParameterMapperImpl();
+        executorServiceRegistry = SHARED_EXECUTOR_SERVICE_REGISTRY;
+        sessionServicesRegistry = SHARED_SESSION_SERVICES_REGISTRY;
+        parallelExecutionParameterMapper = new ParallelExecutionParameterMapperImpl(executorServiceRegistry);
         dataSourceConfigurationMapper = new PDataSourceConfigurationMapperImpl();
         persistenceConfigurationMapper = new PPersistenceConfigurationMapperImpl(dataSourceConfigurationMapper);
         reviewService = new ReviewServiceFactoryImpl().create();
         reviewParallelExecutionService = new ReviewParallelExecutionServiceFactoryImpl().create();
         runFailureChecker = new RunFailureCheckerFactoryImpl().create();
         severityStatisticsCalculator = new SeverityStatisticsCalculatorImpl();
+        ObjectMapper reviewObjectMapper = serializationService.getObjectMapper();
+        fileGroupPathResolver = new FileGroupPathResolverImpl();
+        reviewParameterSplitter = new ReviewParameterSplitterImpl();
+        reviewBatchSplitter = new ReviewBatchSplitterImpl(reviewParameterSplitter, fileGroupPathResolver);
+        reviewResultMerger = new ReviewResultMergerImpl(reviewObjectMapper);
+        reviewResultSharder = new ReviewResultSharderImpl(reviewObjectMapper);
+        reportIndexGenerator = new ReportIndexGeneratorImpl();
+        reviewReportWriter = new StreamingReviewReportWriterImpl(reviewObjectMapper, severityStatisticsCalculator);
+        llmClientDispatcher = new LeastOutstandingLlmClientDispatcherImpl(reviewService, reviewBatchSplitter, reviewResultMerger);
+        reviewCacheKeyCalculator = new ReviewCacheKeyCalculatorImpl(reviewObjectMapper);
+        llmExchangeKeyCalculator = new LlmExchangeKeyCalculatorImpl(reviewObjectMapper);
+        cachedReviewService = new CachedReviewServiceImpl(reviewParameterSplitter, fileGroupPathResolver, reviewCacheKeyCalculator, reviewResultMerger);
+        failFastReviewService = new BatchFailFastReviewServiceImpl(reviewBatchSplitter, reviewResultMerger);
+        changedFilesDetector = new JGitChangedFilesDetectorImpl();
+        changedFilesFilter = new ChangedFilesFilterImpl(fileGroupPathResolver);
+        tokenEstimatorFactory = new TokenEstimatorFactoryImpl(resourceLoader);
+        reviewBudgetService = new ReviewBudgetServiceImpl(new BudgetPlannerImpl(reviewParameterSplitter, fileGroupPathResolver));
     }
 
     public PReviewParameter getReviewParameter() {
@@ -135,6 +317,33 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
+    public MavenProject getProject() {
+        return project;
+    }
+
+    public LlmCodeReviewMojo setProject(MavenProject project) {
+        this.project = project;
+        return this;
+    }
+
+    public List<MavenProject> getReactorProjects() {
+        return reactorProjects;
+    }
+
+    public LlmCodeReviewMojo setReactorProjects(List<MavenProject> reactorProjects) {
+        this.reactorProjects = reactorProjects;
+        return this;
+    }
+
+    public MavenSession getSession() {
+        return session;
+    }
+
+    public LlmCodeReviewMojo setSession(MavenSession session) {
+        this.session = session;
+        return this;
+    }
+
     public PLlmClientConfiguration getLlmClientConfiguration() {
         return llmClientConfiguration;
     }
@@ -189,30 +398,120 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
-    public CodeReviewReportCsvService getCodeReviewReportCsvService() {
-        return codeReviewReportCsvService;
+    public PReviewCacheConfiguration getReviewCacheConfiguration() {
+        return reviewCacheConfiguration;
+    }
+
+    public LlmCodeReviewMojo setReviewCacheConfiguration(PReviewCacheConfiguration reviewCacheConfiguration) {
+        this.reviewCacheConfiguration = reviewCacheConfiguration;
+        return this;
+    }
+
+    public PGitDiffConfiguration getGitDiffConfiguration() {
+        return gitDiffConfiguration;
+    }
+
+    public LlmCodeReviewMojo setGitDiffConfiguration(PGitDiffConfiguration gitDiffConfiguration) {
+        this.gitDiffConfiguration = gitDiffConfiguration;
+        return this;
+    }
+
+    public PBatchPlanningConfiguration getBatchPlanningConfiguration() {
+        return batchPlanningConfiguration;
+    }
+
+    public LlmCodeReviewMojo setBatchPlanningConfiguration(PBatchPlanningConfiguration batchPlanningConfiguration) {
+        this.batchPlanningConfiguration = batchPlanningConfiguration;
+        return this;
+    }
+
+    public PHedgingConfiguration getHedgingConfiguration() {
+        return hedgingConfiguration;
+    }
+
+    public LlmCodeReviewMojo setHedgingConfiguration(PHedgingConfiguration hedgingConfiguration) {
+        this.hedgingConfiguration = hedgingConfiguration;
+        return this;
+    }
+
+    public PCircuitBreakerConfiguration getCircuitBreakerConfiguration() {
+        return circuitBreakerConfiguration;
+    }
+
+    public LlmCodeReviewMojo setCircuitBreakerConfiguration(PCircuitBreakerConfiguration circuitBreakerConfiguration) {
+        this.circuitBreakerConfiguration = circuitBreakerConfiguration;
+        return this;
+    }
+
+    public PLlmExchangeCacheConfiguration getLlmExchangeCacheConfiguration() {
+        return llmExchangeCacheConfiguration;
+    }
+
+    public LlmCodeReviewMojo setLlmExchangeCacheConfiguration(PLlmExchangeCacheConfiguration llmExchangeCacheConfiguration) {
+        this.llmExchangeCacheConfiguration = llmExchangeCacheConfiguration;
+        return this;
+    }
+
+    public BatchPlanner getBatchPlanner() {
+        return batchPlanner;
+    }
+
+    public LlmCodeReviewMojo setBatchPlanner(BatchPlanner batchPlanner) {
+        this.batchPlanner = batchPlanner;
+        return this;
+    }
+
+    public CachedReviewService getCachedReviewService() {
+        return cachedReviewService;
+    }
+
+    public LlmCodeReviewMojo setCachedReviewService(CachedReviewService cachedReviewService) {
+        this.cachedReviewService = cachedReviewService;
+        return this;
+    }
+
+    public FailFastReviewService getFailFastReviewService() {
+        return failFastReviewService;
     }
 
-    public LlmCodeReviewMojo setCodeReviewReportCsvService(CodeReviewReportCsvService codeReviewReportCsvService) {
-        this.codeReviewReportCsvService = codeReviewReportCsvService;
+    public LlmCodeReviewMojo setFailFastReviewService(FailFastReviewService failFastReviewService) {
+        this.failFastReviewService = failFastReviewService;
         return this;
     }
 
-    public CodeReviewReportHtmlService getCodeReviewReportHtmlService() {
-        return codeReviewReportHtmlService;
+    public ChangedFilesDetector getChangedFilesDetector() {
+        return changedFilesDetector;
     }
 
-    public LlmCodeReviewMojo setCodeReviewReportHtmlService(CodeReviewReportHtmlService codeReviewReportHtmlService) {
-        this.codeReviewReportHtmlService = codeReviewReportHtmlService;
+    public LlmCodeReviewMojo setChangedFilesDetector(ChangedFilesDetector changedFilesDetector) {
+        this.changedFilesDetector = changedFilesDetector;
         return this;
     }
 
-    public CodeReviewReportMarkdownService getCodeReviewReportMarkdownService() {
-        return codeReviewReportMarkdownService;
+    public ChangedFilesFilter getChangedFilesFilter() {
+        return changedFilesFilter;
     }
 
-    public LlmCodeReviewMojo setCodeReviewReportMarkdownService(CodeReviewReportMarkdownService codeReviewReportMarkdownService) {
-        this.codeReviewReportMarkdownService = codeReviewReportMarkdownService;
+    public LlmCodeReviewMojo setChangedFilesFilter(ChangedFilesFilter changedFilesFilter) {
+        this.changedFilesFilter = changedFilesFilter;
+        return this;
+    }
+
+    public ExecutorServiceRegistry getExecutorServiceRegistry() {
+        return executorServiceRegistry;
+    }
+
+    public LlmCodeReviewMojo setExecutorServiceRegistry(ExecutorServiceRegistry executorServiceRegistry) {
+        this.executorServiceRegistry = executorServiceRegistry;
+        return this;
+    }
+
+    public FileGroupPathResolver getFileGroupPathResolver() {
+        return fileGroupPathResolver;
+    }
+
+    public LlmCodeReviewMojo setFileGroupPathResolver(FileGroupPathResolver fileGroupPathResolver) {
+        this.fileGroupPathResolver = fileGroupPathResolver;
         return this;
     }
 
@@ -225,6 +524,33 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
+    public LlmClientDispatcher getLlmClientDispatcher() {
+        return llmClientDispatcher;
+    }
+
+    public LlmCodeReviewMojo setLlmClientDispatcher(LlmClientDispatcher llmClientDispatcher) {
+        this.llmClientDispatcher = llmClientDispatcher;
+        return this;
+    }
+
+    public SessionServicesRegistry getSessionServicesRegistry() {
+        return sessionServicesRegistry;
+    }
+
+    public LlmCodeReviewMojo setSessionServicesRegistry(SessionServicesRegistry sessionServicesRegistry) {
+        this.sessionServicesRegistry = sessionServicesRegistry;
+        return this;
+    }
+
+    public LlmClientRegistry getLlmClientRegistry() {
+        return llmClientRegistry;
+    }
+
+    public LlmCodeReviewMojo setLlmClientRegistry(LlmClientRegistry llmClientRegistry) {
+        this.llmClientRegistry = llmClientRegistry;
+        return this;
+    }
+
     public LlmMessMapperRhinoConfigRepository getLlmMessMapperRhinoConfigRepository() {
         return llmMessMapperRhinoConfigRepository;
     }
@@ -279,6 +605,15 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
+    public PReviewParameterPreloader getReviewParameterPreloader() {
+        return reviewParameterPreloader;
+    }
+
+    public LlmCodeReviewMojo setReviewParameterPreloader(PReviewParameterPreloader reviewParameterPreloader) {
+        this.reviewParameterPreloader = reviewParameterPreloader;
+        return this;
+    }
+
     public PReviewTargetMapper getReviewTargetMapper() {
         return reviewTargetMapper;
     }
@@ -315,6 +650,33 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
+    public ReportIndexGenerator getReportIndexGenerator() {
+        return reportIndexGenerator;
+    }
+
+    public LlmCodeReviewMojo setReportIndexGenerator(ReportIndexGenerator reportIndexGenerator) {
+        this.reportIndexGenerator = reportIndexGenerator;
+        return this;
+    }
+
+    public ReportFileWriter getReportFileWriter() {
+        return reportFileWriter;
+    }
+
+    public LlmCodeReviewMojo setReportFileWriter(ReportFileWriter reportFileWriter) {
+        this.reportFileWriter = reportFileWriter;
+        return this;
+    }
+
+    public ReviewReportWriter getReviewReportWriter() {
+        return reviewReportWriter;
+    }
+
+    public LlmCodeReviewMojo setReviewReportWriter(ReviewReportWriter reviewReportWriter) {
+        this.reviewReportWriter = reviewReportWriter;
+        return this;
+    }
+
     public PRulesJsonParser getRulesJsonParser() {
         return rulesJsonParser;
     }
@@ -324,6 +686,15 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
+    public SerializationService getSerializationService() {
+        return serializationService;
+    }
+
+    public LlmCodeReviewMojo setSerializationService(SerializationService serializationService) {
+        this.serializationService = serializationService;
+        return this;
+    }
+
     public PRulesXmlParser getRulesXmlParser() {
         return rulesXmlParser;
     }
@@ -351,6 +722,24 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
+    public LlmExchangeKeyCalculator getLlmExchangeKeyCalculator() {
+        return llmExchangeKeyCalculator;
+    }
+
+    public LlmCodeReviewMojo setLlmExchangeKeyCalculator(LlmExchangeKeyCalculator llmExchangeKeyCalculator) {
+        this.llmExchangeKeyCalculator = llmExchangeKeyCalculator;
+        return this;
+    }
+
+    public ReviewCacheKeyCalculator getReviewCacheKeyCalculator() {
+        return reviewCacheKeyCalculator;
+    }
+
+    public LlmCodeReviewMojo setReviewCacheKeyCalculator(ReviewCacheKeyCalculator reviewCacheKeyCalculator) {
+        this.reviewCacheKeyCalculator = reviewCacheKeyCalculator;
+        return this;
+    }
+
     public ReviewParallelExecutionService getReviewParallelExecutionService() {
         return reviewParallelExecutionService;
     }
@@ -360,6 +749,51 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
+    public ReviewBatchSplitter getReviewBatchSplitter() {
+        return reviewBatchSplitter;
+    }
+
+    public LlmCodeReviewMojo setReviewBatchSplitter(ReviewBatchSplitter reviewBatchSplitter) {
+        this.reviewBatchSplitter = reviewBatchSplitter;
+        return this;
+    }
+
+    public ReviewBudgetService getReviewBudgetService() {
+        return reviewBudgetService;
+    }
+
+    public LlmCodeReviewMojo setReviewBudgetService(ReviewBudgetService reviewBudgetService) {
+        this.reviewBudgetService = reviewBudgetService;
+        return this;
+    }
+
+    public ReviewParameterSplitter getReviewParameterSplitter() {
+        return reviewParameterSplitter;
+    }
+
+    public LlmCodeReviewMojo setReviewParameterSplitter(ReviewParameterSplitter reviewParameterSplitter) {
+        this.reviewParameterSplitter = reviewParameterSplitter;
+        return this;
+    }
+
+    public ReviewResultMerger getReviewResultMerger() {
+        return reviewResultMerger;
+    }
+
+    public LlmCodeReviewMojo setReviewResultMerger(ReviewResultMerger reviewResultMerger) {
+        this.reviewResultMerger = reviewResultMerger;
+        return this;
+    }
+
+    public ReviewResultSharder getReviewResultSharder() {
+        return reviewResultSharder;
+    }
+
+    public LlmCodeReviewMojo setReviewResultSharder(ReviewResultSharder reviewResultSharder) {
+        this.reviewResultSharder = reviewResultSharder;
+        return this;
+    }
+
     public ReviewService getReviewService() {
         return reviewService;
     }
@@ -387,6 +821,33 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         return this;
     }
 
+    public TokenBucketRegistry getTokenBucketRegistry() {
+        return tokenBucketRegistry;
+    }
+
+    public LlmCodeReviewMojo setTokenBucketRegistry(TokenBucketRegistry tokenBucketRegistry) {
+        this.tokenBucketRegistry = tokenBucketRegistry;
+        return this;
+    }
+
+    public CircuitBreakerRegistry getCircuitBreakerRegistry() {
+        return circuitBreakerRegistry;
+    }
+
+    public LlmCodeReviewMojo setCircuitBreakerRegistry(CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        return this;
+    }
+
+    public TokenEstimatorFactory getTokenEstimatorFactory() {
+        return tokenEstimatorFactory;
+    }
+
+    public LlmCodeReviewMojo setTokenEstimatorFactory(TokenEstimatorFactory tokenEstimatorFactory) {
+        this.tokenEstimatorFactory = tokenEstimatorFactory;
+        return this;
+    }
+
     public PPersistenceConfigurationMapper getPersistenceConfigurationMapper() {
         return persistenceConfigurationMapper;
     }
@@ -407,9 +868,21 @@ public class LlmCodeReviewMojo extends AbstractMojo {
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
+        bindSessionServices();
+        try {
+            executeReviewRun();
+        } finally {
+            closeLlmExchangeProxy();
+            logExecutorServiceStatistics();
+        }
+    }
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
+    private void executeReviewRun() throws MojoExecutionException, MojoFailureException {
+
+        final PReviewParameter effectiveReviewParameter = resolveReviewParameter();
+
+        final ObjectMapper objectMapper = serializationService.getObjectMapper();
+        final ObjectWriter configurationWriter = serializationService.getConfigurationWriter();
 
         // Apply default values matching CLI behavior
         PParallelExecutionParameter effectiveParallelExecutionParameter = parallelExecutionParameter != null ?
@@ -427,17 +900,17 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         String buildFailureConfigurationAsJson;
 
         try {
-            reviewParameterAsJson = objectMapper.writeValueAsString(reviewParameter);
-            llmClientConfigurationAsJson = objectMapper.writeValueAsString(maskedLlmClientConfigurationCopy(llmClientConfiguration));
+            reviewParameterAsJson = configurationWriter.writeValueAsString(effectiveReviewParameter);
+            llmClientConfigurationAsJson = configurationWriter.writeValueAsString(maskedLlmClientConfigurationCopy(llmClientConfiguration));
 
             if (llmClientsConfiguration != null && !llmClientsConfiguration.isEmpty()) {
-                llmClientsConfigurationAsJson = objectMapper.writeValueAsString(maskedLlmClientConfigurationCopy(llmClientsConfiguration));
+                llmClientsConfigurationAsJson = configurationWriter.writeValueAsString(maskedLlmClientConfigurationCopy(llmClientsConfiguration));
             } else {
                 llmClientsConfigurationAsJson = null;
             }
 
-            parallelExecutionParameterAsJson = objectMapper.writeValueAsString(effectiveParallelExecutionParameter);
-            buildFailureConfigurationAsJson = objectMapper.writeValueAsString(effectiveBuildFailureConfiguration);
+            parallelExecutionParameterAsJson = configurationWriter.writeValueAsString(effectiveParallelExecutionParameter);
+            buildFailureConfigurationAsJson = configurationWriter.writeValueAsString(effectiveBuildFailureConfiguration);
         } catch (JsonProcessingException e) {
             getLog().error("Cannot serialize Maven plugin configuration to JSON: " + e.getMessage(), e);
             throw new MojoExecutionException(String.format("Cannot serialize maven plugin configuration to JSON, error message: '%s'", e.getMessage()), e);
@@ -471,13 +944,99 @@ public class LlmCodeReviewMojo extends AbstractMojo {
 
         final ReviewParameter mappedRP;
         try {
-            mappedRP = this.reviewParameterMapper.map(reviewParameter);
+            if (rulesFileReader instanceof CachingPRulesFileReader) {
+                final ExecutorService configurationExecutorService = leaseCoordinatorExecutorService();
+                try {
+                    reviewParameterPreloader.preload(effectiveReviewParameter, configurationExecutorService);
+                } finally {
+                    configurationExecutorService.shutdown();
+                }
+            }
+            mappedRP = this.reviewParameterMapper.map(effectiveReviewParameter);
             getLog().info("Mapped reviewParameter successfully.");
+            if (rulesFileReader instanceof CachingPRulesFileReader) {
+                final CachingPRulesFileReader cachingRulesFileReader = (CachingPRulesFileReader) rulesFileReader;
+                getLog().debug("Rules file cache: " + cachingRulesFileReader.getHitCount() + " hits, "
+                        + cachingRulesFileReader.getMissCount() + " misses.");
+            }
         } catch (Exception e) {
             getLog().error("Failed to map reviewParameter: " + e.getMessage(), e);
             throw new MojoExecutionException("Failed to map reviewParameter: " + e.getMessage(), e);
         }
 
+        final ReviewParameter effectiveRP;
+        if (isGitDiffEnabled()) {
+            final Optional<ReviewParameter> changedRP;
+            try {
+                changedRP = restrictToChangedFiles(mappedRP);
+            } catch (Exception e) {
+                getLog().error("Failed to restrict review to changed files: " + e.getMessage(), e);
+                throw new MojoExecutionException("Failed to restrict review to changed files: " + e.getMessage(), e);
+            }
+            if (!changedRP.isPresent()) {
+                getLog().info("No changed files to review. LLM Code Review plugin execution finished.");
+                return;
+            }
+            effectiveRP = changedRP.get();
+        } else {
+            effectiveRP = mappedRP;
+        }
+
+        final boolean budgetEnabled = reviewBudgetService.isEnabled(effectiveReviewParameter);
+        // Batch planning, the budget and token rate limits estimate with the same tokenizer, which is loaded once
+        final TokenEstimator tokenEstimator;
+        if (isBatchPlanningEnabled() || budgetEnabled || isTokenRateLimitEnabled()) {
+            try {
+                tokenEstimator = createTokenEstimator();
+            } catch (Exception e) {
+                getLog().error("Failed to create the token estimator: " + e.getMessage(), e);
+                throw new MojoExecutionException("Failed to create the token estimator: " + e.getMessage(), e);
+            }
+        } else {
+            tokenEstimator = null;
+        }
+
+        final ReviewParameter plannedRP;
+        if (isBatchPlanningEnabled()) {
+            try {
+                plannedRP = planBatches(effectiveRP, tokenEstimator, objectMapper);
+            } catch (ValidationException e) {
+                throw e;
+            } catch (Exception e) {
+                getLog().error("Failed to plan review batches: " + e.getMessage(), e);
+                throw new MojoExecutionException("Failed to plan review batches: " + e.getMessage(), e);
+            }
+        } else {
+            plannedRP = effectiveRP;
+        }
+
+        // Needed by the budget, hedged batches are sent twice
+        final HedgingPolicy hedgingPolicy = isHedgingEnabled() ? createHedgingPolicy() : null;
+
+        final ReviewParameter budgetedRP;
+        if (budgetEnabled) {
+            final BudgetPlan budgetPlan;
+            try {
+                budgetPlan = reviewBudgetService.check(effectiveReviewParameter, plannedRP, effectiveLlmClientConfigurations(),
+                        tokenEstimator, outputTokensPerRequest(effectiveReviewParameter), requestOverheadTokens(), fileOverheadTokens(),
+                        hedgingPolicy != null ? hedgingPolicy.getMaxExtraLoadRatio() : 0);
+            } catch (BudgetExceededException e) {
+                throw new MojoFailureException("Build failed. " + e.getMessage(), e);
+            } catch (ValidationException e) {
+                throw e;
+            } catch (Exception e) {
+                getLog().error("Failed to check the review budget: " + e.getMessage(), e);
+                throw new MojoExecutionException("Failed to check the review budget: " + e.getMessage(), e);
+            }
+            if (budgetPlan.getParameter() == null) {
+                getLog().info("No files fit into the budget. LLM Code Review plugin execution finished.");
+                return;
+            }
+            budgetedRP = budgetPlan.getParameter();
+        } else {
+            budgetedRP = plannedRP;
+        }
+
         final PersistenceConfiguration mappedPC;
         try {
             if (persistenceConfiguration != null) {
@@ -493,9 +1052,19 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         }
 
         LlmClientFactory llmClientFactory = new LlmClientFactoryImpl();
+        if (isLlmExchangeCacheEnabled()) {
+            llmExchangeProxy = createLlmExchangeProxy(objectMapper);
+        } else if (isRateLimitEnabled()) {
+            // Rate limits apply to every HTTP request the SDK makes, which only the loopback gateway sees
+            getLog().info("Rate limits are enabled, LLM requests are sent through a loopback gateway.");
+            llmExchangeProxy = new LoopbackLlmExchangeProxyImpl(objectMapper);
+        }
+        final int outputTokensPerRequest = outputTokensPerRequest(effectiveReviewParameter);
 
         final Optional<LlmClient> llmClient;
         final List<LlmClient> llmClients;
+        // The rate limiter of every client, null for a client without limits
+        final List<LlmRequestRateLimiter> rateLimiters = new ArrayList<>();
 
         if (llmClientConfiguration != null) {
             // Single client path
@@ -508,9 +1077,12 @@ public class LlmCodeReviewMojo extends AbstractMojo {
                 throw new MojoExecutionException("Failed to map llmClientConfiguration: " + e.getMessage(), e);
             }
 
-            llmClient = Optional.of(llmClientFactory.create(clientConfiguration));
+            final LlmRequestRateLimiter rateLimiter = createRateLimiter(llmClientConfiguration, tokenEstimator,
+                    outputTokensPerRequest, objectMapper);
+            rateLimiters.add(rateLimiter);
+            llmClient = Optional.of(createLlmClient(llmClientConfiguration, clientConfiguration, llmClientFactory, rateLimiter));
             llmClients = Collections.emptyList();
-            getLog().info("Created single LLM client");
+            getLog().info("Using single LLM client");
         } else {
             // Multiple clients path
             List<LlmClientConfiguration> clientConfigurations;
@@ -523,59 +1095,103 @@ public class LlmCodeReviewMojo extends AbstractMojo {
             }
 
             llmClient = Optional.empty();
-            llmClients = llmClientFactory.create(clientConfigurations);
-            getLog().info("Created " + llmClients.size() + " LLM clients");
+            llmClients = new ArrayList<>(clientConfigurations.size());
+            for (int i = 0; i < clientConfigurations.size(); i++) {
+                final LlmClientConfiguration clientConfiguration = clientConfigurations.get(i);
+                final LlmRequestRateLimiter rateLimiter = createRateLimiter(llmClientsConfiguration.get(i), tokenEstimator,
+                        outputTokensPerRequest, objectMapper);
+                rateLimiters.add(rateLimiter);
+                llmClients.add(createLlmClient(llmClientsConfiguration.get(i), clientConfiguration, llmClientFactory, rateLimiter));
+            }
+            getLog().info("Using " + llmClients.size() + " LLM clients");
         }
 
-        final ReviewResult result;
+        final List<WeightedLlmClient> dispatchClients;
+        final boolean circuitBreakerEnabled = isCircuitBreakerEnabled();
+        final FailFastMonitor failFastMonitor = createFailFastMonitor(effectiveBuildFailureConfiguration);
+        if (isWeightedDispatchEnabled() || hedgingPolicy != null || circuitBreakerEnabled) {
+            try {
+                final CircuitBreakerPolicy circuitBreakerPolicy = circuitBreakerEnabled ? createCircuitBreakerPolicy() : null;
+                dispatchClients = toWeightedLlmClients(llmClient.map(Collections::singletonList).orElse(llmClients), rateLimiters,
+                        circuitBreakerPolicy);
+            } catch (Exception e) {
+                getLog().error("Failed to set up client dispatch: " + e.getMessage(), e);
+                throw new MojoExecutionException("Failed to set up client dispatch: " + e.getMessage(), e);
+            }
+        } else {
+            dispatchClients = null;
+        }
 
-        try {
-            if (effectiveParallelExecutionParameter == null || (effectiveParallelExecutionParameter.getBatchSize() == null && effectiveParallelExecutionParameter.getPoolSize() == null)) {
-                getLog().info("Executing review in single-threaded mode.");
+        ReviewResult result;
+        ConcurrencyLimiter concurrencyLimiter = null;
+        ExecutorService leasedExecutorService = null;
+        ExecutorService coordinatorExecutorService = null;
+        final JsonLinesReportWriter jsonLinesReportWriter = isJsonLinesReportEnabled() ? createJsonLinesReportWriter(objectMapper) : null;
 
-                if (llmClient.isPresent()) {
-                    result = reviewService.review(mappedRP, llmClient.get(), mappedPC);
-                } else {
-                    if (llmClients.size() == 1) {
-                        result = reviewService.review(mappedRP, llmClients.get(0), mappedPC);
-                    } else {
-                        throw new ValidationException("More than one or zero LlmClients is present.");
-                    }
+        try {
+            final ParallelExecutionParameter executionParameter = mapParallelExecutionParameter(effectiveParallelExecutionParameter);
+            if (executionParameter != null) {
+                leasedExecutorService = executionParameter.getExecutorService();
+            }
+            concurrencyLimiter = applyAdaptiveConcurrency(effectiveParallelExecutionParameter, executionParameter);
+            if (failFastMonitor != null && executionParameter != null) {
+                // Requests still queued in the SDK when the monitor trips are drained instead of sent
+                executionParameter.setExecutorService(new FailFastExecutorService(executionParameter.getExecutorService(), failFastMonitor));
+            }
+            final int partConcurrency = executionParameter != null ? effectiveParallelExecutionParameter.getPoolSize() : 1;
+            if (isReviewCacheEnabled() || failFastMonitor != null) {
+                coordinatorExecutorService = leaseCoordinatorExecutorService();
+            }
+            final ExecutorService partExecutorService = coordinatorExecutorService;
+
+            if (isReviewCacheEnabled()) {
+                Path cacheDirectory = Paths.get(resolveReviewCacheDirectory());
+                getLog().info("Review cache is enabled, cache directory: " + cacheDirectory.toAbsolutePath());
+                try (ReviewCache reviewCache = new SegmentFileReviewCacheImpl(cacheDirectory, serializationService)) {
+                    result = cachedReviewService.review(budgetedRP, reviewCache, projectDirectory(),
+                            parameter -> executeReview(parameter, llmClient, llmClients, mappedPC, executionParameter, dispatchClients,
+                                    hedgingPolicy, failFastMonitor, partExecutorService, partConcurrency,
+                                    jsonLinesReportWriter),
+                            jsonLinesReportWriter, failFastMonitor, partExecutorService, partConcurrency);
                 }
             } else {
-                if (effectiveParallelExecutionParameter.getBatchSize() == null) {
-                    getLog().error("parallel execution parameter batch size is null");
-                    throw new ValidationException("parallel execution parameter batch size is null");
-                }
-                if (effectiveParallelExecutionParameter.getPoolSize() == null) {
-                    getLog().error("parallel execution parameter pool size is null");
-                    throw new ValidationException("parallel execution parameter pool size is null");
-                }
-                ParallelExecutionParameter executionParameter = parallelExecutionParameterMapper.map(effectiveParallelExecutionParameter);
-                getLog().info(String.format("Executing review in parallel mode. Batch size: %d, Pool size: %d", executionParameter.getBatchSize(), effectiveParallelExecutionParameter.getPoolSize()));
-
-                if (llmClient.isPresent()) {
-                    result = reviewParallelExecutionService.review(mappedRP, llmClient.get(), mappedPC, executionParameter);
-                } else {
-                    result = reviewParallelExecutionService.review(mappedRP, llmClients, mappedPC, executionParameter);
-                }
+                result = executeReview(budgetedRP, llmClient, llmClients, mappedPC, executionParameter, dispatchClients,
+                        hedgingPolicy, failFastMonitor, partExecutorService, partConcurrency, jsonLinesReportWriter);
             }
+        } catch (ReviewStoppedException e) {
+            getLog().warn(e.getMessage() + ". Reports only contain the findings of the batches reviewed so far.");
+            result = e.getPartialResult();
         } catch (Exception e) {
             getLog().error("Failed during review execution: " + e.getMessage(), e);
             throw new MojoExecutionException("Failed during review execution: " + e.getMessage(), e);
-        }
-
-        String resultAsJson;
-        try {
-            resultAsJson = objectMapper.writeValueAsString(result);
-        } catch (JsonProcessingException e) {
-            getLog().error("Cannot serialize review result to JSON: " + e.getMessage(), e);
-            throw new MojoExecutionException(String.format("Cannot serialize review result to JSON, error message: '%s'", e.getMessage()), e);
+        } finally {
+            // Logged however the review ends, the limiter matters most when the endpoint made it fail or stop
+            if (concurrencyLimiter != null) {
+                getLog().info("Adaptive concurrency: " + concurrencyLimiter.getSummary());
+            }
+            if (leasedExecutorService != null) {
+                releaseExecutorService(leasedExecutorService);
+            }
+            if (coordinatorExecutorService != null) {
+                coordinatorExecutorService.shutdown();
+            }
+            if (jsonLinesReportWriter != null) {
+                jsonLinesReportWriter.close();
+                getLog().info("JSON Lines report written: " + jsonLinesReportWriter.getLineCount() + " lines.");
+            }
         }
 
         getLog().info("Review result items size: " + result.getItems().size());
-        getLog().debug("Review result body:");
-        getLog().debug(resultAsJson);
+        if (getLog().isDebugEnabled()) {
+            // The result is only held as a JSON string when it is logged
+            try {
+                getLog().debug("Review result body:");
+                getLog().debug(serializationService.getReviewResultWriter().writeValueAsString(result));
+            } catch (JsonProcessingException e) {
+                getLog().error("Cannot serialize review result to JSON: " + e.getMessage(), e);
+                throw new MojoExecutionException(String.format("Cannot serialize review result to JSON, error message: '%s'", e.getMessage()), e);
+            }
+        }
 
         SeverityStatistics severityStatistics;
         try {
@@ -589,10 +1205,7 @@ public class LlmCodeReviewMojo extends AbstractMojo {
             throw new MojoExecutionException("Failed to calculate severity statistics: " + e.getMessage(), e);
         }
 
-        getLog().info("Review result body:");
-        getLog().info(resultAsJson);
-
-        createReports(result, resultAsJson);
+        createReports(result);
 
         final boolean failBuild;
         try {
@@ -621,44 +1234,701 @@ public class LlmCodeReviewMojo extends AbstractMojo {
         getLog().info("LLM Code Review plugin execution finished.");
     }
 
-    private void createReports(ReviewResult result, String resultAsJson) {
+    /**
+     * Maps the parallel execution parameter, or returns {@code null} if the review should run single-threaded.
+     */
+    private ParallelExecutionParameter mapParallelExecutionParameter(PParallelExecutionParameter effectiveParallelExecutionParameter) {
+        if (effectiveParallelExecutionParameter == null || (effectiveParallelExecutionParameter.getBatchSize() == null && effectiveParallelExecutionParameter.getPoolSize() == null)) {
+            getLog().info("Executing review in single-threaded mode.");
+            return null;
+        }
+        if (effectiveParallelExecutionParameter.getBatchSize() == null) {
+            getLog().error("parallel execution parameter batch size is null");
+            throw new ValidationException("parallel execution parameter batch size is null");
+        }
+        if (effectiveParallelExecutionParameter.getPoolSize() == null) {
+            getLog().error("parallel execution parameter pool size is null");
+            throw new ValidationException("parallel execution parameter pool size is null");
+        }
+        ParallelExecutionParameter executionParameter = parallelExecutionParameterMapper.map(effectiveParallelExecutionParameter);
+        getLog().info(String.format("Executing review in parallel mode. Batch size: %d, Pool size: %d, Executor type: %s",
+                executionParameter.getBatchSize(),
+                effectiveParallelExecutionParameter.getPoolSize(),
+                effectiveParallelExecutionParameter.getExecutorType() != null ? effectiveParallelExecutionParameter.getExecutorType() : ExecutorTypeEnum.WORK_STEALING));
+        return executionParameter;
+    }
+
+    /**
+     * Uses the registries of the current Maven session unless other registries have been set.
+     */
+    private void bindSessionServices() {
+        if (llmClientRegistry != null && tokenBucketRegistry != null && circuitBreakerRegistry != null) {
+            return;
+        }
+        SessionServices sessionServices = sessionServicesRegistry.get(session);
+        if (llmClientRegistry == null) {
+            llmClientRegistry = sessionServices.getLlmClientRegistry();
+        }
+        if (tokenBucketRegistry == null) {
+            tokenBucketRegistry = sessionServices.getTokenBucketRegistry();
+        }
+        if (circuitBreakerRegistry == null) {
+            circuitBreakerRegistry = sessionServices.getCircuitBreakerRegistry();
+        }
+    }
+
+    /**
+     * Releases the lease of the shared pool and waits up to the shutdown timeout for the tasks of this execution.
+     * The pool is shut down when no other execution leases it; the remaining tasks are then cancelled after the
+     * timeout.
+     */
+    private void releaseExecutorService(ExecutorService leasedExecutorService) {
+        int shutdownTimeoutSeconds = DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS;
+        if (parallelExecutionParameter != null && parallelExecutionParameter.getShutdownTimeoutSeconds() != null) {
+            shutdownTimeoutSeconds = Math.max(0, parallelExecutionParameter.getShutdownTimeoutSeconds());
+        }
+        leasedExecutorService.shutdown();
+        try {
+            if (!leasedExecutorService.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                getLog().warn("Review tasks did not finish within " + shutdownTimeoutSeconds + " s after the review, cancelling them.");
+                leasedExecutorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            leasedExecutorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ExecutorService leaseCoordinatorExecutorService() {
+        return executorServiceRegistry.lease(COORDINATOR_POOL_KEY,
+                () -> Executors.newCachedThreadPool(new NamedThreadFactory("llm-code-review-coordinator-")));
+    }
+
+    private void logExecutorServiceStatistics() {
+        for (ExecutorServiceStatistics statistics : executorServiceRegistry.getStatistics()) {
+            getLog().debug("Executor service " + statistics);
+        }
+    }
+
+    /**
+     * Gets the review parameter to run, the configured one by default.
+     * @return the review parameter
+     */
+    protected PReviewParameter resolveReviewParameter() {
+        return reviewParameter;
+    }
+
+    /**
+     * Wraps the executor of the parallel execution parameter with an adaptive limiter, if enabled.
+     * @return the limiter, or {@code null} if adaptive concurrency is not used
+     */
+    private ConcurrencyLimiter applyAdaptiveConcurrency(PParallelExecutionParameter parameter, ParallelExecutionParameter executionParameter) {
+        if (executionParameter == null || !Boolean.TRUE.equals(parameter.getAdaptiveConcurrency())) {
+            return null;
+        }
+
+        int poolSize = parameter.getPoolSize();
+        int minConcurrency = parameter.getMinConcurrency() != null ? parameter.getMinConcurrency() : 1;
+        int maxConcurrency = parameter.getMaxConcurrency() != null ? parameter.getMaxConcurrency() : poolSize;
+
+        if (minConcurrency < 1) {
+            getLog().error("parallel execution parameter minConcurrency must be at least 1");
+            throw new ValidationException("parallel execution parameter minConcurrency must be at least 1");
+        }
+        if (maxConcurrency < minConcurrency) {
+            getLog().error("parallel execution parameter maxConcurrency must not be less than minConcurrency");
+            throw new ValidationException("parallel execution parameter maxConcurrency must not be less than minConcurrency");
+        }
+        if (maxConcurrency > poolSize) {
+            getLog().warn(String.format("maxConcurrency (%d) is larger than poolSize (%d), using %d.", maxConcurrency, poolSize, poolSize));
+            maxConcurrency = Math.max(minConcurrency, poolSize);
+        }
+        int initialConcurrency = parameter.getInitialConcurrency() != null ? parameter.getInitialConcurrency() : maxConcurrency;
+        if (initialConcurrency < minConcurrency || initialConcurrency > maxConcurrency) {
+            getLog().warn(String.format("initialConcurrency (%d) is outside of %d..%d, using the nearest bound.",
+                    initialConcurrency, minConcurrency, maxConcurrency));
+            initialConcurrency = Math.max(minConcurrency, Math.min(maxConcurrency, initialConcurrency));
+        }
+
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiterImpl(minConcurrency, maxConcurrency, initialConcurrency);
+        executionParameter.setExecutorService(new ConcurrencyLimitedExecutorService(executionParameter.getExecutorService(), limiter));
+        getLog().info(String.format("Adaptive concurrency enabled, limit starting at %d between %d and %d.",
+                initialConcurrency, minConcurrency, maxConcurrency));
+        return limiter;
+    }
+
+    private ReviewResult executeReview(ReviewParameter reviewParameter,
+                                       Optional<LlmClient> llmClient,
+                                       List<LlmClient> llmClients,
+                                       PersistenceConfiguration persistenceConfiguration,
+                                       ParallelExecutionParameter executionParameter,
+                                       List<WeightedLlmClient> dispatchClients,
+                                       HedgingPolicy hedgingPolicy,
+                                       FailFastMonitor failFastMonitor,
+                                       ExecutorService partExecutorService,
+                                       int partConcurrency,
+                                       ReviewResultListener resultListener) {
+        if (dispatchClients != null) {
+            // Batches of the SDK's batch size keep the requests of a parallel review
+            return llmClientDispatcher.review(reviewParameter, dispatchClients, persistenceConfiguration,
+                    executionParameter != null ? executionParameter.getExecutorService() : null,
+                    executionParameter != null ? executionParameter.getBatchSize() : 1, hedgingPolicy,
+                    failFastMonitor, resultListener);
+        }
+        if (failFastMonitor != null) {
+            // The SDK only returns the result of a whole review, so it reviews one file batch at a time to feed the monitor
+            return failFastReviewService.review(reviewParameter,
+                    parameter -> notifyResultListener(reviewWithSdk(parameter, llmClient, llmClients, persistenceConfiguration, executionParameter),
+                            resultListener),
+                    failFastMonitor, partExecutorService, partConcurrency);
+        }
+        return notifyResultListener(reviewWithSdk(reviewParameter, llmClient, llmClients, persistenceConfiguration, executionParameter),
+                resultListener);
+    }
+
+    /**
+     * The SDK only returns the result of a whole review, so the listener gets one result per reviewed parameter:
+     * per file batch with fail-fast, per file group with the review cache, otherwise once for the whole review.
+     */
+    private static ReviewResult notifyResultListener(ReviewResult result, ReviewResultListener resultListener) {
+        if (resultListener != null) {
+            resultListener.onResult(result);
+        }
+        return result;
+    }
+
+    private ReviewResult reviewWithSdk(ReviewParameter reviewParameter,
+                                       Optional<LlmClient> llmClient,
+                                       List<LlmClient> llmClients,
+                                       PersistenceConfiguration persistenceConfiguration,
+                                       ParallelExecutionParameter executionParameter) {
+        if (executionParameter == null) {
+            if (llmClient.isPresent()) {
+                return reviewService.review(reviewParameter, llmClient.get(), persistenceConfiguration);
+            } else {
+                if (llmClients.size() == 1) {
+                    return reviewService.review(reviewParameter, llmClients.get(0), persistenceConfiguration);
+                } else {
+                    throw new ValidationException("More than one or zero LlmClients is present.");
+                }
+            }
+        } else {
+            if (llmClient.isPresent()) {
+                return reviewParallelExecutionService.review(reviewParameter, llmClient.get(), persistenceConfiguration, executionParameter);
+            } else {
+                return reviewParallelExecutionService.review(reviewParameter, llmClients, persistenceConfiguration, executionParameter);
+            }
+        }
+    }
+
+    /**
+     * Weighted dispatch is used when any of several clients declares a weight or a concurrency limit.
+     */
+    private boolean isWeightedDispatchEnabled() {
+        if (llmClientsConfiguration == null || llmClientsConfiguration.size() < 2) {
+            return false;
+        }
+        for (PLlmClientConfiguration configuration : llmClientsConfiguration) {
+            if (configuration.getWeight() != null || configuration.getMaxConcurrency() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRateLimitEnabled() {
+        for (PLlmClientConfiguration configuration : effectiveLlmClientConfigurations()) {
+            if (configuration.getRequestsPerMinute() != null || configuration.getTokensPerMinute() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the monitor that stops the review once the build failure thresholds are reached, or returns
+     * {@code null} if fail-fast is off or no threshold could ever fail the build.
+     */
+    private FailFastMonitor createFailFastMonitor(PBuildFailureConfiguration buildFailureConfiguration) {
+        if (!Boolean.TRUE.equals(buildFailureConfiguration.getFailFast())) {
+            return null;
+        }
+        final Integer warningThreshold = buildFailureConfiguration.getWarningThreshold();
+        final Integer criticalThreshold = buildFailureConfiguration.getCriticalThreshold();
+        if ((warningThreshold == null || warningThreshold <= 0) && (criticalThreshold == null || criticalThreshold <= 0)) {
+            getLog().warn("Fail fast needs a positive warningThreshold or criticalThreshold, fail fast is disabled.");
+            return null;
+        }
+        getLog().info(String.format("Fail fast enabled, the review stops at %s warnings or %s critical findings.",
+                warningThreshold, criticalThreshold));
+        return new SeverityThresholdFailFastMonitorImpl(severityStatisticsCalculator, warningThreshold, criticalThreshold);
+    }
+
+    private boolean isHedgingEnabled() {
+        if (hedgingConfiguration == null || !Boolean.TRUE.equals(hedgingConfiguration.getEnabled())) {
+            return false;
+        }
+        if (llmClientsConfiguration == null || llmClientsConfiguration.size() < 2) {
+            getLog().warn("Hedging needs at least two entries in llmClientsConfiguration, hedging is disabled.");
+            return false;
+        }
+        if (persistenceConfiguration != null) {
+            // The SDK persists inside the request, so the losing attempt of a hedged batch would be persisted too
+            getLog().warn("Hedging is not supported together with persistenceConfiguration, hedging is disabled.");
+            return false;
+        }
+        return true;
+    }
+
+    private HedgingPolicy createHedgingPolicy() {
+        final double percentile = hedgingConfiguration.getPercentile() != null ? hedgingConfiguration.getPercentile() : 90;
+        if (percentile <= 0 || percentile >= 100) {
+            throw new ValidationException("hedgingConfiguration.percentile must be greater than 0 and less than 100: " + percentile);
+        }
+        final int maxExtraLoadPercent = hedgingConfiguration.getMaxExtraLoadPercent() != null ? hedgingConfiguration.getMaxExtraLoadPercent() : 10;
+        if (maxExtraLoadPercent < 0 || maxExtraLoadPercent > 100) {
+            throw new ValidationException("hedgingConfiguration.maxExtraLoadPercent must be between 0 and 100: " + maxExtraLoadPercent);
+        }
+        final int minSamples = hedgingConfiguration.getMinSamples() != null ? hedgingConfiguration.getMinSamples() : 20;
+        if (minSamples < 1) {
+            throw new ValidationException("hedgingConfiguration.minSamples must be at least 1: " + minSamples);
+        }
+        final HedgingPolicy policy = new HedgingPolicy(percentile, maxExtraLoadPercent / 100.0, minSamples);
+        getLog().info("Hedging enabled: " + policy);
+        return policy;
+    }
+
+    private boolean isCircuitBreakerEnabled() {
+        if (circuitBreakerConfiguration == null || !Boolean.TRUE.equals(circuitBreakerConfiguration.getEnabled())) {
+            return false;
+        }
+        if (llmClientsConfiguration == null || llmClientsConfiguration.size() < 2) {
+            getLog().warn("Circuit breakers need at least two entries in llmClientsConfiguration, circuit breakers are disabled.");
+            return false;
+        }
+        return true;
+    }
+
+    private CircuitBreakerPolicy createCircuitBreakerPolicy() {
+        final PCircuitBreakerConfiguration c = circuitBreakerConfiguration;
+        final int failureRateThreshold = c.getFailureRateThreshold() != null ? c.getFailureRateThreshold() : 50;
+        final int slowCallRateThreshold = c.getSlowCallRateThreshold() != null ? c.getSlowCallRateThreshold() : 50;
+        final int slowCallDurationSeconds = c.getSlowCallDurationSeconds() != null ? c.getSlowCallDurationSeconds() : 60;
+        final int slidingWindowSize = c.getSlidingWindowSize() != null ? c.getSlidingWindowSize() : 20;
+        final int minimumNumberOfCalls = c.getMinimumNumberOfCalls() != null ? c.getMinimumNumberOfCalls() : 5;
+        final int waitDurationInOpenStateSeconds = c.getWaitDurationInOpenStateSeconds() != null ? c.getWaitDurationInOpenStateSeconds() : 30;
+        final int permittedCallsInHalfOpenState = c.getPermittedCallsInHalfOpenState() != null ? c.getPermittedCallsInHalfOpenState() : 2;
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new ValidationException("circuitBreakerConfiguration.failureRateThreshold must be between 1 and 100: " + failureRateThreshold);
+        }
+        if (slowCallRateThreshold < 1 || slowCallRateThreshold > 100) {
+            throw new ValidationException("circuitBreakerConfiguration.slowCallRateThreshold must be between 1 and 100: " + slowCallRateThreshold);
+        }
+        if (slowCallDurationSeconds < 1) {
+            throw new ValidationException("circuitBreakerConfiguration.slowCallDurationSeconds must be at least 1: " + slowCallDurationSeconds);
+        }
+        if (slidingWindowSize < 1) {
+            throw new ValidationException("circuitBreakerConfiguration.slidingWindowSize must be at least 1: " + slidingWindowSize);
+        }
+        if (minimumNumberOfCalls < 1) {
+            throw new ValidationException("circuitBreakerConfiguration.minimumNumberOfCalls must be at least 1: " + minimumNumberOfCalls);
+        }
+        if (waitDurationInOpenStateSeconds < 0) {
+            throw new ValidationException("circuitBreakerConfiguration.waitDurationInOpenStateSeconds must not be negative: " + waitDurationInOpenStateSeconds);
+        }
+        if (permittedCallsInHalfOpenState < 1) {
+            throw new ValidationException("circuitBreakerConfiguration.permittedCallsInHalfOpenState must be at least 1: " + permittedCallsInHalfOpenState);
+        }
+        getLog().info(String.format("Circuit breakers enabled, opening at %d%% failed or %d%% slower than %d s of the last %d batches.",
+                failureRateThreshold, slowCallRateThreshold, slowCallDurationSeconds, slidingWindowSize));
+        return new CircuitBreakerPolicy(failureRateThreshold, slowCallRateThreshold, TimeUnit.SECONDS.toNanos(slowCallDurationSeconds),
+                slidingWindowSize, minimumNumberOfCalls, TimeUnit.SECONDS.toNanos(waitDurationInOpenStateSeconds), permittedCallsInHalfOpenState);
+    }
+
+    private List<PLlmClientConfiguration> effectiveLlmClientConfigurations() {
+        if (llmClientConfiguration != null) {
+            return Collections.singletonList(llmClientConfiguration);
+        }
+        return llmClientsConfiguration != null ? llmClientsConfiguration : Collections.emptyList();
+    }
+
+    private List<WeightedLlmClient> toWeightedLlmClients(List<LlmClient> clients, List<LlmRequestRateLimiter> rateLimiters,
+                                                         CircuitBreakerPolicy circuitBreakerPolicy) {
+        final List<PLlmClientConfiguration> configurations = effectiveLlmClientConfigurations();
+        final List<WeightedLlmClient> weightedClients = new ArrayList<>(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            PLlmClientConfiguration configuration = configurations.get(i);
+            final String name = "#" + i + " " + configuration.getBaseUrl();
+            // The health of an endpoint does not depend on the credentials used to call it
+            CircuitBreaker circuitBreaker = circuitBreakerPolicy != null
+                    ? circuitBreakerRegistry.getOrCreate(DigestUtils.sha256Hex(String.valueOf(configuration.getBaseUrl())), name, circuitBreakerPolicy)
+                    : null;
+            weightedClients.add(new WeightedLlmClient(
+                    name,
+                    clients.get(i),
+                    configuration.getWeight() != null ? configuration.getWeight() : 1,
+                    configuration.getMaxConcurrency() != null ? configuration.getMaxConcurrency() : Integer.MAX_VALUE,
+                    circuitBreaker,
+                    rateLimiters.get(i)));
+        }
+        return weightedClients;
+    }
+
+    /**
+     * Creates the rate limiter applied to every request of the client, or returns {@code null} if it has no limits.
+     * Provider limits apply per API key, so clients with the same key share the buckets.
+     */
+    private LlmRequestRateLimiter createRateLimiter(PLlmClientConfiguration configuration, TokenEstimator tokenEstimator,
+                                                    int outputTokensPerRequest, ObjectMapper objectMapper) {
+        if (configuration.getRequestsPerMinute() == null && configuration.getTokensPerMinute() == null) {
+            return null;
+        }
+        final String bucketKey = DigestUtils.sha256Hex(configuration.getApiKey() != null ? configuration.getApiKey() : configuration.getBaseUrl());
+        final TokenBucket requestBucket = configuration.getRequestsPerMinute() != null
+                ? tokenBucketRegistry.getOrCreate(bucketKey + ":requests", configuration.getRequestsPerMinute())
+                : null;
+        final TokenBucket tokenBucket = configuration.getTokensPerMinute() != null
+                ? tokenBucketRegistry.getOrCreate(bucketKey + ":tokens", configuration.getTokensPerMinute())
+                : null;
+        return new TokenBucketLlmRequestRateLimiterImpl(bucketKey, requestBucket, tokenBucket, tokenEstimator,
+                requestOverheadTokens(), outputTokensPerRequest, objectMapper);
+    }
+
+    private int requestOverheadTokens() {
+        return batchPlanningConfiguration != null
+                ? valueOrDefault(batchPlanningConfiguration.getRequestOverheadTokens(), DEFAULT_REQUEST_OVERHEAD_TOKENS)
+                : DEFAULT_REQUEST_OVERHEAD_TOKENS;
+    }
+
+    private int fileOverheadTokens() {
+        return batchPlanningConfiguration != null
+                ? valueOrDefault(batchPlanningConfiguration.getFileOverheadTokens(), DEFAULT_FILE_OVERHEAD_TOKENS)
+                : DEFAULT_FILE_OVERHEAD_TOKENS;
+    }
+
+    private static int outputTokensPerRequest(PReviewParameter reviewParameter) {
+        return reviewParameter.getLlmQuota() != null
+                ? valueOrDefault(reviewParameter.getLlmQuota().getOutputTokensPerRequest(), DEFAULT_OUTPUT_TOKENS_PER_REQUEST)
+                : DEFAULT_OUTPUT_TOKENS_PER_REQUEST;
+    }
+
+    private boolean isTokenRateLimitEnabled() {
+        for (PLlmClientConfiguration configuration : effectiveLlmClientConfigurations()) {
+            if (configuration.getTokensPerMinute() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the token estimator of this execution, using the batch planning tokenizer if one is configured.
+     */
+    private TokenEstimator createTokenEstimator() throws IOException {
+        if (batchPlanningConfiguration == null) {
+            return tokenEstimatorFactory.create(null, null, DEFAULT_CHARACTERS_PER_TOKEN);
+        }
+        return tokenEstimatorFactory.create(batchPlanningConfiguration.getTokenizerVocabularyLocation(),
+                batchPlanningConfiguration.getTokenizerEncoding(),
+                batchPlanningConfiguration.getCharactersPerToken() != null
+                        ? batchPlanningConfiguration.getCharactersPerToken()
+                        : DEFAULT_CHARACTERS_PER_TOKEN);
+    }
+
+    private boolean isReviewCacheEnabled() {
+        return reviewCacheConfiguration != null && Boolean.TRUE.equals(reviewCacheConfiguration.getEnabled());
+    }
+
+    private boolean isLlmExchangeCacheEnabled() {
+        return llmExchangeCacheConfiguration != null && llmExchangeCacheConfiguration.getMode() != null;
+    }
+
+    private LlmExchangeProxy createLlmExchangeProxy(ObjectMapper objectMapper) {
+        final Path cacheDirectory = Paths.get(notNullOrBlank(llmExchangeCacheConfiguration.getCacheDirectory())
+                ? llmExchangeCacheConfiguration.getCacheDirectory().trim()
+                : DEFAULT_LLM_EXCHANGE_CACHE_DIRECTORY);
+        getLog().info("LLM exchange cache is enabled, mode: " + llmExchangeCacheConfiguration.getMode()
+                + ", cache directory: " + cacheDirectory.toAbsolutePath());
+        return new LoopbackLlmExchangeProxyImpl(cacheDirectory, llmExchangeCacheConfiguration.getMode(), llmExchangeKeyCalculator, objectMapper);
+    }
+
+    /**
+     * Creates the client through the loopback gateway when the exchange cache or rate limits are enabled, otherwise
+     * gets the shared client. Clients routed through the gateway are deliberately not taken from the session's
+     * client registry: their base URL is the loopback endpoint of this execution, which is gone once the execution
+     * ends, so a later execution could not reuse them.
+     */
+    private LlmClient createLlmClient(PLlmClientConfiguration configuration, LlmClientConfiguration clientConfiguration,
+                                      LlmClientFactory llmClientFactory, LlmRequestRateLimiter rateLimiter) {
+        if (llmExchangeProxy == null) {
+            return llmClientRegistry.getOrCreate(configuration, () -> llmClientFactory.create(clientConfiguration));
+        }
+        if (configuration.getHeadersMap() != null) {
+            for (String header : configuration.getHeadersMap().keySet()) {
+                if ("Proxy-Authorization".equalsIgnoreCase(header)) {
+                    getLog().error("The LLM exchange cache and rate limits do not support authenticated proxies: " + configuration.getBaseUrl());
+                    throw new ValidationException("The LLM exchange cache and rate limits do not support authenticated proxies, remove the "
+                            + "Proxy-Authorization header of '" + configuration.getBaseUrl() + "', or llmExchangeCacheConfiguration and the rate limits.");
+                }
+            }
+        }
+        getLog().debug("LLM client of '" + configuration.getBaseUrl() + "' is routed through the loopback gateway and not shared.");
+        clientConfiguration.setBaseUrl(llmExchangeProxy.route(clientConfiguration.getBaseUrl(), clientConfiguration.getProxy(), rateLimiter));
+        // The gateway connects to the endpoint through the proxy, the client only talks to the loopback address
+        clientConfiguration.setProxy(null);
+        return llmClientFactory.create(clientConfiguration);
+    }
+
+    private void closeLlmExchangeProxy() {
+        if (llmExchangeProxy != null) {
+            llmExchangeProxy.close();
+            llmExchangeProxy = null;
+        }
+    }
+
+    private String resolveReviewCacheDirectory() {
+        return notNullOrBlank(reviewCacheConfiguration.getCacheDirectory())
+                ? reviewCacheConfiguration.getCacheDirectory().trim()
+                : DEFAULT_REVIEW_CACHE_DIRECTORY;
+    }
+
+    private boolean isBatchPlanningEnabled() {
+        return batchPlanningConfiguration != null && Boolean.TRUE.equals(batchPlanningConfiguration.getEnabled());
+    }
+
+    private ReviewParameter planBatches(ReviewParameter reviewParameter, TokenEstimator tokenEstimator, ObjectMapper objectMapper) throws IOException {
+        Integer contextWindowTokens = batchPlanningConfiguration.getContextWindowTokens();
+        int outputReserveTokens = valueOrDefault(batchPlanningConfiguration.getOutputReserveTokens(), DEFAULT_OUTPUT_RESERVE_TOKENS);
+        int requestOverheadTokens = valueOrDefault(batchPlanningConfiguration.getRequestOverheadTokens(), DEFAULT_REQUEST_OVERHEAD_TOKENS);
+        int fileOverheadTokens = valueOrDefault(batchPlanningConfiguration.getFileOverheadTokens(), DEFAULT_FILE_OVERHEAD_TOKENS);
+
+        if (contextWindowTokens == null || contextWindowTokens <= 0) {
+            getLog().error("Batch planning is enabled but contextWindowTokens is not a positive number.");
+            throw new ValidationException("Batch planning is enabled but contextWindowTokens is not a positive number.");
+        }
+        if (outputReserveTokens < 0 || requestOverheadTokens < 0 || fileOverheadTokens < 0) {
+            getLog().error("Batch planning token reserves and overheads must not be negative.");
+            throw new ValidationException("Batch planning token reserves and overheads must not be negative.");
+        }
+        if (outputReserveTokens >= contextWindowTokens) {
+            getLog().error("Batch planning outputReserveTokens must be less than contextWindowTokens.");
+            throw new ValidationException("Batch planning outputReserveTokens must be less than contextWindowTokens.");
+        }
+
+        BatchPlanner planner = batchPlanner != null ? batchPlanner : new BatchPlannerImpl(fileGroupPathResolver, tokenEstimator, objectMapper);
+
+        BatchPlan plan = planner.plan(reviewParameter, new BatchBudget(contextWindowTokens, outputReserveTokens, requestOverheadTokens, fileOverheadTokens));
+        if (plan.getOversizedFileCount() > 0) {
+            getLog().warn(plan.getOversizedFileCount() + " files exceed the token budget on their own and are sent in separate requests.");
+        }
+        getLog().info("Batch planning finished: " + plan.getRequestCount() + " requests planned, rulesBatchSize=" + plan.getRulesBatchSize());
+        return plan.getParameter();
+    }
+
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private boolean isGitDiffEnabled() {
+        return gitDiffConfiguration != null && Boolean.TRUE.equals(gitDiffConfiguration.getEnabled());
+    }
+
+    private Path projectDirectory() {
+        return project != null && project.getBasedir() != null ? project.getBasedir().toPath() : Paths.get("");
+    }
+
+    private Optional<ReviewParameter> restrictToChangedFiles(ReviewParameter mappedRP) throws IOException {
+        if (!notNullOrBlank(gitDiffConfiguration.getBaseRef())) {
+            getLog().error("Git diff mode is enabled but baseRef is not provided.");
+            throw new ValidationException("Git diff mode is enabled but baseRef is not provided.");
+        }
+
+        String baseRef = gitDiffConfiguration.getBaseRef().trim();
+        boolean useMergeBase = !Boolean.FALSE.equals(gitDiffConfiguration.getUseMergeBase());
+        boolean includeUncommittedChanges = !Boolean.FALSE.equals(gitDiffConfiguration.getIncludeUncommittedChanges());
+        // Relative to the project directory, which is not the working directory for -f builds, reactor modules or mvnd
+        Path projectDirectory = projectDirectory();
+        Path repositoryDirectory = notNullOrBlank(gitDiffConfiguration.getRepositoryDirectory())
+                ? projectDirectory.resolve(gitDiffConfiguration.getRepositoryDirectory().trim())
+                : projectDirectory;
+
+        getLog().info(String.format("Git diff mode is enabled: baseRef=%s, useMergeBase=%s, includeUncommittedChanges=%s",
+                baseRef, useMergeBase, includeUncommittedChanges));
+
+        Set<Path> changedFiles = changedFilesDetector.findChangedFiles(repositoryDirectory, baseRef, useMergeBase, includeUncommittedChanges);
+        if (changedFiles.isEmpty()) {
+            return Optional.empty();
+        }
+        return changedFilesFilter.filter(mappedRP, changedFiles);
+    }
+
+    /**
+     * Generates and writes the configured reports in parallel and waits for all of them. The JSON report is
+     * streamed from the result; the other report services return the report as a string, which is written
+     * without an intermediate byte copy. Every page of a sharded report is a task of its own.
+     */
+    private void createReports(ReviewResult result) throws MojoExecutionException {
+        final List<ReviewResult> shards = splitReportShards(result);
+        final Map<String, Runnable> reports = new LinkedHashMap<>();
         if (reportsConfiguration != null && reportsConfiguration.getJsonReportFilePath() != null && !reportsConfiguration.getJsonReportFilePath().trim().isEmpty()) {
-            createFile(resultAsJson.getBytes(StandardCharsets.UTF_8), reportsConfiguration.getJsonReportFilePath());
+            final ObjectWriter jsonWriter = serializationService.getReviewResultWriter();
+            reports.put("JSON", () -> reportFileWriter.write(reportsConfiguration.getJsonReportFilePath(), writer -> jsonWriter.writeValue(writer, result)));
         }
 
         if (reportsConfiguration != null && reportsConfiguration.getMarkdownReportFilePath() != null && !reportsConfiguration.getMarkdownReportFilePath().trim().isEmpty()) {
-            String reportBody = codeReviewReportMarkdownService.generateMarkdownReport(result);
-            createFile(reportBody.getBytes(StandardCharsets.UTF_8), reportsConfiguration.getMarkdownReportFilePath());
+            final String filePath = reportsConfiguration.getMarkdownReportFilePath();
+            if (shards.size() > 1 && !isStdOut(filePath.trim()) && !isStdErr(filePath.trim())) {
+                addShardedReport(reports, "Markdown", filePath, shards, shard -> writer -> reviewReportWriter.writeMarkdown(shard, writer),
+                        reportIndexGenerator::generateMarkdownIndex);
+            } else {
+                reports.put("Markdown", () -> reportFileWriter.write(filePath, writer -> reviewReportWriter.writeMarkdown(result, writer)));
+            }
         }
 
         if (reportsConfiguration != null && reportsConfiguration.getHtmlReportFilePath() != null && !reportsConfiguration.getHtmlReportFilePath().trim().isEmpty()) {
-            String reportBody = codeReviewReportHtmlService.generateHtmlReport(result);
-            createFile(reportBody.getBytes(StandardCharsets.UTF_8), reportsConfiguration.getHtmlReportFilePath());
+            final String filePath = reportsConfiguration.getHtmlReportFilePath();
+            if (shards.size() > 1 && !isStdOut(filePath.trim()) && !isStdErr(filePath.trim())) {
+                addShardedReport(reports, "HTML", filePath, shards, shard -> writer -> reviewReportWriter.writeHtml(shard, writer),
+                        reportIndexGenerator::generateHtmlIndex);
+            } else {
+                reports.put("HTML", () -> reportFileWriter.write(filePath, writer -> reviewReportWriter.writeHtml(result, writer)));
+            }
         }
 
         if (reportsConfiguration != null && reportsConfiguration.getCsvReportFilePath() != null && !reportsConfiguration.getCsvReportFilePath().trim().isEmpty()) {
-            String reportBody = codeReviewReportCsvService.generateCsvReport(result);
-            createFile(reportBody.getBytes(StandardCharsets.UTF_8), reportsConfiguration.getCsvReportFilePath());
+            reports.put("CSV", () -> reportFileWriter.write(reportsConfiguration.getCsvReportFilePath(),
+                    writer -> reviewReportWriter.writeCsv(result, writer)));
         }
-    }
 
-    private void createFile(byte[] bytes, String filePath) {
-        if (filePath == null || filePath.trim().isEmpty()) {
-            throw new ValidationException("FilePath cannot be null or empty.");
+        if (reports.isEmpty()) {
+            return;
         }
-        if (isStdOut(filePath)) {
-            System.out.println(new String(bytes));
-        } else if (isStdErr(filePath)) {
-            System.err.println(new String(bytes));
+
+        final long startNanos = System.nanoTime();
+        final Map<String, Throwable> failures = new LinkedHashMap<>();
+        if (reports.size() == 1) {
+            final Map.Entry<String, Runnable> report = reports.entrySet().iterator().next();
+            try {
+                report.getValue().run();
+            } catch (RuntimeException e) {
+                failures.put(report.getKey(), e);
+            }
         } else {
+            // A few writers on the shared coordinator pool take the reports in turn, however many pages there are
+            final ExecutorService reportExecutor = leaseCoordinatorExecutorService();
+            final Queue<Map.Entry<String, Runnable>> pending = new ConcurrentLinkedQueue<>(reports.entrySet());
+            final Map<String, Throwable> writerFailures = new ConcurrentHashMap<>();
+            final List<Future<?>> writers = new ArrayList<>();
             try {
-                Files.createDirectories(Paths.get(filePath).getParent());
-                Files.write(Paths.get(filePath), bytes, StandardOpenOption.CREATE);
-            } catch (IOException e) {
-                getLog().error("Failed to write result file: " + e.getMessage(), e);
-                throw new LlmCodeReviewMavenPluginException("Failed to write result file: " + e.getMessage(), e);
+                for (int i = 0; i < Math.min(reports.size(), Runtime.getRuntime().availableProcessors()); i++) {
+                    writers.add(reportExecutor.submit(() -> {
+                        Map.Entry<String, Runnable> report;
+                        while ((report = pending.poll()) != null && !Thread.currentThread().isInterrupted()) {
+                            try {
+                                report.getValue().run();
+                            } catch (RuntimeException e) {
+                                writerFailures.put(report.getKey(), e);
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> writer : writers) {
+                    writer.get();
+                }
+            } catch (ExecutionException e) {
+                throw new MojoExecutionException("Failed to write reports: " + e.getMessage(), e.getCause() != null ? e.getCause() : e);
+            } catch (InterruptedException e) {
+                for (Future<?> writer : writers) {
+                    writer.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new MojoExecutionException("Interrupted while writing reports", e);
+            } finally {
+                reportExecutor.shutdown();
+            }
+            for (String report : reports.keySet()) {
+                if (writerFailures.containsKey(report)) {
+                    failures.put(report, writerFailures.get(report));
+                }
             }
         }
+
+        for (Map.Entry<String, Throwable> failure : failures.entrySet()) {
+            getLog().error("Failed to write the " + failure.getKey() + " report: " + failure.getValue().getMessage(), failure.getValue());
+        }
+        if (!failures.isEmpty()) {
+            throw new MojoExecutionException("Failed to write reports: " + String.join(", ", failures.keySet()),
+                    failures.values().iterator().next());
+        }
+        getLog().info(String.format("Wrote %d reports in %d ms.", reports.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+    }
+
+    private List<ReviewResult> splitReportShards(ReviewResult result) throws MojoExecutionException {
+        final Integer shardSize = reportsConfiguration != null ? reportsConfiguration.getReportShardSize() : null;
+        if (shardSize == null || (nullOrBlank(reportsConfiguration.getHtmlReportFilePath()) && nullOrBlank(reportsConfiguration.getMarkdownReportFilePath()))) {
+            return Collections.singletonList(result);
+        }
+        if (shardSize < 1) {
+            getLog().error("reportShardSize must be at least 1.");
+            throw new ValidationException("reportShardSize must be at least 1.");
+        }
+        try {
+            return reviewResultSharder.split(result, shardSize);
+        } catch (Exception e) {
+            getLog().error("Failed to split the review result into report pages: " + e.getMessage(), e);
+            throw new MojoExecutionException("Failed to split the review result into report pages: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adds one task per page of a sharded report and one for its index page, which is written to the configured path.
+     */
+    private void addShardedReport(Map<String, Runnable> reports, String reportType, String filePath, List<ReviewResult> shards,
+                                  Function<ReviewResult, ReportContent> pageContent, Function<List<ReportShard>, String> indexGenerator) {
+        final Path indexPath = Paths.get(filePath.trim());
+        final String indexName = indexPath.getFileName().toString();
+        final int extensionIndex = indexName.lastIndexOf('.');
+        final String baseName = extensionIndex > 0 ? indexName.substring(0, extensionIndex) : indexName;
+        final String extension = extensionIndex > 0 ? indexName.substring(extensionIndex) : "";
+
+        final List<ReportShard> reportShards = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            final ReviewResult shard = shards.get(i);
+            final String pageName = String.format("%s-%04d%s", baseName, i + 1, extension);
+            final SeverityStatistics statistics = severityStatisticsCalculator.calculate(shard);
+            reportShards.add(new ReportShard(pageName, shard.getItems().size(),
+                    statistics.getInfoCount(), statistics.getWarningCount(), statistics.getCriticalCount()));
+            final String pagePath = indexPath.resolveSibling(pageName).toString();
+            reports.put(reportType + " page " + (i + 1), () -> reportFileWriter.write(pagePath, pageContent.apply(shard)));
+        }
+        reports.put(reportType + " index", () -> {
+            String reportBody = indexGenerator.apply(reportShards);
+            reportFileWriter.write(filePath, writer -> writer.write(reportBody));
+        });
+        getLog().info(String.format("Splitting the %s report into %d pages with an index at %s.", reportType, shards.size(), filePath));
+    }
+
+    private boolean isJsonLinesReportEnabled() {
+        return reportsConfiguration != null && notNullOrBlank(reportsConfiguration.getJsonLinesReportFilePath());
+    }
+
+    private JsonLinesReportWriter createJsonLinesReportWriter(ObjectMapper objectMapper) throws MojoExecutionException {
+        final String filePath = reportsConfiguration.getJsonLinesReportFilePath().trim();
+        if (isStdOut(filePath)) {
+            return new JsonLinesReportWriterImpl(System.out, false, objectMapper);
+        } else if (isStdErr(filePath)) {
+            return new JsonLinesReportWriterImpl(System.err, false, objectMapper);
+        }
+        try {
+            final Path path = Paths.get(filePath).toAbsolutePath();
+            Files.createDirectories(path.getParent());
+            getLog().info("Writing JSON Lines report while reviewing: " + path);
+            return new JsonLinesReportWriterImpl(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE), true, objectMapper);
+        } catch (IOException e) {
+            getLog().error("Failed to open JSON Lines report: " + e.getMessage(), e);
+            throw new MojoExecutionException("Failed to open JSON Lines report: " + e.getMessage(), e);
+        }
     }
 
     private static boolean isStdOut(String filePath) {
@@ -693,7 +1963,12 @@ public class LlmCodeReviewMojo extends AbstractMojo {
                 .setAzureServiceVersion(configuration.getAzureServiceVersion())
                 .setBaseUrl(configuration.getBaseUrl())
                 .setOrganization(configuration.getOrganization())
-                .setProject(configuration.getProject());
+                .setProject(configuration.getProject())
+                .setWeight(configuration.getWeight())
+                .setMaxConcurrency(configuration.getMaxConcurrency())
+                .setRequestsPerMinute(configuration.getRequestsPerMinute())
+                .setTokensPerMinute(configuration.getTokensPerMinute())
+                .setPricingModel(configuration.getPricingModel());
         return masked;
     }
 
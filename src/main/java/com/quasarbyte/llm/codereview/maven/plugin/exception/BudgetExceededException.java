@@ -0,0 +1,23 @@
+package com.quasarbyte.llm.codereview.maven.plugin.exception;
+
+import java.util.List;
+
+/**
+ * Thrown before a review starts when its planned spend exceeds a budget and the budget does not allow trimming.
+ */
+public class BudgetExceededException extends LlmCodeReviewMavenPluginException {
+
+    private final List<String> violations;
+
+    public BudgetExceededException(List<String> violations) {
+        super(String.format("The planned spend exceeds %d budgets: %s", violations.size(), String.join("; ", violations)));
+        this.violations = violations;
+    }
+
+    /**
+     * @return a description of every budget the planned spend exceeds
+     */
+    public List<String> getViolations() {
+        return violations;
+    }
+}
@@ -0,0 +1,23 @@
+package com.quasarbyte.llm.codereview.maven.plugin.exception;
+
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+/**
+ * Thrown when a review is stopped before all batches were reviewed, carrying the results of the finished batches.
+ */
+public class ReviewStoppedException extends LlmCodeReviewMavenPluginException {
+
+    private final transient ReviewResult partialResult;
+
+    public ReviewStoppedException(String message, ReviewResult partialResult) {
+        super(message);
+        this.partialResult = partialResult;
+    }
+
+    /**
+     * @return the merged result of the finished batches, {@code null} if the review stopped before any batch finished
+     */
+    public ReviewResult getPartialResult() {
+        return partialResult;
+    }
+}
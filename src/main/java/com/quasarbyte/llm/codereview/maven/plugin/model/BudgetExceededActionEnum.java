@@ -0,0 +1,15 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Enumeration of what happens when the planned spend of a review exceeds its token or cost budget.
+ */
+public enum BudgetExceededActionEnum {
+    /**
+     * The review is not started and the build fails.
+     */
+    FAIL,
+    /**
+     * File batches which do not fit are left out of the review, starting with the last batches of each file group.
+     */
+    TRIM
+}
@@ -0,0 +1,22 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Enumeration of executor types used for parallel reviews.
+ */
+public enum ExecutorTypeEnum {
+    /**
+     * A work-stealing pool with {@code poolSize} threads.
+     */
+    WORK_STEALING,
+    /**
+     * A fixed pool with {@code poolSize} threads.
+     */
+    FIXED,
+    /**
+     * One virtual thread per task, at most {@code poolSize} tasks run concurrently.
+     * <p>
+     * Requires Java 21 or newer; on older runtimes a fixed pool is used instead.
+     * </p>
+     */
+    VIRTUAL_THREAD
+}
@@ -0,0 +1,19 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Enumeration of the modes of the LLM exchange cache.
+ */
+public enum LlmExchangeCacheModeEnum {
+    /**
+     * Every request is sent to the LLM and the successful responses are stored.
+     */
+    RECORD,
+    /**
+     * Every request is answered from the stored responses; requests without a stored response fail.
+     */
+    REPLAY,
+    /**
+     * Requests with a stored response are answered from it, all others are sent to the LLM and recorded.
+     */
+    REPLAY_OR_CALL
+}
@@ -0,0 +1,147 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Configuration of the token-budget batch planner.
+ * <p>
+ * When enabled, {@code filesBatchSize} of the file groups and {@code rulesBatchSize} of the review
+ * parameter are chosen by the planner: files and rules are estimated in tokens and packed into the
+ * fewest requests whose input fits into the context window minus the output reserve.
+ * </p>
+ */
+public class PBatchPlanningConfiguration {
+    /**
+     * Enables or disables the batch planner.
+     * <p>
+     * If {@code null} or {@code false}, the configured batch sizes are used as is.
+     * </p>
+     */
+    private Boolean enabled;
+
+    /**
+     * The context window of the model in tokens. Required when the planner is enabled.
+     */
+    private Integer contextWindowTokens;
+
+    /**
+     * The number of tokens reserved for the model output.
+     * <p>
+     * If {@code null}, 4096 tokens are reserved.
+     * </p>
+     */
+    private Integer outputReserveTokens;
+
+    /**
+     * The fixed number of tokens added to every request for message framing and the mapper script template.
+     * <p>
+     * If {@code null}, 512 tokens are used.
+     * </p>
+     */
+    private Integer requestOverheadTokens;
+
+    /**
+     * The number of tokens added for every file in a request, e.g. for the file name and separators.
+     * <p>
+     * If {@code null}, 32 tokens are used.
+     * </p>
+     */
+    private Integer fileOverheadTokens;
+
+    /**
+     * The average number of characters per token used by the heuristic estimator.
+     * <p>
+     * If {@code null}, 4.0 is used.
+     * </p>
+     */
+    private Double charactersPerToken;
+
+    /**
+     * The location of a {@code .tiktoken} vocabulary file, e.g. {@code classpath:/tokenizer/cl100k_base.tiktoken}
+     * or a file system path.
+     * <p>
+     * If {@code null} or blank, tokens are estimated from {@link #charactersPerToken}. No vocabulary is bundled with
+     * the plugin, so this location is required for exact token counts; the {@code cl100k_base.tiktoken} and
+     * {@code o200k_base.tiktoken} files published with {@code tiktoken} can be used.
+     * </p>
+     */
+    private String tokenizerVocabularyLocation;
+
+    /**
+     * The encoding the vocabulary belongs to, selects the pre-tokenization rules.
+     * <p>
+     * If {@code null}, {@link TokenizerEncodingEnum#CL100K_BASE} is used.
+     * </p>
+     */
+    private TokenizerEncodingEnum tokenizerEncoding;
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public PBatchPlanningConfiguration setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public Integer getContextWindowTokens() {
+        return contextWindowTokens;
+    }
+
+    public PBatchPlanningConfiguration setContextWindowTokens(Integer contextWindowTokens) {
+        this.contextWindowTokens = contextWindowTokens;
+        return this;
+    }
+
+    public Integer getOutputReserveTokens() {
+        return outputReserveTokens;
+    }
+
+    public PBatchPlanningConfiguration setOutputReserveTokens(Integer outputReserveTokens) {
+        this.outputReserveTokens = outputReserveTokens;
+        return this;
+    }
+
+    public Integer getRequestOverheadTokens() {
+        return requestOverheadTokens;
+    }
+
+    public PBatchPlanningConfiguration setRequestOverheadTokens(Integer requestOverheadTokens) {
+        this.requestOverheadTokens = requestOverheadTokens;
+        return this;
+    }
+
+    public Integer getFileOverheadTokens() {
+        return fileOverheadTokens;
+    }
+
+    public PBatchPlanningConfiguration setFileOverheadTokens(Integer fileOverheadTokens) {
+        this.fileOverheadTokens = fileOverheadTokens;
+        return this;
+    }
+
+    public Double getCharactersPerToken() {
+        return charactersPerToken;
+    }
+
+    public PBatchPlanningConfiguration setCharactersPerToken(Double charactersPerToken) {
+        this.charactersPerToken = charactersPerToken;
+        return this;
+    }
+
+    public String getTokenizerVocabularyLocation() {
+        return tokenizerVocabularyLocation;
+    }
+
+    public PBatchPlanningConfiguration setTokenizerVocabularyLocation(String tokenizerVocabularyLocation) {
+        this.tokenizerVocabularyLocation = tokenizerVocabularyLocation;
+        return this;
+    }
+
+    public TokenizerEncodingEnum getTokenizerEncoding() {
+        return tokenizerEncoding;
+    }
+
+    public PBatchPlanningConfiguration setTokenizerEncoding(TokenizerEncodingEnum tokenizerEncoding) {
+        this.tokenizerEncoding = tokenizerEncoding;
+        return this;
+    }
+}
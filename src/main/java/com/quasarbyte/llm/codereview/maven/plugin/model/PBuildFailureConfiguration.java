@@ -33,6 +33,18 @@ public class PBuildFailureConfiguration {
      */
     private Integer criticalThreshold;
 
+    /**
+     * Whether to stop the review as soon as a threshold is reached.
+     * <p>
+     * If {@code true}, severity counts are kept as results arrive and the review stops once a threshold is reached.
+     * Reports then only contain the findings reviewed so far. Every file batch is reviewed on its own, up to
+     * {@code poolSize} at once, and no batch is started once a threshold is reached; findings served from the
+     * review cache count as well. Requests already sent are never aborted.
+     * If {@code null} or {@code false}, the whole review runs before the thresholds are checked.
+     * </p>
+     */
+    private Boolean failFast;
+
     public Integer getWarningThreshold() {
         return warningThreshold;
     }
@@ -50,4 +62,13 @@ public class PBuildFailureConfiguration {
         this.criticalThreshold = criticalThreshold;
         return this;
     }
+
+    public Boolean getFailFast() {
+        return failFast;
+    }
+
+    public PBuildFailureConfiguration setFailFast(Boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
 }
@@ -0,0 +1,148 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Configuration of the circuit breakers of the clients of {@code llmClientsConfiguration}.
+ * <p>
+ * When enabled, every endpoint gets a circuit breaker which opens when too many of its recent batches failed
+ * or were slow. While a circuit is open, batches are routed to the other clients, and a batch that failed is
+ * retried on another client. After {@code waitDurationInOpenStateSeconds} a few trial batches decide whether
+ * the circuit closes again. Circuit breakers need at least two clients.
+ * </p>
+ */
+public class PCircuitBreakerConfiguration {
+    /**
+     * Enables or disables the circuit breakers.
+     * <p>
+     * If {@code null} or {@code false}, batches are sent to every client regardless of earlier failures.
+     * </p>
+     */
+    private Boolean enabled;
+
+    /**
+     * The percentage of failed batches in the sliding window that opens the circuit, between 1 and 100.
+     * <p>
+     * If {@code null}, {@code 50} is used.
+     * </p>
+     */
+    private Integer failureRateThreshold;
+
+    /**
+     * The percentage of slow batches in the sliding window that opens the circuit, between 1 and 100.
+     * <p>
+     * If {@code null}, {@code 50} is used.
+     * </p>
+     */
+    private Integer slowCallRateThreshold;
+
+    /**
+     * Batches taking at least this many seconds count as slow.
+     * <p>
+     * If {@code null}, {@code 60} is used.
+     * </p>
+     */
+    private Integer slowCallDurationSeconds;
+
+    /**
+     * The number of most recent batches the rates are computed from.
+     * <p>
+     * If {@code null}, {@code 20} is used.
+     * </p>
+     */
+    private Integer slidingWindowSize;
+
+    /**
+     * The number of batches that must have completed before the rates are evaluated.
+     * <p>
+     * If {@code null}, {@code 5} is used.
+     * </p>
+     */
+    private Integer minimumNumberOfCalls;
+
+    /**
+     * How many seconds an open circuit rejects batches before trial batches are sent.
+     * <p>
+     * If {@code null}, {@code 30} is used.
+     * </p>
+     */
+    private Integer waitDurationInOpenStateSeconds;
+
+    /**
+     * The number of trial batches sent while the circuit is half-open.
+     * <p>
+     * If {@code null}, {@code 2} is used.
+     * </p>
+     */
+    private Integer permittedCallsInHalfOpenState;
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public PCircuitBreakerConfiguration setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public Integer getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public PCircuitBreakerConfiguration setFailureRateThreshold(Integer failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    public Integer getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public PCircuitBreakerConfiguration setSlowCallRateThreshold(Integer slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        return this;
+    }
+
+    public Integer getSlowCallDurationSeconds() {
+        return slowCallDurationSeconds;
+    }
+
+    public PCircuitBreakerConfiguration setSlowCallDurationSeconds(Integer slowCallDurationSeconds) {
+        this.slowCallDurationSeconds = slowCallDurationSeconds;
+        return this;
+    }
+
+    public Integer getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public PCircuitBreakerConfiguration setSlidingWindowSize(Integer slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+        return this;
+    }
+
+    public Integer getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public PCircuitBreakerConfiguration setMinimumNumberOfCalls(Integer minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        return this;
+    }
+
+    public Integer getWaitDurationInOpenStateSeconds() {
+        return waitDurationInOpenStateSeconds;
+    }
+
+    public PCircuitBreakerConfiguration setWaitDurationInOpenStateSeconds(Integer waitDurationInOpenStateSeconds) {
+        this.waitDurationInOpenStateSeconds = waitDurationInOpenStateSeconds;
+        return this;
+    }
+
+    public Integer getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    public PCircuitBreakerConfiguration setPermittedCallsInHalfOpenState(Integer permittedCallsInHalfOpenState) {
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+        return this;
+    }
+}
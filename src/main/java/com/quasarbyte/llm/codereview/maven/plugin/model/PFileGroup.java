@@ -58,6 +58,14 @@ public class PFileGroup {
      */
     private String codePage;
 
+    /**
+     * The token and cost budget of this file group, checked before the review starts.
+     * <p>
+     * Requires {@code fileGroupName}; only the token and cost quotas are read.
+     * </p>
+     */
+    private PLlmQuota llmQuota;
+
     public String getFileGroupName() {
         return fileGroupName;
     }
@@ -129,4 +137,13 @@ public class PFileGroup {
         this.codePage = codePage;
         return this;
     }
+
+    public PLlmQuota getLlmQuota() {
+        return llmQuota;
+    }
+
+    public PFileGroup setLlmQuota(PLlmQuota llmQuota) {
+        this.llmQuota = llmQuota;
+        return this;
+    }
 }
@@ -0,0 +1,99 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Configuration of the incremental review mode based on the local Git repository.
+ * <p>
+ * When enabled, only files changed relative to {@link #baseRef} are reviewed. The changed files are
+ * intersected with the files matched by {@code paths} and {@code excludePaths} of every file group;
+ * file groups without changed files are skipped. Rules are resolved exactly as in a full review.
+ * </p>
+ * <p>
+ * The {@code .git} directory is read directly; no remote is contacted, so the base ref must be
+ * available locally (for example fetched by the CI checkout step).
+ * </p>
+ */
+public class PGitDiffConfiguration {
+    /**
+     * Enables or disables the incremental review mode.
+     * <p>
+     * If {@code null} or {@code false}, all files matched by the file groups are reviewed.
+     * </p>
+     */
+    private Boolean enabled;
+
+    /**
+     * The Git ref to compare against, e.g. {@code origin/main}, {@code main} or a commit id.
+     */
+    private String baseRef;
+
+    /**
+     * Whether to compare against the merge-base of {@code HEAD} and {@link #baseRef} instead of
+     * {@link #baseRef} itself.
+     * <p>
+     * If {@code null}, the merge-base is used, which matches what a pull request shows.
+     * </p>
+     */
+    private Boolean useMergeBase;
+
+    /**
+     * Whether uncommitted and untracked (but not ignored) changes of the working tree are included.
+     * <p>
+     * If {@code null}, they are included. If {@code false}, {@code HEAD} is compared with the base.
+     * </p>
+     */
+    private Boolean includeUncommittedChanges;
+
+    /**
+     * The directory inside the Git repository to start searching for {@code .git} from.
+     * <p>
+     * If {@code null} or blank, the project base directory is used. A relative directory is resolved against the
+     * project base directory.
+     * </p>
+     */
+    private String repositoryDirectory;
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public PGitDiffConfiguration setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public String getBaseRef() {
+        return baseRef;
+    }
+
+    public PGitDiffConfiguration setBaseRef(String baseRef) {
+        this.baseRef = baseRef;
+        return this;
+    }
+
+    public Boolean getUseMergeBase() {
+        return useMergeBase;
+    }
+
+    public PGitDiffConfiguration setUseMergeBase(Boolean useMergeBase) {
+        this.useMergeBase = useMergeBase;
+        return this;
+    }
+
+    public Boolean getIncludeUncommittedChanges() {
+        return includeUncommittedChanges;
+    }
+
+    public PGitDiffConfiguration setIncludeUncommittedChanges(Boolean includeUncommittedChanges) {
+        this.includeUncommittedChanges = includeUncommittedChanges;
+        return this;
+    }
+
+    public String getRepositoryDirectory() {
+        return repositoryDirectory;
+    }
+
+    public PGitDiffConfiguration setRepositoryDirectory(String repositoryDirectory) {
+        this.repositoryDirectory = repositoryDirectory;
+        return this;
+    }
+}
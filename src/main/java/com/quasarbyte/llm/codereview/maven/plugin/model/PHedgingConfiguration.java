@@ -0,0 +1,83 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Configuration of hedged requests across the clients of {@code llmClientsConfiguration}.
+ * <p>
+ * When enabled, a batch that has not returned within the configured percentile of the observed batch latency
+ * is also sent to another client with a free slot. The first successful response is used and the other
+ * request is cancelled. Hedging needs at least two clients and is disabled when a persistence configuration
+ * is set, because the SDK persists every request it makes.
+ * </p>
+ */
+public class PHedgingConfiguration {
+    /**
+     * Enables or disables hedging.
+     * <p>
+     * If {@code null} or {@code false}, every batch is sent to exactly one client.
+     * </p>
+     */
+    private Boolean enabled;
+
+    /**
+     * The latency percentile after which a batch is hedged, greater than 0 and less than 100.
+     * <p>
+     * If {@code null}, {@code 90} is used.
+     * </p>
+     */
+    private Double percentile;
+
+    /**
+     * The maximum number of hedged batches as a percentage of all batches, between 0 and 100.
+     * <p>
+     * Token and cost quotas add this percentage to the estimated spend of every batch.
+     * </p>
+     * <p>
+     * If {@code null}, {@code 10} is used.
+     * </p>
+     */
+    private Integer maxExtraLoadPercent;
+
+    /**
+     * The number of completed batches observed before hedging starts.
+     * <p>
+     * If {@code null}, {@code 20} is used.
+     * </p>
+     */
+    private Integer minSamples;
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public PHedgingConfiguration setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public Double getPercentile() {
+        return percentile;
+    }
+
+    public PHedgingConfiguration setPercentile(Double percentile) {
+        this.percentile = percentile;
+        return this;
+    }
+
+    public Integer getMaxExtraLoadPercent() {
+        return maxExtraLoadPercent;
+    }
+
+    public PHedgingConfiguration setMaxExtraLoadPercent(Integer maxExtraLoadPercent) {
+        this.maxExtraLoadPercent = maxExtraLoadPercent;
+        return this;
+    }
+
+    public Integer getMinSamples() {
+        return minSamples;
+    }
+
+    public PHedgingConfiguration setMinSamples(Integer minSamples) {
+        this.minSamples = minSamples;
+        return this;
+    }
+}
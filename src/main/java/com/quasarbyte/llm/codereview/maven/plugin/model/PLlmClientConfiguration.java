@@ -90,6 +90,52 @@ public class PLlmClientConfiguration {
      */
     private String project;
 
+    /**
+     * The relative capacity of this client when several clients are configured.
+     * <p>
+     * Batches are routed to the client with the fewest outstanding requests relative to its weight, so a client
+     * with weight 2 gets about twice as many concurrent requests as a client with weight 1. If {@code null}, 1 is used.
+     * </p>
+     */
+    private Integer weight;
+
+    /**
+     * The maximum number of concurrent requests sent to this client when several clients are configured.
+     * <p>
+     * If {@code null}, the number is not limited per client.
+     * </p>
+     */
+    private Integer maxConcurrency;
+
+    /**
+     * The maximum number of requests per minute sent with this client's API key.
+     * <p>
+     * Enforced by the plugin before each HTTP request is sent; clients with the same API key share the limit.
+     * If {@code null}, requests are not limited.
+     * </p>
+     */
+    private Integer requestsPerMinute;
+
+    /**
+     * The maximum number of estimated tokens per minute used with this client's API key.
+     * <p>
+     * Enforced by the plugin before each HTTP request is sent, counting its input and maximum output tokens;
+     * clients with the same API key share the limit.
+     * If {@code null}, tokens are not limited.
+     * </p>
+     */
+    private Integer tokensPerMinute;
+
+    /**
+     * The model this client is billed for, used to price cost quotas.
+     * <p>
+     * Set it when the endpoint rather than the request decides the model, such as an Azure OpenAI deployment.
+     * It does not change the requests. If {@code null} or blank, the model of {@code llmChatCompletionConfiguration}
+     * is used.
+     * </p>
+     */
+    private String pricingModel;
+
     public Boolean getCheckJacksonVersionCompatibility() {
         return checkJacksonVersionCompatibility;
     }
@@ -197,4 +243,49 @@ public class PLlmClientConfiguration {
         this.project = project;
         return this;
     }
+
+    public Integer getWeight() {
+        return weight;
+    }
+
+    public PLlmClientConfiguration setWeight(Integer weight) {
+        this.weight = weight;
+        return this;
+    }
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public PLlmClientConfiguration setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    public Integer getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public PLlmClientConfiguration setRequestsPerMinute(Integer requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+        return this;
+    }
+
+    public Integer getTokensPerMinute() {
+        return tokensPerMinute;
+    }
+
+    public PLlmClientConfiguration setTokensPerMinute(Integer tokensPerMinute) {
+        this.tokensPerMinute = tokensPerMinute;
+        return this;
+    }
+
+    public String getPricingModel() {
+        return pricingModel;
+    }
+
+    public PLlmClientConfiguration setPricingModel(String pricingModel) {
+        this.pricingModel = pricingModel;
+        return this;
+    }
 }
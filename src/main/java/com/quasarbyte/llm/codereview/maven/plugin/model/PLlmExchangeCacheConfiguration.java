@@ -0,0 +1,49 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Configuration of the LLM exchange cache, which records and replays the HTTP exchanges of the LLM clients.
+ * <p>
+ * Requests are keyed by a hash of the normalized request body (model, messages and parameters) and the
+ * request path, so a rerun of the same commit with the same configuration is answered without any network
+ * access. Credentials and headers are not part of the key and are never stored.
+ * </p>
+ * <p>
+ * Responses are buffered before they are recorded, so streaming requests and proxies that require
+ * authentication are rejected with an error.
+ * </p>
+ */
+public class PLlmExchangeCacheConfiguration {
+    /**
+     * The cache mode.
+     * <p>
+     * If {@code null}, the exchange cache is not used.
+     * </p>
+     */
+    private LlmExchangeCacheModeEnum mode;
+
+    /**
+     * The directory where the recorded exchanges are stored.
+     * <p>
+     * If {@code null} or blank, {@code .llm-code-review-exchanges} in the current working directory is used.
+     * </p>
+     */
+    private String cacheDirectory;
+
+    public LlmExchangeCacheModeEnum getMode() {
+        return mode;
+    }
+
+    public PLlmExchangeCacheConfiguration setMode(LlmExchangeCacheModeEnum mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public PLlmExchangeCacheConfiguration setCacheDirectory(String cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+}
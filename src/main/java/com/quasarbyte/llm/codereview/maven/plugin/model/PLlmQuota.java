@@ -1,5 +1,7 @@
 package com.quasarbyte.llm.codereview.maven.plugin.model;
 
+import java.util.List;
+
 /**
  * Model representing the request quota for the LLM plugin.
  * <p>
@@ -7,6 +9,12 @@ package com.quasarbyte.llm.codereview.maven.plugin.model;
  * applied when working with an LLM (Large Language Model) in the
  * CodeReview Maven plugin.
  * </p>
+ * <p>
+ * The token and cost quotas are budgets checked before the review starts: the plugin estimates the input
+ * tokens, output tokens and cost of every planned request and compares them with the budgets of the whole
+ * review, of each review target and of each file group. Only {@code requestQuota} is enforced while the
+ * review runs.
+ * </p>
  */
 public class PLlmQuota {
 
@@ -15,6 +23,45 @@ public class PLlmQuota {
      */
     private Long requestQuota;
 
+    /**
+     * The maximum number of estimated input tokens.
+     */
+    private Long inputTokenQuota;
+
+    /**
+     * The maximum number of estimated output tokens.
+     */
+    private Long outputTokenQuota;
+
+    /**
+     * The maximum estimated cost, in the currency of {@link #modelPrices}.
+     */
+    private Double costQuota;
+
+    /**
+     * The prices of the models, required for {@link #costQuota}.
+     * <p>
+     * Only read from the quota of the review parameter.
+     * </p>
+     */
+    private List<PModelPrice> modelPrices;
+
+    /**
+     * The number of output tokens expected per request when estimating the spend.
+     * <p>
+     * Only read from the quota of the review parameter. If {@code null}, {@code 1024} is used.
+     * </p>
+     */
+    private Integer outputTokensPerRequest;
+
+    /**
+     * What to do if the planned spend exceeds a budget.
+     * <p>
+     * Only read from the quota of the review parameter. If {@code null}, {@link BudgetExceededActionEnum#FAIL} is used.
+     * </p>
+     */
+    private BudgetExceededActionEnum exceededAction;
+
     /**
      * Gets the configured request quota.
      *
@@ -34,4 +81,58 @@ public class PLlmQuota {
         this.requestQuota = requestQuota;
         return this;
     }
+
+    public Long getInputTokenQuota() {
+        return inputTokenQuota;
+    }
+
+    public PLlmQuota setInputTokenQuota(Long inputTokenQuota) {
+        this.inputTokenQuota = inputTokenQuota;
+        return this;
+    }
+
+    public Long getOutputTokenQuota() {
+        return outputTokenQuota;
+    }
+
+    public PLlmQuota setOutputTokenQuota(Long outputTokenQuota) {
+        this.outputTokenQuota = outputTokenQuota;
+        return this;
+    }
+
+    public Double getCostQuota() {
+        return costQuota;
+    }
+
+    public PLlmQuota setCostQuota(Double costQuota) {
+        this.costQuota = costQuota;
+        return this;
+    }
+
+    public List<PModelPrice> getModelPrices() {
+        return modelPrices;
+    }
+
+    public PLlmQuota setModelPrices(List<PModelPrice> modelPrices) {
+        this.modelPrices = modelPrices;
+        return this;
+    }
+
+    public Integer getOutputTokensPerRequest() {
+        return outputTokensPerRequest;
+    }
+
+    public PLlmQuota setOutputTokensPerRequest(Integer outputTokensPerRequest) {
+        this.outputTokensPerRequest = outputTokensPerRequest;
+        return this;
+    }
+
+    public BudgetExceededActionEnum getExceededAction() {
+        return exceededAction;
+    }
+
+    public PLlmQuota setExceededAction(BudgetExceededActionEnum exceededAction) {
+        this.exceededAction = exceededAction;
+        return this;
+    }
 }
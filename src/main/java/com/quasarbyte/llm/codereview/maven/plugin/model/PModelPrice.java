@@ -0,0 +1,50 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Price of a model, used to estimate the cost of a review.
+ */
+public class PModelPrice {
+
+    /**
+     * The model name as configured in {@code llmChatCompletionConfiguration} or in the {@code pricingModel}
+     * of a client.
+     */
+    private String model;
+
+    /**
+     * The price of one million input tokens.
+     */
+    private Double inputPricePerMillionTokens;
+
+    /**
+     * The price of one million output tokens.
+     */
+    private Double outputPricePerMillionTokens;
+
+    public String getModel() {
+        return model;
+    }
+
+    public PModelPrice setModel(String model) {
+        this.model = model;
+        return this;
+    }
+
+    public Double getInputPricePerMillionTokens() {
+        return inputPricePerMillionTokens;
+    }
+
+    public PModelPrice setInputPricePerMillionTokens(Double inputPricePerMillionTokens) {
+        this.inputPricePerMillionTokens = inputPricePerMillionTokens;
+        return this;
+    }
+
+    public Double getOutputPricePerMillionTokens() {
+        return outputPricePerMillionTokens;
+    }
+
+    public PModelPrice setOutputPricePerMillionTokens(Double outputPricePerMillionTokens) {
+        this.outputPricePerMillionTokens = outputPricePerMillionTokens;
+        return this;
+    }
+}
@@ -20,6 +20,58 @@ public class PParallelExecutionParameter {
      */
     private Integer poolSize;
 
+    /**
+     * The type of executor to run review tasks on.
+     * <p>
+     * If {@code null}, {@link ExecutorTypeEnum#WORK_STEALING} is used. For {@link ExecutorTypeEnum#VIRTUAL_THREAD},
+     * {@link #poolSize} is the maximum number of concurrently running tasks rather than a number of threads.
+     * </p>
+     */
+    private ExecutorTypeEnum executorType;
+
+    /**
+     * Enables the adaptive concurrency limit.
+     * <p>
+     * If {@code true}, the number of in-flight requests grows while latency stays stable and is halved when the
+     * LLM endpoint reports overload (429, 5xx, timeouts). If {@code null} or {@code false}, up to
+     * {@link #poolSize} requests run at once.
+     * </p>
+     */
+    private Boolean adaptiveConcurrency;
+
+    /**
+     * The lower bound of the adaptive concurrency limit.
+     * <p>
+     * If {@code null}, 1 is used.
+     * </p>
+     */
+    private Integer minConcurrency;
+
+    /**
+     * The value the adaptive concurrency limit starts at.
+     * <p>
+     * If {@code null}, the upper bound is used, so a healthy endpoint gets the full pool from the first request and
+     * the limit only drops once it reports overload. Values outside the bounds are moved into them.
+     * </p>
+     */
+    private Integer initialConcurrency;
+
+    /**
+     * The upper bound of the adaptive concurrency limit.
+     * <p>
+     * If {@code null}, {@link #poolSize} is used; larger values are reduced to {@link #poolSize}.
+     * </p>
+     */
+    private Integer maxConcurrency;
+
+    /**
+     * How long, in seconds, the tasks of an execution may drain after its review before they are cancelled.
+     * <p>
+     * If {@code null}, 30 seconds are used.
+     * </p>
+     */
+    private Integer shutdownTimeoutSeconds;
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -37,4 +89,58 @@ public class PParallelExecutionParameter {
         this.poolSize = poolSize;
         return this;
     }
+
+    public ExecutorTypeEnum getExecutorType() {
+        return executorType;
+    }
+
+    public PParallelExecutionParameter setExecutorType(ExecutorTypeEnum executorType) {
+        this.executorType = executorType;
+        return this;
+    }
+
+    public Boolean getAdaptiveConcurrency() {
+        return adaptiveConcurrency;
+    }
+
+    public PParallelExecutionParameter setAdaptiveConcurrency(Boolean adaptiveConcurrency) {
+        this.adaptiveConcurrency = adaptiveConcurrency;
+        return this;
+    }
+
+    public Integer getMinConcurrency() {
+        return minConcurrency;
+    }
+
+    public PParallelExecutionParameter setMinConcurrency(Integer minConcurrency) {
+        this.minConcurrency = minConcurrency;
+        return this;
+    }
+
+    public Integer getInitialConcurrency() {
+        return initialConcurrency;
+    }
+
+    public PParallelExecutionParameter setInitialConcurrency(Integer initialConcurrency) {
+        this.initialConcurrency = initialConcurrency;
+        return this;
+    }
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public PParallelExecutionParameter setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    public Integer getShutdownTimeoutSeconds() {
+        return shutdownTimeoutSeconds;
+    }
+
+    public PParallelExecutionParameter setShutdownTimeoutSeconds(Integer shutdownTimeoutSeconds) {
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+        return this;
+    }
 }
@@ -4,7 +4,7 @@ package com.quasarbyte.llm.codereview.maven.plugin.model;
  * Configuration class for managing various report output formats and file paths.
  * <p>
  * This class provides configuration options for generating reports in multiple formats
- * including JSON, Markdown, HTML, and CSV. Each report type can be configured to output
+ * including JSON, JSON Lines, Markdown, HTML, and CSV. Each report type can be configured to output
  * to a specific file path or to standard output/error streams.
  * </p>
  * <p>
@@ -60,7 +60,8 @@ public class PReportsConfiguration {
     /**
      * CSV report file path (STDOUT, STDERR, report.csv).
      * <p>
-     * Specifies where the CSV format report should be written. Can be set to:
+     * Specifies where the CSV format report should be written. The report has a header row with the properties
+     * of the review result items and one row per item. Can be set to:
      * <ul>
      *   <li>STDOUT - Write to standard output</li>
      *   <li>STDERR - Write to standard error</li>
@@ -70,6 +71,35 @@ public class PReportsConfiguration {
      */
     private String csvReportFilePath;
 
+    /**
+     * JSON Lines report file path (STDOUT, STDERR, report.jsonl).
+     * <p>
+     * Unlike the other reports, this one is written while the review runs: the items of every finished part
+     * of the review are appended as one JSON object per line and flushed at once, so tools can start processing
+     * early and a killed build still leaves its partial results. A part is a batch when the plugin-side dispatcher
+     * is used (weights, hedging or circuit breakers) or with fail-fast, a file group with the review
+     * cache, and otherwise the whole review. Enabling this report does not change how the review runs.
+     * Can be set to:
+     * <ul>
+     *   <li>STDOUT - Write to standard output</li>
+     *   <li>STDERR - Write to standard error</li>
+     *   <li>File path - Write to a specified file (e.g., "report.jsonl"), replacing an existing file</li>
+     * </ul>
+     * </p>
+     */
+    private String jsonLinesReportFilePath;
+
+    /**
+     * Maximum number of result items per page of the HTML and Markdown reports.
+     * <p>
+     * If set and the result has more items, the HTML and Markdown reports are split into pages written next
+     * to the configured file (e.g., "report-0001.html"), and the configured file becomes an index page with
+     * the item and severity counts of every page. Pages are generated in parallel. Reports written to STDOUT
+     * or STDERR are never split. If {@code null}, every report is a single file.
+     * </p>
+     */
+    private Integer reportShardSize;
+
     /**
      * Gets the JSON report file path.
      *
@@ -149,4 +179,44 @@ public class PReportsConfiguration {
         this.csvReportFilePath = csvReportFilePath;
         return this;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the JSON Lines report file path.
+     *
+     * @return the JSON Lines report file path, or null if not set
+     */
+    public String getJsonLinesReportFilePath() {
+        return jsonLinesReportFilePath;
+    }
+
+    /**
+     * Sets the JSON Lines report file path.
+     *
+     * @param jsonLinesReportFilePath the JSON Lines report file path to set
+     * @return this configuration instance for method chaining
+     */
+    public PReportsConfiguration setJsonLinesReportFilePath(String jsonLinesReportFilePath) {
+        this.jsonLinesReportFilePath = jsonLinesReportFilePath;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of result items per report page.
+     *
+     * @return the shard size, or null if reports are not split
+     */
+    public Integer getReportShardSize() {
+        return reportShardSize;
+    }
+
+    /**
+     * Sets the maximum number of result items per report page.
+     *
+     * @param reportShardSize the shard size to set
+     * @return this configuration instance for method chaining
+     */
+    public PReportsConfiguration setReportShardSize(Integer reportShardSize) {
+        this.reportShardSize = reportShardSize;
+        return this;
+    }
+}
@@ -0,0 +1,47 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Configuration of the local on-disk review cache.
+ * <p>
+ * When enabled, every file group of every review target is looked up in the cache before it is sent
+ * to the LLM. The cache key combines the content hash of each file in the group, the resolved rules,
+ * the system, review, target and file group prompts, the LLM chat completion configuration and the
+ * Rhino mapper script, so any change to one of them results in a new review.
+ * </p>
+ */
+public class PReviewCacheConfiguration {
+    /**
+     * Enables or disables the review cache.
+     * <p>
+     * If {@code null} or {@code false}, the cache is not used.
+     * </p>
+     */
+    private Boolean enabled;
+
+    /**
+     * The directory where the cache segment and index files are stored.
+     * <p>
+     * If {@code null} or blank, {@code .llm-code-review-cache} in the current working directory is used.
+     * The default is intentionally outside of {@code target} so that {@code mvn clean} keeps the cache.
+     * </p>
+     */
+    private String cacheDirectory;
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public PReviewCacheConfiguration setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public PReviewCacheConfiguration setCacheDirectory(String cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+}
@@ -34,6 +34,14 @@ public class PReviewTarget {
      */
     private List<String> reviewTargetPrompts;
 
+    /**
+     * The token and cost budget of this review target, checked before the review starts.
+     * <p>
+     * Requires {@code reviewTargetName}; only the token and cost quotas are read.
+     * </p>
+     */
+    private PLlmQuota llmQuota;
+
     public String getReviewTargetName() {
         return reviewTargetName;
     }
@@ -78,4 +86,13 @@ public class PReviewTarget {
         this.reviewTargetPrompts = reviewTargetPrompts;
         return this;
     }
+
+    public PLlmQuota getLlmQuota() {
+        return llmQuota;
+    }
+
+    public PReviewTarget setLlmQuota(PLlmQuota llmQuota) {
+        this.llmQuota = llmQuota;
+        return this;
+    }
 }
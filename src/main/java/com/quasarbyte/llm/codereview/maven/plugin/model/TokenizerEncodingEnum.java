@@ -0,0 +1,19 @@
+package com.quasarbyte.llm.codereview.maven.plugin.model;
+
+/**
+ * Enumeration of supported byte-level BPE encodings.
+ * <p>
+ * The encoding selects how text is split into pieces before the byte pair merges of the vocabulary are applied.
+ * The vocabulary itself is loaded from a {@code .tiktoken} file.
+ * </p>
+ */
+public enum TokenizerEncodingEnum {
+    /**
+     * The {@code cl100k_base} encoding, used by GPT-4 and GPT-3.5 Turbo models.
+     */
+    CL100K_BASE,
+    /**
+     * The {@code o200k_base} encoding, used by GPT-4o and newer models.
+     */
+    O200K_BASE
+}
@@ -0,0 +1,26 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service;
+
+/**
+ * {@link PRulesFileReader} that memoizes parsed rule files by their normalized location.
+ * <p>
+ * File system entries are revalidated against the file's modification time and size; classpath entries never change
+ * and are kept for the lifetime of the reader.
+ * </p>
+ */
+public interface CachingPRulesFileReader extends PRulesFileReader {
+
+    /**
+     * @return the number of reads answered from the cache
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of reads that had to load and parse the file
+     */
+    long getMissCount();
+
+    /**
+     * Removes all cached entries; the counters are kept.
+     */
+    void clear();
+}
@@ -0,0 +1,20 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Expands the file paths and glob patterns of a file group into the concrete list of files.
+ */
+public interface FileGroupPathResolver {
+    /**
+     * Resolves include patterns minus exclude patterns.
+     *
+     * @param paths        file paths or glob patterns to include
+     * @param excludePaths file paths or glob patterns to exclude, may be {@code null}
+     * @return sorted, distinct list of normalized files
+     * @throws IOException if a directory cannot be traversed
+     */
+    List<Path> resolve(List<String> paths, List<String> excludePaths) throws IOException;
+}
@@ -1,6 +1,7 @@
 package com.quasarbyte.llm.codereview.maven.plugin.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Loads the contents of a resource from the classpath or file system as a String.
@@ -33,4 +34,13 @@ public interface ResourceLoader {
      * @throws IOException if the resource cannot be loaded or read, or if the charset is not supported
      */
     String load(String location, String codePage) throws IOException;
+
+    /**
+     * Opens a resource from the classpath or file system for streaming reads.
+     *
+     * @param location the resource location, e.g., {@code "classpath:/foo.txt"} or {@code "/tmp/bar.txt"}
+     * @return a stream over the raw resource bytes; the caller is responsible for closing it
+     * @throws IOException if the resource cannot be found or opened
+     */
+    InputStream openStream(String location) throws IOException;
 }
@@ -0,0 +1,62 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.budget;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.util.List;
+
+/**
+ * The result of checking a review against its budgets.
+ */
+public class BudgetPlan {
+
+    private final ReviewParameter parameter;
+    private final SpendEstimate plannedSpend;
+    private final SpendEstimate acceptedSpend;
+    private final List<String> violations;
+    private final int skippedFileCount;
+
+    public BudgetPlan(ReviewParameter parameter, SpendEstimate plannedSpend, SpendEstimate acceptedSpend,
+                      List<String> violations, int skippedFileCount) {
+        this.parameter = parameter;
+        this.plannedSpend = plannedSpend;
+        this.acceptedSpend = acceptedSpend;
+        this.violations = violations;
+        this.skippedFileCount = skippedFileCount;
+    }
+
+    /**
+     * Gets the review parameter to run: the original one, or the trimmed one if trimming was requested.
+     * @return the review parameter, {@code null} if trimming left no files
+     */
+    public ReviewParameter getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Gets the estimated spend of the whole review before trimming.
+     * @return the planned spend
+     */
+    public SpendEstimate getPlannedSpend() {
+        return plannedSpend;
+    }
+
+    /**
+     * Gets the estimated spend of {@link #getParameter()}.
+     * @return the accepted spend
+     */
+    public SpendEstimate getAcceptedSpend() {
+        return acceptedSpend;
+    }
+
+    /**
+     * Gets a description of every budget the planned spend exceeds.
+     * @return the violations, empty if the review fits all budgets
+     */
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    public int getSkippedFileCount() {
+        return skippedFileCount;
+    }
+}
@@ -0,0 +1,23 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.budget;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.io.IOException;
+
+/**
+ * Estimates the spend of a review before it starts and checks it against the budgets.
+ */
+public interface BudgetPlanner {
+    /**
+     * Estimates the spend of every file batch and checks the totals of the review, its targets and its file groups.
+     *
+     * @param parameter      the review parameter as it is going to be run
+     * @param budget         the budgets
+     * @param tokenEstimator estimates the tokens of a file
+     * @param trim           whether to leave out the batches that do not fit
+     * @return the plan
+     * @throws IOException if files cannot be resolved or read
+     */
+    BudgetPlan plan(ReviewParameter parameter, ReviewBudget budget, TokenEstimator tokenEstimator, boolean trim) throws IOException;
+}
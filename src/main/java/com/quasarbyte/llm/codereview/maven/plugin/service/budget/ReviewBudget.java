@@ -0,0 +1,114 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.budget;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The budgets of a review, its targets and its file groups, together with the figures needed to estimate
+ * the spend of a request.
+ * <p>
+ * Targets are identified by their name, file groups by {@link #fileGroupKey(String, String)}, because batch
+ * planning and changed-file filtering replace the file groups of a review with copies.
+ * </p>
+ */
+public class ReviewBudget {
+
+    private final SpendBudget reviewBudget;
+    private final Map<String, SpendBudget> targetBudgets;
+    private final Map<String, SpendBudget> fileGroupBudgets;
+    private final int outputTokensPerRequest;
+    private final int requestOverheadTokens;
+    private final int fileOverheadTokens;
+    private final double inputPricePerMillionTokens;
+    private final double outputPricePerMillionTokens;
+    private final double extraLoadRatio;
+
+    /**
+     * @param reviewBudget                the budget of the whole review, may be {@code null}
+     * @param targetBudgets               the budgets of the review targets by target name
+     * @param fileGroupBudgets            the budgets of the file groups by {@link #fileGroupKey(String, String)}
+     * @param outputTokensPerRequest      the expected output tokens of a request
+     * @param requestOverheadTokens       the tokens of prompts and rules sent with every request
+     * @param fileOverheadTokens          the tokens of the framing of every file
+     * @param inputPricePerMillionTokens  the price of one million input tokens, 0 if unknown
+     * @param outputPricePerMillionTokens the price of one million output tokens, 0 if unknown
+     */
+    public ReviewBudget(SpendBudget reviewBudget, Map<String, SpendBudget> targetBudgets, Map<String, SpendBudget> fileGroupBudgets,
+                        int outputTokensPerRequest, int requestOverheadTokens, int fileOverheadTokens,
+                        double inputPricePerMillionTokens, double outputPricePerMillionTokens) {
+        this(reviewBudget, targetBudgets, fileGroupBudgets, outputTokensPerRequest, requestOverheadTokens, fileOverheadTokens,
+                inputPricePerMillionTokens, outputPricePerMillionTokens, 0);
+    }
+
+    /**
+     * @param reviewBudget                the budget of the whole review, may be {@code null}
+     * @param targetBudgets               the budgets of the review targets by target name
+     * @param fileGroupBudgets            the budgets of the file groups by {@link #fileGroupKey(String, String)}
+     * @param outputTokensPerRequest      the expected output tokens of a request
+     * @param requestOverheadTokens       the tokens of prompts and rules sent with every request
+     * @param fileOverheadTokens          the tokens of the framing of every file
+     * @param inputPricePerMillionTokens  the price of one million input tokens, 0 if unknown
+     * @param outputPricePerMillionTokens the price of one million output tokens, 0 if unknown
+     * @param extraLoadRatio              the share of batches that may be sent a second time, such as hedged batches,
+     *                                    between 0 and 1
+     */
+    public ReviewBudget(SpendBudget reviewBudget, Map<String, SpendBudget> targetBudgets, Map<String, SpendBudget> fileGroupBudgets,
+                        int outputTokensPerRequest, int requestOverheadTokens, int fileOverheadTokens,
+                        double inputPricePerMillionTokens, double outputPricePerMillionTokens, double extraLoadRatio) {
+        if (extraLoadRatio < 0 || extraLoadRatio > 1) {
+            throw new IllegalArgumentException("extraLoadRatio must be between 0 and 1: " + extraLoadRatio);
+        }
+        this.reviewBudget = reviewBudget;
+        this.targetBudgets = targetBudgets != null ? targetBudgets : Collections.emptyMap();
+        this.fileGroupBudgets = fileGroupBudgets != null ? fileGroupBudgets : Collections.emptyMap();
+        this.outputTokensPerRequest = outputTokensPerRequest;
+        this.requestOverheadTokens = requestOverheadTokens;
+        this.fileOverheadTokens = fileOverheadTokens;
+        this.inputPricePerMillionTokens = inputPricePerMillionTokens;
+        this.outputPricePerMillionTokens = outputPricePerMillionTokens;
+        this.extraLoadRatio = extraLoadRatio;
+    }
+
+    /**
+     * Gets the key of a file group budget.
+     */
+    public static String fileGroupKey(String targetName, String fileGroupName) {
+        return targetName + "/" + fileGroupName;
+    }
+
+    public SpendBudget getReviewBudget() {
+        return reviewBudget;
+    }
+
+    public SpendBudget getTargetBudget(String targetName) {
+        return targetName != null ? targetBudgets.get(targetName) : null;
+    }
+
+    public SpendBudget getFileGroupBudget(String targetName, String fileGroupName) {
+        return targetName != null && fileGroupName != null ? fileGroupBudgets.get(fileGroupKey(targetName, fileGroupName)) : null;
+    }
+
+    public int getOutputTokensPerRequest() {
+        return outputTokensPerRequest;
+    }
+
+    public int getRequestOverheadTokens() {
+        return requestOverheadTokens;
+    }
+
+    public int getFileOverheadTokens() {
+        return fileOverheadTokens;
+    }
+
+    public double getInputPricePerMillionTokens() {
+        return inputPricePerMillionTokens;
+    }
+
+    public double getOutputPricePerMillionTokens() {
+        return outputPricePerMillionTokens;
+    }
+
+    public double getExtraLoadRatio() {
+        return extraLoadRatio;
+    }
+}
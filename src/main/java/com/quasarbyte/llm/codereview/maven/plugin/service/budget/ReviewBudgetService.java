@@ -0,0 +1,45 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.budget;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PLlmClientConfiguration;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Runs the pre-flight budget check of a review: validates the token and cost quotas of the review, its targets and
+ * its file groups, prices the models of the clients and plans the spend.
+ */
+public interface ReviewBudgetService {
+
+    /**
+     * Checks whether the review, one of its targets or one of its file groups has a token or cost quota.
+     *
+     * @param reviewParameter the configured review parameter
+     * @return {@code true} if the review has to be checked before it starts
+     */
+    boolean isEnabled(PReviewParameter reviewParameter);
+
+    /**
+     * Estimates the spend of the review and checks it against the budgets.
+     *
+     * @param configuredParameter    the configured review parameter, which holds the quotas
+     * @param reviewParameter        the review parameter as it is going to be run
+     * @param clientConfigurations   the configurations of all clients a batch may be sent to
+     * @param tokenEstimator         estimates the tokens of a file
+     * @param outputTokensPerRequest the expected output tokens of every request
+     * @param requestOverheadTokens  the tokens of every request besides the files
+     * @param fileOverheadTokens     the tokens added per file
+     * @param extraLoadRatio         the share of batches that may be sent twice, e.g. by hedging
+     * @return the plan to run, trimmed if the review quota asks to trim
+     * @throws com.quasarbyte.llm.codereview.maven.plugin.exception.BudgetExceededException if a budget is exceeded
+     *                                                                                        and trimming is not enabled
+     * @throws IOException if files cannot be resolved or read
+     */
+    BudgetPlan check(PReviewParameter configuredParameter, ReviewParameter reviewParameter,
+                     List<PLlmClientConfiguration> clientConfigurations, TokenEstimator tokenEstimator,
+                     int outputTokensPerRequest, int requestOverheadTokens, int fileOverheadTokens,
+                     double extraLoadRatio) throws IOException;
+}
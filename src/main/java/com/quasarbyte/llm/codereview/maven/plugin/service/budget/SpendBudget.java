@@ -0,0 +1,48 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.budget;
+
+/**
+ * Token and cost limits of one scope of a review; {@code null} limits are unlimited.
+ */
+public class SpendBudget {
+
+    private final Long inputTokens;
+    private final Long outputTokens;
+    private final Double cost;
+
+    public SpendBudget(Long inputTokens, Long outputTokens, Double cost) {
+        this.inputTokens = inputTokens;
+        this.outputTokens = outputTokens;
+        this.cost = cost;
+    }
+
+    public Long getInputTokens() {
+        return inputTokens;
+    }
+
+    public Long getOutputTokens() {
+        return outputTokens;
+    }
+
+    public Double getCost() {
+        return cost;
+    }
+
+    /**
+     * Describes the first limit the estimate exceeds.
+     *
+     * @param estimate the estimated spend
+     * @return the description, or {@code null} if the estimate fits
+     */
+    public String exceededBy(SpendEstimate estimate) {
+        if (inputTokens != null && estimate.getInputTokens() > inputTokens) {
+            return String.format("%d input tokens exceed the quota of %d", estimate.getInputTokens(), inputTokens);
+        }
+        if (outputTokens != null && estimate.getOutputTokens() > outputTokens) {
+            return String.format("%d output tokens exceed the quota of %d", estimate.getOutputTokens(), outputTokens);
+        }
+        if (cost != null && estimate.getCost() > cost) {
+            return String.format("cost %.4f exceeds the quota of %.4f", estimate.getCost(), cost);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.budget;
+
+/**
+ * Estimated requests, tokens and cost of a part of a review.
+ */
+public class SpendEstimate {
+
+    public static final SpendEstimate ZERO = new SpendEstimate(0, 0, 0, 0);
+
+    private final long requests;
+    private final long inputTokens;
+    private final long outputTokens;
+    private final double cost;
+
+    public SpendEstimate(long requests, long inputTokens, long outputTokens, double cost) {
+        this.requests = requests;
+        this.inputTokens = inputTokens;
+        this.outputTokens = outputTokens;
+        this.cost = cost;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getInputTokens() {
+        return inputTokens;
+    }
+
+    public long getOutputTokens() {
+        return outputTokens;
+    }
+
+    public double getCost() {
+        return cost;
+    }
+
+    public SpendEstimate plus(SpendEstimate other) {
+        return new SpendEstimate(requests + other.requests, inputTokens + other.inputTokens,
+                outputTokens + other.outputTokens, cost + other.cost);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests, %d input tokens, %d output tokens, cost %.4f", requests, inputTokens, outputTokens, cost);
+    }
+}
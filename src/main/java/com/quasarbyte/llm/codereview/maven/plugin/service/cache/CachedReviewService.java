@@ -0,0 +1,35 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.cache;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultListener;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Reviews a parameter file group by file group, serving unchanged file groups from a {@link ReviewCache}.
+ */
+public interface CachedReviewService {
+    /**
+     * Reviews the parameter, calling the reviewer only for file groups which are not in the cache.
+     *
+     * @param parameter the review parameter
+     * @param cache     the cache to read from and write to
+     * @param baseDirectory the project base directory, the cache keys use file paths relative to it
+     * @param reviewer  performs the actual review of a parameter
+     * @param cachedResultListener receives the results served from the cache, may be {@code null}
+     * @param failFastMonitor receives the results served from the cache, the reviewer reports its own results to it;
+     *                        no uncached file group is started once it trips, {@code null} to review all file groups
+     * @param executor  runs the uncached file groups; its threads only wait for the reviewer, so it must not be a
+     *                  bounded executor the reviewer sends its requests with
+     * @param missConcurrency the number of uncached file groups reviewed at the same time, 1 for one after another
+     * @return the merged result of cached and fresh reviews
+     * @throws ReviewStoppedException if the monitor tripped before the last uncached file group was reviewed
+     */
+    ReviewResult review(ReviewParameter parameter, ReviewCache cache, Path baseDirectory, Function<ReviewParameter, ReviewResult> reviewer,
+                        ReviewResultListener cachedResultListener, FailFastMonitor failFastMonitor, Executor executor, int missConcurrency);
+}
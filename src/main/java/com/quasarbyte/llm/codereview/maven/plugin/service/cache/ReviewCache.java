@@ -0,0 +1,29 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.cache;
+
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+import java.io.Closeable;
+import java.util.Optional;
+
+/**
+ * Persistent cache of review results keyed by a content-addressed key.
+ *
+ * @see ReviewCacheKeyCalculator
+ */
+public interface ReviewCache extends Closeable {
+    /**
+     * Looks up a cached review result.
+     *
+     * @param key the hex encoded SHA-256 cache key
+     * @return the cached result, or empty if there is no entry or it cannot be read
+     */
+    Optional<ReviewResult> get(String key);
+
+    /**
+     * Stores a review result. Existing entries are never overwritten.
+     *
+     * @param key    the hex encoded SHA-256 cache key
+     * @param result the result to store
+     */
+    void put(String key, ReviewResult result);
+}
@@ -0,0 +1,24 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.cache;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewUnit;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Calculates the content-addressed cache key of a {@link ReviewUnit}.
+ */
+public interface ReviewCacheKeyCalculator {
+    /**
+     * Calculates the cache key.
+     *
+     * @param unit          the review unit
+     * @param baseDirectory the project base directory, file paths are part of the key relative to it so that
+     *                      moving or cloning the project to another directory keeps the keys
+     * @param files         the files of the unit's file group, as resolved from its paths and exclude paths
+     * @return hex encoded SHA-256 key
+     * @throws IOException if a file cannot be read
+     */
+    String calculate(ReviewUnit unit, Path baseDirectory, List<Path> files) throws IOException;
+}
@@ -0,0 +1,48 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker;
+
+/**
+ * Stops sending requests to an LLM endpoint whose recent calls failed or were slow too often.
+ */
+public interface CircuitBreaker {
+    /**
+     * Returned by {@link #tryAcquirePermission()} when the call must not be made.
+     */
+    long NOT_PERMITTED = -1;
+
+    /**
+     * Checks whether a call would currently be permitted, without taking a permission.
+     * @return {@code true} if {@link #tryAcquirePermission()} would succeed
+     */
+    boolean isCallPermitted();
+
+    /**
+     * Takes a permission for one call. Every successful acquisition must be followed by
+     * {@link #onSuccess(long, long)} or {@link #onError(long, long)} with the returned permission.
+     * @return the permission, which identifies the state the call was permitted in, or {@link #NOT_PERMITTED}
+     */
+    long tryAcquirePermission();
+
+    /**
+     * Records a successful call. The outcome is ignored if the circuit has changed its state since the permission
+     * was taken.
+     * @param permission    the permission the call was made with
+     * @param durationNanos the duration of the call
+     */
+    void onSuccess(long permission, long durationNanos);
+
+    /**
+     * Records a failed call. The outcome is ignored if the circuit has changed its state since the permission
+     * was taken.
+     * @param permission    the permission the call was made with
+     * @param durationNanos the duration of the call
+     */
+    void onError(long permission, long durationNanos);
+
+    /**
+     * Gets the time until an open circuit lets trial calls through.
+     * @return the remaining time in nanoseconds, 0 if the circuit is not open
+     */
+    long getRemainingOpenNanos();
+
+    CircuitBreakerState getState();
+}
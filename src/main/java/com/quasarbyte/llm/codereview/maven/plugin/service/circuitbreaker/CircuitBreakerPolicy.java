@@ -0,0 +1,85 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker;
+
+/**
+ * Thresholds and durations of a circuit breaker.
+ */
+public class CircuitBreakerPolicy {
+
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateNanos;
+    private final int permittedCallsInHalfOpenState;
+
+    /**
+     * @param failureRateThreshold          the failure rate in percent that opens the circuit, between 1 and 100
+     * @param slowCallRateThreshold         the slow call rate in percent that opens the circuit, between 1 and 100
+     * @param slowCallDurationNanos         calls taking at least this long are slow, greater than 0
+     * @param slidingWindowSize             the number of recent calls the rates are computed from, at least 1
+     * @param minimumNumberOfCalls          the number of calls recorded before the rates are evaluated, at least 1
+     * @param waitDurationInOpenStateNanos  how long an open circuit rejects calls, at least 0
+     * @param permittedCallsInHalfOpenState the number of trial calls of a half-open circuit, at least 1
+     */
+    public CircuitBreakerPolicy(int failureRateThreshold, int slowCallRateThreshold, long slowCallDurationNanos,
+                                int slidingWindowSize, int minimumNumberOfCalls, long waitDurationInOpenStateNanos,
+                                int permittedCallsInHalfOpenState) {
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failureRateThreshold must be between 1 and 100: " + failureRateThreshold);
+        }
+        if (slowCallRateThreshold < 1 || slowCallRateThreshold > 100) {
+            throw new IllegalArgumentException("slowCallRateThreshold must be between 1 and 100: " + slowCallRateThreshold);
+        }
+        if (slowCallDurationNanos <= 0) {
+            throw new IllegalArgumentException("slowCallDurationNanos must be greater than 0: " + slowCallDurationNanos);
+        }
+        if (slidingWindowSize < 1) {
+            throw new IllegalArgumentException("slidingWindowSize must be at least 1: " + slidingWindowSize);
+        }
+        if (minimumNumberOfCalls < 1) {
+            throw new IllegalArgumentException("minimumNumberOfCalls must be at least 1: " + minimumNumberOfCalls);
+        }
+        if (waitDurationInOpenStateNanos < 0) {
+            throw new IllegalArgumentException("waitDurationInOpenStateNanos must be at least 0: " + waitDurationInOpenStateNanos);
+        }
+        if (permittedCallsInHalfOpenState < 1) {
+            throw new IllegalArgumentException("permittedCallsInHalfOpenState must be at least 1: " + permittedCallsInHalfOpenState);
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationNanos = slowCallDurationNanos;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumNumberOfCalls = Math.min(minimumNumberOfCalls, slidingWindowSize);
+        this.waitDurationInOpenStateNanos = waitDurationInOpenStateNanos;
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public int getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public long getSlowCallDurationNanos() {
+        return slowCallDurationNanos;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public long getWaitDurationInOpenStateNanos() {
+        return waitDurationInOpenStateNanos;
+    }
+
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+}
@@ -0,0 +1,22 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker;
+
+/**
+ * Shares circuit breakers between plugin executions, so that an endpoint found unhealthy while reviewing one
+ * module is not retried at full rate by the next one.
+ */
+public interface CircuitBreakerRegistry {
+    /**
+     * Gets the circuit breaker registered under the key, or creates it with the given policy.
+     *
+     * @param key    the key, e.g. a digest of the endpoint URL
+     * @param name   the name used in log messages of a new circuit breaker
+     * @param policy the policy of a new circuit breaker
+     * @return the shared circuit breaker
+     */
+    CircuitBreaker getOrCreate(String key, String name, CircuitBreakerPolicy policy);
+
+    /**
+     * Forgets all circuit breakers, e.g. at the end of the Maven session.
+     */
+    void clear();
+}
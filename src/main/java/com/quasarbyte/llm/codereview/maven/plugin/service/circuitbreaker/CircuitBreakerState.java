@@ -0,0 +1,16 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker;
+
+public enum CircuitBreakerState {
+    /**
+     * Calls are permitted and their outcomes are recorded.
+     */
+    CLOSED,
+    /**
+     * Calls are rejected until the wait duration has passed.
+     */
+    OPEN,
+    /**
+     * A limited number of trial calls decides whether the circuit closes or opens again.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,33 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.client;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PLlmClientConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+import java.util.function.Supplier;
+
+/**
+ * Shares LLM clients between plugin executions of the same Maven session, so that modules of a reactor build
+ * reuse HTTP connections and rate-limit state instead of creating a new client each.
+ */
+public interface LlmClientRegistry {
+
+    /**
+     * Gets the client created for an equal configuration, or creates it.
+     *
+     * @param configuration the client configuration
+     * @param factory       creates the client if no client exists for the configuration yet
+     * @return the shared client
+     */
+    LlmClient getOrCreate(PLlmClientConfiguration configuration, Supplier<LlmClient> factory);
+
+    /**
+     * Gets the number of cached clients.
+     * @return the number of clients
+     */
+    int size();
+
+    /**
+     * Forgets all cached clients, e.g. at the end of the Maven session.
+     */
+    void clear();
+}
@@ -0,0 +1,53 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.concurrency;
+
+/**
+ * Limits the number of in-flight LLM requests.
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * Outcome of a request, used to adjust the limit.
+     */
+    enum Outcome {
+        /**
+         * The request succeeded.
+         */
+        SUCCESS,
+        /**
+         * The request failed because the endpoint is overloaded: rate limited, 5xx or timed out.
+         */
+        OVERLOAD,
+        /**
+         * The request failed for another reason; the limit is not changed.
+         */
+        FAILURE
+    }
+
+    /**
+     * Waits until a request may start.
+     *
+     * @return the start time in nanoseconds to pass to {@link #release(long, Outcome)}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    long acquire() throws InterruptedException;
+
+    /**
+     * Reports that a request finished.
+     *
+     * @param startNanos the value returned by {@link #acquire()}
+     * @param outcome    the outcome of the request
+     */
+    void release(long startNanos, Outcome outcome);
+
+    /**
+     * Gets the current limit.
+     * @return the number of requests allowed to be in flight
+     */
+    int getLimit();
+
+    /**
+     * Gets a one-line summary of the limiter for logging.
+     * @return the summary
+     */
+    String getSummary();
+}
@@ -0,0 +1,126 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.concurrency;
+
+import java.lang.reflect.Method;
+import java.net.SocketTimeoutException;
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Decides whether a failure means the LLM endpoint is overloaded.
+ * <p>
+ * The HTTP layer is owned by the LLM client, so the decision is made from the exception chain. An HTTP status
+ * exposed by a typed accessor ({@code statusCode()}, {@code getStatusCode()} or {@code getStatus()} returning an
+ * {@code int}, as the service exceptions of the OpenAI client do) decides on its own: 408, 429 and 5xx are overload,
+ * any other status is not. Timeout exceptions are overload. Only exceptions without a status are classified by
+ * their text: type names after rate limits, server errors or timeouts, and messages carrying a 429 or 5xx status,
+ * a rate-limit phrase or a {@code Retry-After} / {@code x-ratelimit-*} header.
+ * </p>
+ * <p>
+ * The LLM client retries 429 and 5xx answers itself, honouring {@code Retry-After}, and only fails once its retries
+ * are used up. Overload that the client's retries absorb is not seen here; it only shows as higher latency.
+ * </p>
+ */
+public final class OverloadClassifier {
+
+    private static final String[] STATUS_ACCESSORS = {"statusCode", "getStatusCode", "getStatus"};
+
+    // A bare 5xx number is too ambiguous in messages, it has to follow a status word
+    private static final Pattern STATUS_PATTERN = Pattern.compile("\\b429\\b|(?i)\\b(status|code|http)\\D{0,12}5\\d\\d\\b");
+    private static final String[] TYPE_MARKERS = {"ratelimit", "toomanyrequests", "internalserver", "serviceunavailable", "timeout"};
+    private static final String[] MESSAGE_MARKERS = {"rate limit", "rate_limit", "too many requests", "retry-after", "x-ratelimit", "overloaded", "timed out", "timeout"};
+
+    private static final ClassValue<Method> STATUS_ACCESSOR = new ClassValue<Method>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            for (String name : STATUS_ACCESSORS) {
+                try {
+                    Method method = type.getMethod(name);
+                    if (method.getReturnType() == int.class || method.getReturnType() == Integer.class) {
+                        return method;
+                    }
+                } catch (NoSuchMethodException e) {
+                    // Try the next accessor
+                }
+            }
+            return null;
+        }
+    };
+
+    private OverloadClassifier() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Checks the throwable and its causes.
+     * @param throwable the failure, may be {@code null}
+     * @return {@code true} if the failure indicates overload
+     */
+    public static boolean isOverload(Throwable throwable) {
+        int depth = 0;
+        for (Throwable current = throwable; current != null && depth < 10; current = current.getCause(), depth++) {
+            if (current instanceof SocketTimeoutException || current instanceof TimeoutException) {
+                return true;
+            }
+            Integer status = statusOf(current);
+            if (status != null) {
+                return isOverloadStatus(status);
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return hasOverloadText(throwable);
+    }
+
+    /**
+     * Checks an HTTP status.
+     * @param status the HTTP status code
+     * @return {@code true} for 408, 429 and 5xx
+     */
+    public static boolean isOverloadStatus(int status) {
+        return status == 408 || status == 429 || (status >= 500 && status < 600);
+    }
+
+    private static Integer statusOf(Throwable throwable) {
+        Method accessor = STATUS_ACCESSOR.get(throwable.getClass());
+        if (accessor == null) {
+            return null;
+        }
+        try {
+            Object status = accessor.invoke(throwable);
+            // Anything outside the HTTP range is not a status, e.g. 0 for a failure before a response
+            return status instanceof Integer && (Integer) status >= 100 && (Integer) status < 600 ? (Integer) status : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasOverloadText(Throwable throwable) {
+        int depth = 0;
+        for (Throwable current = throwable; current != null && depth < 10; current = current.getCause(), depth++) {
+            String type = current.getClass().getSimpleName().toLowerCase(Locale.ROOT);
+            for (String marker : TYPE_MARKERS) {
+                if (type.contains(marker)) {
+                    return true;
+                }
+            }
+            String message = current.getMessage();
+            if (message != null) {
+                String lowerCaseMessage = message.toLowerCase(Locale.ROOT);
+                for (String marker : MESSAGE_MARKERS) {
+                    if (lowerCaseMessage.contains(marker)) {
+                        return true;
+                    }
+                }
+                if (STATUS_PATTERN.matcher(message).find()) {
+                    return true;
+                }
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+}
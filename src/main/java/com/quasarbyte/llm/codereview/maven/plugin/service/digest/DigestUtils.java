@@ -0,0 +1,124 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.digest;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utility class providing SHA-256 helpers used for cache keys and content fingerprints.
+ */
+public final class DigestUtils {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private DigestUtils() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Creates a new SHA-256 message digest.
+     * @return the message digest
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new LlmCodeReviewMavenPluginException("SHA-256 algorithm is not available: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Calculates the SHA-256 hash of the given bytes.
+     * @param bytes the bytes to hash
+     * @return lowercase hex representation of the hash
+     */
+    public static String sha256Hex(byte[] bytes) {
+        return toHex(newSha256().digest(bytes));
+    }
+
+    /**
+     * Calculates the SHA-256 hash of the given string encoded as UTF-8.
+     * @param value the value to hash
+     * @return lowercase hex representation of the hash
+     */
+    public static String sha256Hex(String value) {
+        return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Calculates the SHA-256 hash of a file content without loading the whole file into memory.
+     * @param file the file to hash
+     * @return lowercase hex representation of the hash
+     * @throws IOException if the file cannot be read
+     */
+    public static String sha256Hex(Path file) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Updates the digest with a labelled, length-prefixed value so that adjacent values cannot collide.
+     * @param digest the digest to update
+     * @param label the value label
+     * @param value the value, may be {@code null}
+     */
+    public static void update(MessageDigest digest, String label, byte[] value) {
+        digest.update(label.getBytes(StandardCharsets.UTF_8));
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        digest.update((byte) 1);
+        int length = value.length;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        digest.update(value);
+    }
+
+    /**
+     * Converts bytes to lowercase hex.
+     * @param bytes the bytes
+     * @return hex string
+     */
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Converts a hex string to bytes.
+     * @param hex the hex string, must have an even length
+     * @return the decoded bytes
+     */
+    public static byte[] fromHex(String hex) {
+        if (hex == null || hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hex string must have an even length");
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(i * 2), 16);
+            int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Invalid hex string: " + hex);
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+}
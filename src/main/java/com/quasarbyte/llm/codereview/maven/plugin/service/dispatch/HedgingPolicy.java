@@ -0,0 +1,48 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.dispatch;
+
+/**
+ * Describes when a slow batch is sent to a second LLM client.
+ */
+public class HedgingPolicy {
+
+    private final double percentile;
+    private final double maxExtraLoadRatio;
+    private final int minSamples;
+
+    /**
+     * @param percentile        the latency percentile after which a batch is hedged, greater than 0 and less than 100
+     * @param maxExtraLoadRatio the maximum number of hedged batches relative to all batches, between 0 and 1
+     * @param minSamples        the number of completed batches needed before the percentile is trusted, at least 1
+     */
+    public HedgingPolicy(double percentile, double maxExtraLoadRatio, int minSamples) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("percentile must be greater than 0 and less than 100: " + percentile);
+        }
+        if (maxExtraLoadRatio < 0 || maxExtraLoadRatio > 1) {
+            throw new IllegalArgumentException("maxExtraLoadRatio must be between 0 and 1: " + maxExtraLoadRatio);
+        }
+        if (minSamples < 1) {
+            throw new IllegalArgumentException("minSamples must be at least 1: " + minSamples);
+        }
+        this.percentile = percentile;
+        this.maxExtraLoadRatio = maxExtraLoadRatio;
+        this.minSamples = minSamples;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public double getMaxExtraLoadRatio() {
+        return maxExtraLoadRatio;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    @Override
+    public String toString() {
+        return "p" + percentile + ", at most " + Math.round(maxExtraLoadRatio * 100) + "% extra batches, after " + minSamples + " samples";
+    }
+}
@@ -0,0 +1,39 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.dispatch;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultListener;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.PersistenceConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Spreads the batches of a review over LLM clients by their weights and free capacity.
+ */
+public interface LlmClientDispatcher {
+    /**
+     * Splits the review into batches of file batches and reviews each batch with one of the clients.
+     *
+     * @param parameter                the review parameter
+     * @param clients                  the clients to choose from, must not be empty
+     * @param persistenceConfiguration the persistence configuration, may be {@code null}
+     * @param executor                 runs the batches, {@code null} to run them one after another
+     * @param batchSize                the number of file batches sent to a client at once, as the batch size of the
+     *                                 SDK's parallel execution; values below 1 mean 1
+     * @param hedgingPolicy            sends slow batches to a second client, {@code null} to disable hedging; ignored when a
+     *                                 persistence configuration is given
+     * @param failFastMonitor          stops the review once it trips, {@code null} to review all batches
+     * @param resultListener           receives the result of every batch as soon as it finishes, may be {@code null}
+     * @return the merged result of all batches
+     * @throws com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException if the planned
+     *                                 requests exceed the request quota of the review
+     * @throws com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException if the fail-fast monitor
+     *                                 tripped, carrying the results of the finished batches
+     */
+    ReviewResult review(ReviewParameter parameter, List<WeightedLlmClient> clients,
+                        PersistenceConfiguration persistenceConfiguration, Executor executor, int batchSize,
+                        HedgingPolicy hedgingPolicy, FailFastMonitor failFastMonitor,
+                        ReviewResultListener resultListener);
+}
@@ -0,0 +1,87 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.dispatch;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.LlmRequestRateLimiter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+/**
+ * An LLM client together with its share of the load, its circuit breaker and its rate limiter.
+ */
+public class WeightedLlmClient {
+
+    private final String name;
+    private final LlmClient client;
+    private final int weight;
+    private final int maxConcurrency;
+    private final CircuitBreaker circuitBreaker;
+    private final LlmRequestRateLimiter rateLimiter;
+
+    /**
+     * @param name           the name used in log messages
+     * @param client         the client
+     * @param weight         the relative capacity, at least 1
+     * @param maxConcurrency the maximum number of concurrent requests, {@link Integer#MAX_VALUE} for no limit
+     */
+    public WeightedLlmClient(String name, LlmClient client, int weight, int maxConcurrency) {
+        this(name, client, weight, maxConcurrency, null);
+    }
+
+    /**
+     * @param name           the name used in log messages
+     * @param client         the client
+     * @param weight         the relative capacity, at least 1
+     * @param maxConcurrency the maximum number of concurrent requests, {@link Integer#MAX_VALUE} for no limit
+     * @param circuitBreaker the circuit breaker of the endpoint, {@code null} to always send requests
+     */
+    public WeightedLlmClient(String name, LlmClient client, int weight, int maxConcurrency, CircuitBreaker circuitBreaker) {
+        this(name, client, weight, maxConcurrency, circuitBreaker, null);
+    }
+
+    /**
+     * @param name           the name used in log messages
+     * @param client         the client
+     * @param weight         the relative capacity, at least 1
+     * @param maxConcurrency the maximum number of concurrent requests, {@link Integer#MAX_VALUE} for no limit
+     * @param circuitBreaker the circuit breaker of the endpoint, {@code null} to always send requests
+     * @param rateLimiter    the rate limiter the client's requests pass through, {@code null} if it has no limits
+     */
+    public WeightedLlmClient(String name, LlmClient client, int weight, int maxConcurrency, CircuitBreaker circuitBreaker,
+                             LlmRequestRateLimiter rateLimiter) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("weight must be at least 1: " + weight);
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1: " + maxConcurrency);
+        }
+        this.name = name;
+        this.client = client;
+        this.weight = weight;
+        this.maxConcurrency = maxConcurrency;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LlmClient getClient() {
+        return client;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public LlmRequestRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+}
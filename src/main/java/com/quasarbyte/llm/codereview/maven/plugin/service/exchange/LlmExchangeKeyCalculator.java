@@ -0,0 +1,17 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.exchange;
+
+/**
+ * Calculates the key under which an LLM HTTP exchange is recorded.
+ */
+public interface LlmExchangeKeyCalculator {
+    /**
+     * Calculates the key of a request. The same request sent to different endpoints gets different keys.
+     *
+     * @param baseUrl the upstream base URL of the client, only its scheme, host, port and path are part of the key
+     * @param method  the HTTP method
+     * @param path    the request path relative to the client's base URL, including the query string
+     * @param body    the request body, may be empty
+     * @return hex encoded SHA-256 key
+     */
+    String calculate(String baseUrl, String method, String path, byte[] body);
+}
@@ -0,0 +1,42 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.exchange;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.LlmRequestRateLimiter;
+
+import java.net.Proxy;
+
+/**
+ * A loopback HTTP endpoint between the LLM clients and their endpoints which records and replays exchanges,
+ * and applies the rate limits of the clients to every request.
+ */
+public interface LlmExchangeProxy extends AutoCloseable {
+    /**
+     * Registers an upstream endpoint and starts the proxy if necessary.
+     *
+     * @param baseUrl the base URL of the LLM endpoint
+     * @param proxy   the network proxy used to reach the endpoint, {@code null} for a direct connection
+     * @return the loopback base URL the client has to use instead
+     */
+    String route(String baseUrl, Proxy proxy);
+
+    /**
+     * Registers an upstream endpoint whose requests are rate limited and starts the proxy if necessary.
+     *
+     * @param baseUrl     the base URL of the LLM endpoint
+     * @param proxy       the network proxy used to reach the endpoint, {@code null} for a direct connection
+     * @param rateLimiter waits for the rate limits before each request is forwarded, {@code null} for no limits
+     * @return the loopback base URL the client has to use instead
+     */
+    String route(String baseUrl, Proxy proxy, LlmRequestRateLimiter rateLimiter);
+
+    /**
+     * Gets a one-line summary of replayed, recorded and missed requests.
+     * @return the summary
+     */
+    String getSummary();
+
+    /**
+     * Stops the proxy.
+     */
+    @Override
+    void close();
+}
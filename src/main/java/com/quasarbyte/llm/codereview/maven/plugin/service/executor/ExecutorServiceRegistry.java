@@ -0,0 +1,40 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.executor;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Shares executor services between plugin executions running at the same time, so that the modules of a
+ * parallel reactor build share worker threads instead of each creating a new pool.
+ */
+public interface ExecutorServiceRegistry {
+
+    /**
+     * Leases the executor service registered under the key, creating it on first use.
+     * <p>
+     * Shutting the returned executor service down releases the lease; the shared pool is shut down once its
+     * last lease is released.
+     * </p>
+     *
+     * @param key     the pool key, e.g. executor type and pool size
+     * @param factory creates the pool if it does not exist yet
+     * @return the leased executor service
+     */
+    ExecutorService lease(String key, Supplier<ExecutorService> factory);
+
+    /**
+     * Gets diagnostics of all registered pools.
+     * @return pool statistics, in registration order
+     */
+    List<ExecutorServiceStatistics> getStatistics();
+
+    /**
+     * Shuts down all registered pools, letting running and queued tasks drain up to the timeout before the
+     * remaining tasks are cancelled, e.g. when the JVM exits. Pools which are still leased are shut down once
+     * their last lease is released.
+     *
+     * @param drainTimeoutMillis how long to wait for each idle pool to terminate
+     */
+    void shutdown(long drainTimeoutMillis);
+}
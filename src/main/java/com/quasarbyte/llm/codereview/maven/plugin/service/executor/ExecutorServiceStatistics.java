@@ -0,0 +1,63 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.executor;
+
+/**
+ * Snapshot of the state of a pool managed by {@link ExecutorServiceRegistry}.
+ */
+public class ExecutorServiceStatistics {
+
+    private final String key;
+    private final int leaseCount;
+    private final long activeCount;
+    private final long queueDepth;
+    private final long completedTaskCount;
+
+    public ExecutorServiceStatistics(String key, int leaseCount, long activeCount, long queueDepth, long completedTaskCount) {
+        this.key = key;
+        this.leaseCount = leaseCount;
+        this.activeCount = activeCount;
+        this.queueDepth = queueDepth;
+        this.completedTaskCount = completedTaskCount;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the number of executions currently using the pool.
+     * @return the number of unreleased leases
+     */
+    public int getLeaseCount() {
+        return leaseCount;
+    }
+
+    /**
+     * Gets the number of tasks currently running.
+     * @return the number of running tasks
+     */
+    public long getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Gets the number of tasks submitted but not started yet.
+     * @return the number of queued tasks
+     */
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Gets the number of tasks finished since the pool was created.
+     * @return the number of completed tasks
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d leases, %d active, %d queued, %d completed tasks",
+                key, leaseCount, activeCount, queueDepth, completedTaskCount);
+    }
+}
@@ -0,0 +1,30 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.failfast;
+
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+/**
+ * Watches the results of review batches as they arrive and decides when the rest of the review is pointless.
+ * <p>
+ * Implementations must be thread-safe, batches finish on many threads at once.
+ * </p>
+ */
+public interface FailFastMonitor {
+
+    /**
+     * Records the result of a finished batch.
+     *
+     * @param result the result of the batch
+     * @return {@code true} if this result tripped the monitor, {@code false} if it was already tripped or is not tripped
+     */
+    boolean onBatchResult(ReviewResult result);
+
+    /**
+     * @return {@code true} once the review should stop
+     */
+    boolean isTripped();
+
+    /**
+     * @return why the monitor tripped, or {@code null} if it is not tripped
+     */
+    String getReason();
+}
@@ -0,0 +1,30 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.failfast;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Reviews a parameter batch by batch, so that a review can stop between batches once a {@link FailFastMonitor}
+ * trips.
+ */
+public interface FailFastReviewService {
+    /**
+     * Reviews the batches of the parameter concurrently, reporting every batch result to the monitor. No batch is
+     * started once the monitor has tripped.
+     *
+     * @param parameter       the review parameter
+     * @param reviewer        performs the actual review of a batch parameter
+     * @param failFastMonitor receives the result of every batch
+     * @param executor        runs the batches; its threads only wait for the reviewer, so it must not be a bounded
+     *                        executor the reviewer sends its requests with
+     * @param concurrency     the number of batches reviewed at the same time, 1 for one after another
+     * @return the merged result of all batches
+     * @throws ReviewStoppedException if the monitor tripped before the last batch was reviewed
+     */
+    ReviewResult review(ReviewParameter parameter, Function<ReviewParameter, ReviewResult> reviewer, FailFastMonitor failFastMonitor,
+                        Executor executor, int concurrency);
+}
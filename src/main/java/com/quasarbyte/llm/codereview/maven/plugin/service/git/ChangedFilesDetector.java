@@ -0,0 +1,22 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.git;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Detects files changed in the local Git repository relative to a base ref.
+ */
+public interface ChangedFilesDetector {
+    /**
+     * Finds added, modified, renamed and copied files. Deleted files are not returned.
+     *
+     * @param repositoryDirectory       directory inside the repository to search {@code .git} from
+     * @param baseRef                   the ref to compare against
+     * @param useMergeBase              compare against the merge-base of {@code HEAD} and the base ref
+     * @param includeUncommittedChanges compare the working tree instead of {@code HEAD}
+     * @return absolute, normalized paths of changed files
+     * @throws IOException if the repository cannot be read
+     */
+    Set<Path> findChangedFiles(Path repositoryDirectory, String baseRef, boolean useMergeBase, boolean includeUncommittedChanges) throws IOException;
+}
@@ -0,0 +1,152 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
+import com.quasarbyte.llm.codereview.maven.plugin.service.CachingPRulesFileReader;
+import com.quasarbyte.llm.codereview.maven.plugin.service.PRulesFileReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe {@link CachingPRulesFileReader} decorator.
+ * <p>
+ * Cached lists are unmodifiable because they are handed out to every caller referencing the same file.
+ * </p>
+ */
+public class CachingPRulesFileReaderImpl implements CachingPRulesFileReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingPRulesFileReaderImpl.class);
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String FILE_PREFIX = "file:";
+
+    private final PRulesFileReader delegate;
+    private final ConcurrentMap<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CachingPRulesFileReaderImpl(PRulesFileReader delegate) {
+        this.delegate = delegate;
+        logger.debug("CachingPRulesFileReaderImpl initialized.");
+    }
+
+    @Override
+    public List<PRule> readPRules(String filePath) throws Exception {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            return delegate.readPRules(filePath);
+        }
+
+        final String location = filePath.trim();
+        final String key;
+        final Path path;
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            String resource = location.substring(CLASSPATH_PREFIX.length());
+            key = CLASSPATH_PREFIX + (resource.startsWith("/") ? resource.substring(1) : resource);
+            path = null;
+        } else {
+            try {
+                path = Paths.get(location.startsWith(FILE_PREFIX) ? location.substring(FILE_PREFIX.length()) : location)
+                        .toAbsolutePath()
+                        .normalize();
+            } catch (InvalidPathException e) {
+                logger.debug("Rules file location '{}' cannot be normalized, reading it without cache.", location);
+                return delegate.readPRules(filePath);
+            }
+            key = FILE_PREFIX + path;
+        }
+
+        final FileStamp stamp = path != null ? FileStamp.of(path) : null;
+        final CacheEntry cached = entries.get(key);
+        if (cached != null && (path == null || cached.isValid(stamp))) {
+            hitCount.incrementAndGet();
+            logger.debug("Rules file cache hit for '{}'.", key);
+            return cached.rules;
+        }
+
+        missCount.incrementAndGet();
+        logger.debug("Rules file cache miss for '{}'.", key);
+        final List<PRule> rules = delegate.readPRules(filePath);
+        final List<PRule> unmodifiableRules = rules != null ? Collections.unmodifiableList(rules) : null;
+        if (path == null || stamp != null) {
+            entries.put(key, new CacheEntry(stamp, unmodifiableRules));
+        } else {
+            entries.remove(key);
+        }
+        return unmodifiableRules;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    private static final class CacheEntry {
+        private final FileStamp stamp;
+        private final List<PRule> rules;
+
+        private CacheEntry(FileStamp stamp, List<PRule> rules) {
+            this.stamp = stamp;
+            this.rules = rules;
+        }
+
+        private boolean isValid(FileStamp current) {
+            return stamp != null && stamp.equals(current);
+        }
+    }
+
+    private static final class FileStamp {
+        private final long lastModifiedMillis;
+        private final long size;
+
+        private FileStamp(long lastModifiedMillis, long size) {
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.size = size;
+        }
+
+        /**
+         * @return the stamp of the file, or {@code null} if its attributes cannot be read
+         */
+        private static FileStamp of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FileStamp)) return false;
+            FileStamp that = (FileStamp) o;
+            return lastModifiedMillis == that.lastModifiedMillis && size == that.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(lastModifiedMillis) + Long.hashCode(size);
+        }
+    }
+}
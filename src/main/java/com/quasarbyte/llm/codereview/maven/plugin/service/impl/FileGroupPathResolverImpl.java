@@ -0,0 +1,156 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.FileGroupPathResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Default {@link FileGroupPathResolver} based on {@link FileSystems#getDefault()} glob matching.
+ * <p>
+ * The SDK resolves file groups itself when it runs a review, so this resolver must select the same files for the
+ * patterns the plugin documents; {@code LlmCodeReviewMojoTest} checks both against each other. Note that with glob
+ * matching {@code src/**.java} matches files at any depth below {@code src}, while {@code src/**}{@code /*.java}
+ * requires at least one directory below {@code src}.
+ * </p>
+ */
+public class FileGroupPathResolverImpl implements FileGroupPathResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileGroupPathResolverImpl.class);
+
+    @Override
+    public List<Path> resolve(List<String> paths, List<String> excludePaths) throws IOException {
+        if (paths == null || paths.isEmpty()) {
+            logger.debug("No paths to resolve.");
+            return Collections.emptyList();
+        }
+
+        final List<PathMatcher> excludeMatchers = new ArrayList<>();
+        final List<Path> excludeLiterals = new ArrayList<>();
+        if (excludePaths != null) {
+            for (String excludePath : excludePaths) {
+                if (nullOrBlank(excludePath)) {
+                    continue;
+                }
+                String pattern = normalizePattern(excludePath);
+                if (isGlob(pattern)) {
+                    excludeMatchers.add(FileSystems.getDefault().getPathMatcher("glob:" + pattern));
+                } else {
+                    excludeLiterals.add(Paths.get(pattern).toAbsolutePath().normalize());
+                }
+            }
+        }
+
+        final Set<Path> result = new TreeSet<>();
+
+        for (String path : paths) {
+            if (nullOrBlank(path)) {
+                logger.warn("Skipped blank or null path.");
+                continue;
+            }
+            String pattern = normalizePattern(path);
+
+            if (!isGlob(pattern)) {
+                Path file = Paths.get(pattern);
+                if (Files.isRegularFile(file)) {
+                    addIfNotExcluded(result, file, excludeMatchers, excludeLiterals);
+                } else {
+                    logger.warn("File '{}' does not exist or is not a regular file.", pattern);
+                }
+                continue;
+            }
+
+            Path baseDirectory = baseDirectoryOf(pattern);
+            if (!Files.isDirectory(baseDirectory)) {
+                logger.debug("Base directory '{}' of pattern '{}' does not exist.", baseDirectory, pattern);
+                continue;
+            }
+
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+            try (Stream<Path> stream = Files.walk(baseDirectory)) {
+                List<Path> matched = stream
+                        .filter(Files::isRegularFile)
+                        .filter(matcher::matches)
+                        .collect(Collectors.toList());
+                logger.debug("Pattern '{}' matched {} files.", pattern, matched.size());
+                for (Path file : matched) {
+                    addIfNotExcluded(result, file, excludeMatchers, excludeLiterals);
+                }
+            }
+        }
+
+        logger.debug("Resolved {} files from {} paths.", result.size(), paths.size());
+        return new ArrayList<>(result);
+    }
+
+    private static void addIfNotExcluded(Set<Path> result, Path file, List<PathMatcher> excludeMatchers, List<Path> excludeLiterals) {
+        for (PathMatcher excludeMatcher : excludeMatchers) {
+            if (excludeMatcher.matches(file)) {
+                logger.trace("File '{}' is excluded by pattern.", file);
+                return;
+            }
+        }
+        Path absolute = file.toAbsolutePath().normalize();
+        for (Path excludeLiteral : excludeLiterals) {
+            if (absolute.startsWith(excludeLiteral)) {
+                logger.trace("File '{}' is excluded by path '{}'.", file, excludeLiteral);
+                return;
+            }
+        }
+        result.add(file.normalize());
+    }
+
+    /**
+     * Returns the longest leading part of the pattern which does not contain glob characters.
+     */
+    private static Path baseDirectoryOf(String pattern) {
+        String[] segments = pattern.split("/", -1);
+        List<String> baseSegments = new ArrayList<>();
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (isGlob(segments[i])) {
+                break;
+            }
+            baseSegments.add(segments[i]);
+        }
+        if (baseSegments.size() == 1 && baseSegments.get(0).isEmpty()) {
+            return Paths.get("/");
+        }
+        // An empty path denotes the current directory and keeps walked paths relative, so they match relative patterns
+        return Paths.get(String.join("/", baseSegments));
+    }
+
+    private static String normalizePattern(String pattern) {
+        String normalized = pattern.trim().replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        return normalized;
+    }
+
+    private static boolean isGlob(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean nullOrBlank(String string) {
+        return string == null || string.trim().isEmpty();
+    }
+}
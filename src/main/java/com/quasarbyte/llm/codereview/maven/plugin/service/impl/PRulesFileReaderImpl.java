@@ -12,6 +12,8 @@ import com.quasarbyte.llm.codereview.maven.plugin.service.parser.PRulesXmlParser
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,8 +65,13 @@ public class PRulesFileReaderImpl implements PRulesFileReader {
 
                 } else if (FileTypeEnum.XML.equals(fileTypeEnumOptional.get())) {
                     logger.info("Parsing XML rules from '{}'", filePath);
-                    String body = resourceLoader.load(filePath);
-                    List<PRule> rules = rulesXmlParser.parseRules(body);
+                    List<PRule> rules;
+                    try (InputStream in = resourceLoader.openStream(filePath)) {
+                        rules = rulesXmlParser.parseRules(in);
+                    }
+                    if (rules == null) {
+                        rules = Collections.emptyList();
+                    }
                     logger.info("Parsed {} rules from XML file '{}'", rules.size(), filePath);
                     return rules;
 
@@ -1,9 +1,8 @@
 package com.quasarbyte.llm.codereview.maven.plugin.service.impl;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
 import com.quasarbyte.llm.codereview.maven.plugin.service.parser.PRulesJsonParser;
+import com.quasarbyte.llm.codereview.maven.plugin.service.serialization.SerializationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,6 +13,12 @@ public class PRulesJsonParserImpl implements PRulesJsonParser {
 
     private static final Logger logger = LoggerFactory.getLogger(PRulesJsonParserImpl.class);
 
+    private final SerializationService serializationService;
+
+    public PRulesJsonParserImpl(SerializationService serializationService) {
+        this.serializationService = serializationService;
+    }
+
     @Override
     public List<PRule> parseRules(String json) throws Exception {
         if (json == null || json.trim().isEmpty()) {
@@ -22,10 +27,8 @@ public class PRulesJsonParserImpl implements PRulesJsonParser {
         }
 
         logger.debug("Parsing PRules from JSON string of length {}.", json.length());
-        ObjectMapper mapper = new ObjectMapper();
         try {
-            List<PRule> rules = mapper.readValue(json, new TypeReference<List<PRule>>() {
-            });
+            List<PRule> rules = serializationService.getRulesReader().readValue(json);
             logger.info("Parsed {} PRules from JSON input.", rules.size());
             return rules;
         } catch (Exception e) {
@@ -0,0 +1,225 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.budget;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.FileGroupPathResolver;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.BudgetPlan;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.BudgetPlanner;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.ReviewBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.SpendBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.SpendEstimate;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewParameterSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewUnit;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.FileGroupCharsets.charsetOf;
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterCopyUtils.copyFileGroup;
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterCopyUtils.copyParameter;
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterCopyUtils.copyTarget;
+
+/**
+ * Estimates every file batch of every review unit and compares the totals with the budgets.
+ * <p>
+ * A batch of a file group makes one request per rules batch, and every request carries all files of the
+ * batch plus the request overhead. When trimming, the batches of each file group are accepted in order
+ * while the review, the target and the file group still have room; the first batch that does not fit ends
+ * its file group, so the remaining files are batched exactly as estimated.
+ * </p>
+ * <p>
+ * Batches that may be sent twice, such as hedged batches, are accounted for by adding the extra load ratio of
+ * the budget to the tokens and cost of every batch. Hedges are capped per review rather than per file group,
+ * so this is an average: a review whose hedges fall on its largest batches can still exceed a quota.
+ * </p>
+ */
+public class BudgetPlannerImpl implements BudgetPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BudgetPlannerImpl.class);
+
+    private final ReviewParameterSplitter reviewParameterSplitter;
+    private final FileGroupPathResolver fileGroupPathResolver;
+
+    public BudgetPlannerImpl(ReviewParameterSplitter reviewParameterSplitter, FileGroupPathResolver fileGroupPathResolver) {
+        this.reviewParameterSplitter = reviewParameterSplitter;
+        this.fileGroupPathResolver = fileGroupPathResolver;
+    }
+
+    @Override
+    public BudgetPlan plan(ReviewParameter parameter, ReviewBudget budget, TokenEstimator tokenEstimator, boolean trim) throws IOException {
+        final List<UnitEstimate> units = new ArrayList<>();
+        SpendEstimate plannedSpend = SpendEstimate.ZERO;
+        final Map<String, SpendEstimate> plannedTargetSpend = new LinkedHashMap<>();
+        final Map<String, SpendEstimate> plannedFileGroupSpend = new LinkedHashMap<>();
+
+        for (ReviewUnit unit : reviewParameterSplitter.split(parameter)) {
+            final UnitEstimate unitEstimate = estimate(unit, budget, tokenEstimator);
+            units.add(unitEstimate);
+            plannedSpend = plannedSpend.plus(unitEstimate.total);
+            if (unitEstimate.targetName != null) {
+                plannedTargetSpend.merge(unitEstimate.targetName, unitEstimate.total, SpendEstimate::plus);
+                if (unitEstimate.fileGroupName != null) {
+                    plannedFileGroupSpend.merge(ReviewBudget.fileGroupKey(unitEstimate.targetName, unitEstimate.fileGroupName),
+                            unitEstimate.total, SpendEstimate::plus);
+                }
+            }
+        }
+        logger.info("Planned spend of the review: {}.", plannedSpend);
+
+        final List<String> violations = new ArrayList<>();
+        addViolation(violations, "review", budget.getReviewBudget(), plannedSpend);
+        for (Map.Entry<String, SpendEstimate> entry : plannedTargetSpend.entrySet()) {
+            addViolation(violations, "review target '" + entry.getKey() + "'", budget.getTargetBudget(entry.getKey()), entry.getValue());
+        }
+        for (UnitEstimate unit : units) {
+            if (unit.targetName != null && unit.fileGroupName != null) {
+                String key = ReviewBudget.fileGroupKey(unit.targetName, unit.fileGroupName);
+                SpendEstimate spend = plannedFileGroupSpend.remove(key);
+                if (spend != null) {
+                    addViolation(violations, "file group '" + key + "'", budget.getFileGroupBudget(unit.targetName, unit.fileGroupName), spend);
+                }
+            }
+        }
+
+        if (violations.isEmpty() || !trim) {
+            return new BudgetPlan(parameter, plannedSpend, plannedSpend, violations, 0);
+        }
+        return trim(parameter, budget, units, plannedSpend, violations);
+    }
+
+    private BudgetPlan trim(ReviewParameter parameter, ReviewBudget budget, List<UnitEstimate> units,
+                            SpendEstimate plannedSpend, List<String> violations) {
+        SpendEstimate acceptedSpend = SpendEstimate.ZERO;
+        final Map<String, SpendEstimate> targetSpend = new HashMap<>();
+        final Map<String, SpendEstimate> fileGroupSpend = new HashMap<>();
+        final Map<Integer, List<FileGroup>> fileGroupsByTarget = new LinkedHashMap<>();
+        final Map<Integer, ReviewTarget> targets = new HashMap<>();
+        int skippedFileCount = 0;
+
+        for (UnitEstimate unit : units) {
+            final SpendBudget targetBudget = budget.getTargetBudget(unit.targetName);
+            final SpendBudget fileGroupBudget = budget.getFileGroupBudget(unit.targetName, unit.fileGroupName);
+            final String fileGroupKey = ReviewBudget.fileGroupKey(unit.targetName, unit.fileGroupName);
+            final List<String> acceptedPaths = new ArrayList<>();
+            boolean full = false;
+
+            for (BatchEstimate batch : unit.batches) {
+                if (!full) {
+                    SpendEstimate review = acceptedSpend.plus(batch.spend);
+                    SpendEstimate target = targetSpend.getOrDefault(unit.targetName, SpendEstimate.ZERO).plus(batch.spend);
+                    SpendEstimate fileGroup = fileGroupSpend.getOrDefault(fileGroupKey, SpendEstimate.ZERO).plus(batch.spend);
+                    full = !fits(budget.getReviewBudget(), review) || !fits(targetBudget, target) || !fits(fileGroupBudget, fileGroup);
+                    if (!full) {
+                        acceptedSpend = review;
+                        targetSpend.put(unit.targetName, target);
+                        fileGroupSpend.put(fileGroupKey, fileGroup);
+                        for (Path file : batch.files) {
+                            acceptedPaths.add(file.toString());
+                        }
+                        continue;
+                    }
+                }
+                skippedFileCount += batch.files.size();
+            }
+
+            if (unit.batches.isEmpty() || !acceptedPaths.isEmpty()) {
+                final FileGroup fileGroup = unit.batches.isEmpty() ? unit.unit.getFileGroup() : copyFileGroup(unit.unit.getFileGroup(), acceptedPaths);
+                fileGroupsByTarget.computeIfAbsent(unit.unit.getTargetIndex(), k -> new ArrayList<>()).add(fileGroup);
+                targets.put(unit.unit.getTargetIndex(), unit.unit.getTarget());
+            } else {
+                logger.warn("Budget leaves no room for '{}', skipping it.", unit.unit.getName());
+            }
+        }
+
+        logger.warn("Trimmed the review to the budget, skipping {} files: {}.", skippedFileCount, acceptedSpend);
+        if (fileGroupsByTarget.isEmpty()) {
+            return new BudgetPlan(null, plannedSpend, acceptedSpend, violations, skippedFileCount);
+        }
+        final List<ReviewTarget> trimmedTargets = new ArrayList<>();
+        for (Map.Entry<Integer, List<FileGroup>> entry : fileGroupsByTarget.entrySet()) {
+            trimmedTargets.add(copyTarget(targets.get(entry.getKey()), entry.getValue()));
+        }
+        return new BudgetPlan(copyParameter(parameter, trimmedTargets), plannedSpend, acceptedSpend, violations, skippedFileCount);
+    }
+
+    private UnitEstimate estimate(ReviewUnit unit, ReviewBudget budget, TokenEstimator tokenEstimator) throws IOException {
+        final FileGroup fileGroup = unit.getFileGroup();
+        final UnitEstimate result = new UnitEstimate(unit);
+        final List<Path> files = fileGroupPathResolver.resolve(fileGroup.getPaths(), fileGroup.getExcludePaths());
+        if (files.isEmpty()) {
+            return result;
+        }
+
+        final int batchSize = fileGroup.getFilesBatchSize() != null && fileGroup.getFilesBatchSize() > 0
+                ? fileGroup.getFilesBatchSize() : files.size();
+        final int requests = unit.getRulesBatchCount();
+        final Charset charset = charsetOf(fileGroup);
+        for (int from = 0; from < files.size(); from += batchSize) {
+            final List<Path> batchFiles = files.subList(from, Math.min(files.size(), from + batchSize));
+            long fileTokens = 0;
+            for (Path file : batchFiles) {
+                fileTokens += tokenEstimator.estimate(file, charset) + budget.getFileOverheadTokens();
+            }
+            final double load = 1 + budget.getExtraLoadRatio();
+            final long inputTokens = Math.round(load * requests * (fileTokens + budget.getRequestOverheadTokens()));
+            final long outputTokens = Math.round(load * requests * budget.getOutputTokensPerRequest());
+            final double cost = (inputTokens * budget.getInputPricePerMillionTokens()
+                    + outputTokens * budget.getOutputPricePerMillionTokens()) / 1_000_000d;
+            final BatchEstimate batch = new BatchEstimate(batchFiles, new SpendEstimate(requests, inputTokens, outputTokens, cost));
+            result.batches.add(batch);
+            result.total = result.total.plus(batch.spend);
+        }
+        logger.debug("Planned spend of '{}': {}.", unit.getName(), result.total);
+        return result;
+    }
+
+    private static void addViolation(List<String> violations, String scope, SpendBudget budget, SpendEstimate spend) {
+        if (budget == null) {
+            return;
+        }
+        final String exceeded = budget.exceededBy(spend);
+        if (exceeded != null) {
+            violations.add(scope + ": " + exceeded);
+        }
+    }
+
+    private static boolean fits(SpendBudget budget, SpendEstimate spend) {
+        return budget == null || budget.exceededBy(spend) == null;
+    }
+
+    private static final class UnitEstimate {
+
+        private final ReviewUnit unit;
+        private final String targetName;
+        private final String fileGroupName;
+        private final List<BatchEstimate> batches = new ArrayList<>();
+        private SpendEstimate total = SpendEstimate.ZERO;
+
+        private UnitEstimate(ReviewUnit unit) {
+            this.unit = unit;
+            this.targetName = unit.getTarget().getReviewTargetName();
+            this.fileGroupName = unit.getFileGroup().getFileGroupName();
+        }
+    }
+
+    private static final class BatchEstimate {
+
+        private final List<Path> files;
+        private final SpendEstimate spend;
+
+        private BatchEstimate(List<Path> files, SpendEstimate spend) {
+            this.files = files;
+            this.spend = spend;
+        }
+    }
+}
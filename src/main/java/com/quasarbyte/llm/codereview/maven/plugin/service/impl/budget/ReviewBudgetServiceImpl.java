@@ -0,0 +1,203 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.budget;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.BudgetExceededException;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ValidationException;
+import com.quasarbyte.llm.codereview.maven.plugin.model.BudgetExceededActionEnum;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PFileGroup;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PLlmClientConfiguration;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PLlmQuota;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PModelPrice;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewTarget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.BudgetPlan;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.BudgetPlanner;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.ReviewBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.ReviewBudgetService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.SpendBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the budgets of the review, of its named targets and of their named file groups, and has the
+ * {@link BudgetPlanner} estimate the review against them.
+ * <p>
+ * Any batch may be sent to any client, so when the clients are billed for different models the cost is
+ * estimated with the highest input and the highest output price.
+ * </p>
+ */
+public class ReviewBudgetServiceImpl implements ReviewBudgetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewBudgetServiceImpl.class);
+
+    private final BudgetPlanner budgetPlanner;
+
+    public ReviewBudgetServiceImpl(BudgetPlanner budgetPlanner) {
+        this.budgetPlanner = budgetPlanner;
+    }
+
+    @Override
+    public boolean isEnabled(PReviewParameter reviewParameter) {
+        if (hasBudget(reviewParameter.getLlmQuota())) {
+            return true;
+        }
+        for (PReviewTarget target : nullToEmpty(reviewParameter.getTargets())) {
+            if (hasBudget(target.getLlmQuota())) {
+                return true;
+            }
+            for (PFileGroup fileGroup : nullToEmpty(target.getFileGroups())) {
+                if (hasBudget(fileGroup.getLlmQuota())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BudgetPlan check(PReviewParameter configuredParameter, ReviewParameter reviewParameter,
+                            List<PLlmClientConfiguration> clientConfigurations, TokenEstimator tokenEstimator,
+                            int outputTokensPerRequest, int requestOverheadTokens, int fileOverheadTokens,
+                            double extraLoadRatio) throws IOException {
+        final PLlmQuota reviewQuota = configuredParameter.getLlmQuota();
+        boolean costLimited = reviewQuota != null && reviewQuota.getCostQuota() != null;
+        validateBudget(reviewQuota, "review");
+
+        final Map<String, SpendBudget> targetBudgets = new HashMap<>();
+        final Map<String, SpendBudget> fileGroupBudgets = new HashMap<>();
+        for (PReviewTarget target : nullToEmpty(configuredParameter.getTargets())) {
+            if (hasBudget(target.getLlmQuota())) {
+                if (!notNullOrBlank(target.getReviewTargetName())) {
+                    logger.error("A review target with a token or cost quota must have a reviewTargetName.");
+                    throw new ValidationException("A review target with a token or cost quota must have a reviewTargetName.");
+                }
+                validateBudget(target.getLlmQuota(), "review target '" + target.getReviewTargetName() + "'");
+                costLimited |= target.getLlmQuota().getCostQuota() != null;
+                targetBudgets.put(target.getReviewTargetName(), toSpendBudget(target.getLlmQuota()));
+            }
+            for (PFileGroup fileGroup : nullToEmpty(target.getFileGroups())) {
+                if (hasBudget(fileGroup.getLlmQuota())) {
+                    if (!notNullOrBlank(target.getReviewTargetName()) || !notNullOrBlank(fileGroup.getFileGroupName())) {
+                        logger.error("A file group with a token or cost quota and its review target must have names.");
+                        throw new ValidationException("A file group with a token or cost quota and its review target must have names.");
+                    }
+                    String key = ReviewBudget.fileGroupKey(target.getReviewTargetName(), fileGroup.getFileGroupName());
+                    validateBudget(fileGroup.getLlmQuota(), "file group '" + key + "'");
+                    costLimited |= fileGroup.getLlmQuota().getCostQuota() != null;
+                    fileGroupBudgets.put(key, toSpendBudget(fileGroup.getLlmQuota()));
+                }
+            }
+        }
+
+        if (outputTokensPerRequest < 0) {
+            logger.error("The outputTokensPerRequest of the review quota must not be negative.");
+            throw new ValidationException("The outputTokensPerRequest of the review quota must not be negative.");
+        }
+        final PModelPrice price = costLimited ? findModelPrice(reviewQuota, reviewParameter, clientConfigurations) : null;
+
+        final ReviewBudget budget = new ReviewBudget(hasBudget(reviewQuota) ? toSpendBudget(reviewQuota) : null,
+                targetBudgets, fileGroupBudgets, outputTokensPerRequest, requestOverheadTokens, fileOverheadTokens,
+                price != null ? price.getInputPricePerMillionTokens() : 0,
+                price != null ? price.getOutputPricePerMillionTokens() : 0,
+                extraLoadRatio);
+        final boolean trim = reviewQuota != null && reviewQuota.getExceededAction() == BudgetExceededActionEnum.TRIM;
+        final BudgetPlan plan = budgetPlanner.plan(reviewParameter, budget, tokenEstimator, trim);
+
+        if (!plan.getViolations().isEmpty()) {
+            for (String violation : plan.getViolations()) {
+                logger.warn("Budget exceeded, {}", violation);
+            }
+            if (!trim) {
+                throw new BudgetExceededException(plan.getViolations());
+            }
+            logger.warn("Reviewing {} of the planned {}, {} files are not reviewed.",
+                    plan.getAcceptedSpend(), plan.getPlannedSpend(), plan.getSkippedFileCount());
+        }
+        return plan;
+    }
+
+    private static void validateBudget(PLlmQuota quota, String scope) {
+        if (quota == null) {
+            return;
+        }
+        if ((quota.getInputTokenQuota() != null && quota.getInputTokenQuota() < 0)
+                || (quota.getOutputTokenQuota() != null && quota.getOutputTokenQuota() < 0)
+                || (quota.getCostQuota() != null && quota.getCostQuota() < 0)) {
+            logger.error("Token and cost quotas of the {} must not be negative.", scope);
+            throw new ValidationException("Token and cost quotas of the " + scope + " must not be negative.");
+        }
+    }
+
+    private static boolean hasBudget(PLlmQuota quota) {
+        return quota != null && (quota.getInputTokenQuota() != null || quota.getOutputTokenQuota() != null || quota.getCostQuota() != null);
+    }
+
+    private static SpendBudget toSpendBudget(PLlmQuota quota) {
+        return new SpendBudget(quota.getInputTokenQuota(), quota.getOutputTokenQuota(), quota.getCostQuota());
+    }
+
+    /**
+     * Prices the models of all clients, using the highest input and the highest output price when the clients
+     * are billed for different models.
+     */
+    private static PModelPrice findModelPrice(PLlmQuota reviewQuota, ReviewParameter reviewParameter,
+                                              List<PLlmClientConfiguration> clientConfigurations) {
+        final String reviewModel = reviewParameter.getLlmChatCompletionConfiguration() != null
+                ? reviewParameter.getLlmChatCompletionConfiguration().getModel()
+                : null;
+        final Set<String> models = new LinkedHashSet<>();
+        for (PLlmClientConfiguration configuration : nullToEmpty(clientConfigurations)) {
+            models.add(notNullOrBlank(configuration.getPricingModel()) ? configuration.getPricingModel().trim() : reviewModel);
+        }
+        if (models.isEmpty()) {
+            models.add(reviewModel);
+        }
+        if (models.size() == 1) {
+            return findModelPrice(reviewQuota, models.iterator().next());
+        }
+        double inputPrice = 0;
+        double outputPrice = 0;
+        for (String model : models) {
+            final PModelPrice price = findModelPrice(reviewQuota, model);
+            inputPrice = Math.max(inputPrice, price.getInputPricePerMillionTokens());
+            outputPrice = Math.max(outputPrice, price.getOutputPricePerMillionTokens());
+        }
+        logger.info("The LLM clients are billed for the models {}, estimating the cost with the highest prices: "
+                + "{} per million input tokens, {} per million output tokens.", models, inputPrice, outputPrice);
+        return new PModelPrice().setModel(String.join(", ", models))
+                .setInputPricePerMillionTokens(inputPrice)
+                .setOutputPricePerMillionTokens(outputPrice);
+    }
+
+    private static PModelPrice findModelPrice(PLlmQuota reviewQuota, String model) {
+        for (PModelPrice price : reviewQuota != null ? nullToEmpty(reviewQuota.getModelPrices()) : Collections.<PModelPrice>emptyList()) {
+            if (price.getModel() != null && price.getModel().equals(model)) {
+                if (price.getInputPricePerMillionTokens() == null || price.getOutputPricePerMillionTokens() == null
+                        || price.getInputPricePerMillionTokens() < 0 || price.getOutputPricePerMillionTokens() < 0) {
+                    logger.error("The price of model '{}' must have non-negative input and output prices.", model);
+                    throw new ValidationException("The price of model '" + model + "' must have non-negative input and output prices.");
+                }
+                return price;
+            }
+        }
+        logger.error("A cost quota is configured but the review quota has no price for model '{}'.", model);
+        throw new ValidationException("A cost quota is configured but the review quota has no price for model '" + model + "'.");
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list != null ? list : Collections.<T>emptyList();
+    }
+
+    private static boolean notNullOrBlank(String string) {
+        return string != null && !string.trim().isEmpty();
+    }
+}
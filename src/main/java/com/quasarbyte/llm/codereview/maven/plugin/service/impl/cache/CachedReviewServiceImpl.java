@@ -0,0 +1,204 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.FileGroupPathResolver;
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.CachedReviewService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.ReviewCache;
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.ReviewCacheKeyCalculator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewParameterSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultListener;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultMerger;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewUnit;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Reviews every file group separately so that each one can be cached on its own.
+ * <p>
+ * Note that every uncached file group is sent as a separate review, so a configured request quota
+ * applies to each file group rather than to the whole review. Uncached file groups are reviewed concurrently,
+ * up to the given concurrency, so a cold cache does not serialize a parallel review.
+ * </p>
+ * <p>
+ * With a fail-fast monitor, cached results count towards its thresholds as they are read, and no uncached file
+ * group is started once it trips. The results reviewed so far, cached or not, are then thrown with a
+ * {@link ReviewStoppedException}; a file group stopped half way is part of them but not cached.
+ * </p>
+ */
+public class CachedReviewServiceImpl implements CachedReviewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachedReviewServiceImpl.class);
+
+    private final ReviewParameterSplitter reviewParameterSplitter;
+    private final FileGroupPathResolver fileGroupPathResolver;
+    private final ReviewCacheKeyCalculator reviewCacheKeyCalculator;
+    private final ReviewResultMerger reviewResultMerger;
+
+    public CachedReviewServiceImpl(ReviewParameterSplitter reviewParameterSplitter,
+                                   FileGroupPathResolver fileGroupPathResolver,
+                                   ReviewCacheKeyCalculator reviewCacheKeyCalculator,
+                                   ReviewResultMerger reviewResultMerger) {
+        this.reviewParameterSplitter = reviewParameterSplitter;
+        this.fileGroupPathResolver = fileGroupPathResolver;
+        this.reviewCacheKeyCalculator = reviewCacheKeyCalculator;
+        this.reviewResultMerger = reviewResultMerger;
+        logger.debug("CachedReviewServiceImpl initialized.");
+    }
+
+    @Override
+    public ReviewResult review(ReviewParameter parameter, ReviewCache cache, Path baseDirectory, Function<ReviewParameter, ReviewResult> reviewer,
+                               ReviewResultListener cachedResultListener, FailFastMonitor failFastMonitor, Executor executor,
+                               int missConcurrency) {
+        List<ReviewUnit> units = reviewParameterSplitter.split(parameter);
+
+        // Results are kept in file group order; the slots of misses are filled once they are reviewed
+        final List<ReviewResult> results = new ArrayList<>(units.size());
+        final List<Miss> misses = new ArrayList<>();
+        int hits = 0;
+        int skipped = 0;
+
+        for (ReviewUnit unit : units) {
+            FileGroup fileGroup = unit.getFileGroup();
+            final List<Path> files;
+            final String key;
+            try {
+                files = fileGroupPathResolver.resolve(fileGroup.getPaths(), fileGroup.getExcludePaths());
+                if (files.isEmpty()) {
+                    logger.info("No files matched for '{}', skipping.", unit.getName());
+                    skipped++;
+                    continue;
+                }
+                key = reviewCacheKeyCalculator.calculate(unit, baseDirectory, files);
+            } catch (IOException e) {
+                logger.error("Failed to calculate cache key for '{}': {}", unit.getName(), e.getMessage(), e);
+                throw new LlmCodeReviewMavenPluginException(String.format("Failed to calculate cache key for '%s', error message: '%s'", unit.getName(), e.getMessage()), e);
+            }
+
+            Optional<ReviewResult> cached = cache.get(key);
+            if (cached.isPresent()) {
+                logger.info("Review cache hit for '{}' ({} files).", unit.getName(), files.size());
+                results.add(cached.get());
+                if (cachedResultListener != null) {
+                    cachedResultListener.onResult(cached.get());
+                }
+                if (failFastMonitor != null) {
+                    failFastMonitor.onBatchResult(cached.get());
+                }
+                hits++;
+            } else {
+                logger.info("Review cache miss for '{}' ({} files).", unit.getName(), files.size());
+                misses.add(new Miss(results.size(), unit, key));
+                results.add(null);
+            }
+        }
+
+        logger.info("Review cache summary: {} hits, {} misses, {} empty file groups.", hits, misses.size(), skipped);
+
+        if (results.isEmpty()) {
+            logger.info("No file group produced a result, reviewing the original parameter.");
+            return reviewer.apply(parameter);
+        }
+
+        reviewMisses(misses, cache, reviewer, failFastMonitor, executor, missConcurrency, results);
+        return reviewResultMerger.merge(results);
+    }
+
+    private void reviewMisses(List<Miss> misses, ReviewCache cache, Function<ReviewParameter, ReviewResult> reviewer,
+                              FailFastMonitor failFastMonitor, Executor executor, int missConcurrency, List<ReviewResult> results) {
+        final Semaphore permits = new Semaphore(Math.max(1, missConcurrency));
+        final List<CompletableFuture<ReviewResult>> futures = new ArrayList<>(misses.size());
+        final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        try {
+            for (Miss miss : misses) {
+                permits.acquire();
+                if (isTripped(failFastMonitor) || firstFailure.isDone()) {
+                    permits.release();
+                    break;
+                }
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return miss.review(cache, reviewer);
+                    } catch (RuntimeException | Error e) {
+                        firstFailure.completeExceptionally(e);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmCodeReviewMavenPluginException("Interrupted while reviewing uncached file groups.", e);
+        }
+
+        RuntimeException failure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.set(misses.get(i).index, futures.get(i).join());
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof ReviewStoppedException) {
+                    results.set(misses.get(i).index, ((ReviewStoppedException) cause).getPartialResult());
+                } else if (failure == null) {
+                    failure = cause instanceof RuntimeException ? (RuntimeException) cause
+                            : new LlmCodeReviewMavenPluginException("Failed to review uncached file groups: " + cause.getMessage(), cause);
+                }
+            }
+        }
+
+        final List<ReviewResult> finished = new ArrayList<>(results.size());
+        for (ReviewResult result : results) {
+            if (result != null) {
+                finished.add(result);
+            }
+        }
+        if (isTripped(failFastMonitor) && (futures.size() < misses.size() || failure != null || finished.size() < results.size())) {
+            // Once the monitor has tripped, failures are the file groups whose queued requests were drained
+            logger.warn("Review stopped after {} of {} uncached file groups: {}.", futures.size(), misses.size(), failFastMonitor.getReason());
+            throw new ReviewStoppedException("Review stopped early: " + failFastMonitor.getReason(),
+                    finished.isEmpty() ? null : reviewResultMerger.merge(finished));
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static boolean isTripped(FailFastMonitor failFastMonitor) {
+        return failFastMonitor != null && failFastMonitor.isTripped();
+    }
+
+    private static final class Miss {
+        private final int index;
+        private final ReviewUnit unit;
+        private final String key;
+
+        private Miss(int index, ReviewUnit unit, String key) {
+            this.index = index;
+            this.unit = unit;
+            this.key = key;
+        }
+
+        private ReviewResult review(ReviewCache cache, Function<ReviewParameter, ReviewResult> reviewer) {
+            logger.info("Reviewing uncached file group '{}'.", unit.getName());
+            ReviewResult result = reviewer.apply(unit.getParameter());
+            cache.put(key, result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.ReviewCacheKeyCalculator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.digest.DigestUtils;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewUnit;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Calculates the cache key from everything that influences the review of a file group: file contents and
+ * paths relative to the project base directory,
+ * rules and prompts of all levels, the chat completion configuration (model and its parameters),
+ * the Rhino mapper script, rules batching and reasoning settings.
+ */
+public class ReviewCacheKeyCalculatorImpl implements ReviewCacheKeyCalculator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewCacheKeyCalculatorImpl.class);
+
+    /**
+     * Bump when the key layout changes, so that old entries are no longer matched.
+     */
+    private static final String KEY_VERSION = "llm-code-review-cache:v2";
+
+    private final ObjectWriter objectWriter;
+
+    public ReviewCacheKeyCalculatorImpl(ObjectMapper objectMapper) {
+        // Sorted map entries keep the key stable regardless of map implementation order
+        this.objectWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        logger.debug("ReviewCacheKeyCalculatorImpl initialized.");
+    }
+
+    @Override
+    public String calculate(ReviewUnit unit, Path baseDirectory, List<Path> files) throws IOException {
+        ReviewParameter parameter = unit.getParameter();
+        ReviewTarget target = unit.getTarget();
+        FileGroup fileGroup = unit.getFileGroup();
+
+        MessageDigest digest = DigestUtils.newSha256();
+        DigestUtils.update(digest, "version", KEY_VERSION.getBytes(StandardCharsets.UTF_8));
+
+        DigestUtils.update(digest, "chatCompletion", json(parameter.getLlmChatCompletionConfiguration()));
+        DigestUtils.update(digest, "messagesMapper", json(parameter.getLlmMessagesMapperConfiguration()));
+        DigestUtils.update(digest, "rules", json(parameter.getRules()));
+        DigestUtils.update(digest, "systemPrompts", json(parameter.getSystemPrompts()));
+        DigestUtils.update(digest, "reviewPrompts", json(parameter.getReviewPrompts()));
+        DigestUtils.update(digest, "rulesBatchSize", json(parameter.getRulesBatchSize()));
+        DigestUtils.update(digest, "useReasoning", json(parameter.getUseReasoning()));
+
+        DigestUtils.update(digest, "targetRules", json(target.getRules()));
+        DigestUtils.update(digest, "targetPrompts", json(target.getReviewTargetPrompts()));
+
+        DigestUtils.update(digest, "fileGroupRules", json(fileGroup.getRules()));
+        DigestUtils.update(digest, "fileGroupPrompts", json(fileGroup.getFileGroupPrompts()));
+        DigestUtils.update(digest, "codePage", json(fileGroup.getCodePage()));
+        DigestUtils.update(digest, "filesBatchSize", json(fileGroup.getFilesBatchSize()));
+
+        final Path base = baseDirectory.toAbsolutePath().normalize();
+        for (Path file : files) {
+            // Paths are part of the key because they are sent to the model together with the content
+            DigestUtils.update(digest, "path", relativePath(base, file).getBytes(StandardCharsets.UTF_8));
+            DigestUtils.update(digest, "content", DigestUtils.sha256Hex(file).getBytes(StandardCharsets.UTF_8));
+        }
+
+        String key = DigestUtils.toHex(digest.digest());
+        logger.debug("Calculated cache key '{}' for unit '{}' with {} files.", key, unit.getName(), files.size());
+        return key;
+    }
+
+    private static String relativePath(Path baseDirectory, Path file) {
+        final Path absolute = file.toAbsolutePath().normalize();
+        final Path relative = absolute.getRoot() != null && absolute.getRoot().equals(baseDirectory.getRoot())
+                ? baseDirectory.relativize(absolute)
+                : absolute;
+        return relative.toString().replace('\\', '/');
+    }
+
+    private byte[] json(Object value) throws IOException {
+        return value == null ? null : objectWriter.writeValueAsBytes(value);
+    }
+}
@@ -0,0 +1,78 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.ReviewCache;
+import com.quasarbyte.llm.codereview.maven.plugin.service.digest.DigestUtils;
+import com.quasarbyte.llm.codereview.maven.plugin.service.serialization.SerializationService;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link ReviewCache} backed by a {@link SegmentFileStore}; results are stored as gzip-compressed JSON.
+ */
+public class SegmentFileReviewCacheImpl implements ReviewCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentFileReviewCacheImpl.class);
+    private static final String STORE_NAME = "reviews";
+
+    private final SegmentFileStore store;
+    private final SerializationService serializationService;
+
+    public SegmentFileReviewCacheImpl(Path directory, SerializationService serializationService) throws IOException {
+        this.store = new SegmentFileStore(directory, STORE_NAME);
+        this.serializationService = serializationService;
+        logger.debug("SegmentFileReviewCacheImpl initialized with directory '{}'.", directory);
+    }
+
+    @Override
+    public Optional<ReviewResult> get(String key) {
+        try {
+            byte[] value = store.get(DigestUtils.fromHex(key));
+            if (value == null) {
+                logger.debug("Review cache miss for key '{}'.", key);
+                return Optional.empty();
+            }
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(value))) {
+                ReviewResult result = serializationService.getReviewResultReader().readValue(in);
+                logger.debug("Review cache hit for key '{}'.", key);
+                return Optional.ofNullable(result);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to read review cache entry '{}', treating as a miss: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, ReviewResult result) {
+        if (result == null) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(bytes)) {
+                serializationService.getReviewResultWriter().writeValue(out, result);
+            }
+            if (store.put(DigestUtils.fromHex(key), bytes.toByteArray())) {
+                logger.debug("Stored review cache entry '{}' ({} bytes).", key, bytes.size());
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to write review cache entry '{}': {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        store.close();
+    }
+}
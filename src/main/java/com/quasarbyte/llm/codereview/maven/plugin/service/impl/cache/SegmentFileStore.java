@@ -0,0 +1,380 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Append-only key/value store made of a segment file and a fixed-width index file.
+ * <p>
+ * Record layout in the segment file: {@code [32 byte key][int length][payload]}.
+ * Entry layout in the index file: {@code [32 byte key][long offset][int length]}.
+ * </p>
+ * <p>
+ * On open the index is loaded into an open-addressing table of 64-bit key prefixes to segment offsets,
+ * so a lookup is a single table probe plus one positional read, independent of the number of entries.
+ * The full key stored in the record header is verified on every read. Records that were appended to the
+ * segment but are missing from the index (for example after a killed build) are re-indexed, and a torn
+ * tail is truncated.
+ * </p>
+ * <p>
+ * Only one process can write to the store at a time; if the segment file is locked by another process
+ * or execution, the store is opened read-only and {@link #put(byte[], byte[])} becomes a no-op.
+ * </p>
+ */
+public class SegmentFileStore implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentFileStore.class);
+
+    public static final int KEY_LENGTH = 32;
+
+    private static final int RECORD_HEADER_LENGTH = KEY_LENGTH + 4;
+    private static final int INDEX_ENTRY_LENGTH = KEY_LENGTH + 8 + 4;
+    private static final int INDEX_READ_BATCH = 4096;
+
+    private final Path segmentFile;
+    private final FileChannel segmentChannel;
+    private final FileChannel indexChannel;
+    private final FileLock lock;
+    private final OffsetTable table = new OffsetTable();
+
+    private long segmentEnd;
+    private long indexEnd;
+
+    public SegmentFileStore(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        this.segmentFile = directory.resolve(name + ".seg");
+        Path indexFile = directory.resolve(name + ".idx");
+
+        this.segmentChannel = FileChannel.open(segmentFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel openedIndexChannel = null;
+        FileLock acquiredLock = null;
+        try {
+            openedIndexChannel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                acquiredLock = segmentChannel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                acquiredLock = null;
+            }
+            this.indexChannel = openedIndexChannel;
+            this.lock = acquiredLock;
+
+            if (lock == null) {
+                logger.warn("Store '{}' is locked by another process or execution, opening it read-only.", segmentFile);
+            }
+
+            long indexedEnd = loadIndex();
+            if (lock != null) {
+                recoverUnindexedRecords(indexedEnd);
+            } else {
+                segmentEnd = segmentChannel.size();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (acquiredLock != null) {
+                acquiredLock.release();
+            }
+            if (openedIndexChannel != null) {
+                openedIndexChannel.close();
+            }
+            segmentChannel.close();
+            throw e;
+        }
+
+        logger.info("Opened store '{}' with {} entries ({} bytes).", segmentFile, table.size(), segmentEnd);
+    }
+
+    /**
+     * Reads the value stored under the key.
+     *
+     * @param key the 32 byte key
+     * @return the value, or {@code null} if the key is not present
+     * @throws IOException if the segment cannot be read
+     */
+    public byte[] get(byte[] key) throws IOException {
+        requireKey(key);
+        long offset;
+        synchronized (table) {
+            offset = table.get(prefixOf(key));
+        }
+        if (offset < 0) {
+            return null;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+        readFully(segmentChannel, header, offset);
+        header.flip();
+        byte[] storedKey = new byte[KEY_LENGTH];
+        header.get(storedKey);
+        if (!Arrays.equals(storedKey, key)) {
+            logger.debug("Key prefix collision at offset {}, treating as a miss.", offset);
+            return null;
+        }
+
+        int length = header.getInt();
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(segmentChannel, payload, offset + RECORD_HEADER_LENGTH);
+        return payload.array();
+    }
+
+    /**
+     * Appends the value unless the key is already present or the store is read-only.
+     *
+     * @param key   the 32 byte key
+     * @param value the value
+     * @return {@code true} if the value was written
+     * @throws IOException if the segment or index cannot be written
+     */
+    public synchronized boolean put(byte[] key, byte[] value) throws IOException {
+        requireKey(key);
+        if (lock == null) {
+            logger.debug("Store is read-only, skipping put.");
+            return false;
+        }
+        if (get(key) != null) {
+            return false;
+        }
+
+        long offset = segmentEnd;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_LENGTH + value.length);
+        record.put(key).putInt(value.length).put(value);
+        record.flip();
+        writeFully(segmentChannel, record, offset);
+        segmentEnd = offset + RECORD_HEADER_LENGTH + value.length;
+
+        appendIndexEntry(key, offset, value.length);
+        synchronized (table) {
+            table.put(prefixOf(key), offset);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of indexed entries.
+     * @return the entry count
+     */
+    public int size() {
+        synchronized (table) {
+            return table.size();
+        }
+    }
+
+    /**
+     * Indicates whether the store was opened read-only.
+     * @return {@code true} if writes are ignored
+     */
+    public boolean isReadOnly() {
+        return lock == null;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (lock != null) {
+                segmentChannel.force(false);
+                indexChannel.force(false);
+                lock.release();
+            }
+        } finally {
+            try {
+                indexChannel.close();
+            } finally {
+                segmentChannel.close();
+            }
+        }
+        logger.debug("Closed store '{}'.", segmentFile);
+    }
+
+    /**
+     * Loads valid index entries into the table and returns the segment offset right after the last indexed record.
+     */
+    private long loadIndex() throws IOException {
+        long indexSize = indexChannel.size();
+        long segmentSize = segmentChannel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(INDEX_ENTRY_LENGTH * INDEX_READ_BATCH);
+        byte[] key = new byte[KEY_LENGTH];
+        long position = 0;
+        long indexedEnd = 0;
+
+        reading:
+        while (position + INDEX_ENTRY_LENGTH <= indexSize) {
+            buffer.clear();
+            long remaining = indexSize - position;
+            buffer.limit((int) Math.min(buffer.capacity(), remaining - remaining % INDEX_ENTRY_LENGTH));
+            readFully(indexChannel, buffer, position);
+            buffer.flip();
+            while (buffer.remaining() >= INDEX_ENTRY_LENGTH) {
+                buffer.get(key);
+                long offset = buffer.getLong();
+                int length = buffer.getInt();
+                long end = offset + RECORD_HEADER_LENGTH + length;
+                if (offset < 0 || length < 0 || end > segmentSize) {
+                    logger.warn("Index entry at {} points outside of the segment, ignoring the rest of the index.", position);
+                    break reading;
+                }
+                table.put(prefixOf(key), offset);
+                indexedEnd = Math.max(indexedEnd, end);
+                position += INDEX_ENTRY_LENGTH;
+            }
+        }
+
+        indexEnd = position;
+        if (lock != null && indexEnd < indexSize) {
+            logger.warn("Truncating index from {} to {} bytes.", indexSize, indexEnd);
+            indexChannel.truncate(indexEnd);
+        }
+        return indexedEnd;
+    }
+
+    /**
+     * Indexes records appended after the last indexed record and truncates a torn tail.
+     */
+    private void recoverUnindexedRecords(long indexedEnd) throws IOException {
+        long segmentSize = segmentChannel.size();
+        long position = indexedEnd;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+        byte[] key = new byte[KEY_LENGTH];
+        int recovered = 0;
+
+        while (position + RECORD_HEADER_LENGTH <= segmentSize) {
+            header.clear();
+            readFully(segmentChannel, header, position);
+            header.flip();
+            header.get(key);
+            int length = header.getInt();
+            long end = position + RECORD_HEADER_LENGTH + length;
+            if (length < 0 || end > segmentSize) {
+                break;
+            }
+            appendIndexEntry(key, position, length);
+            table.put(prefixOf(key), position);
+            position = end;
+            recovered++;
+        }
+
+        if (recovered > 0) {
+            logger.info("Recovered {} unindexed records in '{}'.", recovered, segmentFile);
+        }
+        if (position < segmentSize) {
+            logger.warn("Truncating torn tail of '{}' from {} to {} bytes.", segmentFile, segmentSize, position);
+            segmentChannel.truncate(position);
+        }
+        segmentEnd = position;
+    }
+
+    private void appendIndexEntry(byte[] key, long offset, int length) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_LENGTH);
+        entry.put(key).putLong(offset).putInt(length);
+        entry.flip();
+        writeFully(indexChannel, entry, indexEnd);
+        indexEnd += INDEX_ENTRY_LENGTH;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file at position " + current);
+            }
+            current += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            current += channel.write(buffer, current);
+        }
+    }
+
+    private static long prefixOf(byte[] key) {
+        long prefix = 0;
+        for (int i = 0; i < 8; i++) {
+            prefix = (prefix << 8) | (key[i] & 0xFF);
+        }
+        return prefix;
+    }
+
+    private static void requireKey(byte[] key) {
+        if (key == null || key.length != KEY_LENGTH) {
+            throw new IllegalArgumentException("Key must be exactly " + KEY_LENGTH + " bytes");
+        }
+    }
+
+    /**
+     * Open-addressing hash table from 64-bit key prefixes to segment offsets with linear probing.
+     * Keys are SHA-256 prefixes and therefore already uniformly distributed.
+     */
+    private static final class OffsetTable {
+        private long[] keys = new long[1024];
+        // Stores offset + 1 so that 0 marks an empty slot
+        private long[] values = new long[1024];
+        private int size;
+
+        long get(long key) {
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            while (values[slot] != 0) {
+                if (keys[slot] == key) {
+                    return values[slot] - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        void put(long key, long offset) {
+            if ((size + 1) * 4L >= keys.length * 3L) {
+                resize();
+            }
+            insert(key, offset);
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void insert(long key, long offset) {
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            while (values[slot] != 0) {
+                if (keys[slot] == key) {
+                    values[slot] = offset + 1;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = offset + 1;
+            size++;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new long[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != 0) {
+                    insert(oldKeys[i], oldValues[i] - 1);
+                }
+            }
+        }
+
+        private static int slotOf(long key, int mask) {
+            return (int) (key ^ (key >>> 32)) & mask;
+        }
+    }
+}
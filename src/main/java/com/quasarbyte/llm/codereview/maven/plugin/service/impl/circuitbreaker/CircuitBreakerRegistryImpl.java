@@ -0,0 +1,23 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.circuitbreaker;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class CircuitBreakerRegistryImpl implements CircuitBreakerRegistry {
+
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    @Override
+    public CircuitBreaker getOrCreate(String key, String name, CircuitBreakerPolicy policy) {
+        return circuitBreakers.computeIfAbsent(key, k -> new SlidingWindowCircuitBreakerImpl(name, policy));
+    }
+
+    @Override
+    public void clear() {
+        circuitBreakers.clear();
+    }
+}
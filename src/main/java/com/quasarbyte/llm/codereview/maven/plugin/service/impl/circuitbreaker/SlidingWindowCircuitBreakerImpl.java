@@ -0,0 +1,170 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.circuitbreaker;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker computing failure and slow call rates over the last {@code slidingWindowSize} calls.
+ * <p>
+ * A closed circuit opens once either rate reaches its threshold. After the wait duration the circuit lets
+ * {@code permittedCallsInHalfOpenState} trial calls through and closes again if their rates stay below the
+ * thresholds, otherwise it opens for another wait duration. Every state change starts a new generation, and
+ * permissions carry the generation they were taken in, so the outcome of a call permitted before the last state
+ * change is ignored: a slow call started while closed cannot reopen a half-open circuit.
+ * </p>
+ */
+public class SlidingWindowCircuitBreakerImpl implements CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlidingWindowCircuitBreakerImpl.class);
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final CircuitBreakerPolicy policy;
+
+    private final byte[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private long stateSinceNanos = System.nanoTime();
+    private int halfOpenPermits;
+    private long generation;
+
+    /**
+     * @param name   the name used in log messages
+     * @param policy the thresholds and durations
+     */
+    public SlidingWindowCircuitBreakerImpl(String name, CircuitBreakerPolicy policy) {
+        this.name = name;
+        this.policy = policy;
+        this.window = new byte[policy.getSlidingWindowSize()];
+    }
+
+    @Override
+    public synchronized boolean isCallPermitted() {
+        switch (updateState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                return halfOpenPermits > 0;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public synchronized long tryAcquirePermission() {
+        switch (updateState()) {
+            case CLOSED:
+                return generation;
+            case HALF_OPEN:
+                if (halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                    return generation;
+                }
+                return NOT_PERMITTED;
+            default:
+                return NOT_PERMITTED;
+        }
+    }
+
+    @Override
+    public void onSuccess(long permission, long durationNanos) {
+        record(permission, durationNanos >= policy.getSlowCallDurationNanos() ? SLOW : 0);
+    }
+
+    @Override
+    public void onError(long permission, long durationNanos) {
+        record(permission, (byte) (FAILED | (durationNanos >= policy.getSlowCallDurationNanos() ? SLOW : 0)));
+    }
+
+    @Override
+    public synchronized long getRemainingOpenNanos() {
+        if (updateState() != CircuitBreakerState.OPEN) {
+            return 0;
+        }
+        return Math.max(0, policy.getWaitDurationInOpenStateNanos() - (System.nanoTime() - stateSinceNanos));
+    }
+
+    @Override
+    public synchronized CircuitBreakerState getState() {
+        return updateState();
+    }
+
+    private synchronized void record(long permission, byte outcome) {
+        updateState();
+        if (permission != generation) {
+            logger.trace("Ignoring the outcome of a call to LLM client '{}' permitted before the circuit changed its state.", name);
+            return;
+        }
+
+        if (recordedCalls == window.length) {
+            byte evicted = window[windowIndex];
+            failedCalls -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        failedCalls += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        final int requiredCalls = state == CircuitBreakerState.HALF_OPEN
+                ? Math.min(policy.getPermittedCallsInHalfOpenState(), window.length)
+                : policy.getMinimumNumberOfCalls();
+        if (recordedCalls < requiredCalls) {
+            return;
+        }
+        final int failureRate = failedCalls * 100 / recordedCalls;
+        final int slowCallRate = slowCalls * 100 / recordedCalls;
+        if (failureRate >= policy.getFailureRateThreshold() || slowCallRate >= policy.getSlowCallRateThreshold()) {
+            transitionTo(CircuitBreakerState.OPEN, failureRate, slowCallRate);
+        } else if (state == CircuitBreakerState.HALF_OPEN) {
+            transitionTo(CircuitBreakerState.CLOSED, failureRate, slowCallRate);
+        }
+    }
+
+    private CircuitBreakerState updateState() {
+        final long elapsedNanos = System.nanoTime() - stateSinceNanos;
+        if (state == CircuitBreakerState.OPEN && elapsedNanos >= policy.getWaitDurationInOpenStateNanos()) {
+            transitionTo(CircuitBreakerState.HALF_OPEN, -1, -1);
+        } else if (state == CircuitBreakerState.HALF_OPEN && halfOpenPermits == 0
+                && elapsedNanos >= policy.getWaitDurationInOpenStateNanos()) {
+            // Trial calls which never reported an outcome must not keep the circuit half-open forever
+            transitionTo(CircuitBreakerState.HALF_OPEN, -1, -1);
+        }
+        return state;
+    }
+
+    private void transitionTo(CircuitBreakerState newState, int failureRate, int slowCallRate) {
+        final CircuitBreakerState oldState = state;
+        state = newState;
+        stateSinceNanos = System.nanoTime();
+        generation++;
+        recordedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+        windowIndex = 0;
+        halfOpenPermits = newState == CircuitBreakerState.HALF_OPEN ? policy.getPermittedCallsInHalfOpenState() : 0;
+
+        if (oldState == newState) {
+            logger.debug("Circuit of LLM client '{}' is still {}, permitting new trial calls.", name, newState);
+        } else if (newState == CircuitBreakerState.OPEN) {
+            logger.warn("Circuit of LLM client '{}' changed from {} to OPEN (failure rate {}%, slow call rate {}%), rerouting batches for {} s.",
+                    name, oldState, failureRate, slowCallRate, policy.getWaitDurationInOpenStateNanos() / 1_000_000_000L);
+        } else if (failureRate >= 0) {
+            logger.info("Circuit of LLM client '{}' changed from {} to {} (failure rate {}%, slow call rate {}%).",
+                    name, oldState, newState, failureRate, slowCallRate);
+        } else {
+            logger.info("Circuit of LLM client '{}' changed from {} to {}.", name, oldState, newState);
+        }
+    }
+}
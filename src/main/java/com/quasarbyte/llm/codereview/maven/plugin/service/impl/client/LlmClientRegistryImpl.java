@@ -0,0 +1,68 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PLlmClientConfiguration;
+import com.quasarbyte.llm.codereview.maven.plugin.service.client.LlmClientRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.digest.DigestUtils;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches clients by the SHA-256 digest of their configuration.
+ * <p>
+ * The whole configuration, including the API key and headers, is part of the digest, so clients with
+ * different credentials are never shared, while the secrets themselves are not kept as map keys.
+ * </p>
+ */
+public class LlmClientRegistryImpl implements LlmClientRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmClientRegistryImpl.class);
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<String, LlmClient> clients = new ConcurrentHashMap<>();
+
+    public LlmClientRegistryImpl(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    @Override
+    public LlmClient getOrCreate(PLlmClientConfiguration configuration, Supplier<LlmClient> factory) {
+        Objects.requireNonNull(configuration, "configuration");
+        final String key = calculateKey(configuration);
+        LlmClient client = clients.get(key);
+        if (client != null) {
+            logger.debug("Reusing LLM client for '{}'", configuration.getBaseUrl());
+            return client;
+        }
+        return clients.computeIfAbsent(key, k -> {
+            logger.debug("Creating LLM client for '{}'", configuration.getBaseUrl());
+            return Objects.requireNonNull(factory.get(), "Created LLM client is null");
+        });
+    }
+
+    @Override
+    public int size() {
+        return clients.size();
+    }
+
+    @Override
+    public void clear() {
+        clients.clear();
+    }
+
+    private String calculateKey(PLlmClientConfiguration configuration) {
+        try {
+            return DigestUtils.sha256Hex(objectMapper.writeValueAsString(configuration));
+        } catch (JsonProcessingException e) {
+            throw new LlmCodeReviewMavenPluginException("Cannot serialize LLM client configuration: " + e.getMessage(), e);
+        }
+    }
+}
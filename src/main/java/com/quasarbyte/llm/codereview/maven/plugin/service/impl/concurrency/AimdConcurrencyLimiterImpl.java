@@ -0,0 +1,134 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.concurrency;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.concurrency.ConcurrencyLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Additive-increase, multiplicative-decrease limiter.
+ * <p>
+ * The limit grows by one with every successful request whose latency stays within twice the smoothed latency,
+ * as long as the limit is actually used. It is halved on overload, at most once per round trip: failures of
+ * requests started before the last decrease belong to the same congestion episode and are not counted again.
+ * </p>
+ */
+public class AimdConcurrencyLimiterImpl implements ConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AimdConcurrencyLimiterImpl.class);
+
+    private static final double BACKOFF_RATIO = 0.5;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+
+    private int limit;
+    private int inFlight;
+    private int peakInFlight;
+    private int peakLimit;
+    private double smoothedLatencyNanos;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+    private long successes;
+    private long overloads;
+    private long failures;
+    private long decreases;
+
+    public AimdConcurrencyLimiterImpl(int minLimit, int maxLimit, int initialLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(String.format("Invalid concurrency bounds: min %d, max %d", minLimit, maxLimit));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.peakLimit = limit;
+        logger.debug("AimdConcurrencyLimiterImpl initialized with limit {} in [{}, {}].", limit, minLimit, maxLimit);
+    }
+
+    @Override
+    public long acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= limit) {
+                permitAvailable.await();
+            }
+            inFlight++;
+            peakInFlight = Math.max(peakInFlight, inFlight);
+        } finally {
+            lock.unlock();
+        }
+        return System.nanoTime();
+    }
+
+    @Override
+    public void release(long startNanos, Outcome outcome) {
+        final long now = System.nanoTime();
+        final long latencyNanos = now - startNanos;
+        lock.lock();
+        try {
+            // The limit counts as used if this request was part of a saturated window
+            final boolean limited = inFlight * 2 >= limit;
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS:
+                    successes++;
+                    boolean stable = smoothedLatencyNanos == 0 || latencyNanos <= smoothedLatencyNanos * LATENCY_TOLERANCE;
+                    smoothedLatencyNanos = smoothedLatencyNanos == 0
+                            ? latencyNanos
+                            : smoothedLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - smoothedLatencyNanos);
+                    if (stable && limited && limit < maxLimit) {
+                        limit++;
+                        peakLimit = Math.max(peakLimit, limit);
+                        logger.debug("Concurrency limit increased to {}.", limit);
+                    }
+                    break;
+                case OVERLOAD:
+                    overloads++;
+                    if (!decreased || startNanos - lastDecreaseNanos > 0) {
+                        int previous = limit;
+                        limit = Math.max(minLimit, (int) (limit * BACKOFF_RATIO));
+                        decreased = true;
+                        lastDecreaseNanos = now;
+                        decreases++;
+                        logger.info("LLM endpoint overloaded, concurrency limit decreased from {} to {}.", previous, limit);
+                    }
+                    break;
+                case FAILURE:
+                default:
+                    failures++;
+                    break;
+            }
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String getSummary() {
+        lock.lock();
+        try {
+            return String.format("final limit %d (bounds %d..%d, peak limit %d, peak in-flight %d), %d successful, %d overloaded, %d failed requests, %d decreases, smoothed latency %d ms",
+                    limit, minLimit, maxLimit, peakLimit, peakInFlight, successes, overloads, failures, decreases,
+                    (long) (smoothedLatencyNanos / 1_000_000));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.WeightedLlmClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks outstanding requests per client and hands out the least loaded one whose circuit permits calls.
+ */
+final class ClientSlots {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientSlots.class);
+
+    private final List<WeightedLlmClient> clients;
+    private final int[] outstanding;
+    private final int[] completed;
+    private final long[] busyNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    ClientSlots(List<WeightedLlmClient> clients) {
+        this.clients = clients;
+        this.outstanding = new int[clients.size()];
+        this.completed = new int[clients.size()];
+        this.busyNanos = new long[clients.size()];
+    }
+
+    int size() {
+        return clients.size();
+    }
+
+    /**
+     * Takes a slot of the least loaded client, waiting until any client has capacity.
+     */
+    Slot acquire() throws InterruptedException {
+        return acquire(Collections.emptySet());
+    }
+
+    /**
+     * Takes a slot of the least loaded client which is not excluded, waiting until one has capacity
+     * and its circuit permits calls.
+     * @return the slot, or {@code null} if all clients are excluded
+     */
+    Slot acquire(Set<Integer> excluded) throws InterruptedException {
+        if (excluded.size() >= clients.size()) {
+            return null;
+        }
+        lock.lock();
+        try {
+            Slot slot;
+            while ((slot = select(excluded)) == null) {
+                long openNanos = nextPermittedNanos(excluded);
+                if (openNanos > 0) {
+                    released.awaitNanos(openNanos);
+                } else {
+                    released.await();
+                }
+            }
+            outstanding[slot.index]++;
+            return slot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a slot of the least loaded client other than the one of the excluded slot, without waiting.
+     * @return the slot, or {@code null} if no other client has capacity
+     */
+    Slot tryAcquireExcluding(Slot excluded) {
+        lock.lock();
+        try {
+            Slot slot = select(Collections.singleton(excluded.index));
+            if (slot != null) {
+                outstanding[slot.index]++;
+            }
+            return slot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(Slot slot, long elapsedNanos) {
+        lock.lock();
+        try {
+            outstanding[slot.index]--;
+            completed[slot.index]++;
+            busyNanos[slot.index] += elapsedNanos;
+            // Waiters may exclude different clients, so a single signal could wake one that cannot use this slot
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void logSummary() {
+        lock.lock();
+        try {
+            for (int i = 0; i < clients.size(); i++) {
+                long averageMillis = completed[i] == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(busyNanos[i] / completed[i]);
+                CircuitBreaker circuitBreaker = clients.get(i).getCircuitBreaker();
+                if (circuitBreaker != null) {
+                    logger.info("LLM client '{}' (weight {}): {} batches, {} ms average, circuit {}.",
+                            clients.get(i).getName(), clients.get(i).getWeight(), completed[i], averageMillis, circuitBreaker.getState());
+                } else {
+                    logger.info("LLM client '{}' (weight {}): {} batches, {} ms average.",
+                            clients.get(i).getName(), clients.get(i).getWeight(), completed[i], averageMillis);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Slot select(Set<Integer> excluded) {
+        while (true) {
+            int best = -1;
+            double bestScore = Double.MAX_VALUE;
+            for (int i = 0; i < clients.size(); i++) {
+                WeightedLlmClient client = clients.get(i);
+                if (excluded.contains(i) || outstanding[i] >= client.getMaxConcurrency()
+                        || (client.getCircuitBreaker() != null && !client.getCircuitBreaker().isCallPermitted())) {
+                    continue;
+                }
+                // Load after adding this request, so that an idle heavy client wins over an idle light one
+                double score = (outstanding[i] + 1) / (double) client.getWeight();
+                if (score < bestScore) {
+                    best = i;
+                    bestScore = score;
+                }
+            }
+            if (best < 0) {
+                return null;
+            }
+            CircuitBreaker circuitBreaker = clients.get(best).getCircuitBreaker();
+            if (circuitBreaker == null) {
+                return new Slot(best, clients.get(best), CircuitBreaker.NOT_PERMITTED);
+            }
+            // Another thread may have taken the last trial call of a half-open circuit in the meantime
+            long permission = circuitBreaker.tryAcquirePermission();
+            if (permission != CircuitBreaker.NOT_PERMITTED) {
+                return new Slot(best, clients.get(best), permission);
+            }
+        }
+    }
+
+    /**
+     * Gets the time until the first open circuit of a client which is not excluded lets calls through.
+     * @return the time in nanoseconds, 0 if no such circuit is open
+     */
+    private long nextPermittedNanos(Set<Integer> excluded) {
+        long next = Long.MAX_VALUE;
+        for (int i = 0; i < clients.size(); i++) {
+            CircuitBreaker circuitBreaker = clients.get(i).getCircuitBreaker();
+            if (!excluded.contains(i) && circuitBreaker != null) {
+                long remaining = circuitBreaker.getRemainingOpenNanos();
+                if (remaining > 0) {
+                    next = Math.min(next, remaining);
+                }
+            }
+        }
+        return next == Long.MAX_VALUE ? 0 : next;
+    }
+
+    /**
+     * A taken slot: the client and the circuit breaker permission its call is made with.
+     */
+    static final class Slot {
+
+        private final int index;
+        private final WeightedLlmClient client;
+        private final long permission;
+
+        private Slot(int index, WeightedLlmClient client, long permission) {
+            this.index = index;
+            this.client = client;
+            this.permission = permission;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        WeightedLlmClient getClient() {
+            return client;
+        }
+
+        /**
+         * Gets the permission of the client's circuit breaker, {@link CircuitBreaker#NOT_PERMITTED} without one.
+         */
+        long getPermission() {
+            return permission;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.HedgingPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch.ClientSlots.Slot;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.NamedThreadFactory;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.SharedRequestQuota;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.LlmRequestRateLimiter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatch;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Sends a batch to a second client once it has been outstanding longer than the configured latency percentile.
+ * <p>
+ * The first successful response completes the batch and the other attempt is cancelled. A batch fails only
+ * when every attempt has failed. Hedges are only sent to a client with a free slot, never more often than
+ * the policy's share of all batches, and only while the request quota has room beyond the plan.
+ * </p>
+ * <p>
+ * The percentile is taken over the durations of successful calls. Calls during which the client's rate limiter
+ * held back requests are left out, so that waiting for the configured limits does not make the endpoint look slow.
+ * </p>
+ */
+final class HedgingCoordinator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingCoordinator.class);
+
+    private static final int LATENCY_WINDOW = 256;
+
+    private final HedgingPolicy policy;
+    private final ClientSlots slots;
+    private final SharedRequestQuota requestQuota;
+    private final BiFunction<ReviewBatch, Slot, ReviewResult> reviewer;
+    private final ExecutorService attemptExecutor;
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount;
+
+    private final AtomicInteger batches = new AtomicInteger();
+    private final AtomicInteger hedges = new AtomicInteger();
+    private final AtomicInteger hedgeWins = new AtomicInteger();
+
+    /**
+     * @param policy       the hedging policy
+     * @param slots        the client slots shared with the dispatcher
+     * @param requestQuota the request quota of the review, the requests of hedges are taken from its spare room
+     * @param reviewer     reviews a batch with the client of a slot
+     */
+    HedgingCoordinator(HedgingPolicy policy, ClientSlots slots, SharedRequestQuota requestQuota,
+                       BiFunction<ReviewBatch, Slot, ReviewResult> reviewer) {
+        this.policy = policy;
+        this.slots = slots;
+        this.requestQuota = requestQuota;
+        this.reviewer = reviewer;
+        this.attemptExecutor = Executors.newCachedThreadPool(new NamedThreadFactory("llm-code-review-hedge-"));
+        this.timer = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("llm-code-review-hedge-timer-"));
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Reviews a batch, hedging it if it is slower than the configured percentile.
+     */
+    ReviewResult review(ReviewBatch batch) {
+        batches.incrementAndGet();
+        final Slot primarySlot;
+        try {
+            primarySlot = slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmCodeReviewMavenPluginException("Interrupted while waiting for a free LLM client", e);
+        }
+
+        final Attempts attempts = new Attempts();
+        start(attempts, batch, primarySlot, false);
+
+        final long delayNanos = hedgeDelayNanos();
+        final ScheduledFuture<?> hedge = delayNanos >= 0
+                ? timer.schedule(() -> hedge(attempts, batch, primarySlot, delayNanos), delayNanos, TimeUnit.NANOSECONDS)
+                : null;
+        try {
+            return attempts.outcome.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmCodeReviewMavenPluginException("Interrupted while waiting for a review batch", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new LlmCodeReviewMavenPluginException("Review batch failed: " + cause.getMessage(), cause);
+        } finally {
+            if (hedge != null) {
+                hedge.cancel(false);
+            }
+            attempts.cancelAll();
+        }
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        attemptExecutor.shutdownNow();
+        logger.info("Hedging ({}): hedged {} of {} batches, {} won by the hedge.", policy, hedges.get(), batches.get(), hedgeWins.get());
+    }
+
+    private void hedge(Attempts attempts, ReviewBatch batch, Slot primarySlot, long delayNanos) {
+        if (attempts.outcome.isDone() || !reserveHedge()) {
+            return;
+        }
+        if (!requestQuota.tryReserve(batch.getRequestCount())) {
+            hedges.decrementAndGet();
+            logger.debug("The request quota leaves no room, not hedging the batch.");
+            return;
+        }
+        final Slot slot = slots.tryAcquireExcluding(primarySlot);
+        if (slot == null) {
+            hedges.decrementAndGet();
+            requestQuota.release(batch.getRequestCount());
+            logger.debug("No other LLM client is free, not hedging the batch.");
+            return;
+        }
+        logger.debug("Batch on '{}' exceeded {} ms, hedging with '{}'.", primarySlot.getClient().getName(),
+                TimeUnit.NANOSECONDS.toMillis(delayNanos), slot.getClient().getName());
+        start(attempts, batch, slot, true);
+    }
+
+    private boolean reserveHedge() {
+        while (true) {
+            int current = hedges.get();
+            if (current + 1 > policy.getMaxExtraLoadRatio() * batches.get()) {
+                return false;
+            }
+            if (hedges.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void start(Attempts attempts, ReviewBatch batch, Slot slot, boolean hedged) {
+        final Attempt attempt = new Attempt(slot, hedged ? batch.getRequestCount() : 0);
+        attempt.task = new FutureTask<>(() -> run(attempts, attempt, batch), null);
+        if (!attempts.add(attempt)) {
+            // The batch completed while the hedge was being set up
+            cancel(attempt);
+            return;
+        }
+        attemptExecutor.execute(attempt.task);
+    }
+
+    private void run(Attempts attempts, Attempt attempt, ReviewBatch batch) {
+        if (!attempt.claim()) {
+            return;
+        }
+        final Slot slot = attempt.slot;
+        final LlmRequestRateLimiter rateLimiter = slot.getClient().getRateLimiter();
+        final long waitNanos = rateLimiter != null ? rateLimiter.getWaitNanos() : 0;
+        final long startNanos = System.nanoTime();
+        try {
+            final ReviewResult result = reviewer.apply(batch, slot);
+            // A call held back by the rate limits says nothing about the latency of the endpoint
+            if (rateLimiter == null || rateLimiter.getWaitNanos() == waitNanos) {
+                recordLatency(System.nanoTime() - startNanos);
+            }
+            if (attempts.succeed(result) && attempt.isHedge()) {
+                hedgeWins.incrementAndGet();
+            }
+        } catch (Throwable e) {
+            attempts.fail(e);
+        } finally {
+            slots.release(slot, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Cancels an attempt. An attempt which has not started yet gives back its slot, and a hedge its requests;
+     * a running attempt is interrupted and gives back its slot when it ends. The executor clears the interrupt
+     * before its thread runs the next attempt.
+     */
+    private void cancel(Attempt attempt) {
+        if (attempt.claim()) {
+            attempt.task.cancel(false);
+            slots.release(attempt.slot, 0);
+            if (attempt.isHedge()) {
+                hedges.decrementAndGet();
+                requestQuota.release(attempt.quotaRequests);
+            }
+        } else {
+            attempt.task.cancel(true);
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        synchronized (latencies) {
+            latencies[latencyCount % LATENCY_WINDOW] = nanos;
+            latencyCount++;
+        }
+    }
+
+    /**
+     * Gets the configured percentile of the recent latencies, or -1 while there are too few samples.
+     */
+    private long hedgeDelayNanos() {
+        final long[] samples;
+        synchronized (latencies) {
+            if (latencyCount < policy.getMinSamples()) {
+                return -1;
+            }
+            samples = Arrays.copyOf(latencies, Math.min(latencyCount, LATENCY_WINDOW));
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(policy.getPercentile() / 100 * samples.length) - 1;
+        return samples[Math.max(0, Math.min(samples.length - 1, index))];
+    }
+
+    /**
+     * An attempt to review a batch with the client of a slot. Either the attempt runs, or it is cancelled before it
+     * starts, whichever claims it first.
+     */
+    private static final class Attempt {
+
+        private final Slot slot;
+        private final int quotaRequests;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private FutureTask<Void> task;
+
+        /**
+         * @param slot          the slot the attempt runs with
+         * @param quotaRequests the requests reserved from the spare room of the request quota, 0 for the first attempt
+         */
+        private Attempt(Slot slot, int quotaRequests) {
+            this.slot = slot;
+            this.quotaRequests = quotaRequests;
+        }
+
+        private boolean isHedge() {
+            // Only hedges take requests from the spare room, every batch makes at least one request
+            return quotaRequests > 0;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * The attempts of one batch.
+     */
+    private final class Attempts {
+
+        private final CompletableFuture<ReviewResult> outcome = new CompletableFuture<>();
+        private final List<Attempt> attempts = new ArrayList<>(2);
+        private int failed;
+        private Throwable firstFailure;
+
+        /**
+         * Adds an attempt unless the batch has completed.
+         * @return {@code true} if the attempt may be started
+         */
+        synchronized boolean add(Attempt attempt) {
+            if (outcome.isDone()) {
+                return false;
+            }
+            attempts.add(attempt);
+            return true;
+        }
+
+        boolean succeed(ReviewResult result) {
+            return outcome.complete(result);
+        }
+
+        synchronized void fail(Throwable e) {
+            failed++;
+            if (firstFailure == null) {
+                firstFailure = e;
+            }
+            if (failed == attempts.size()) {
+                outcome.completeExceptionally(firstFailure);
+            }
+        }
+
+        void cancelAll() {
+            final List<Attempt> started;
+            synchronized (this) {
+                // Completes the outcome, so that no further hedge is added
+                outcome.cancel(false);
+                started = new ArrayList<>(attempts);
+            }
+            for (Attempt attempt : started) {
+                cancel(attempt);
+            }
+        }
+    }
+}
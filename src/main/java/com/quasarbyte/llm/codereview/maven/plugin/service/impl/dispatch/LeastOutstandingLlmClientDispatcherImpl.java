@@ -0,0 +1,266 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.HedgingPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.LlmClientDispatcher;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.WeightedLlmClient;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch.ClientSlots.Slot;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.SharedRequestQuota;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatch;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatchSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultListener;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultMerger;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.PersistenceConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Routes every batch to the client with the fewest outstanding requests relative to its weight.
+ * <p>
+ * A batch holds {@code batchSize} file batches, as a task of the SDK's parallel execution does, and keeps the
+ * files and rules batch sizes, so the SDK makes the same requests as for the whole review. Batches are handed
+ * out one at a time as clients become free, so a slow endpoint simply receives fewer batches instead of holding
+ * back a fixed share of the review.
+ * </p>
+ * <p>
+ * A configured request quota is checked for the whole review before anything is sent, and each batch is limited
+ * to its own planned requests. Hedges and batches retried on another client are only sent while the quota has
+ * room left beyond the plan.
+ * </p>
+ * <p>
+ * With a hedging policy, a batch that is slower than the configured latency percentile is also sent to
+ * another free client, and the first successful response is used. Hedging is skipped when a persistence
+ * configuration is given: the SDK persists every request it makes, so a hedge would persist a second run of
+ * the batch.
+ * </p>
+ * <p>
+ * Clients with a circuit breaker record the outcome of every batch. Batches are not routed to a client whose
+ * circuit is open, and a batch that fails on such a client is retried once on each of the other clients.
+ * </p>
+ * <p>
+ * With a fail-fast monitor, every batch result is reported as soon as it arrives. Once the monitor trips,
+ * queued batches are skipped and the results gathered so far are thrown with a {@link ReviewStoppedException}.
+ * Running batches are interrupted, which ends those the SDK has not sent yet: a request already blocked in a
+ * socket read does not react to interrupts and runs to completion.
+ * </p>
+ * <p>
+ * A result listener receives the result of every batch as soon as it finishes, on the thread that reviewed it.
+ * </p>
+ */
+public class LeastOutstandingLlmClientDispatcherImpl implements LlmClientDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeastOutstandingLlmClientDispatcherImpl.class);
+
+    private final ReviewService reviewService;
+    private final ReviewBatchSplitter reviewBatchSplitter;
+    private final ReviewResultMerger reviewResultMerger;
+
+    public LeastOutstandingLlmClientDispatcherImpl(ReviewService reviewService,
+                                                   ReviewBatchSplitter reviewBatchSplitter,
+                                                   ReviewResultMerger reviewResultMerger) {
+        this.reviewService = reviewService;
+        this.reviewBatchSplitter = reviewBatchSplitter;
+        this.reviewResultMerger = reviewResultMerger;
+    }
+
+    @Override
+    public ReviewResult review(ReviewParameter parameter, List<WeightedLlmClient> clients,
+                               PersistenceConfiguration persistenceConfiguration, Executor executor, int batchSize,
+                               HedgingPolicy hedgingPolicy, FailFastMonitor failFastMonitor,
+                               ReviewResultListener resultListener) {
+        if (clients == null || clients.isEmpty()) {
+            throw new IllegalArgumentException("At least one LLM client is required");
+        }
+
+        final List<ReviewBatch> batches = reviewBatchSplitter.split(parameter, Math.max(1, batchSize));
+        if (batches.isEmpty()) {
+            logger.info("No files matched, reviewing the original parameter with '{}'.", clients.get(0).getName());
+            final ReviewResult result = reviewService.review(parameter, clients.get(0).getClient(), persistenceConfiguration);
+            if (resultListener != null) {
+                resultListener.onResult(result);
+            }
+            return result;
+        }
+
+        long plannedRequests = 0;
+        for (ReviewBatch batch : batches) {
+            plannedRequests += batch.getRequestCount();
+        }
+        final SharedRequestQuota requestQuota = SharedRequestQuota.of(parameter, plannedRequests);
+        logger.info("Dispatching {} batches with {} requests over {} LLM clients.", batches.size(), plannedRequests, clients.size());
+
+        final ClientSlots slots = new ClientSlots(clients);
+        if (hedgingPolicy != null && persistenceConfiguration != null) {
+            // The SDK persists inside the request, so the losing attempt of a hedged batch would be persisted too
+            logger.warn("Hedging is not supported together with a persistence configuration, every batch is sent to one client.");
+        }
+        final HedgingCoordinator hedgingCoordinator = hedgingPolicy != null && clients.size() > 1 && persistenceConfiguration == null
+                ? new HedgingCoordinator(hedgingPolicy, slots, requestQuota, (batch, slot) -> reviewBatch(batch, slot, requestQuota, persistenceConfiguration))
+                : null;
+        final RunningBatches runningBatches = failFastMonitor != null ? new RunningBatches(failFastMonitor) : null;
+        final Executor effectiveExecutor = executor != null ? executor : Runnable::run;
+        final List<CompletableFuture<ReviewResult>> futures = new ArrayList<>(batches.size());
+        final List<ReviewResult> results = new ArrayList<>(batches.size());
+        try {
+            for (ReviewBatch batch : batches) {
+                final Supplier<ReviewResult> review = () -> hedgingCoordinator != null
+                        ? hedgingCoordinator.review(batch)
+                        : reviewBatch(batch, slots, requestQuota, persistenceConfiguration, failFastMonitor);
+                final Supplier<ReviewResult> tracked = runningBatches != null ? () -> runningBatches.run(review) : review;
+                futures.add(CompletableFuture.supplyAsync(resultListener != null ? () -> notify(tracked.get(), resultListener) : tracked,
+                        effectiveExecutor));
+            }
+            for (CompletableFuture<ReviewResult> future : futures) {
+                try {
+                    results.add(future.join());
+                } catch (CompletionException | CancellationException e) {
+                    // Once the monitor has tripped, failures are the interrupted and skipped batches
+                    if (failFastMonitor == null || !failFastMonitor.isTripped()) {
+                        throw e;
+                    }
+                }
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new LlmCodeReviewMavenPluginException("Review batch failed: " + cause.getMessage(), cause);
+        } finally {
+            if (hedgingCoordinator != null) {
+                hedgingCoordinator.close();
+            }
+        }
+
+        slots.logSummary();
+        if (failFastMonitor != null && failFastMonitor.isTripped()) {
+            logger.warn("Review stopped after {} of {} batches: {}.", results.size(), batches.size(), failFastMonitor.getReason());
+            throw new ReviewStoppedException("Review stopped early: " + failFastMonitor.getReason(), reviewResultMerger.merge(results));
+        }
+        return reviewResultMerger.merge(results);
+    }
+
+    private static ReviewResult notify(ReviewResult result, ReviewResultListener resultListener) {
+        resultListener.onResult(result);
+        return result;
+    }
+
+    private ReviewResult reviewBatch(ReviewBatch batch, ClientSlots slots, SharedRequestQuota requestQuota,
+                                     PersistenceConfiguration persistenceConfiguration, FailFastMonitor failFastMonitor) {
+        final Set<Integer> failedSlots = new HashSet<>();
+        while (true) {
+            final Slot slot;
+            try {
+                slot = slots.acquire(failedSlots);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LlmCodeReviewMavenPluginException("Interrupted while waiting for a free LLM client", e);
+            }
+            final WeightedLlmClient client = slot.getClient();
+            final long startNanos = System.nanoTime();
+            try {
+                return reviewBatch(batch, slot, requestQuota, persistenceConfiguration);
+            } catch (RuntimeException e) {
+                failedSlots.add(slot.getIndex());
+                if (client.getCircuitBreaker() == null || failedSlots.size() >= slots.size()
+                        || (failFastMonitor != null && failFastMonitor.isTripped())) {
+                    throw e;
+                }
+                if (!requestQuota.tryReserve(batch.getRequestCount())) {
+                    logger.warn("Batch failed on LLM client '{}', the request quota leaves no room to retry it.", client.getName());
+                    throw e;
+                }
+                logger.warn("Batch failed on LLM client '{}', retrying with another client: {}", client.getName(), e.getMessage());
+            } finally {
+                slots.release(slot, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private ReviewResult reviewBatch(ReviewBatch batch, Slot slot, SharedRequestQuota requestQuota,
+                                     PersistenceConfiguration persistenceConfiguration) {
+        final WeightedLlmClient client = slot.getClient();
+        final CircuitBreaker circuitBreaker = client.getCircuitBreaker();
+        final ReviewParameter parameter = requestQuota.limit(batch.getParameter(), batch.getRequestCount());
+        final long startNanos = System.nanoTime();
+        try {
+            final ReviewResult result = reviewService.review(parameter, client.getClient(), persistenceConfiguration);
+            if (circuitBreaker != null) {
+                circuitBreaker.onSuccess(slot.getPermission(), System.nanoTime() - startNanos);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            // A hedged attempt cancelled by its winner says nothing about the health of the endpoint
+            if (circuitBreaker != null && !Thread.currentThread().isInterrupted()) {
+                circuitBreaker.onError(slot.getPermission(), System.nanoTime() - startNanos);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Tracks the threads running batches, so that they can be interrupted once the fail-fast monitor trips.
+     * <p>
+     * The interrupt stops a batch the SDK has not sent yet, it does not cancel an LLM request in flight.
+     * </p>
+     */
+    private static final class RunningBatches {
+
+        private final FailFastMonitor failFastMonitor;
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        private RunningBatches(FailFastMonitor failFastMonitor) {
+            this.failFastMonitor = failFastMonitor;
+        }
+
+        private ReviewResult run(Supplier<ReviewResult> review) {
+            final Thread thread = Thread.currentThread();
+            synchronized (this) {
+                if (failFastMonitor.isTripped()) {
+                    throw new CancellationException("Review stopped early");
+                }
+                threads.add(thread);
+            }
+            final ReviewResult result;
+            try {
+                result = review.get();
+            } finally {
+                synchronized (this) {
+                    threads.remove(thread);
+                    if (failFastMonitor.isTripped()) {
+                        // Do not leak the interrupt into the next task of a pooled thread
+                        Thread.interrupted();
+                    }
+                }
+            }
+            if (failFastMonitor.onBatchResult(result)) {
+                interruptAll();
+            }
+            return result;
+        }
+
+        private synchronized void interruptAll() {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+        }
+    }
+}
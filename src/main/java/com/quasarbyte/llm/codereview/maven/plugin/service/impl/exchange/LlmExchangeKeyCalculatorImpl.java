@@ -0,0 +1,87 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.exchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.quasarbyte.llm.codereview.maven.plugin.service.digest.DigestUtils;
+import com.quasarbyte.llm.codereview.maven.plugin.service.exchange.LlmExchangeKeyCalculator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Hashes the upstream base URL, the method, the path and the request body with object keys in sorted order, so that
+ * requests which only differ in key order or whitespace share a key. The base URL is reduced to its scheme, host,
+ * port and path; user info, query and fragment may carry credentials and are never part of the key.
+ */
+public class LlmExchangeKeyCalculatorImpl implements LlmExchangeKeyCalculator {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper canonicalObjectMapper;
+
+    public LlmExchangeKeyCalculatorImpl(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.canonicalObjectMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    }
+
+    @Override
+    public String calculate(String baseUrl, String method, String path, byte[] body) {
+        final MessageDigest digest = DigestUtils.newSha256();
+        DigestUtils.update(digest, "baseUrl", normalizeBaseUrl(baseUrl).getBytes(StandardCharsets.UTF_8));
+        DigestUtils.update(digest, "method", method.getBytes(StandardCharsets.UTF_8));
+        DigestUtils.update(digest, "path", path.getBytes(StandardCharsets.UTF_8));
+        DigestUtils.update(digest, "body", normalize(body));
+        return DigestUtils.toHex(digest.digest());
+    }
+
+    static String normalizeBaseUrl(String baseUrl) {
+        final URI uri;
+        try {
+            uri = new URI(baseUrl.trim());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid LLM base URL", e);
+        }
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            throw new IllegalArgumentException("The LLM base URL must be absolute");
+        }
+        final String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        final int port = uri.getPort() == defaultPort(scheme) ? -1 : uri.getPort();
+        String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + (port < 0 ? "" : ":" + port) + path;
+    }
+
+    private static int defaultPort(String scheme) {
+        if ("http".equals(scheme)) {
+            return 80;
+        }
+        return "https".equals(scheme) ? 443 : -1;
+    }
+
+    private byte[] normalize(byte[] body) {
+        if (body.length == 0) {
+            return body;
+        }
+        try {
+            JsonNode tree = objectMapper.readTree(body);
+            if (tree == null) {
+                return body;
+            }
+            // Maps are sorted on serialization, object nodes are not
+            Object value = objectMapper.treeToValue(tree, Object.class);
+            return value instanceof Map || value instanceof Iterable
+                    ? canonicalObjectMapper.writeValueAsBytes(value)
+                    : body;
+        } catch (IOException e) {
+            // Not JSON, the raw bytes are the key
+            return body;
+        }
+    }
+}
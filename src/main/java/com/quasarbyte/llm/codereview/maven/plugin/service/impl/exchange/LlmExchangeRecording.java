@@ -0,0 +1,58 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.exchange;
+
+/**
+ * A recorded LLM response as stored in the exchange cache directory.
+ */
+public class LlmExchangeRecording {
+
+    private String method;
+    private String path;
+    private int status;
+    private String contentType;
+    private String body;
+
+    public String getMethod() {
+        return method;
+    }
+
+    public LlmExchangeRecording setMethod(String method) {
+        this.method = method;
+        return this;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public LlmExchangeRecording setPath(String path) {
+        this.path = path;
+        return this;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public LlmExchangeRecording setStatus(int status) {
+        this.status = status;
+        return this;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public LlmExchangeRecording setContentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public LlmExchangeRecording setBody(String body) {
+        this.body = body;
+        return this;
+    }
+}
@@ -0,0 +1,386 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.exchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.model.LlmExchangeCacheModeEnum;
+import com.quasarbyte.llm.codereview.maven.plugin.service.digest.DigestUtils;
+import com.quasarbyte.llm.codereview.maven.plugin.service.exchange.LlmExchangeKeyCalculator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.exchange.LlmExchangeProxy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.NamedThreadFactory;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.LlmRequestRateLimiter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the LLM clients from a loopback HTTP server and forwards, records or replays their requests.
+ * <p>
+ * Every upstream base URL gets its own path prefix on the loopback server. Without a cache mode, requests are only
+ * forwarded, which lets the plugin see every HTTP request the SDK makes. Only successful responses are
+ * recorded; request headers, including credentials, are forwarded but never stored. A request without a
+ * recording fails with HTTP 404 in {@link LlmExchangeCacheModeEnum#REPLAY} mode, which clients do not retry.
+ * </p>
+ * <p>
+ * Responses are buffered completely before they are recorded and sent, so streaming requests
+ * ({@code "stream": true} or {@code Accept: text/event-stream}) are rejected with HTTP 400. The upstream
+ * connection uses the client's {@link Proxy} without credentials; a proxy that asks for authentication fails
+ * the request with a message saying so.
+ * </p>
+ * <p>
+ * A route with a rate limiter waits for it before each request is forwarded upstream; replayed requests do not
+ * reach the endpoint and are not limited. The wait counts towards the timeout of the client.
+ * </p>
+ */
+public class LoopbackLlmExchangeProxyImpl implements LlmExchangeProxy {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoopbackLlmExchangeProxyImpl.class);
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 30_000;
+    private static final int PROXY_AUTHENTICATION_REQUIRED = 407;
+    private static final String EVENT_STREAM = "text/event-stream";
+
+    // Set by HttpURLConnection itself or meaningless for the upstream connection
+    private static final Set<String> SKIPPED_REQUEST_HEADERS = new HashSet<>(Arrays.asList(
+            "host", "content-length", "connection", "transfer-encoding", "accept-encoding", "keep-alive"));
+
+    private final Path cacheDirectory;
+    private final LlmExchangeCacheModeEnum mode;
+    private final LlmExchangeKeyCalculator keyCalculator;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final AtomicInteger replayed = new AtomicInteger();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicInteger missed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService executorService;
+
+    /**
+     * Creates a gateway which only forwards requests, e.g. to apply rate limits.
+     *
+     * @param objectMapper reads the request bodies
+     */
+    public LoopbackLlmExchangeProxyImpl(ObjectMapper objectMapper) {
+        this(null, null, null, objectMapper);
+    }
+
+    /**
+     * Creates a gateway which records or replays requests.
+     *
+     * @param cacheDirectory the directory of the recordings
+     * @param mode           the cache mode, {@code null} to only forward requests
+     * @param keyCalculator  calculates the keys of the recordings
+     * @param objectMapper   reads and writes the recordings
+     */
+    public LoopbackLlmExchangeProxyImpl(Path cacheDirectory, LlmExchangeCacheModeEnum mode,
+                                        LlmExchangeKeyCalculator keyCalculator, ObjectMapper objectMapper) {
+        this.cacheDirectory = cacheDirectory;
+        this.mode = mode;
+        this.keyCalculator = keyCalculator;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String route(String baseUrl, Proxy proxy) {
+        return route(baseUrl, proxy, null);
+    }
+
+    @Override
+    public synchronized String route(String baseUrl, Proxy proxy, LlmRequestRateLimiter rateLimiter) {
+        start();
+        final String id = DigestUtils.sha256Hex(baseUrl + "\n" + proxy + "\n" + (rateLimiter != null ? rateLimiter.getKey() : "")).substring(0, 16);
+        final String trimmed = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        upstreams.putIfAbsent(id, new Upstream(trimmed, proxy, rateLimiter));
+        final String loopbackUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/" + id + (baseUrl.endsWith("/") ? "/" : "");
+        logger.info("{}: routing '{}' through {}{}", name(), baseUrl, loopbackUrl, rateLimiter != null ? " with rate limits" : "");
+        return loopbackUrl;
+    }
+
+    @Override
+    public String getSummary() {
+        if (mode == null) {
+            return String.format("%d forwarded, %d failed", forwarded.get(), failed.get());
+        }
+        return String.format("%d replayed, %d recorded, %d missing, %d failed", replayed.get(), recorded.get(), missed.get(), failed.get());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executorService.shutdownNow();
+        server = null;
+        logger.info("{}: {}", name(), getSummary());
+    }
+
+    private String name() {
+        return mode != null ? "LLM exchange cache (" + mode + ")" : "LLM gateway";
+    }
+
+    private void start() {
+        if (server != null) {
+            return;
+        }
+        try {
+            if (cacheDirectory != null) {
+                Files.createDirectories(cacheDirectory);
+            }
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new LlmCodeReviewMavenPluginException("Cannot start the LLM exchange cache: " + e.getMessage(), e);
+        }
+        executorService = Executors.newCachedThreadPool(new NamedThreadFactory("llm-code-review-exchange-"));
+        server.setExecutor(executorService);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            final String rawPath = exchange.getRequestURI().getRawPath();
+            final int slash = rawPath.indexOf('/', 1);
+            final Upstream upstream = upstreams.get(slash < 0 ? rawPath.substring(1) : rawPath.substring(1, slash));
+            if (upstream == null) {
+                sendError(exchange, 404, "Unknown LLM exchange route: " + rawPath);
+                return;
+            }
+            final String query = exchange.getRequestURI().getRawQuery();
+            final String path = (slash < 0 ? "" : rawPath.substring(slash)) + (query != null ? "?" + query : "");
+            final String method = exchange.getRequestMethod();
+            final byte[] body = readAll(exchange.getRequestBody());
+            if (isStreaming(exchange, body)) {
+                failed.incrementAndGet();
+                logger.error("{} does not support streaming responses: {} {}.", name(), method, path);
+                sendError(exchange, 400, "The " + name() + " does not support streaming responses. "
+                        + "Disable streaming in the LLM client, or remove llmExchangeCacheConfiguration and the rate limits.");
+                return;
+            }
+            if (mode == null) {
+                final LlmExchangeRecording response = forward(upstream, method, path, exchange, body);
+                forwarded.incrementAndGet();
+                send(exchange, response);
+                return;
+            }
+            final String key = keyCalculator.calculate(upstream.baseUrl, method, path, body);
+
+            if (mode != LlmExchangeCacheModeEnum.RECORD) {
+                final LlmExchangeRecording recording = read(key);
+                if (recording != null) {
+                    replayed.incrementAndGet();
+                    logger.debug("Replaying LLM exchange {} {} ({}).", method, path, key);
+                    send(exchange, recording);
+                    return;
+                }
+                if (mode == LlmExchangeCacheModeEnum.REPLAY) {
+                    missed.incrementAndGet();
+                    logger.warn("No recorded LLM exchange for {} {} ({}).", method, path, key);
+                    sendError(exchange, 404, "No recorded LLM exchange for " + method + " " + path + ", key " + key);
+                    return;
+                }
+            }
+
+            final LlmExchangeRecording response = forward(upstream, method, path, exchange, body);
+            if (response.getStatus() >= 200 && response.getStatus() < 300) {
+                write(key, response);
+                recorded.incrementAndGet();
+                logger.debug("Recorded LLM exchange {} {} ({}).", method, path, key);
+            }
+            send(exchange, response);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            // Only close() interrupts a request waiting for its rate limit, and it stops the server anyway
+            logger.warn("LLM exchange failed: {}", e.getMessage(), e);
+            try {
+                sendError(exchange, 502, "LLM exchange failed: " + e.getMessage());
+            } catch (IOException ignored) {
+                // The client has gone away
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private LlmExchangeRecording forward(Upstream upstream, String method, String path, HttpExchange exchange, byte[] body)
+            throws IOException, InterruptedException {
+        if (upstream.rateLimiter != null) {
+            upstream.rateLimiter.acquire(body);
+        }
+        final URL url = new URL(upstream.baseUrl + path);
+        final HttpURLConnection connection = (HttpURLConnection) (upstream.proxy != null ? url.openConnection(upstream.proxy) : url.openConnection());
+        try {
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            // The client enforces its own timeout and closes the loopback connection when it expires
+            connection.setReadTimeout(0);
+            connection.setRequestMethod(method);
+            for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+                if (SKIPPED_REQUEST_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                    continue;
+                }
+                for (String value : header.getValue()) {
+                    connection.addRequestProperty(header.getKey(), value);
+                }
+            }
+            connection.setRequestProperty("Accept-Encoding", "identity");
+            if (body.length > 0) {
+                connection.setDoOutput(true);
+                connection.setFixedLengthStreamingMode(body.length);
+                try (OutputStream outputStream = connection.getOutputStream()) {
+                    outputStream.write(body);
+                }
+            }
+
+            final int status;
+            try {
+                status = connection.getResponseCode();
+            } catch (IOException e) {
+                // HttpURLConnection reports a 407 answer to an HTTPS CONNECT as an IOException
+                if (upstream.proxy != null && String.valueOf(e.getMessage()).contains(String.valueOf(PROXY_AUTHENTICATION_REQUIRED))) {
+                    throw proxyAuthenticationRequired(upstream, e);
+                }
+                throw e;
+            }
+            if (status == PROXY_AUTHENTICATION_REQUIRED) {
+                throw proxyAuthenticationRequired(upstream, null);
+            }
+            final InputStream inputStream = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            final byte[] responseBody = inputStream != null ? readAll(inputStream) : new byte[0];
+            return new LlmExchangeRecording()
+                    .setMethod(method)
+                    .setPath(path)
+                    .setStatus(status)
+                    .setContentType(connection.getContentType())
+                    .setBody(new String(responseBody, StandardCharsets.UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private boolean isStreaming(HttpExchange exchange, byte[] body) {
+        for (String accept : exchange.getRequestHeaders().getOrDefault("Accept", Collections.<String>emptyList())) {
+            if (accept.toLowerCase(Locale.ROOT).contains(EVENT_STREAM)) {
+                return true;
+            }
+        }
+        if (body.length == 0 || body[0] != '{') {
+            return false;
+        }
+        try {
+            final JsonNode stream = objectMapper.readTree(body).get("stream");
+            return stream != null && stream.asBoolean(false);
+        } catch (IOException e) {
+            // Not JSON, forwarded as it is
+            return false;
+        }
+    }
+
+    private static LlmCodeReviewMavenPluginException proxyAuthenticationRequired(Upstream upstream, Exception cause) {
+        return new LlmCodeReviewMavenPluginException("The proxy " + upstream.proxy.address() + " of '" + upstream.baseUrl
+                + "' requires authentication, which the LLM exchange cache does not support. "
+                + "Use a proxy without authentication or remove llmExchangeCacheConfiguration.", cause);
+    }
+
+    private LlmExchangeRecording read(String key) throws IOException {
+        final Path file = fileOf(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        return objectMapper.readValue(file.toFile(), LlmExchangeRecording.class);
+    }
+
+    private void write(String key, LlmExchangeRecording recording) throws IOException {
+        final Path file = fileOf(key);
+        Files.createDirectories(file.getParent());
+        final Path temporary = Files.createTempFile(file.getParent(), key, ".tmp");
+        try {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), recording);
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private Path fileOf(String key) {
+        return cacheDirectory.resolve(key.substring(0, 2)).resolve(key + ".json");
+    }
+
+    private static void send(HttpExchange exchange, LlmExchangeRecording recording) throws IOException {
+        final byte[] body = recording.getBody() != null ? recording.getBody().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (recording.getContentType() != null) {
+            exchange.getResponseHeaders().set("Content-Type", recording.getContentType());
+        }
+        exchange.sendResponseHeaders(recording.getStatus(), body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        final String body = objectMapper.writeValueAsString(
+                objectMapper.createObjectNode().set("error", objectMapper.createObjectNode().put("message", message)));
+        send(exchange, new LlmExchangeRecording().setStatus(status).setContentType("application/json").setBody(body));
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        try (InputStream in = inputStream) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static final class Upstream {
+
+        private final String baseUrl;
+        private final Proxy proxy;
+        private final LlmRequestRateLimiter rateLimiter;
+
+        private Upstream(String baseUrl, Proxy proxy, LlmRequestRateLimiter rateLimiter) {
+            this.baseUrl = baseUrl;
+            this.proxy = proxy;
+            this.rateLimiter = rateLimiter;
+        }
+    }
+}
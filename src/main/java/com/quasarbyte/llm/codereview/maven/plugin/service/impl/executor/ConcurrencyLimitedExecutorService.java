@@ -0,0 +1,120 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.concurrency.ConcurrencyLimiter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.concurrency.OverloadClassifier;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every task of the delegate executor under a {@link ConcurrencyLimiter}.
+ * <p>
+ * Tasks wait for the limiter on their worker thread. Tasks submitted as {@link Callable} or {@link Runnable}
+ * through {@code submit} report failures to the limiter; for tasks passed to {@link #execute(Runnable)} that
+ * handle their own failures only the latency is observed.
+ * </p>
+ */
+public class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final ConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedExecutorService(ExecutorService delegate, ConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new LimitedTask<>(() -> call(callable));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new LimitedTask<>(() -> call(() -> {
+            runnable.run();
+            return value;
+        }));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        if (command instanceof LimitedTask) {
+            delegate.execute(command);
+            return;
+        }
+        delegate.execute(() -> {
+            try {
+                call(() -> {
+                    command.run();
+                    return null;
+                });
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private <T> T call(Callable<T> callable) throws Exception {
+        final long startNanos;
+        try {
+            startNanos = limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the concurrency limiter", e);
+        }
+        ConcurrencyLimiter.Outcome outcome = ConcurrencyLimiter.Outcome.FAILURE;
+        try {
+            T result = callable.call();
+            outcome = ConcurrencyLimiter.Outcome.SUCCESS;
+            return result;
+        } catch (Exception | Error e) {
+            outcome = OverloadClassifier.isOverload(e) ? ConcurrencyLimiter.Outcome.OVERLOAD : ConcurrencyLimiter.Outcome.FAILURE;
+            throw e;
+        } finally {
+            limiter.release(startNanos, outcome);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    private static final class LimitedTask<T> extends FutureTask<T> {
+        private LimitedTask(Callable<T> callable) {
+            super(callable);
+        }
+    }
+}
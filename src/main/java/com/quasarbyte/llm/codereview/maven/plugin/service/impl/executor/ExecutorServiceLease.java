@@ -0,0 +1,111 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * View of a shared pool handed to a single plugin execution.
+ * <p>
+ * Shutting the lease down releases it and rejects further tasks, the pool itself keeps running. Termination
+ * means that all tasks submitted through this lease have finished.
+ * </p>
+ */
+class ExecutorServiceLease extends AbstractExecutorService {
+
+    private final ManagedExecutorService pool;
+    private final Object monitor = new Object();
+    private int pending;
+    private boolean released;
+
+    ExecutorServiceLease(ManagedExecutorService pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        synchronized (monitor) {
+            if (released) {
+                throw new RejectedExecutionException("Executor service lease of pool '" + pool.getKey() + "' has been released");
+            }
+            pending++;
+        }
+        try {
+            pool.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    taskFinished();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            taskFinished();
+            throw e;
+        }
+    }
+
+    private void taskFinished() {
+        synchronized (monitor) {
+            pending--;
+            if (pending == 0) {
+                monitor.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (monitor) {
+            if (released) {
+                return;
+            }
+            released = true;
+        }
+        pool.release();
+    }
+
+    /**
+     * Releases the lease. Tasks already handed to the shared pool are only interrupted if no other execution
+     * leases the pool, since they cannot be told apart from tasks of other leases.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        pool.shutdownNowIfNotLeased();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (monitor) {
+            return released;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        synchronized (monitor) {
+            return released && pending == 0;
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (monitor) {
+            while (!(released && pending == 0)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+            }
+            return true;
+        }
+    }
+}
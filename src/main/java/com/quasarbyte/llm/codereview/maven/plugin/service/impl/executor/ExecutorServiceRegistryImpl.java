@@ -0,0 +1,111 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.executor.ExecutorServiceRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.executor.ExecutorServiceStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Registry of shared pools keyed by their configuration.
+ * <p>
+ * Pools are created lazily and shared by the executions leasing them at the same time, e.g. the modules of a
+ * parallel reactor build. A pool is shut down and removed as soon as its last lease is released, so no pool
+ * outlives the executions using it, whatever the order of the modules or the lifetime of the class loader.
+ * A JVM shutdown hook drains pools which are still leased when Maven exits.
+ * </p>
+ */
+public class ExecutorServiceRegistryImpl implements ExecutorServiceRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorServiceRegistryImpl.class);
+
+    private final Map<String, ManagedExecutorService> pools = new LinkedHashMap<>();
+    private final long shutdownHookDrainTimeoutMillis;
+    private boolean shutdownHookRegistered;
+
+    public ExecutorServiceRegistryImpl(long shutdownHookDrainTimeoutMillis) {
+        this.shutdownHookDrainTimeoutMillis = shutdownHookDrainTimeoutMillis;
+    }
+
+    @Override
+    public synchronized ExecutorService lease(String key, Supplier<ExecutorService> factory) {
+        ManagedExecutorService pool = pools.get(key);
+        if (pool != null && pool.retain()) {
+            logger.debug("Reusing shared executor service '{}'", key);
+            return new ExecutorServiceLease(pool);
+        }
+        pool = new ManagedExecutorService(key, factory.get(), this::removeIdlePool);
+        pools.put(key, pool);
+        registerShutdownHook();
+        logger.debug("Created shared executor service '{}'", key);
+        pool.retain();
+        return new ExecutorServiceLease(pool);
+    }
+
+    private synchronized void removeIdlePool(ManagedExecutorService pool) {
+        if (pools.get(pool.getKey()) == pool) {
+            pools.remove(pool.getKey());
+        }
+        logger.debug("Executor service '{}' is no longer leased and has been shut down", pool.getKey());
+    }
+
+    @Override
+    public synchronized List<ExecutorServiceStatistics> getStatistics() {
+        List<ExecutorServiceStatistics> statistics = new ArrayList<>(pools.size());
+        for (ManagedExecutorService pool : pools.values()) {
+            statistics.add(pool.getStatistics());
+        }
+        return statistics;
+    }
+
+    @Override
+    public void shutdown(long drainTimeoutMillis) {
+        List<ManagedExecutorService> idlePools = new ArrayList<>();
+        synchronized (this) {
+            for (ManagedExecutorService pool : pools.values()) {
+                if (pool.closeWhenReleased()) {
+                    idlePools.add(pool);
+                } else {
+                    logger.debug("Executor service '{}' is still leased, it will be shut down when released", pool.getKey());
+                }
+            }
+            pools.clear();
+        }
+
+        for (ManagedExecutorService pool : idlePools) {
+            try {
+                if (!pool.awaitTermination(drainTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    List<Runnable> cancelled = pool.shutdownNow();
+                    logger.warn("Executor service '{}' did not terminate within {} ms, {} queued tasks cancelled",
+                            pool.getKey(), drainTimeoutMillis, cancelled.size());
+                } else {
+                    logger.debug("Executor service '{}' terminated", pool.getKey());
+                }
+            } catch (InterruptedException e) {
+                pool.shutdownNow();
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void registerShutdownHook() {
+        if (shutdownHookRegistered) {
+            return;
+        }
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(shutdownHookDrainTimeoutMillis),
+                    "llm-code-review-executor-shutdown"));
+            shutdownHookRegistered = true;
+        } catch (IllegalStateException e) {
+            logger.debug("JVM is shutting down, executor shutdown hook not registered");
+        }
+    }
+}
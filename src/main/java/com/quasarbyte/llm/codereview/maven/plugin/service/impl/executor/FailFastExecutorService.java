@@ -0,0 +1,96 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the queued tasks of the delegate executor once a {@link FailFastMonitor} trips.
+ * <p>
+ * Tasks submitted through {@code submit} or {@code invoke*} are cancelled instead of run when a worker picks them
+ * up after the monitor tripped, so a review waiting for them fails at once without sending their requests. Tasks
+ * passed to {@link #execute(Runnable)} cannot be completed from outside: they are rejected once the monitor has
+ * tripped, and run as usual if they were queued before. Tasks already running are not interrupted.
+ * </p>
+ */
+public class FailFastExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final FailFastMonitor failFastMonitor;
+
+    public FailFastExecutorService(ExecutorService delegate, FailFastMonitor failFastMonitor) {
+        this.delegate = delegate;
+        this.failFastMonitor = failFastMonitor;
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new GatedTask<>(callable);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new GatedTask<>(() -> {
+            runnable.run();
+            return value;
+        });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        if (!(command instanceof GatedTask) && failFastMonitor.isTripped()) {
+            throw new RejectedExecutionException("Review stopped early: " + failFastMonitor.getReason());
+        }
+        delegate.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    private final class GatedTask<T> extends FutureTask<T> {
+        private GatedTask(Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            if (failFastMonitor.isTripped()) {
+                cancel(false);
+                return;
+            }
+            super.run();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.executor.ExecutorServiceStatistics;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Shared pool owned by {@link ExecutorServiceRegistryImpl}, counting its tasks and leases.
+ * <p>
+ * The pool is shut down as soon as its last lease is released; queued and running tasks still complete.
+ * A pool which has been shut down cannot be leased again.
+ * </p>
+ */
+class ManagedExecutorService extends AbstractExecutorService {
+
+    private final String key;
+    private final ExecutorService delegate;
+    private final Consumer<ManagedExecutorService> idleListener;
+    private final AtomicInteger leases = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private boolean closed;
+
+    ManagedExecutorService(String key, ExecutorService delegate, Consumer<ManagedExecutorService> idleListener) {
+        this.key = key;
+        this.delegate = delegate;
+        this.idleListener = idleListener;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * Adds a lease.
+     * @return {@code false} if the pool has already been shut down and must be replaced
+     */
+    synchronized boolean retain() {
+        if (closed) {
+            return false;
+        }
+        leases.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes a lease and shuts the pool down if it was the last one.
+     */
+    void release() {
+        synchronized (this) {
+            if (leases.decrementAndGet() > 0) {
+                return;
+            }
+            closed = true;
+            delegate.shutdown();
+        }
+        idleListener.accept(this);
+    }
+
+    /**
+     * Cancels the remaining tasks, unless the pool is still leased by another execution whose tasks cannot be
+     * told apart.
+     * @return {@code true} if the pool was not leased and has been shut down now
+     */
+    synchronized boolean shutdownNowIfNotLeased() {
+        if (leases.get() > 0) {
+            return false;
+        }
+        closed = true;
+        delegate.shutdownNow();
+        return true;
+    }
+
+    /**
+     * Stops accepting leases and shuts the pool down once it is no longer leased.
+     * @return {@code true} if the pool was idle and has been shut down immediately
+     */
+    synchronized boolean closeWhenReleased() {
+        closed = true;
+        if (leases.get() == 0) {
+            delegate.shutdown();
+            return true;
+        }
+        return false;
+    }
+
+    ExecutorServiceStatistics getStatistics() {
+        long completedCount = completed.get();
+        long startedCount = started.get();
+        return new ExecutorServiceStatistics(key, leases.get(), startedCount - completedCount,
+                Math.max(0, submitted.get() - startedCount), completedCount);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        submitted.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                started.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    completed.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            submitted.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,101 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many tasks of an unbounded executor run at the same time.
+ * <p>
+ * Tasks are handed to the delegate immediately and wait for a permit on their own thread, so submitting never
+ * blocks. This is meant for virtual threads, where a waiting thread is cheap; concurrency is bounded by the
+ * number of permits rather than by the number of threads.
+ * </p>
+ */
+public class SemaphoreBoundedExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore semaphore;
+    private final int permits;
+
+    public SemaphoreBoundedExecutorService(ExecutorService delegate, int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        this.delegate = delegate;
+        this.permits = permits;
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        delegate.execute(() -> {
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for a permit", e);
+            }
+            try {
+                command.run();
+            } finally {
+                semaphore.release();
+            }
+        });
+    }
+
+    /**
+     * Gets the maximum number of concurrently running tasks.
+     * @return the number of permits
+     */
+    public int getPermits() {
+        return permits;
+    }
+
+    /**
+     * Gets the number of tasks currently running.
+     * @return the number of acquired permits
+     */
+    public int getActiveCount() {
+        return permits - semaphore.availablePermits();
+    }
+
+    /**
+     * Gets the estimated number of tasks waiting for a permit.
+     * @return the number of waiting tasks
+     */
+    public int getQueueLength() {
+        return semaphore.getQueueLength();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
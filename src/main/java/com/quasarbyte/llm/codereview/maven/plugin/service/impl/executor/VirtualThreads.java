@@ -0,0 +1,35 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Access to virtual threads.
+ * <p>
+ * This is the Java 8 variant, reporting that virtual threads are not available. The plugin is a multi-release JAR
+ * and on Java 21 and newer the variant from {@code META-INF/versions/21} is loaded instead.
+ * </p>
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Checks whether virtual threads are available in the running JVM.
+     * @return {@code true} if virtual threads can be created
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task.
+     * @param namePrefix the prefix of thread names
+     * @return the executor
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+    }
+}
@@ -0,0 +1,136 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.failfast;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastReviewService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.SharedRequestQuota;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatch;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatchSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultMerger;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Sends every file batch of the review to the reviewer as a separate review and starts no further batch once the
+ * monitor trips.
+ * <p>
+ * A batch holds the {@code filesBatchSize} files the SDK sends in one request, so the SDK keeps its batching and
+ * makes the same requests as for the whole review; its parallel execution spreads the rules batches of a batch,
+ * while up to the given concurrency of batches run at once. The request quota of the review is shared by all
+ * batches. The SDK persists every batch as a run of its own.
+ * </p>
+ * <p>
+ * Batches still waiting for a permit when the monitor trips are never started; requests queued inside running
+ * batches are drained by a {@link com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.FailFastExecutorService}
+ * around the SDK executor, and their failures are ignored.
+ * </p>
+ */
+public class BatchFailFastReviewServiceImpl implements FailFastReviewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchFailFastReviewServiceImpl.class);
+
+    private final ReviewBatchSplitter reviewBatchSplitter;
+    private final ReviewResultMerger reviewResultMerger;
+
+    public BatchFailFastReviewServiceImpl(ReviewBatchSplitter reviewBatchSplitter,
+                                          ReviewResultMerger reviewResultMerger) {
+        this.reviewBatchSplitter = reviewBatchSplitter;
+        this.reviewResultMerger = reviewResultMerger;
+        logger.debug("BatchFailFastReviewServiceImpl initialized.");
+    }
+
+    @Override
+    public ReviewResult review(ReviewParameter parameter, Function<ReviewParameter, ReviewResult> reviewer, FailFastMonitor failFastMonitor,
+                               Executor executor, int concurrency) {
+        if (failFastMonitor.isTripped()) {
+            throw new ReviewStoppedException("Review stopped early: " + failFastMonitor.getReason(), null);
+        }
+        final List<ReviewBatch> batches = reviewBatchSplitter.split(parameter, 1);
+        if (batches.isEmpty()) {
+            logger.info("No files matched, reviewing the original parameter.");
+            final ReviewResult result = reviewer.apply(parameter);
+            failFastMonitor.onBatchResult(result);
+            return result;
+        }
+
+        long plannedRequests = 0;
+        for (ReviewBatch batch : batches) {
+            plannedRequests += batch.getRequestCount();
+        }
+        final SharedRequestQuota requestQuota = SharedRequestQuota.of(parameter, plannedRequests);
+        logger.info("Reviewing {} batches with fail fast, {} at a time.", batches.size(), Math.max(1, concurrency));
+
+        final AtomicReferenceArray<ReviewResult> results = new AtomicReferenceArray<>(batches.size());
+        final Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(batches.size());
+        final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        try {
+            for (int i = 0; i < batches.size(); i++) {
+                permits.acquire();
+                if (failFastMonitor.isTripped() || firstFailure.isDone()) {
+                    permits.release();
+                    break;
+                }
+                final int index = i;
+                final ReviewBatch batch = batches.get(i);
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        final ReviewResult result = reviewer.apply(requestQuota.limit(batch.getParameter(), batch.getRequestCount()));
+                        results.set(index, result);
+                        failFastMonitor.onBatchResult(result);
+                    } catch (RuntimeException | Error e) {
+                        firstFailure.completeExceptionally(e);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmCodeReviewMavenPluginException("Interrupted while reviewing batches.", e);
+        }
+
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    final Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    failure = cause instanceof RuntimeException ? (RuntimeException) cause
+                            : new LlmCodeReviewMavenPluginException("Review batch failed: " + cause.getMessage(), cause);
+                }
+            }
+        }
+
+        final List<ReviewResult> finished = new ArrayList<>(batches.size());
+        for (int i = 0; i < batches.size(); i++) {
+            if (results.get(i) != null) {
+                finished.add(results.get(i));
+            }
+        }
+        if (failFastMonitor.isTripped() && finished.size() < batches.size()) {
+            // Once the monitor has tripped, failures are the batches whose queued requests were drained
+            logger.warn("Review stopped after {} of {} batches: {}.", finished.size(), batches.size(), failFastMonitor.getReason());
+            throw new ReviewStoppedException("Review stopped early: " + failFastMonitor.getReason(),
+                    finished.isEmpty() ? null : reviewResultMerger.merge(finished));
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return reviewResultMerger.merge(finished);
+    }
+}
@@ -0,0 +1,74 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.failfast;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import com.quasarbyte.llm.codereview.sdk.model.statistics.SeverityStatistics;
+import com.quasarbyte.llm.codereview.sdk.service.SeverityStatisticsCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps running severity counts over the batch results and trips as soon as the build failure thresholds
+ * are reached.
+ * <p>
+ * The thresholds have the meaning of {@code PBuildFailureConfiguration}: a count greater than or equal to
+ * a positive threshold fails the build, a missing or non-positive threshold never does.
+ * </p>
+ */
+public class SeverityThresholdFailFastMonitorImpl implements FailFastMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeverityThresholdFailFastMonitorImpl.class);
+
+    private final SeverityStatisticsCalculator severityStatisticsCalculator;
+    private final Integer warningThreshold;
+    private final Integer criticalThreshold;
+
+    private long warningCount;
+    private long criticalCount;
+    private String reason;
+
+    public SeverityThresholdFailFastMonitorImpl(SeverityStatisticsCalculator severityStatisticsCalculator,
+                                                Integer warningThreshold, Integer criticalThreshold) {
+        this.severityStatisticsCalculator = severityStatisticsCalculator;
+        this.warningThreshold = warningThreshold;
+        this.criticalThreshold = criticalThreshold;
+    }
+
+    @Override
+    public boolean onBatchResult(ReviewResult result) {
+        final SeverityStatistics statistics = severityStatisticsCalculator.calculate(result);
+        final long batchWarningCount = statistics.getWarningCount();
+        final long batchCriticalCount = statistics.getCriticalCount();
+        synchronized (this) {
+            warningCount += batchWarningCount;
+            criticalCount += batchCriticalCount;
+            if (reason != null) {
+                return false;
+            }
+            if (reached(criticalCount, criticalThreshold)) {
+                reason = String.format("%d critical findings reached the threshold of %d", criticalCount, criticalThreshold);
+            } else if (reached(warningCount, warningThreshold)) {
+                reason = String.format("%d warnings reached the threshold of %d", warningCount, warningThreshold);
+            } else {
+                logger.debug("Running severity counts: WarningCount={}, CriticalCount={}", warningCount, criticalCount);
+                return false;
+            }
+        }
+        logger.warn("Fail fast: {}, stopping the review.", reason);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isTripped() {
+        return reason != null;
+    }
+
+    @Override
+    public synchronized String getReason() {
+        return reason;
+    }
+
+    private static boolean reached(long count, Integer threshold) {
+        return threshold != null && threshold > 0 && count >= threshold;
+    }
+}
@@ -0,0 +1,118 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.git;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.git.ChangedFilesDetector;
+import org.eclipse.jgit.dircache.DirCacheIterator;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.FileTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.NotIgnoredFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Reads the local {@code .git} directory with JGit, no {@code git} executable is required.
+ * <p>
+ * The working tree is compared through the index, so files whose stat data matches the index are not
+ * re-hashed and unchanged files cost no I/O beyond a {@code stat} call.
+ * </p>
+ */
+public class JGitChangedFilesDetectorImpl implements ChangedFilesDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(JGitChangedFilesDetectorImpl.class);
+
+    @Override
+    public Set<Path> findChangedFiles(Path repositoryDirectory, String baseRef, boolean useMergeBase, boolean includeUncommittedChanges) throws IOException {
+        FileRepositoryBuilder builder = new FileRepositoryBuilder().findGitDir(repositoryDirectory.toAbsolutePath().toFile());
+        if (builder.getGitDir() == null) {
+            throw new LlmCodeReviewMavenPluginException(String.format("No Git repository found at or above '%s'", repositoryDirectory.toAbsolutePath()));
+        }
+
+        try (Repository repository = builder.setMustExist(true).build()) {
+            if (repository.isBare()) {
+                throw new LlmCodeReviewMavenPluginException(String.format("Git repository '%s' has no working tree", repository.getDirectory()));
+            }
+
+            final Path workTree = repository.getWorkTree().toPath().toAbsolutePath().normalize();
+            final ObjectId baseTreeId;
+            final ObjectId headTreeId;
+
+            try (RevWalk revWalk = new RevWalk(repository)) {
+                RevCommit baseCommit = revWalk.parseCommit(resolveCommit(repository, baseRef));
+                RevCommit headCommit = revWalk.parseCommit(resolveCommit(repository, Constants.HEAD));
+                headTreeId = headCommit.getTree();
+
+                if (useMergeBase) {
+                    revWalk.setRevFilter(RevFilter.MERGE_BASE);
+                    revWalk.markStart(baseCommit);
+                    revWalk.markStart(headCommit);
+                    RevCommit mergeBase = revWalk.next();
+                    if (mergeBase == null) {
+                        throw new LlmCodeReviewMavenPluginException(String.format("No merge-base found between '%s' and HEAD", baseRef));
+                    }
+                    logger.info("Using merge-base '{}' of '{}' and HEAD.", mergeBase.abbreviate(10).name(), baseRef);
+                    baseCommit = mergeBase;
+                }
+                baseTreeId = revWalk.parseCommit(baseCommit).getTree();
+            }
+
+            final Set<Path> changedFiles = new LinkedHashSet<>();
+
+            try (TreeWalk treeWalk = new TreeWalk(repository)) {
+                treeWalk.setRecursive(true);
+                final int baseIndex = treeWalk.addTree(baseTreeId);
+                final int currentIndex;
+
+                if (includeUncommittedChanges) {
+                    int dirCacheIndex = treeWalk.addTree(new DirCacheIterator(repository.readDirCache()));
+                    FileTreeIterator workTreeIterator = new FileTreeIterator(repository);
+                    currentIndex = treeWalk.addTree(workTreeIterator);
+                    // Lets the working tree iterator take object ids from the index for stat-clean files
+                    workTreeIterator.setDirCacheIterator(treeWalk, dirCacheIndex);
+                    treeWalk.setFilter(AndTreeFilter.create(TreeFilter.ANY_DIFF, new NotIgnoredFilter(currentIndex)));
+                } else {
+                    currentIndex = treeWalk.addTree(headTreeId);
+                    treeWalk.setFilter(TreeFilter.ANY_DIFF);
+                }
+
+                while (treeWalk.next()) {
+                    FileMode mode = treeWalk.getFileMode(currentIndex);
+                    if (mode != FileMode.REGULAR_FILE && mode != FileMode.EXECUTABLE_FILE) {
+                        // Deleted files, symbolic links and submodules cannot be reviewed
+                        continue;
+                    }
+                    if (treeWalk.getFileMode(baseIndex) == mode && treeWalk.idEqual(baseIndex, currentIndex)) {
+                        // Only the index differs, the content is the same as in the base
+                        continue;
+                    }
+                    changedFiles.add(workTree.resolve(treeWalk.getPathString()).normalize());
+                }
+            }
+
+            logger.info("Found {} changed files relative to '{}'.", changedFiles.size(), baseRef);
+            return changedFiles;
+        }
+    }
+
+    private static ObjectId resolveCommit(Repository repository, String ref) throws IOException {
+        ObjectId commitId = repository.resolve(ref + "^{commit}");
+        if (commitId == null) {
+            throw new LlmCodeReviewMavenPluginException(String.format("Cannot resolve Git ref '%s'; make sure it is fetched locally", ref));
+        }
+        return commitId;
+    }
+}
@@ -0,0 +1,58 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.ResourceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link ResourceLoader} decorator that keeps every loaded resource for the lifetime of the loader.
+ * <p>
+ * Meant for the small resources a plugin execution's configuration references, such as Rhino scripts, which are
+ * preloaded once and then resolved by the mappers. Failed loads are not cached and streams are not buffered.
+ * </p>
+ */
+public class CachingResourceLoaderImpl implements ResourceLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingResourceLoaderImpl.class);
+
+    private final ResourceLoader delegate;
+    private final ConcurrentMap<String, String> resources = new ConcurrentHashMap<>();
+
+    public CachingResourceLoaderImpl(ResourceLoader delegate) {
+        this.delegate = delegate;
+        logger.debug("CachingResourceLoaderImpl initialized.");
+    }
+
+    @Override
+    public String load(String location) throws IOException {
+        return load(location, null);
+    }
+
+    @Override
+    public String load(String location, String codePage) throws IOException {
+        if (location == null) {
+            return delegate.load(null, codePage);
+        }
+        final String key = (codePage != null ? codePage.trim() : "") + ":" + location.trim();
+        final String cached = resources.get(key);
+        if (cached != null) {
+            logger.debug("Resource cache hit for '{}'.", location);
+            return cached;
+        }
+        final String resource = delegate.load(location, codePage);
+        if (resource != null) {
+            resources.put(key, resource);
+        }
+        return resource;
+    }
+
+    @Override
+    public InputStream openStream(String location) throws IOException {
+        return delegate.openStream(location);
+    }
+}
@@ -0,0 +1,143 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
+import com.quasarbyte.llm.codereview.maven.plugin.service.parser.PRulesXmlParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * StAX based {@link PRulesXmlParser} that reads {@code <rule>} elements one by one without building a document tree.
+ * <p>
+ * A root element other than {@code <rules>} is reported as an error, as the JAXB mapping of {@code PRuleList} cannot
+ * read it into a rule list either. Unknown elements are skipped, as JAXB does.
+ * </p>
+ */
+public class StaxPRulesXmlParserImpl implements PRulesXmlParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaxPRulesXmlParserImpl.class);
+
+    private static final String RULES_ELEMENT = "rules";
+    private static final String RULE_ELEMENT = "rule";
+    private static final String CODE_ELEMENT = "code";
+    private static final String DESCRIPTION_ELEMENT = "description";
+    private static final String SEVERITY_ELEMENT = "severity";
+
+    private final XMLInputFactory inputFactory;
+
+    public StaxPRulesXmlParserImpl() {
+        this.inputFactory = XMLInputFactory.newInstance();
+        this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        this.inputFactory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        logger.debug("StaxPRulesXmlParserImpl initialized.");
+    }
+
+    @Override
+    public List<PRule> parseRules(String xml) throws Exception {
+        logger.info("Parsing rules from XML. XML length: {}", xml != null ? xml.length() : "null");
+
+        if (xml == null) {
+            return Collections.emptyList();
+        }
+
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(new StringReader(xml));
+        try {
+            moveToRulesElement(reader);
+            return readRules(reader);
+        } catch (XMLStreamException e) {
+            logger.error("Failed to parse rules from XML: {}", e.getMessage(), e);
+            throw e;
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Override
+    public List<PRule> parseRules(InputStream xml) throws Exception {
+        logger.info("Parsing rules from XML stream.");
+
+        if (xml == null) {
+            return Collections.emptyList();
+        }
+
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(xml);
+        try {
+            moveToRulesElement(reader);
+            return readRules(reader);
+        } catch (XMLStreamException e) {
+            logger.error("Failed to parse rules from XML: {}", e.getMessage(), e);
+            throw e;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void moveToRulesElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                if (!isElement(reader, RULES_ELEMENT)) {
+                    throw new XMLStreamException(String.format("Unexpected root element '%s', expected <%s>",
+                            reader.getName(), RULES_ELEMENT), reader.getLocation());
+                }
+                return;
+            }
+        }
+        throw new XMLStreamException(String.format("No root element, expected <%s>", RULES_ELEMENT), reader.getLocation());
+    }
+
+    private static List<PRule> readRules(XMLStreamReader reader) throws XMLStreamException {
+        List<PRule> rules = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isElement(reader, RULE_ELEMENT)) {
+                rules.add(readRule(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        logger.info("Successfully parsed {} rules from XML.", rules.size());
+        return rules;
+    }
+
+    private static PRule readRule(XMLStreamReader reader) throws XMLStreamException {
+        PRule rule = new PRule();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (isElement(reader, CODE_ELEMENT)) {
+                rule.setCode(reader.getElementText());
+            } else if (isElement(reader, DESCRIPTION_ELEMENT)) {
+                rule.setDescription(reader.getElementText());
+            } else if (isElement(reader, SEVERITY_ELEMENT)) {
+                rule.setSeverity(reader.getElementText());
+            } else {
+                skipElement(reader);
+            }
+        }
+        return rule;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean isElement(XMLStreamReader reader, String localName) {
+        String namespaceUri = reader.getNamespaceURI();
+        return localName.equals(reader.getLocalName()) && (namespaceUri == null || namespaceUri.isEmpty());
+    }
+}
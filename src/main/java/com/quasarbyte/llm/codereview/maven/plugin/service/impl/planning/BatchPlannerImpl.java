@@ -0,0 +1,308 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.planning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.FileGroupPathResolver;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterCopyUtils;
+import com.quasarbyte.llm.codereview.maven.plugin.service.planning.BatchBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.planning.BatchPlan;
+import com.quasarbyte.llm.codereview.maven.plugin.service.planning.BatchPlanner;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.FileGroupCharsets.charsetOf;
+
+/**
+ * Plans batches in two steps.
+ * <p>
+ * The rules batch size is global for the review parameter, so every distinct number of rule batches is tried
+ * and the one with the fewest requests in total wins. For a given rules batch size the largest rule batch of
+ * a file group determines how many tokens are left for files; the files are then packed first-fit decreasing
+ * into bins of that capacity. Every bin becomes a file group with explicit paths whose {@code filesBatchSize}
+ * equals the number of its files, so the SDK sends each bin as one request per rule batch.
+ * </p>
+ */
+public class BatchPlannerImpl implements BatchPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchPlannerImpl.class);
+
+    private final FileGroupPathResolver fileGroupPathResolver;
+    private final TokenEstimator tokenEstimator;
+    private final ObjectMapper objectMapper;
+
+    public BatchPlannerImpl(FileGroupPathResolver fileGroupPathResolver, TokenEstimator tokenEstimator, ObjectMapper objectMapper) {
+        this.fileGroupPathResolver = fileGroupPathResolver;
+        this.tokenEstimator = tokenEstimator;
+        this.objectMapper = objectMapper;
+        logger.debug("BatchPlannerImpl initialized.");
+    }
+
+    @Override
+    public BatchPlan plan(ReviewParameter parameter, BatchBudget budget) throws IOException {
+        final List<GroupProfile> profiles = new ArrayList<>();
+        int maxRules = 0;
+
+        if (parameter.getTargets() != null) {
+            for (ReviewTarget target : parameter.getTargets()) {
+                if (target == null || target.getFileGroups() == null) {
+                    continue;
+                }
+                for (FileGroup fileGroup : target.getFileGroups()) {
+                    if (fileGroup == null) {
+                        continue;
+                    }
+                    GroupProfile profile = profile(parameter, target, fileGroup, budget);
+                    profiles.add(profile);
+                    maxRules = Math.max(maxRules, profile.ruleTokensPrefix.length - 1);
+                }
+            }
+        }
+
+        // Only rules batch sizes giving a distinct number of batches for the largest rule set are worth trying;
+        // a rules batch size of one always fits, so there is always a result
+        final TreeSet<Integer> candidates = new TreeSet<>(Comparator.reverseOrder());
+        for (int batches = 1; batches <= Math.max(1, maxRules); batches++) {
+            candidates.add(Math.max(1, ceilDiv(maxRules, batches)));
+        }
+
+        int bestRulesBatchSize = 1;
+        long bestRequests = Long.MAX_VALUE;
+        for (int rulesBatchSize : candidates) {
+            if (!fits(profiles, rulesBatchSize, budget)) {
+                logger.debug("Rules batch size {} leaves too little room for the largest files.", rulesBatchSize);
+                continue;
+            }
+            long requests = 0;
+            for (GroupProfile profile : profiles) {
+                requests += (long) pack(profile, rulesBatchSize, budget).size() * ruleBatches(profile, rulesBatchSize);
+            }
+            logger.debug("Rules batch size {} needs {} requests.", rulesBatchSize, requests);
+            if (requests < bestRequests) {
+                bestRequests = requests;
+                bestRulesBatchSize = rulesBatchSize;
+            }
+        }
+
+        return buildPlan(parameter, profiles, maxRules > 0 ? bestRulesBatchSize : null, budget);
+    }
+
+    private BatchPlan buildPlan(ReviewParameter parameter, List<GroupProfile> profiles, Integer rulesBatchSize, BatchBudget budget) {
+        final int effectiveRulesBatchSize = rulesBatchSize != null ? rulesBatchSize : 1;
+        final List<ReviewTarget> targets = new ArrayList<>();
+        ReviewTarget currentTarget = null;
+        List<FileGroup> currentFileGroups = null;
+        int requestCount = 0;
+        int oversizedFileCount = 0;
+
+        logger.info("Batch plan for input budget of {} tokens, rulesBatchSize={}:", budget.getInputTokens(), rulesBatchSize);
+
+        for (GroupProfile profile : profiles) {
+            if (profile.target != currentTarget) {
+                currentTarget = profile.target;
+                currentFileGroups = new ArrayList<>();
+                targets.add(ReviewParameterCopyUtils.copyTarget(currentTarget, currentFileGroups));
+            }
+
+            int capacity = capacity(profile, effectiveRulesBatchSize, budget);
+            List<Bin> bins = pack(profile, effectiveRulesBatchSize, budget);
+            int ruleBatches = ruleBatches(profile, effectiveRulesBatchSize);
+            int largestRequest = 0;
+
+            for (Bin bin : bins) {
+                List<String> paths = new ArrayList<>(bin.paths.size());
+                for (Path path : bin.paths) {
+                    paths.add(path.toString());
+                }
+                paths.sort(Comparator.naturalOrder());
+                FileGroup planned = ReviewParameterCopyUtils.copyFileGroup(profile.fileGroup, paths);
+                planned.setFilesBatchSize(paths.size());
+                currentFileGroups.add(planned);
+                largestRequest = Math.max(largestRequest, budget.getInputTokens() - capacity + bin.usedTokens);
+                if (bin.usedTokens > capacity) {
+                    oversizedFileCount++;
+                    logger.warn("File '{}' needs about {} tokens and exceeds the budget of {} tokens on its own.",
+                            bin.paths.get(0), bin.usedTokens, capacity);
+                }
+            }
+            requestCount += bins.size() * ruleBatches;
+
+            logger.info("  {}/{}: {} files in {} batches x {} rule batches = {} requests, largest request ~{} tokens.",
+                    profile.target.getReviewTargetName(), profile.fileGroup.getFileGroupName(),
+                    profile.files.length, bins.size(), ruleBatches, bins.size() * ruleBatches, largestRequest);
+        }
+
+        // Targets whose file groups matched no files would otherwise be sent without paths
+        targets.removeIf(target -> target.getFileGroups().isEmpty());
+
+        ReviewParameter planned = ReviewParameterCopyUtils.copyParameter(parameter, targets);
+        if (rulesBatchSize != null) {
+            planned.setRulesBatchSize(rulesBatchSize);
+        }
+
+        logger.info("Batch plan needs {} requests in total.", requestCount);
+        return new BatchPlan(planned, rulesBatchSize, requestCount, oversizedFileCount);
+    }
+
+    private GroupProfile profile(ReviewParameter parameter, ReviewTarget target, FileGroup fileGroup, BatchBudget budget) throws IOException {
+        int fixedTokens = budget.getRequestOverheadTokens()
+                + estimate(parameter.getSystemPrompts())
+                + estimate(parameter.getReviewPrompts())
+                + estimate(target.getReviewTargetPrompts())
+                + estimate(fileGroup.getFileGroupPrompts());
+
+        final List<Rule> rules = new ArrayList<>();
+        addAll(rules, parameter.getRules());
+        addAll(rules, target.getRules());
+        addAll(rules, fileGroup.getRules());
+
+        int[] ruleTokens = new int[rules.size()];
+        for (int i = 0; i < ruleTokens.length; i++) {
+            ruleTokens[i] = tokenEstimator.estimate(objectMapper.writeValueAsString(rules.get(i)));
+        }
+        Arrays.sort(ruleTokens);
+        // Prefix sums of rule tokens in descending order give the size of the largest rule batch
+        long[] ruleTokensPrefix = new long[ruleTokens.length + 1];
+        for (int i = 0; i < ruleTokens.length; i++) {
+            ruleTokensPrefix[i + 1] = ruleTokensPrefix[i] + ruleTokens[ruleTokens.length - 1 - i];
+        }
+
+        Charset charset = charsetOf(fileGroup);
+        List<Path> paths = fileGroupPathResolver.resolve(fileGroup.getPaths(), fileGroup.getExcludePaths());
+        FileTokens[] files;
+        try {
+            // Tokenizing is CPU bound, the estimator is thread-safe
+            files = paths.parallelStream()
+                    .map(path -> new FileTokens(path, estimate(path, charset) + budget.getFileOverheadTokens()))
+                    .toArray(FileTokens[]::new);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Arrays.sort(files, (left, right) -> Integer.compare(right.tokens, left.tokens));
+
+        return new GroupProfile(target, fileGroup, fixedTokens, ruleTokensPrefix, files);
+    }
+
+    /**
+     * A rules batch size fits if every file fits next to the largest rule batch, except files that do not
+     * fit even next to a single rule; such files are sent alone whatever the rules batch size is.
+     */
+    private static boolean fits(List<GroupProfile> profiles, int rulesBatchSize, BatchBudget budget) {
+        for (GroupProfile profile : profiles) {
+            if (profile.files.length == 0) {
+                continue;
+            }
+            int largestFile = profile.files[0].tokens;
+            if (largestFile > capacity(profile, rulesBatchSize, budget) && largestFile <= capacity(profile, 1, budget)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int capacity(GroupProfile profile, int rulesBatchSize, BatchBudget budget) {
+        int rules = profile.ruleTokensPrefix.length - 1;
+        long largestRuleBatch = profile.ruleTokensPrefix[Math.min(rulesBatchSize, rules)];
+        return (int) Math.max(0, budget.getInputTokens() - profile.fixedTokens - largestRuleBatch);
+    }
+
+    private static int ruleBatches(GroupProfile profile, int rulesBatchSize) {
+        return Math.max(1, ceilDiv(profile.ruleTokensPrefix.length - 1, rulesBatchSize));
+    }
+
+    /**
+     * First-fit decreasing; files larger than the capacity get a bin of their own.
+     */
+    private static List<Bin> pack(GroupProfile profile, int rulesBatchSize, BatchBudget budget) {
+        final int capacity = capacity(profile, rulesBatchSize, budget);
+        final List<Bin> bins = new ArrayList<>();
+        for (FileTokens file : profile.files) {
+            Bin target = null;
+            for (Bin bin : bins) {
+                if (bin.usedTokens + file.tokens <= capacity) {
+                    target = bin;
+                    break;
+                }
+            }
+            if (target == null) {
+                target = new Bin();
+                bins.add(target);
+            }
+            target.paths.add(file.path);
+            target.usedTokens += file.tokens;
+        }
+        return bins;
+    }
+
+    private int estimate(Path file, Charset charset) {
+        try {
+            return tokenEstimator.estimate(file, charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int estimate(List<String> texts) {
+        int tokens = 0;
+        if (texts != null) {
+            for (String text : texts) {
+                tokens += tokenEstimator.estimate(text);
+            }
+        }
+        return tokens;
+    }
+
+    private static <T> void addAll(List<T> target, List<T> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private static final class GroupProfile {
+        private final ReviewTarget target;
+        private final FileGroup fileGroup;
+        private final int fixedTokens;
+        private final long[] ruleTokensPrefix;
+        private final FileTokens[] files;
+
+        private GroupProfile(ReviewTarget target, FileGroup fileGroup, int fixedTokens, long[] ruleTokensPrefix, FileTokens[] files) {
+            this.target = target;
+            this.fileGroup = fileGroup;
+            this.fixedTokens = fixedTokens;
+            this.ruleTokensPrefix = ruleTokensPrefix;
+            this.files = files;
+        }
+    }
+
+    private static final class FileTokens {
+        private final Path path;
+        private final int tokens;
+
+        private FileTokens(Path path, int tokens) {
+            this.path = path;
+            this.tokens = tokens;
+        }
+    }
+
+    private static final class Bin {
+        private final List<Path> paths = new ArrayList<>();
+        private int usedTokens;
+    }
+}
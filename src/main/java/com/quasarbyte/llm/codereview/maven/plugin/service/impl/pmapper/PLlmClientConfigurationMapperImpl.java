@@ -199,6 +199,28 @@ public class PLlmClientConfigurationMapperImpl implements PLlmClientConfiguratio
         if (maxRetries != null && (maxRetries < 0 || maxRetries > 10)) {
             throw new ValidationException("maxRetries must be between 0 and 10, but was: " + maxRetries);
         }
+
+        // Validate load balancing settings if provided
+        Integer weight = config.getWeight();
+        if (weight != null && (weight < 1 || weight > 1000)) {
+            throw new ValidationException("weight must be between 1 and 1000, but was: " + weight);
+        }
+
+        Integer maxConcurrency = config.getMaxConcurrency();
+        if (maxConcurrency != null && maxConcurrency < 1) {
+            throw new ValidationException("maxConcurrency must be at least 1, but was: " + maxConcurrency);
+        }
+
+        // Validate rate limits if provided
+        Integer requestsPerMinute = config.getRequestsPerMinute();
+        if (requestsPerMinute != null && requestsPerMinute < 1) {
+            throw new ValidationException("requestsPerMinute must be at least 1, but was: " + requestsPerMinute);
+        }
+
+        Integer tokensPerMinute = config.getTokensPerMinute();
+        if (tokensPerMinute != null && tokensPerMinute < 1) {
+            throw new ValidationException("tokensPerMinute must be at least 1, but was: " + tokensPerMinute);
+        }
         
         logger.debug("PLlmClientConfiguration validation completed successfully");
     }
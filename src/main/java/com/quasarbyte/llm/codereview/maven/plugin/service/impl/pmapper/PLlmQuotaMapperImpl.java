@@ -27,6 +27,10 @@ public class PLlmQuotaMapperImpl implements PLlmQuotaMapper {
     private static String format(PLlmQuota quota) {
         return "PLlmQuota{" +
                 "requestQuota=" + quota.getRequestQuota() +
+                ", inputTokenQuota=" + quota.getInputTokenQuota() +
+                ", outputTokenQuota=" + quota.getOutputTokenQuota() +
+                ", costQuota=" + quota.getCostQuota() +
+                ", exceededAction=" + quota.getExceededAction() +
                 '}';
     }
 }
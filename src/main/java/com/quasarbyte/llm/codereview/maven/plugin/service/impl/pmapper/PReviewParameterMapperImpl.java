@@ -1,6 +1,5 @@
 package com.quasarbyte.llm.codereview.maven.plugin.service.impl.pmapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
 import com.quasarbyte.llm.codereview.maven.plugin.exception.ValidationException;
 import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
@@ -9,6 +8,7 @@ import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
 import com.quasarbyte.llm.codereview.maven.plugin.service.PRulesFileReader;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.*;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.validation.MapperValidationUtils;
+import com.quasarbyte.llm.codereview.maven.plugin.service.serialization.SerializationService;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfigurationRhino;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
@@ -26,31 +26,34 @@ import java.util.stream.Collectors;
 public class PReviewParameterMapperImpl implements PReviewParameterMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(PReviewParameterMapperImpl.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     private final PLlmQuotaMapper quotaMapper;
     private final PReviewTargetMapper pReviewTargetMapper;
     private final PRhinoConfigurationMapper rhinoConfigurationMapper;
     private final PRuleMapper pRuleMapper;
     private final PRulesFileReader rulesFileReader;
+    private final SerializationService serializationService;
 
     public PReviewParameterMapperImpl(PLlmQuotaMapper quotaMapper,
                                       PReviewTargetMapper pReviewTargetMapper,
                                       PRhinoConfigurationMapper rhinoConfigurationMapper,
                                       PRuleMapper pRuleMapper,
-                                      PRulesFileReader rulesFileReader) {
+                                      PRulesFileReader rulesFileReader,
+                                      SerializationService serializationService) {
         // Enhanced validation for constructor dependencies
         MapperValidationUtils.requireNonNull(quotaMapper, "PLlmQuotaMapper");
         MapperValidationUtils.requireNonNull(pReviewTargetMapper, "PReviewTargetMapper");
         MapperValidationUtils.requireNonNull(rhinoConfigurationMapper, "PRhinoConfigurationMapper");
         MapperValidationUtils.requireNonNull(pRuleMapper, "PRuleMapper");
         MapperValidationUtils.requireNonNull(rulesFileReader, "PRulesFileReader");
+        MapperValidationUtils.requireNonNull(serializationService, "SerializationService");
         
         this.quotaMapper = quotaMapper;
         this.pReviewTargetMapper = pReviewTargetMapper;
         this.rhinoConfigurationMapper = rhinoConfigurationMapper;
         this.pRuleMapper = pRuleMapper;
         this.rulesFileReader = rulesFileReader;
+        this.serializationService = serializationService;
         logger.debug("PReviewParameterMapperImpl initialized with all dependencies validated.");
     }
 
@@ -60,7 +63,7 @@ public class PReviewParameterMapperImpl implements PReviewParameterMapper {
         
         if (logger.isDebugEnabled()) {
             try {
-                logger.debug("Mapping PReviewParameter: {}", objectMapper.writeValueAsString(parameter));
+                logger.debug("Mapping PReviewParameter: {}", serializationService.getConfigurationWriter().writeValueAsString(parameter));
             } catch (Exception e) {
                 logger.warn("Failed to serialize PReviewParameter for debug logging: {}", e.getMessage());
             }
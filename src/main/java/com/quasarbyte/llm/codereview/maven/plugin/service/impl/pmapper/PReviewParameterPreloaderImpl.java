@@ -0,0 +1,153 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.pmapper;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PFileGroup;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewTarget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.PRulesFileReader;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ResourceLoader;
+import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.PReviewParameterPreloader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link PReviewParameterPreloader} that reads rule files and the Rhino script with at most {@code maxThreads}
+ * tasks of the given executor, which take the resources from a shared queue.
+ * <p>
+ * A single distinct resource is left to the mapping, as there is nothing to overlap. The script is loaded through
+ * the resource loader of the Rhino configuration mapper, which has to cache it for the preload to pay off.
+ * </p>
+ */
+public class PReviewParameterPreloaderImpl implements PReviewParameterPreloader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PReviewParameterPreloaderImpl.class);
+
+    private final PRulesFileReader rulesFileReader;
+    private final ResourceLoader scriptLoader;
+    private final int maxThreads;
+
+    public PReviewParameterPreloaderImpl(PRulesFileReader rulesFileReader, ResourceLoader scriptLoader, int maxThreads) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("maxThreads must be at least 1: " + maxThreads);
+        }
+        this.rulesFileReader = rulesFileReader;
+        this.scriptLoader = scriptLoader;
+        this.maxThreads = maxThreads;
+        logger.debug("PReviewParameterPreloaderImpl initialized with maxThreads={}.", maxThreads);
+    }
+
+    @Override
+    public int preload(PReviewParameter parameter, ExecutorService executorService) {
+        final Map<String, Callable<?>> resources = collectResources(parameter);
+        if (resources.size() < 2) {
+            logger.debug("Skipping configuration preloading, {} distinct resource(s) referenced.", resources.size());
+            return 0;
+        }
+
+        final long startTime = System.nanoTime();
+        final Queue<Map.Entry<String, Callable<?>>> pending = new ConcurrentLinkedQueue<>(resources.entrySet());
+        final AtomicInteger loaded = new AtomicInteger();
+        final List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < Math.min(resources.size(), maxThreads); i++) {
+                workers.add(executorService.submit(() -> {
+                    Map.Entry<String, Callable<?>> resource;
+                    while ((resource = pending.poll()) != null && !Thread.currentThread().isInterrupted()) {
+                        try {
+                            resource.getValue().call();
+                            loaded.incrementAndGet();
+                        } catch (Exception e) {
+                            logger.debug("Preloading {} failed, it is read again during mapping: {}", resource.getKey(), e.getMessage());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            cancel(workers);
+            Thread.currentThread().interrupt();
+            logger.warn("Configuration preloading was interrupted.");
+        } catch (ExecutionException e) {
+            cancel(workers);
+            logger.warn("Configuration preloading failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+
+        logger.info("Preloaded {} of {} distinct configuration resources in {} ms.", loaded.get(), resources.size(),
+                (System.nanoTime() - startTime) / 1_000_000L);
+        return loaded.get();
+    }
+
+    private static void cancel(List<Future<?>> workers) {
+        for (Future<?> worker : workers) {
+            worker.cancel(true);
+        }
+    }
+
+    private Map<String, Callable<?>> collectResources(PReviewParameter parameter) {
+        final Map<String, Callable<?>> resources = new LinkedHashMap<>();
+        if (parameter == null) {
+            return resources;
+        }
+        for (String path : collectRulesFilePaths(parameter)) {
+            resources.put("rules file '" + path + "'", () -> rulesFileReader.readPRules(path));
+        }
+        if (parameter.getRhinoConfiguration() != null && notNullOrBlank(parameter.getRhinoConfiguration().getScriptFilePath())) {
+            // Loaded with the untrimmed path, the same way the Rhino configuration mapper loads it
+            final String scriptFilePath = parameter.getRhinoConfiguration().getScriptFilePath();
+            resources.put("Rhino script '" + scriptFilePath.trim() + "'", () -> scriptLoader.load(scriptFilePath));
+        }
+        return resources;
+    }
+
+    private static Set<String> collectRulesFilePaths(PReviewParameter parameter) {
+        final Set<String> paths = new LinkedHashSet<>();
+        addPaths(paths, parameter.getRulesFilePaths());
+        if (parameter.getTargets() != null) {
+            for (PReviewTarget target : parameter.getTargets()) {
+                if (target == null) {
+                    continue;
+                }
+                addPaths(paths, target.getRulesFilePaths());
+                if (target.getFileGroups() != null) {
+                    for (PFileGroup fileGroup : target.getFileGroups()) {
+                        if (fileGroup != null) {
+                            addPaths(paths, fileGroup.getRulesFilePaths());
+                        }
+                    }
+                }
+            }
+        }
+        return paths;
+    }
+
+    private static void addPaths(Set<String> paths, Collection<String> rulesFilePaths) {
+        if (rulesFilePaths == null) {
+            return;
+        }
+        for (String path : rulesFilePaths) {
+            if (path != null && !path.trim().isEmpty()) {
+                paths.add(path.trim());
+            }
+        }
+    }
+
+    private static boolean notNullOrBlank(String string) {
+        return string != null && !string.trim().isEmpty();
+    }
+}
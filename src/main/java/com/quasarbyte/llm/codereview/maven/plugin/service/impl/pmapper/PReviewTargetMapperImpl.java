@@ -1,6 +1,5 @@
 package com.quasarbyte.llm.codereview.maven.plugin.service.impl.pmapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
 import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewTarget;
 import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
@@ -8,6 +7,7 @@ import com.quasarbyte.llm.codereview.maven.plugin.service.PRulesFileReader;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.PFileGroupMapper;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.PReviewTargetMapper;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.PRuleMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.serialization.SerializationService;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
@@ -22,16 +22,18 @@ import java.util.stream.Collectors;
 public class PReviewTargetMapperImpl implements PReviewTargetMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(PReviewTargetMapperImpl.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     private final PFileGroupMapper pFileGroupMapper;
     private final PRuleMapper pRuleMapper;
     private final PRulesFileReader rulesFileReader;
+    private final SerializationService serializationService;
 
-    public PReviewTargetMapperImpl(PFileGroupMapper pFileGroupMapper, PRuleMapper pRuleMapper, PRulesFileReader rulesFileReader) {
+    public PReviewTargetMapperImpl(PFileGroupMapper pFileGroupMapper, PRuleMapper pRuleMapper, PRulesFileReader rulesFileReader,
+                                   SerializationService serializationService) {
         this.pFileGroupMapper = pFileGroupMapper;
         this.pRuleMapper = pRuleMapper;
         this.rulesFileReader = rulesFileReader;
+        this.serializationService = serializationService;
         logger.debug("PReviewTargetMapperImpl initialized.");
     }
 
@@ -39,7 +41,7 @@ public class PReviewTargetMapperImpl implements PReviewTargetMapper {
     public ReviewTarget map(PReviewTarget reviewTarget) {
         if (logger.isDebugEnabled()) {
             try {
-                logger.debug("Mapping PReviewTarget: {}", objectMapper.writeValueAsString(reviewTarget));
+                logger.debug("Mapping PReviewTarget: {}", serializationService.getConfigurationWriter().writeValueAsString(reviewTarget));
             } catch (Exception e) {
                 logger.warn("Failed to serialize PReviewTarget for debug logging: {}", e.getMessage());
             }
@@ -1,11 +1,11 @@
 package com.quasarbyte.llm.codereview.maven.plugin.service.impl.pmapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
 import com.quasarbyte.llm.codereview.maven.plugin.exception.ValidationException;
 import com.quasarbyte.llm.codereview.maven.plugin.model.PRhinoConfiguration;
 import com.quasarbyte.llm.codereview.maven.plugin.service.ResourceLoader;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.PRhinoConfigurationMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.serialization.SerializationService;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfigurationRhino;
 import com.quasarbyte.llm.codereview.sdk.service.LlmMessMapperRhinoConfigRepository;
 import org.slf4j.Logger;
@@ -16,15 +16,17 @@ import java.io.IOException;
 public class PRhinoConfigurationMapperImpl implements PRhinoConfigurationMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(PRhinoConfigurationMapperImpl.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     private final LlmMessMapperRhinoConfigRepository llmMessMapperRhinoConfigRepository;
     private final ResourceLoader resourceLoader;
+    private final SerializationService serializationService;
 
     public PRhinoConfigurationMapperImpl(LlmMessMapperRhinoConfigRepository llmMessMapperRhinoConfigRepository,
-                                         ResourceLoader resourceLoader) {
+                                         ResourceLoader resourceLoader,
+                                         SerializationService serializationService) {
         this.llmMessMapperRhinoConfigRepository = llmMessMapperRhinoConfigRepository;
         this.resourceLoader = resourceLoader;
+        this.serializationService = serializationService;
         logger.debug("PRhinoConfigurationMapperImpl initialized with LlmMessMapperRhinoConfigRepository and ResourceLoader.");
     }
 
@@ -33,7 +35,7 @@ public class PRhinoConfigurationMapperImpl implements PRhinoConfigurationMapper
 
         if (logger.isDebugEnabled()) {
             try {
-                logger.debug("Mapping PRhinoConfiguration: {}", objectMapper.writeValueAsString(configuration));
+                logger.debug("Mapping PRhinoConfiguration: {}", serializationService.getConfigurationWriter().writeValueAsString(configuration));
             } catch (Exception e) {
                 logger.warn("Failed to serialize PRhinoConfiguration for debug logging: {}", e.getMessage());
             }
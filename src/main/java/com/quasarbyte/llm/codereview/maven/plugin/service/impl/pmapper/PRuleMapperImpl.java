@@ -1,8 +1,8 @@
 package com.quasarbyte.llm.codereview.maven.plugin.service.impl.pmapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.PRuleMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.serialization.SerializationService;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.RuleSeverityEnum;
 import org.slf4j.Logger;
@@ -11,13 +11,18 @@ import org.slf4j.LoggerFactory;
 public class PRuleMapperImpl implements PRuleMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(PRuleMapperImpl.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SerializationService serializationService;
+
+    public PRuleMapperImpl(SerializationService serializationService) {
+        this.serializationService = serializationService;
+    }
 
     @Override
     public Rule map(PRule rule) {
         if (logger.isDebugEnabled()) {
             try {
-                logger.debug("Mapping PRule: {}", objectMapper.writeValueAsString(rule));
+                logger.debug("Mapping PRule: {}", serializationService.getConfigurationWriter().writeValueAsString(rule));
             } catch (Exception e) {
                 logger.warn("Failed to serialize PRule for debug logging: {}", e.getMessage());
             }
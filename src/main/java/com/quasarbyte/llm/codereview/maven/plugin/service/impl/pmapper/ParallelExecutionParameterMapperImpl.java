@@ -1,7 +1,12 @@
 package com.quasarbyte.llm.codereview.maven.plugin.service.impl.pmapper;
 
 import com.quasarbyte.llm.codereview.maven.plugin.exception.ValidationException;
+import com.quasarbyte.llm.codereview.maven.plugin.model.ExecutorTypeEnum;
 import com.quasarbyte.llm.codereview.maven.plugin.model.PParallelExecutionParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.executor.ExecutorServiceRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.NamedThreadFactory;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.SemaphoreBoundedExecutorService;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor.VirtualThreads;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.ParallelExecutionParameterMapper;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.base.EnhancedMapperBase;
 import com.quasarbyte.llm.codereview.maven.plugin.service.pmapper.validation.MapperValidationUtils;
@@ -21,11 +26,20 @@ public class ParallelExecutionParameterMapperImpl extends EnhancedMapperBase imp
     private static final int MAX_BATCH_SIZE = 1000;
     private static final int MIN_POOL_SIZE = 1;
     private static final int MAX_POOL_SIZE = 100;
+    // Virtual threads are cheap while blocked on HTTP, only the LLM endpoint limits concurrency
+    private static final int MAX_VIRTUAL_THREAD_CONCURRENCY = 1000;
+    private static final String THREAD_NAME_PREFIX = "llm-code-review-";
     
     // Default values
     private static final int DEFAULT_BATCH_SIZE = 1;
     private static final int DEFAULT_POOL_SIZE = 1;
 
+    private final ExecutorServiceRegistry executorServiceRegistry;
+
+    public ParallelExecutionParameterMapperImpl(ExecutorServiceRegistry executorServiceRegistry) {
+        this.executorServiceRegistry = executorServiceRegistry;
+    }
+
     @Override
     protected String getMapperName() {
         return "ParallelExecutionParameterMapper";
@@ -47,11 +61,15 @@ public class ParallelExecutionParameterMapperImpl extends EnhancedMapperBase imp
         // Validate and process batch size
         Integer batchSize = validateAndProcessBatchSize(parameter.getBatchSize());
         
+        ExecutorTypeEnum executorType = parameter.getExecutorType() != null ? parameter.getExecutorType() : ExecutorTypeEnum.WORK_STEALING;
+
         // Validate and process pool size
-        Integer poolSize = validateAndProcessPoolSize(parameter.getPoolSize());
+        Integer poolSize = validateAndProcessPoolSize(parameter.getPoolSize(),
+                executorType == ExecutorTypeEnum.VIRTUAL_THREAD ? MAX_VIRTUAL_THREAD_CONCURRENCY : MAX_POOL_SIZE);
         
-        // Create executor service with validation
-        ExecutorService executorService = createValidatedExecutorService(poolSize);
+        // Lease a shared executor service, created with validation on first use
+        ExecutorService executorService = executorServiceRegistry.lease(executorType + "-" + poolSize,
+                () -> createValidatedExecutorService(poolSize, executorType));
         
         // Create result
         ParallelExecutionParameter result = new ParallelExecutionParameter()
@@ -59,7 +77,7 @@ public class ParallelExecutionParameterMapperImpl extends EnhancedMapperBase imp
                 .setExecutorService(executorService);
         
         logMappingSuccess("PParallelExecutionParameter", "ParallelExecutionParameter", 
-                         String.format("batchSize: %d, poolSize: %d", batchSize, poolSize));
+                         String.format("batchSize: %d, poolSize: %d, executorType: %s", batchSize, poolSize, executorType));
         
         return result;
     }
@@ -94,9 +112,10 @@ public class ParallelExecutionParameterMapperImpl extends EnhancedMapperBase imp
     /**
      * Validates and processes pool size with proper defaults and ranges.
      * @param inputPoolSize the input pool size
+     * @param maxPoolSize the maximum pool size for the executor type
      * @return validated pool size
      */
-    private Integer validateAndProcessPoolSize(Integer inputPoolSize) {
+    private Integer validateAndProcessPoolSize(Integer inputPoolSize, int maxPoolSize) {
         if (inputPoolSize == null) {
             logger.info("PoolSize is null, using default value: {}", DEFAULT_POOL_SIZE);
             return DEFAULT_POOL_SIZE;
@@ -108,15 +127,15 @@ public class ParallelExecutionParameterMapperImpl extends EnhancedMapperBase imp
         }
         
         // Validate range
-        if (inputPoolSize < MIN_POOL_SIZE || inputPoolSize > MAX_POOL_SIZE) {
+        if (inputPoolSize < MIN_POOL_SIZE || inputPoolSize > maxPoolSize) {
             throw new ValidationException(String.format(
                 "PoolSize must be between %d and %d, but was: %d", 
-                MIN_POOL_SIZE, MAX_POOL_SIZE, inputPoolSize));
+                MIN_POOL_SIZE, maxPoolSize, inputPoolSize));
         }
         
         // Warn about potentially excessive pool sizes
         int availableProcessors = Runtime.getRuntime().availableProcessors();
-        if (inputPoolSize > availableProcessors * 2) {
+        if (maxPoolSize == MAX_POOL_SIZE && inputPoolSize > availableProcessors * 2) {
             logger.warn("PoolSize ({}) is larger than 2x available processors ({}), this may not be optimal", 
                        inputPoolSize, availableProcessors);
         }
@@ -128,12 +147,13 @@ public class ParallelExecutionParameterMapperImpl extends EnhancedMapperBase imp
     /**
      * Creates a validated executor service.
      * @param poolSize the pool size
+     * @param executorType the executor type
      * @return configured executor service
      */
-    private ExecutorService createValidatedExecutorService(Integer poolSize) {
+    private ExecutorService createValidatedExecutorService(Integer poolSize, ExecutorTypeEnum executorType) {
         try {
-            logger.info("Creating ExecutorService with poolSize: {}", poolSize);
-            ExecutorService executorService = Executors.newWorkStealingPool(poolSize);
+            logger.info("Creating {} ExecutorService with poolSize: {}", executorType, poolSize);
+            ExecutorService executorService = createExecutorService(poolSize, executorType);
             
             // Validate that executor service was created successfully
             if (executorService == null) {
@@ -153,6 +173,24 @@ public class ParallelExecutionParameterMapperImpl extends EnhancedMapperBase imp
         }
     }
     
+    private ExecutorService createExecutorService(int poolSize, ExecutorTypeEnum executorType) {
+        switch (executorType) {
+            case FIXED:
+                return Executors.newFixedThreadPool(poolSize, new NamedThreadFactory(THREAD_NAME_PREFIX));
+            case VIRTUAL_THREAD:
+                if (VirtualThreads.isSupported()) {
+                    return new SemaphoreBoundedExecutorService(VirtualThreads.newVirtualThreadPerTaskExecutor(THREAD_NAME_PREFIX), poolSize);
+                }
+                int fallbackPoolSize = Math.min(poolSize, MAX_POOL_SIZE);
+                logger.warn("Virtual threads require Java 21 or newer (running on {}), using a fixed pool of {} threads instead.",
+                        System.getProperty("java.version"), fallbackPoolSize);
+                return Executors.newFixedThreadPool(fallbackPoolSize, new NamedThreadFactory(THREAD_NAME_PREFIX));
+            case WORK_STEALING:
+            default:
+                return Executors.newWorkStealingPool(poolSize);
+        }
+    }
+
     /**
      * Formats parameter for logging (safe for null values).
      * @param parameter the parameter to format
@@ -163,7 +201,7 @@ public class ParallelExecutionParameterMapperImpl extends EnhancedMapperBase imp
             return "null";
         }
         
-        return String.format("PParallelExecutionParameter{batchSize=%s, poolSize=%s}", 
-                           parameter.getBatchSize(), parameter.getPoolSize());
+        return String.format("PParallelExecutionParameter{batchSize=%s, poolSize=%s, executorType=%s}", 
+                           parameter.getBatchSize(), parameter.getPoolSize(), parameter.getExecutorType());
     }
 }
@@ -0,0 +1,55 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.ratelimit;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.TokenBucket;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket based on the generic cell rate algorithm.
+ * <p>
+ * Instead of a token count, the bucket keeps the theoretical time at which all reserved permits are paid off.
+ * A reservation moves that time forward by the permits' emission interval with a single compare-and-set, and
+ * the caller waits until the time lies no more than one minute (the bucket capacity) in the future. A full
+ * bucket therefore allows a burst of one minute's permits, and the sustained rate never exceeds the limit.
+ * </p>
+ */
+public class GcraTokenBucketImpl implements TokenBucket {
+
+    private static final long CAPACITY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long permitsPerMinute;
+    private final double nanosPerPermit;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public GcraTokenBucketImpl(long permitsPerMinute) {
+        if (permitsPerMinute < 1) {
+            throw new IllegalArgumentException("permitsPerMinute must be at least 1: " + permitsPerMinute);
+        }
+        this.permitsPerMinute = permitsPerMinute;
+        this.nanosPerPermit = CAPACITY_NANOS / (double) permitsPerMinute;
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public long reserve(long permits) {
+        if (permits < 0) {
+            throw new IllegalArgumentException("permits must not be negative: " + permits);
+        }
+        final long cost = (long) Math.ceil(permits * nanosPerPermit);
+        while (true) {
+            final long now = System.nanoTime();
+            final long current = theoreticalArrivalNanos.get();
+            final long start = current - now > 0 ? current : now;
+            final long next = start + cost;
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return Math.max(0, next - CAPACITY_NANOS - now);
+            }
+        }
+    }
+
+    @Override
+    public long getPermitsPerMinute() {
+        return permitsPerMinute;
+    }
+}
@@ -0,0 +1,132 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.LlmRequestRateLimiter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.TokenBucket;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits requests with a requests per minute and a tokens per minute bucket.
+ * <p>
+ * Every request costs one request permit, and as many token permits as the estimated tokens of the text in its
+ * JSON body, plus the request overhead, plus the output tokens it may produce. The output tokens are taken from
+ * {@code max_completion_tokens}, {@code max_tokens} or {@code max_output_tokens} of the body, or the configured
+ * default if the request does not limit them, because providers charge the output against the same limit.
+ * </p>
+ */
+public class TokenBucketLlmRequestRateLimiterImpl implements LlmRequestRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenBucketLlmRequestRateLimiterImpl.class);
+
+    private static final String[] OUTPUT_TOKEN_FIELDS = {"max_completion_tokens", "max_tokens", "max_output_tokens"};
+
+    private final String key;
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final TokenEstimator tokenEstimator;
+    private final int requestOverheadTokens;
+    private final int defaultOutputTokens;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    /**
+     * @param key                   identifies the limits in the routes of the LLM clients
+     * @param requestBucket         the requests per minute limit, {@code null} for no limit
+     * @param tokenBucket           the tokens per minute limit, {@code null} for no limit
+     * @param tokenEstimator        estimates the tokens of the request text, required with a token bucket
+     * @param requestOverheadTokens the tokens of message framing added to every request
+     * @param defaultOutputTokens   the output tokens reserved for a request which does not limit them
+     * @param objectMapper          reads the request bodies
+     */
+    public TokenBucketLlmRequestRateLimiterImpl(String key, TokenBucket requestBucket, TokenBucket tokenBucket,
+                                                TokenEstimator tokenEstimator, int requestOverheadTokens,
+                                                int defaultOutputTokens, ObjectMapper objectMapper) {
+        if (tokenBucket != null && tokenEstimator == null) {
+            throw new IllegalArgumentException("A token estimator is required with a token bucket");
+        }
+        this.key = key;
+        this.requestBucket = requestBucket;
+        this.tokenBucket = tokenBucket;
+        this.tokenEstimator = tokenEstimator;
+        this.requestOverheadTokens = requestOverheadTokens;
+        this.defaultOutputTokens = defaultOutputTokens;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public void acquire(byte[] requestBody) throws InterruptedException {
+        long waitNanos = 0;
+        if (requestBucket != null) {
+            waitNanos = requestBucket.reserve(1);
+        }
+        if (tokenBucket != null) {
+            waitNanos = Math.max(waitNanos, tokenBucket.reserve(estimateTokens(requestBody)));
+        }
+        if (waitNanos > 0) {
+            logger.debug("Rate limit reached, waiting {} ms.", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            this.waitNanos.addAndGet(waitNanos);
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    @Override
+    public long getWaitNanos() {
+        return waitNanos.get();
+    }
+
+    long estimateTokens(byte[] requestBody) {
+        final JsonNode body = readJson(requestBody);
+        if (body == null) {
+            return tokenEstimator.estimate(new String(requestBody, StandardCharsets.UTF_8)) + requestOverheadTokens + defaultOutputTokens;
+        }
+        final StringBuilder text = new StringBuilder();
+        appendText(body, text);
+        return tokenEstimator.estimate(text.toString()) + requestOverheadTokens + outputTokens(body);
+    }
+
+    private JsonNode readJson(byte[] requestBody) {
+        if (requestBody.length == 0 || requestBody[0] != '{') {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(requestBody);
+        } catch (IOException e) {
+            // Not JSON, charged as it is
+            return null;
+        }
+    }
+
+    private long outputTokens(JsonNode body) {
+        for (String field : OUTPUT_TOKEN_FIELDS) {
+            final JsonNode value = body.get(field);
+            if (value != null && value.canConvertToLong()) {
+                return value.asLong();
+            }
+        }
+        return defaultOutputTokens;
+    }
+
+    private static void appendText(JsonNode node, StringBuilder text) {
+        if (node.isTextual()) {
+            text.append(node.asText()).append('\n');
+        } else if (node.isContainerNode()) {
+            for (Iterator<JsonNode> elements = node.elements(); elements.hasNext(); ) {
+                appendText(elements.next(), text);
+            }
+        }
+    }
+}
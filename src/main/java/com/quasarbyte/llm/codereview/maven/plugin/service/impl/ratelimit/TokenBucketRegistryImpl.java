@@ -0,0 +1,31 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.ratelimit;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.TokenBucket;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.TokenBucketRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class TokenBucketRegistryImpl implements TokenBucketRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenBucketRegistryImpl.class);
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public TokenBucket getOrCreate(String key, long permitsPerMinute) {
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new GcraTokenBucketImpl(permitsPerMinute));
+        if (bucket.getPermitsPerMinute() != permitsPerMinute) {
+            logger.warn("Clients sharing a rate limit configure different limits ({} and {} per minute), using {}.",
+                    bucket.getPermitsPerMinute(), permitsPerMinute, bucket.getPermitsPerMinute());
+        }
+        return bucket;
+    }
+
+    @Override
+    public void clear() {
+        buckets.clear();
+    }
+}
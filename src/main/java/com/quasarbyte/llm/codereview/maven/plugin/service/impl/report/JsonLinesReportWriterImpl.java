@@ -0,0 +1,99 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.JsonLinesReportWriter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the {@code items} of every result as compact JSON, one item per line.
+ * <p>
+ * A result without an {@code items} array is written as a single line. The standard output and error
+ * streams are flushed but never closed.
+ * </p>
+ */
+public class JsonLinesReportWriterImpl implements JsonLinesReportWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonLinesReportWriterImpl.class);
+    private static final String ITEMS_PROPERTY = "items";
+
+    private final Writer writer;
+    private final boolean closeStream;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+    private long lineCount;
+
+    /**
+     * @param outputStream the stream to write to
+     * @param closeStream  whether {@link #close()} closes the stream, {@code false} for the standard streams
+     * @param objectMapper serializes the results
+     */
+    public JsonLinesReportWriterImpl(OutputStream outputStream, boolean closeStream, ObjectMapper objectMapper) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.closeStream = closeStream;
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    public void onResult(ReviewResult result) {
+        if (result == null) {
+            return;
+        }
+        final JsonNode node = objectMapper.valueToTree(result);
+        final JsonNode items = node.get(ITEMS_PROPERTY);
+        try {
+            // Serialize outside the lock, so that only the append is serialized between threads
+            final StringBuilder lines = new StringBuilder();
+            int count = 0;
+            if (items != null && items.isArray()) {
+                for (JsonNode item : items) {
+                    lines.append(lineWriter.writeValueAsString(item)).append('\n');
+                    count++;
+                }
+            } else {
+                lines.append(lineWriter.writeValueAsString(node)).append('\n');
+                count++;
+            }
+            synchronized (this) {
+                writer.write(lines.toString());
+                writer.flush();
+                lineCount += count;
+            }
+            logger.debug("Appended {} lines to the JSON Lines report.", count);
+        } catch (IOException e) {
+            logger.error("Failed to write the JSON Lines report: {}", e.getMessage(), e);
+            throw new LlmCodeReviewMavenPluginException("Failed to write the JSON Lines report: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized long getLineCount() {
+        return lineCount;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            if (closeStream) {
+                writer.close();
+            } else {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to close the JSON Lines report: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ValidationException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportContent;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportFileWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams report content through a buffered UTF-8 writer.
+ * <p>
+ * Files are written through their channel and replaced if they exist. The standard streams are written in
+ * the platform charset and followed by a line separator, but never closed.
+ * </p>
+ */
+public class ReportFileWriterImpl implements ReportFileWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportFileWriterImpl.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public void write(String filePath, ReportContent content) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new ValidationException("FilePath cannot be null or empty.");
+        }
+        final String target = filePath.trim();
+        try {
+            if ("stdout".equalsIgnoreCase(target)) {
+                writeToStandardStream(System.out, content);
+            } else if ("stderr".equalsIgnoreCase(target)) {
+                writeToStandardStream(System.err, content);
+            } else {
+                writeToFile(Paths.get(target).toAbsolutePath(), content);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write result file: {}", e.getMessage(), e);
+            throw new LlmCodeReviewMavenPluginException("Failed to write result file: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeToFile(Path path, ReportContent content) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            content.writeTo(writer);
+        }
+        logger.debug("Report written: {}", path);
+    }
+
+    private static void writeToStandardStream(PrintStream stream, ReportContent content) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(stream, Charset.defaultCharset()), BUFFER_SIZE);
+        synchronized (stream) {
+            content.writeTo(writer);
+            writer.write(System.lineSeparator());
+            writer.flush();
+        }
+    }
+}
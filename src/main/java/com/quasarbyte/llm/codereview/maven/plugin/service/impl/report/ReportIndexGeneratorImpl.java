@@ -0,0 +1,78 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportIndexGenerator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportShard;
+
+import java.util.List;
+
+/**
+ * Generates a plain table of the report pages with their item and severity counts, followed by a total row.
+ */
+public class ReportIndexGeneratorImpl implements ReportIndexGenerator {
+
+    private static final String TITLE = "LLM Code Review Report";
+
+    @Override
+    public String generateHtmlIndex(List<ReportShard> shards) {
+        final StringBuilder html = new StringBuilder(512 + shards.size() * 160);
+        html.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>").append(TITLE).append("</title>\n")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}")
+                .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th:first-child,td:first-child{text-align:left}</style>\n")
+                .append("</head>\n<body>\n<h1>").append(TITLE).append("</h1>\n<table>\n")
+                .append("<tr><th>Page</th><th>Items</th><th>Info</th><th>Warning</th><th>Critical</th></tr>\n");
+        for (ReportShard shard : shards) {
+            final String fileName = escapeHtml(shard.getFileName());
+            html.append("<tr><td><a href=\"").append(fileName).append("\">").append(fileName).append("</a></td>");
+            appendHtmlCounts(html, shard.getItemCount(), shard.getInfoCount(), shard.getWarningCount(), shard.getCriticalCount());
+        }
+        html.append("<tr><th>Total</th>");
+        appendHtmlCounts(html, totalItems(shards), totalInfo(shards), totalWarnings(shards), totalCritical(shards));
+        html.append("</table>\n</body>\n</html>\n");
+        return html.toString();
+    }
+
+    @Override
+    public String generateMarkdownIndex(List<ReportShard> shards) {
+        final StringBuilder markdown = new StringBuilder(256 + shards.size() * 80);
+        markdown.append("# ").append(TITLE).append("\n\n")
+                .append("| Page | Items | Info | Warning | Critical |\n")
+                .append("|------|------:|-----:|--------:|---------:|\n");
+        for (ReportShard shard : shards) {
+            markdown.append("| [").append(shard.getFileName()).append("](").append(shard.getFileName().replace(" ", "%20")).append(") ");
+            appendMarkdownCounts(markdown, shard.getItemCount(), shard.getInfoCount(), shard.getWarningCount(), shard.getCriticalCount());
+        }
+        markdown.append("| **Total** ");
+        appendMarkdownCounts(markdown, totalItems(shards), totalInfo(shards), totalWarnings(shards), totalCritical(shards));
+        return markdown.toString();
+    }
+
+    private static void appendHtmlCounts(StringBuilder html, long items, long info, long warning, long critical) {
+        html.append("<td>").append(items).append("</td><td>").append(info).append("</td><td>").append(warning)
+                .append("</td><td>").append(critical).append("</td></tr>\n");
+    }
+
+    private static void appendMarkdownCounts(StringBuilder markdown, long items, long info, long warning, long critical) {
+        markdown.append("| ").append(items).append(" | ").append(info).append(" | ").append(warning)
+                .append(" | ").append(critical).append(" |\n");
+    }
+
+    private static long totalItems(List<ReportShard> shards) {
+        return shards.stream().mapToLong(ReportShard::getItemCount).sum();
+    }
+
+    private static long totalInfo(List<ReportShard> shards) {
+        return shards.stream().mapToLong(ReportShard::getInfoCount).sum();
+    }
+
+    private static long totalWarnings(List<ReportShard> shards) {
+        return shards.stream().mapToLong(ReportShard::getWarningCount).sum();
+    }
+
+    private static long totalCritical(List<ReportShard> shards) {
+        return shards.stream().mapToLong(ReportShard::getCriticalCount).sum();
+    }
+
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,62 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReviewResultSharder;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits review results through their JSON tree representation.
+ * <p>
+ * The {@code items} are divided into consecutive slices; every other property is copied to each shard.
+ * </p>
+ */
+public class ReviewResultSharderImpl implements ReviewResultSharder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewResultSharderImpl.class);
+    private static final String ITEMS_PROPERTY = "items";
+
+    private final ObjectMapper objectMapper;
+
+    public ReviewResultSharderImpl(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<ReviewResult> split(ReviewResult result, int shardSize) {
+        if (shardSize < 1) {
+            throw new IllegalArgumentException("shardSize must be at least 1: " + shardSize);
+        }
+        final ObjectNode node = objectMapper.valueToTree(result);
+        final JsonNode items = node.remove(ITEMS_PROPERTY);
+        if (!(items instanceof ArrayNode) || items.size() <= shardSize) {
+            return Collections.singletonList(result);
+        }
+
+        final List<ReviewResult> shards = new ArrayList<>((items.size() + shardSize - 1) / shardSize);
+        try {
+            for (int from = 0; from < items.size(); from += shardSize) {
+                final ObjectNode shard = node.deepCopy();
+                final ArrayNode shardItems = shard.putArray(ITEMS_PROPERTY);
+                for (int i = from; i < Math.min(items.size(), from + shardSize); i++) {
+                    shardItems.add(items.get(i));
+                }
+                shards.add(objectMapper.treeToValue(shard, ReviewResult.class));
+            }
+        } catch (Exception e) {
+            logger.error("Failed to split review result: {}", e.getMessage(), e);
+            throw new LlmCodeReviewMavenPluginException("Failed to split review result: " + e.getMessage(), e);
+        }
+        logger.debug("Split review result with {} items into {} shards.", items.size(), shards.size());
+        return shards;
+    }
+}
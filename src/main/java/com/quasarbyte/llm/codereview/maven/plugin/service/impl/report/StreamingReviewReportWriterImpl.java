@@ -0,0 +1,227 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReviewReportWriter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import com.quasarbyte.llm.codereview.sdk.model.statistics.SeverityStatistics;
+import com.quasarbyte.llm.codereview.sdk.service.SeverityStatisticsCalculator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes reports item by item through the JSON tree representation of every item.
+ * <p>
+ * The columns of the CSV and HTML reports are the JSON properties of the item type, so every row has the same
+ * columns even when some values are {@code null}. Nested values are written as compact JSON. Only one item is
+ * converted at a time, so the memory used does not grow with the number of items.
+ * </p>
+ */
+public class StreamingReviewReportWriterImpl implements ReviewReportWriter {
+
+    private static final String TITLE = "LLM Code Review Report";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+    private final SeverityStatisticsCalculator severityStatisticsCalculator;
+
+    public StreamingReviewReportWriterImpl(ObjectMapper objectMapper, SeverityStatisticsCalculator severityStatisticsCalculator) {
+        this.objectMapper = objectMapper;
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.severityStatisticsCalculator = severityStatisticsCalculator;
+    }
+
+    @Override
+    public void writeCsv(ReviewResult result, Writer writer) throws IOException {
+        final List<?> items = items(result);
+        final List<String> columns = columns(items);
+        if (columns.isEmpty()) {
+            return;
+        }
+        writeCsvRow(writer, columns);
+        final List<String> row = new ArrayList<>(columns.size());
+        for (Object item : items) {
+            if (item == null) {
+                continue;
+            }
+            final JsonNode node = objectMapper.valueToTree(item);
+            row.clear();
+            for (String column : columns) {
+                row.add(text(node.get(column)));
+            }
+            writeCsvRow(writer, row);
+        }
+    }
+
+    @Override
+    public void writeMarkdown(ReviewResult result, Writer writer) throws IOException {
+        final List<?> items = items(result);
+        final SeverityStatistics statistics = severityStatisticsCalculator.calculate(result);
+        writer.write("# " + TITLE + "\n\n");
+        writer.write("| Items | Info | Warning | Critical |\n|------:|-----:|--------:|---------:|\n");
+        writer.write("| " + items.size() + " | " + statistics.getInfoCount() + " | " + statistics.getWarningCount()
+                + " | " + statistics.getCriticalCount() + " |\n\n");
+        if (items.isEmpty()) {
+            writer.write("No review comments.\n");
+            return;
+        }
+        int number = 0;
+        for (Object item : items) {
+            if (item == null) {
+                continue;
+            }
+            writer.write("## Item " + (++number) + "\n\n");
+            final JsonNode node = objectMapper.valueToTree(item);
+            if (!node.isObject()) {
+                writeMarkdownValue(writer, text(node));
+            } else {
+                final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    final Map.Entry<String, JsonNode> field = fields.next();
+                    if (!field.getValue().isNull()) {
+                        writer.write("- **" + escapeMarkdown(field.getKey()) + "**:");
+                        writeMarkdownValue(writer, text(field.getValue()));
+                    }
+                }
+            }
+            writer.write("\n");
+        }
+    }
+
+    @Override
+    public void writeHtml(ReviewResult result, Writer writer) throws IOException {
+        final List<?> items = items(result);
+        final SeverityStatistics statistics = severityStatisticsCalculator.calculate(result);
+        writer.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>" + TITLE + "</title>\n"
+                + "<style>body{font-family:sans-serif}table{border-collapse:collapse;margin-bottom:1em}"
+                + "th,td{border:1px solid #ccc;padding:4px 8px;text-align:left;vertical-align:top}td{white-space:pre-wrap}</style>\n"
+                + "</head>\n<body>\n<h1>" + TITLE + "</h1>\n<table>\n"
+                + "<tr><th>Items</th><th>Info</th><th>Warning</th><th>Critical</th></tr>\n");
+        writer.write("<tr><td>" + items.size() + "</td><td>" + statistics.getInfoCount() + "</td><td>" + statistics.getWarningCount()
+                + "</td><td>" + statistics.getCriticalCount() + "</td></tr>\n</table>\n");
+        final List<String> columns = columns(items);
+        if (!columns.isEmpty()) {
+            writer.write("<table>\n<tr><th>#</th>");
+            for (String column : columns) {
+                writer.write("<th>" + escapeHtml(column) + "</th>");
+            }
+            writer.write("</tr>\n");
+            int number = 0;
+            for (Object item : items) {
+                if (item == null) {
+                    continue;
+                }
+                final JsonNode node = objectMapper.valueToTree(item);
+                writer.write("<tr><td>" + (++number) + "</td>");
+                for (String column : columns) {
+                    writer.write("<td>" + escapeHtml(text(node.get(column))) + "</td>");
+                }
+                writer.write("</tr>\n");
+            }
+            writer.write("</table>\n");
+        }
+        writer.write("</body>\n</html>\n");
+    }
+
+    private static List<?> items(ReviewResult result) {
+        return result.getItems() != null ? result.getItems() : Collections.emptyList();
+    }
+
+    /**
+     * Gets the JSON properties of the type of the first item, or the fields of its JSON object if the item is
+     * a map or a tree.
+     */
+    private List<String> columns(List<?> items) {
+        for (Object item : items) {
+            if (item == null) {
+                continue;
+            }
+            final List<String> columns = new ArrayList<>();
+            final JavaType type = objectMapper.constructType(item.getClass());
+            if (!type.isContainerType() && !JsonNode.class.isAssignableFrom(item.getClass())) {
+                final BeanDescription description = objectMapper.getSerializationConfig().introspect(type);
+                for (BeanPropertyDefinition property : description.findProperties()) {
+                    if (property.couldSerialize()) {
+                        columns.add(property.getName());
+                    }
+                }
+            }
+            if (columns.isEmpty()) {
+                objectMapper.valueToTree(item).fieldNames().forEachRemaining(columns::add);
+            }
+            return columns;
+        }
+        return Collections.emptyList();
+    }
+
+    private String text(JsonNode value) throws IOException {
+        if (value == null || value.isNull() || value.isMissingNode()) {
+            return "";
+        }
+        return value.isValueNode() ? value.asText() : valueWriter.writeValueAsString(value);
+    }
+
+    private static void writeCsvRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            final String value = values.get(i);
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a value after the bullet of a list item: inline if it is a single line, otherwise as a fenced block
+     * indented under the bullet.
+     */
+    private static void writeMarkdownValue(Writer writer, String value) throws IOException {
+        if (value.indexOf('\n') < 0) {
+            writer.write(" " + escapeMarkdown(value) + "\n");
+            return;
+        }
+        String fence = "```";
+        while (value.contains(fence)) {
+            fence += "`";
+        }
+        writer.write("\n\n  " + fence + "\n");
+        for (String line : value.split("\r?\n", -1)) {
+            writer.write("  " + line + "\n");
+        }
+        writer.write("  " + fence + "\n\n");
+    }
+
+    private static String escapeMarkdown(String text) {
+        final StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if ("\\`*_[]<>|#".indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,78 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.FileGroupPathResolver;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ChangedFilesFilter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Replaces the paths and glob patterns of every file group with the explicit list of its changed files,
+ * so that {@code excludePaths} and all rules of the original configuration still apply.
+ */
+public class ChangedFilesFilterImpl implements ChangedFilesFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangedFilesFilterImpl.class);
+
+    private final FileGroupPathResolver fileGroupPathResolver;
+
+    public ChangedFilesFilterImpl(FileGroupPathResolver fileGroupPathResolver) {
+        this.fileGroupPathResolver = fileGroupPathResolver;
+        logger.debug("ChangedFilesFilterImpl initialized.");
+    }
+
+    @Override
+    public Optional<ReviewParameter> filter(ReviewParameter parameter, Set<Path> changedFiles) throws IOException {
+        if (parameter == null || parameter.getTargets() == null) {
+            return Optional.empty();
+        }
+
+        final List<ReviewTarget> targets = new ArrayList<>();
+        int keptFiles = 0;
+
+        for (ReviewTarget target : parameter.getTargets()) {
+            if (target == null || target.getFileGroups() == null) {
+                continue;
+            }
+            final List<FileGroup> fileGroups = new ArrayList<>();
+            for (FileGroup fileGroup : target.getFileGroups()) {
+                if (fileGroup == null) {
+                    continue;
+                }
+                List<String> paths = new ArrayList<>();
+                for (Path file : fileGroupPathResolver.resolve(fileGroup.getPaths(), fileGroup.getExcludePaths())) {
+                    if (changedFiles.contains(file.toAbsolutePath().normalize())) {
+                        paths.add(file.toString());
+                    }
+                }
+                if (paths.isEmpty()) {
+                    logger.debug("File group '{}' of target '{}' has no changed files, skipping.", fileGroup.getFileGroupName(), target.getReviewTargetName());
+                    continue;
+                }
+                logger.debug("File group '{}' of target '{}' has {} changed files.", fileGroup.getFileGroupName(), target.getReviewTargetName(), paths.size());
+                fileGroups.add(ReviewParameterCopyUtils.copyFileGroup(fileGroup, paths));
+                keptFiles += paths.size();
+            }
+            if (!fileGroups.isEmpty()) {
+                targets.add(ReviewParameterCopyUtils.copyTarget(target, fileGroups));
+            }
+        }
+
+        if (targets.isEmpty()) {
+            logger.info("None of the {} changed files matches a file group.", changedFiles.size());
+            return Optional.empty();
+        }
+
+        logger.info("Restricted review to {} changed files in {} targets.", keptFiles, targets.size());
+        return Optional.of(ReviewParameterCopyUtils.copyParameter(parameter, targets));
+    }
+}
@@ -0,0 +1,37 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Charset of the files of a file group, used wherever the plugin reads the files to estimate or plan a review.
+ */
+public final class FileGroupCharsets {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileGroupCharsets.class);
+
+    private FileGroupCharsets() {
+    }
+
+    /**
+     * Gets the charset named by the code page of the file group.
+     *
+     * @param fileGroup the file group
+     * @return the charset, UTF-8 if the code page is blank or unknown
+     */
+    public static Charset charsetOf(FileGroup fileGroup) {
+        if (fileGroup.getCodePage() == null || fileGroup.getCodePage().trim().isEmpty()) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(fileGroup.getCodePage().trim());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown code page '{}' of file group '{}', reading its files as UTF-8.", fileGroup.getCodePage(), fileGroup.getFileGroupName());
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PFileGroup;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewTarget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReactorReviewParameterExpander;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ReactorReviewParameterExpanderImpl implements ReactorReviewParameterExpander {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactorReviewParameterExpanderImpl.class);
+
+    @Override
+    public PReviewParameter expand(PReviewParameter parameter, Map<String, Path> modules) {
+        if (parameter == null) {
+            return null;
+        }
+        if (parameter.getTargets() == null || parameter.getTargets().isEmpty() || modules == null || modules.isEmpty()) {
+            return parameter;
+        }
+
+        final List<PReviewTarget> targets = new ArrayList<>();
+        for (PReviewTarget target : parameter.getTargets()) {
+            if (target == null) {
+                continue;
+            }
+            if (!hasRelativePaths(target)) {
+                targets.add(target);
+                continue;
+            }
+            final Set<Path> visitedDirectories = new HashSet<>();
+            for (Map.Entry<String, Path> module : modules.entrySet()) {
+                Path baseDirectory = module.getValue().toAbsolutePath().normalize();
+                if (visitedDirectories.add(baseDirectory)) {
+                    targets.add(rebaseTarget(target, module.getKey(), baseDirectory));
+                }
+            }
+        }
+
+        logger.info("Expanded {} review targets to {} targets over {} modules.", parameter.getTargets().size(), targets.size(), modules.size());
+
+        return new PReviewParameter()
+                .setReviewName(parameter.getReviewName())
+                .setRules(parameter.getRules())
+                .setRulesFilePaths(parameter.getRulesFilePaths())
+                .setTargets(targets)
+                .setSystemPrompts(parameter.getSystemPrompts())
+                .setReviewPrompts(parameter.getReviewPrompts())
+                .setLlmChatCompletionConfiguration(parameter.getLlmChatCompletionConfiguration())
+                .setRhinoConfiguration(parameter.getRhinoConfiguration())
+                .setRulesBatchSize(parameter.getRulesBatchSize())
+                .setTimeoutDuration(parameter.getTimeoutDuration())
+                .setLlmQuota(parameter.getLlmQuota())
+                .setUseReasoning(parameter.getUseReasoning());
+    }
+
+    private static PReviewTarget rebaseTarget(PReviewTarget target, String moduleName, Path baseDirectory) {
+        final List<PFileGroup> fileGroups = new ArrayList<>();
+        if (target.getFileGroups() != null) {
+            for (PFileGroup fileGroup : target.getFileGroups()) {
+                if (fileGroup == null) {
+                    continue;
+                }
+                fileGroups.add(new PFileGroup()
+                        .setFileGroupName(fileGroup.getFileGroupName())
+                        .setPaths(rebasePaths(fileGroup.getPaths(), baseDirectory))
+                        .setExcludePaths(rebasePaths(fileGroup.getExcludePaths(), baseDirectory))
+                        .setFilesBatchSize(fileGroup.getFilesBatchSize())
+                        .setRules(fileGroup.getRules())
+                        .setRulesFilePaths(fileGroup.getRulesFilePaths())
+                        .setFileGroupPrompts(fileGroup.getFileGroupPrompts())
+                        .setCodePage(fileGroup.getCodePage())
+                        .setLlmQuota(fileGroup.getLlmQuota()));
+            }
+        }
+
+        String targetName = target.getReviewTargetName() != null ? moduleName + ": " + target.getReviewTargetName() : moduleName;
+        return new PReviewTarget()
+                .setReviewTargetName(targetName)
+                .setFileGroups(fileGroups)
+                .setRules(target.getRules())
+                .setRulesFilePaths(target.getRulesFilePaths())
+                .setReviewTargetPrompts(target.getReviewTargetPrompts())
+                .setLlmQuota(target.getLlmQuota());
+    }
+
+    private static List<String> rebasePaths(List<String> paths, Path baseDirectory) {
+        if (paths == null) {
+            return null;
+        }
+        if (paths.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final String prefix = baseDirectory.toString().replace('\\', '/');
+        final List<String> result = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            if (path == null || path.trim().isEmpty() || isAbsolute(path)) {
+                result.add(path);
+                continue;
+            }
+            String relative = path.trim().replace('\\', '/');
+            while (relative.startsWith("./")) {
+                relative = relative.substring(2);
+            }
+            result.add(prefix.endsWith("/") ? prefix + relative : prefix + "/" + relative);
+        }
+        return result;
+    }
+
+    private static boolean hasRelativePaths(PReviewTarget target) {
+        if (target.getFileGroups() == null) {
+            return false;
+        }
+        for (PFileGroup fileGroup : target.getFileGroups()) {
+            if (fileGroup != null && fileGroup.getPaths() != null) {
+                for (String path : fileGroup.getPaths()) {
+                    if (path != null && !path.trim().isEmpty() && !isAbsolute(path)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAbsolute(String path) {
+        String normalized = path.trim().replace('\\', '/');
+        // Unix root or Windows drive letter, checked on the string since glob characters are not valid in every Path
+        return normalized.startsWith("/") || (normalized.length() > 2 && Character.isLetter(normalized.charAt(0))
+                && normalized.charAt(1) == ':' && normalized.charAt(2) == '/');
+    }
+}
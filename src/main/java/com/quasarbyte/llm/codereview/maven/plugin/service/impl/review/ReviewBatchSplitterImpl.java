@@ -0,0 +1,79 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.FileGroupPathResolver;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatch;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatchSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewParameterSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewUnit;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.FileGroupCharsets.charsetOf;
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterCopyUtils.copyFileGroup;
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterCopyUtils.copyParameter;
+import static com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterCopyUtils.copyTarget;
+
+public class ReviewBatchSplitterImpl implements ReviewBatchSplitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewBatchSplitterImpl.class);
+
+    private final ReviewParameterSplitter reviewParameterSplitter;
+    private final FileGroupPathResolver fileGroupPathResolver;
+
+    public ReviewBatchSplitterImpl(ReviewParameterSplitter reviewParameterSplitter, FileGroupPathResolver fileGroupPathResolver) {
+        this.reviewParameterSplitter = reviewParameterSplitter;
+        this.fileGroupPathResolver = fileGroupPathResolver;
+        logger.debug("ReviewBatchSplitterImpl initialized.");
+    }
+
+    @Override
+    public List<ReviewBatch> split(ReviewParameter parameter, int fileBatchesPerBatch) {
+        if (fileBatchesPerBatch < 1) {
+            throw new IllegalArgumentException("fileBatchesPerBatch must be at least 1: " + fileBatchesPerBatch);
+        }
+        final List<ReviewBatch> batches = new ArrayList<>();
+        for (ReviewUnit unit : reviewParameterSplitter.split(parameter)) {
+            final FileGroup fileGroup = unit.getFileGroup();
+            final List<Path> files;
+            try {
+                files = fileGroupPathResolver.resolve(fileGroup.getPaths(), fileGroup.getExcludePaths());
+            } catch (IOException e) {
+                throw new LlmCodeReviewMavenPluginException(String.format("Failed to resolve files of '%s', error message: '%s'", unit.getName(), e.getMessage()), e);
+            }
+            if (files.isEmpty()) {
+                logger.debug("No files matched for '{}', skipping.", unit.getName());
+                continue;
+            }
+
+            final int filesBatchSize = fileGroup.getFilesBatchSize() != null && fileGroup.getFilesBatchSize() > 0
+                    ? fileGroup.getFilesBatchSize() : files.size();
+            final int batchSize = (int) Math.min(files.size(), (long) filesBatchSize * fileBatchesPerBatch);
+            final int rulesBatchCount = unit.getRulesBatchCount();
+            final Charset charset = charsetOf(fileGroup);
+            for (int from = 0; from < files.size(); from += batchSize) {
+                final List<Path> batchFiles = files.subList(from, Math.min(files.size(), from + batchSize));
+                final List<String> paths = new ArrayList<>(batchFiles.size());
+                for (Path file : batchFiles) {
+                    paths.add(file.toString());
+                }
+                final FileGroup batchGroup = copyFileGroup(fileGroup, paths);
+                final int fileBatchCount = (batchFiles.size() + filesBatchSize - 1) / filesBatchSize;
+                batches.add(new ReviewBatch(unit, copyParameter(unit.getParameter(),
+                        Collections.singletonList(copyTarget(unit.getTarget(), Collections.singletonList(batchGroup)))),
+                        batchFiles, charset, fileBatchCount * rulesBatchCount));
+            }
+        }
+        logger.debug("Split review parameter into {} batches of up to {} file batches.", batches.size(), fileBatchesPerBatch);
+        return batches;
+    }
+}
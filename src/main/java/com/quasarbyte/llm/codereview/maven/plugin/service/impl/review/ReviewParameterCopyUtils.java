@@ -0,0 +1,53 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+
+import java.util.List;
+
+/**
+ * Shallow copies of review parameter parts with replaced children.
+ */
+public final class ReviewParameterCopyUtils {
+
+    private ReviewParameterCopyUtils() {
+    }
+
+    public static ReviewTarget copyTarget(ReviewTarget source, List<FileGroup> fileGroups) {
+        ReviewTarget copy = new ReviewTarget();
+        copy.setReviewTargetName(source.getReviewTargetName());
+        copy.setFileGroups(fileGroups);
+        copy.setRules(source.getRules());
+        copy.setReviewTargetPrompts(source.getReviewTargetPrompts());
+        return copy;
+    }
+
+    public static FileGroup copyFileGroup(FileGroup source, List<String> paths) {
+        FileGroup copy = new FileGroup();
+        copy.setFileGroupName(source.getFileGroupName());
+        copy.setPaths(paths);
+        copy.setExcludePaths(source.getExcludePaths());
+        copy.setFilesBatchSize(source.getFilesBatchSize());
+        copy.setRules(source.getRules());
+        copy.setFileGroupPrompts(source.getFileGroupPrompts());
+        copy.setCodePage(source.getCodePage());
+        return copy;
+    }
+
+    public static ReviewParameter copyParameter(ReviewParameter source, List<ReviewTarget> targets) {
+        ReviewParameter copy = new ReviewParameter();
+        copy.setReviewName(source.getReviewName());
+        copy.setRules(source.getRules());
+        copy.setTargets(targets);
+        copy.setSystemPrompts(source.getSystemPrompts());
+        copy.setReviewPrompts(source.getReviewPrompts());
+        copy.setLlmChatCompletionConfiguration(source.getLlmChatCompletionConfiguration());
+        copy.setLlmMessagesMapperConfiguration(source.getLlmMessagesMapperConfiguration());
+        copy.setRulesBatchSize(source.getRulesBatchSize());
+        copy.setTimeoutDuration(source.getTimeoutDuration());
+        copy.setLlmQuota(source.getLlmQuota());
+        copy.setUseReasoning(source.getUseReasoning());
+        return copy;
+    }
+}
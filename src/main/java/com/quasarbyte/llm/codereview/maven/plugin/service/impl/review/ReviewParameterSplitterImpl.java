@@ -0,0 +1,49 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewParameterSplitter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewUnit;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ReviewParameterSplitterImpl implements ReviewParameterSplitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewParameterSplitterImpl.class);
+
+    @Override
+    public List<ReviewUnit> split(ReviewParameter parameter) {
+        if (parameter == null || parameter.getTargets() == null) {
+            logger.debug("No targets to split.");
+            return Collections.emptyList();
+        }
+
+        final List<ReviewUnit> units = new ArrayList<>();
+        final List<ReviewTarget> targets = parameter.getTargets();
+
+        for (int targetIndex = 0; targetIndex < targets.size(); targetIndex++) {
+            ReviewTarget target = targets.get(targetIndex);
+            if (target == null || target.getFileGroups() == null) {
+                continue;
+            }
+            List<FileGroup> fileGroups = target.getFileGroups();
+            for (int fileGroupIndex = 0; fileGroupIndex < fileGroups.size(); fileGroupIndex++) {
+                FileGroup fileGroup = fileGroups.get(fileGroupIndex);
+                if (fileGroup == null) {
+                    continue;
+                }
+                ReviewTarget unitTarget = ReviewParameterCopyUtils.copyTarget(target, Collections.singletonList(fileGroup));
+                ReviewParameter unitParameter = ReviewParameterCopyUtils.copyParameter(parameter, Collections.singletonList(unitTarget));
+                units.add(new ReviewUnit(targetIndex, fileGroupIndex, target, fileGroup, unitParameter));
+            }
+        }
+
+        logger.debug("Split review parameter into {} units.", units.size());
+        return units;
+    }
+}
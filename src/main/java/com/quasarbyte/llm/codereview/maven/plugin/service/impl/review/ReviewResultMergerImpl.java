@@ -0,0 +1,80 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultMerger;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Merges review results through their JSON tree representation.
+ * <p>
+ * The {@code items} of all results are concatenated; every other property is taken from the first result.
+ * </p>
+ */
+public class ReviewResultMergerImpl implements ReviewResultMerger {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewResultMergerImpl.class);
+    private static final String ITEMS_PROPERTY = "items";
+
+    private final ObjectMapper objectMapper;
+
+    public ReviewResultMergerImpl(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        logger.debug("ReviewResultMergerImpl initialized.");
+    }
+
+    @Override
+    public ReviewResult merge(List<ReviewResult> results) {
+        if (results == null || results.isEmpty()) {
+            throw new LlmCodeReviewMavenPluginException("At least one review result is required for merging");
+        }
+
+        if (results.size() == 1) {
+            return results.get(0);
+        }
+
+        ObjectNode merged = null;
+        ArrayNode mergedItems = null;
+
+        for (ReviewResult result : results) {
+            if (result == null) {
+                continue;
+            }
+            ObjectNode node = objectMapper.valueToTree(result);
+            if (merged == null) {
+                merged = node;
+                JsonNode items = merged.get(ITEMS_PROPERTY);
+                if (items instanceof ArrayNode) {
+                    mergedItems = (ArrayNode) items;
+                } else {
+                    mergedItems = merged.putArray(ITEMS_PROPERTY);
+                }
+            } else {
+                JsonNode items = node.get(ITEMS_PROPERTY);
+                if (items instanceof ArrayNode) {
+                    mergedItems.addAll((ArrayNode) items);
+                }
+            }
+        }
+
+        if (merged == null) {
+            throw new LlmCodeReviewMavenPluginException("All review results to merge are null");
+        }
+
+        try {
+            ReviewResult result = objectMapper.treeToValue(merged, ReviewResult.class);
+            logger.debug("Merged {} review results into one with {} items.", results.size(), mergedItems.size());
+            return result;
+        } catch (Exception e) {
+            logger.error("Failed to merge review results: {}", e.getMessage(), e);
+            throw new LlmCodeReviewMavenPluginException("Failed to merge review results: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmQuota;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The request quota of a review which is sent to the SDK in several parts.
+ * <p>
+ * The SDK enforces {@code requestQuota} per review call, so every part of a split review would otherwise get the
+ * quota of the whole review. The planned requests of all parts are checked against the quota before anything is
+ * sent, every part is limited to its own planned requests, and requests beyond the plan, such as hedges or a batch
+ * retried on another client, are only allowed while the quota has room left.
+ * </p>
+ */
+public final class SharedRequestQuota {
+
+    private final Long requestQuota;
+    private final AtomicLong spareRequests;
+
+    private SharedRequestQuota(Long requestQuota, long spareRequests) {
+        this.requestQuota = requestQuota;
+        this.spareRequests = new AtomicLong(spareRequests);
+    }
+
+    /**
+     * Creates the shared quota of a review.
+     *
+     * @param parameter       the whole review parameter
+     * @param plannedRequests the number of requests of all parts together
+     * @return the shared quota, unlimited if the parameter has no request quota
+     * @throws LlmCodeReviewMavenPluginException if the planned requests exceed the request quota
+     */
+    public static SharedRequestQuota of(ReviewParameter parameter, long plannedRequests) {
+        final LlmQuota llmQuota = parameter.getLlmQuota();
+        final Long requestQuota = llmQuota != null ? llmQuota.getRequestQuota() : null;
+        if (requestQuota == null) {
+            return new SharedRequestQuota(null, Long.MAX_VALUE);
+        }
+        if (plannedRequests > requestQuota) {
+            throw new LlmCodeReviewMavenPluginException(String.format(
+                    "The review needs %d requests, which exceeds the request quota of %d.", plannedRequests, requestQuota));
+        }
+        return new SharedRequestQuota(requestQuota, requestQuota - plannedRequests);
+    }
+
+    /**
+     * Limits a part of the review to its planned requests.
+     *
+     * @param part         the parameter of the part
+     * @param partRequests the planned requests of the part
+     * @return a copy of the part with its own request quota, or the part itself if the review has no quota
+     */
+    public ReviewParameter limit(ReviewParameter part, int partRequests) {
+        if (requestQuota == null) {
+            return part;
+        }
+        final ReviewParameter limited = ReviewParameterCopyUtils.copyParameter(part, part.getTargets());
+        limited.setLlmQuota(new LlmQuota().setRequestQuota((long) partRequests));
+        return limited;
+    }
+
+    /**
+     * Takes requests beyond the plan from the room the plan leaves in the quota.
+     *
+     * @param requests the number of extra requests
+     * @return {@code true} if the requests may be made
+     */
+    public boolean tryReserve(int requests) {
+        if (requestQuota == null) {
+            return true;
+        }
+        while (true) {
+            final long spare = spareRequests.get();
+            if (spare < requests) {
+                return false;
+            }
+            if (spareRequests.compareAndSet(spare, spare - requests)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back requests taken with {@link #tryReserve(int)} which were not made after all.
+     *
+     * @param requests the number of requests
+     */
+    public void release(int requests) {
+        if (requestQuota != null) {
+            spareRequests.addAndGet(requests);
+        }
+    }
+}
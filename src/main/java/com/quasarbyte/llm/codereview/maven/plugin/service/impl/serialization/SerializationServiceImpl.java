@@ -0,0 +1,92 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
+import com.quasarbyte.llm.codereview.maven.plugin.service.serialization.SerializationService;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * {@link SerializationService} with a {@link JavaTimeModule}-enabled mapper.
+ * <p>
+ * The Blackbird module is registered when it is present on the plugin classpath, e.g. when added as a plugin dependency.
+ * </p>
+ */
+public class SerializationServiceImpl implements SerializationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SerializationServiceImpl.class);
+    private static final String BLACKBIRD_MODULE_CLASS_NAME = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader rulesReader;
+    private final ObjectReader reviewResultReader;
+    private final ObjectWriter reviewResultWriter;
+    private final ObjectWriter configurationWriter;
+
+    public SerializationServiceImpl() {
+        this(createObjectMapper());
+    }
+
+    public SerializationServiceImpl(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rulesReader = objectMapper.readerFor(new TypeReference<List<PRule>>() {
+        });
+        this.reviewResultReader = objectMapper.readerFor(ReviewResult.class);
+        this.reviewResultWriter = objectMapper.writerFor(ReviewResult.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.configurationWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public ObjectReader getRulesReader() {
+        return rulesReader;
+    }
+
+    @Override
+    public ObjectReader getReviewResultReader() {
+        return reviewResultReader;
+    }
+
+    @Override
+    public ObjectWriter getReviewResultWriter() {
+        return reviewResultWriter;
+    }
+
+    @Override
+    public ObjectWriter getConfigurationWriter() {
+        return configurationWriter;
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        registerOptionalModule(objectMapper, BLACKBIRD_MODULE_CLASS_NAME);
+        return objectMapper;
+    }
+
+    private static void registerOptionalModule(ObjectMapper objectMapper, String className) {
+        try {
+            final Class<?> moduleClass = Class.forName(className, true, SerializationServiceImpl.class.getClassLoader());
+            objectMapper.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+            logger.debug("Registered Jackson module '{}'.", className);
+        } catch (ClassNotFoundException e) {
+            logger.debug("Jackson module '{}' is not on the classpath.", className);
+        } catch (Exception | LinkageError e) {
+            logger.warn("Failed to register Jackson module '{}': {}", className, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.circuitbreaker.CircuitBreakerRegistryImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.client.LlmClientRegistryImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.ratelimit.TokenBucketRegistryImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.session.SessionServices;
+import com.quasarbyte.llm.codereview.maven.plugin.service.session.SessionServicesRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the services of each session in a map with weak keys, so they are released together with the session
+ * once the build has finished, without relying on the order in which modules run.
+ */
+public class SessionServicesRegistryImpl implements SessionServicesRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionServicesRegistryImpl.class);
+
+    private final ObjectMapper objectMapper;
+    // Maven sessions do not override equals, so the weak keys are compared by identity
+    private final Map<Object, SessionServices> services = new WeakHashMap<>();
+
+    public SessionServicesRegistryImpl(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+    }
+
+    @Override
+    public SessionServices get(Object session) {
+        if (session == null) {
+            logger.debug("No Maven session, creating services for this execution only.");
+            return create();
+        }
+        synchronized (services) {
+            SessionServices sessionServices = services.get(session);
+            if (sessionServices == null) {
+                sessionServices = create();
+                services.put(session, sessionServices);
+                logger.debug("Created services for a new Maven session, {} sessions tracked.", services.size());
+            }
+            return sessionServices;
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (services) {
+            return services.size();
+        }
+    }
+
+    private SessionServices create() {
+        return new SessionServices(new LlmClientRegistryImpl(objectMapper), new TokenBucketRegistryImpl(), new CircuitBreakerRegistryImpl());
+    }
+}
@@ -0,0 +1,328 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.token;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.TokenizerEncodingEnum;
+import com.quasarbyte.llm.codereview.maven.plugin.service.digest.DigestUtils;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Counts tokens exactly like byte-level BPE tokenizers of the {@code tiktoken} family.
+ * <p>
+ * Text is split into pieces by the pre-tokenizer of the encoding; every piece is encoded as UTF-8 and its bytes
+ * are merged by ascending rank until no adjacent pair is a token. Special tokens are counted as plain text.
+ * Only the number of tokens is computed, no token ids are materialized, and all scratch buffers are reused
+ * per thread, so counting does not allocate per piece.
+ * </p>
+ * <p>
+ * File counts are cached by the SHA-256 hash of the file content; the cache is cleared once it holds
+ * {@value #MAX_CACHED_FILE_COUNTS} counts.
+ * </p>
+ */
+public class BpeTokenEstimatorImpl implements TokenEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BpeTokenEstimatorImpl.class);
+
+    private static final String CL100K_PATTERN = "(?i:'s|'t|'re|'ve|'m|'ll|'d)|[^\\r\\n\\p{L}\\p{N}]?\\p{L}+|\\p{N}{1,3}"
+            + "| ?[^\\s\\p{L}\\p{N}]+[\\r\\n]*|\\s*[\\r\\n]+|\\s+(?!\\S)|\\s+";
+
+    private static final String O200K_PATTERN = "[^\\r\\n\\p{L}\\p{N}]?[\\p{Lu}\\p{Lt}\\p{Lm}\\p{Lo}\\p{M}]*[\\p{Ll}\\p{Lm}\\p{Lo}\\p{M}]+(?i:'s|'t|'re|'ve|'m|'ll|'d)?"
+            + "|[^\\r\\n\\p{L}\\p{N}]?[\\p{Lu}\\p{Lt}\\p{Lm}\\p{Lo}\\p{M}]+[\\p{Ll}\\p{Lm}\\p{Lo}\\p{M}]*(?i:'s|'t|'re|'ve|'m|'ll|'d)?"
+            + "|\\p{N}{1,3}| ?[^\\s\\p{L}\\p{N}]+[\\r\\n/]*|\\s*[\\r\\n]+|\\s+(?!\\S)|\\s+";
+
+    /**
+     * Pieces up to this length are merged by rescanning all pairs, longer ones through a heap.
+     */
+    private static final int LINEAR_MERGE_LIMIT = 256;
+
+    private static final int MAX_CACHED_FILE_COUNTS = 100_000;
+
+    private final BpeVocabulary vocabulary;
+    private final Pattern pattern;
+    private final ThreadLocal<Scratch> scratch;
+    private final Map<String, Integer> fileTokenCache = new ConcurrentHashMap<>();
+
+    public BpeTokenEstimatorImpl(BpeVocabulary vocabulary, TokenizerEncodingEnum encoding) {
+        this.vocabulary = vocabulary;
+        this.pattern = Pattern.compile(encoding == TokenizerEncodingEnum.O200K_BASE ? O200K_PATTERN : CL100K_PATTERN,
+                Pattern.UNICODE_CHARACTER_CLASS);
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(pattern));
+        logger.debug("BpeTokenEstimatorImpl initialized with encoding {} and {} tokens.", encoding, vocabulary.size());
+    }
+
+    @Override
+    public int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        final Scratch s = scratch.get();
+        final Matcher matcher = s.matcher.reset(text);
+        int tokens = 0;
+        while (matcher.find()) {
+            int length = s.encode(text, matcher.start(), matcher.end());
+            tokens += countPiece(s, length);
+        }
+        // Do not keep a reference to the text in the thread-local matcher
+        matcher.reset("");
+        return tokens;
+    }
+
+    @Override
+    public int estimate(Path file, Charset charset) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        String key = charset.name() + ':' + DigestUtils.sha256Hex(bytes);
+        Integer cached = fileTokenCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int tokens = estimate(new String(bytes, charset));
+        if (fileTokenCache.size() >= MAX_CACHED_FILE_COUNTS) {
+            fileTokenCache.clear();
+        }
+        fileTokenCache.put(key, tokens);
+        return tokens;
+    }
+
+    private int countPiece(Scratch s, int length) {
+        if (length == 1 || vocabulary.rank(s.bytes, 0, length) != BpeVocabulary.NO_RANK) {
+            return 1;
+        }
+        return length <= LINEAR_MERGE_LIMIT ? mergeLinear(s, length) : mergeHeap(s, length);
+    }
+
+    /**
+     * The reference algorithm: repeatedly merges the leftmost pair with the lowest rank.
+     */
+    private int mergeLinear(Scratch s, int length) {
+        final byte[] bytes = s.bytes;
+        final int[] starts = s.ensureStarts(length + 1);
+        final int[] ranks = s.ensureRanks(length + 1);
+
+        for (int i = 0; i <= length; i++) {
+            starts[i] = i;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            ranks[i] = vocabulary.rank(bytes, i, 2);
+        }
+        ranks[length - 1] = BpeVocabulary.NO_RANK;
+        ranks[length] = BpeVocabulary.NO_RANK;
+        int parts = length + 1;
+
+        while (true) {
+            int minRank = BpeVocabulary.NO_RANK;
+            int minIndex = -1;
+            for (int i = 0; i < parts - 1; i++) {
+                if (ranks[i] < minRank) {
+                    minRank = ranks[i];
+                    minIndex = i;
+                }
+            }
+            if (minIndex < 0) {
+                break;
+            }
+
+            // Remove the boundary at minIndex + 1 and refresh the ranks of the pairs around the merged part
+            System.arraycopy(starts, minIndex + 2, starts, minIndex + 1, parts - minIndex - 2);
+            System.arraycopy(ranks, minIndex + 2, ranks, minIndex + 1, parts - minIndex - 2);
+            parts--;
+            ranks[minIndex] = pairRank(bytes, starts, parts, minIndex);
+            if (minIndex > 0) {
+                ranks[minIndex - 1] = pairRank(bytes, starts, parts, minIndex - 1);
+            }
+        }
+        return parts - 1;
+    }
+
+    private int pairRank(byte[] bytes, int[] starts, int parts, int index) {
+        if (index + 2 >= parts) {
+            return BpeVocabulary.NO_RANK;
+        }
+        return vocabulary.rank(bytes, starts[index], starts[index + 2] - starts[index]);
+    }
+
+    /**
+     * Same merge order as {@link #mergeLinear}, but with a linked list of parts and a heap of candidate pairs
+     * ordered by rank and position, so long pieces such as minified code are not merged in quadratic time.
+     */
+    private int mergeHeap(Scratch s, int length) {
+        final byte[] bytes = s.bytes;
+        final int[] next = s.ensureStarts(length);
+        final int[] ranks = s.ensureRanks(length);
+        final int[] previous = s.ensurePrevious(length);
+        final long[] heap = s.ensureHeap(length * 2);
+        int heapSize = 0;
+
+        for (int i = 0; i < length; i++) {
+            next[i] = i + 1;
+            previous[i] = i - 1;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            ranks[i] = vocabulary.rank(bytes, i, 2);
+            if (ranks[i] != BpeVocabulary.NO_RANK) {
+                heapSize = push(heap, heapSize, ranks[i], i);
+            }
+        }
+        ranks[length - 1] = BpeVocabulary.NO_RANK;
+
+        int parts = length;
+        // The heap only grows by two entries per merge, so it never exceeds 2 * length entries
+        while (heapSize > 0) {
+            long top = heap[0];
+            heapSize = pop(heap, heapSize);
+            int rank = (int) (top >>> 32);
+            int start = (int) top;
+            if (ranks[start] != rank || next[start] < 0) {
+                // Stale entry: the part was merged away or its pair rank changed
+                continue;
+            }
+
+            int merged = next[start];
+            next[start] = next[merged];
+            if (next[start] < length) {
+                previous[next[start]] = start;
+            }
+            next[merged] = -1;
+            parts--;
+
+            ranks[start] = next[start] < length
+                    ? vocabulary.rank(bytes, start, next[next[start]] - start)
+                    : BpeVocabulary.NO_RANK;
+            if (ranks[start] != BpeVocabulary.NO_RANK) {
+                heapSize = push(heap, heapSize, ranks[start], start);
+            }
+
+            int before = previous[start];
+            if (before >= 0) {
+                ranks[before] = vocabulary.rank(bytes, before, next[start] - before);
+                if (ranks[before] != BpeVocabulary.NO_RANK) {
+                    heapSize = push(heap, heapSize, ranks[before], before);
+                }
+            }
+        }
+        return parts;
+    }
+
+    private static int push(long[] heap, int size, int rank, int start) {
+        long value = ((long) rank << 32) | (start & 0xffffffffL);
+        int index = size;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+        return size + 1;
+    }
+
+    private static int pop(long[] heap, int size) {
+        long last = heap[--size];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        if (size > 0) {
+            heap[index] = last;
+        }
+        return size;
+    }
+
+    private static final class Scratch {
+        private final Matcher matcher;
+        private byte[] bytes = new byte[1024];
+        private int[] starts = new int[1024];
+        private int[] ranks = new int[1024];
+        private int[] previous = new int[0];
+        private long[] heap = new long[0];
+
+        private Scratch(Pattern pattern) {
+            this.matcher = pattern.matcher("");
+        }
+
+        /**
+         * Encodes a region of the text as UTF-8 into {@link #bytes}; unpaired surrogates become {@code '?'}
+         * like in {@link String#getBytes(Charset)}.
+         */
+        private int encode(CharSequence text, int start, int end) {
+            int required = (end - start) * 3;
+            if (bytes.length < required) {
+                bytes = new byte[Math.max(required, bytes.length * 2)];
+            }
+            final byte[] out = bytes;
+            int length = 0;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    out[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    out[length++] = (byte) (0xc0 | (c >> 6));
+                    out[length++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    out[length++] = (byte) (0xf0 | (codePoint >> 18));
+                    out[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    out[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    out[length++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    out[length++] = '?';
+                } else {
+                    out[length++] = (byte) (0xe0 | (c >> 12));
+                    out[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    out[length++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+            return length;
+        }
+
+        private int[] ensureStarts(int length) {
+            if (starts.length < length) {
+                starts = new int[Math.max(length, starts.length * 2)];
+            }
+            return starts;
+        }
+
+        private int[] ensureRanks(int length) {
+            if (ranks.length < length) {
+                ranks = new int[Math.max(length, ranks.length * 2)];
+            }
+            return ranks;
+        }
+
+        private int[] ensurePrevious(int length) {
+            if (previous.length < length) {
+                previous = new int[Math.max(length, previous.length * 2)];
+            }
+            return previous;
+        }
+
+        private long[] ensureHeap(int length) {
+            if (heap.length < length) {
+                heap = Arrays.copyOf(heap, Math.max(length, heap.length * 2));
+            }
+            return heap;
+        }
+    }
+}
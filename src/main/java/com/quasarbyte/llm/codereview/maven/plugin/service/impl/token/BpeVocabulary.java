@@ -0,0 +1,153 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.token;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Byte-level BPE vocabulary mapping token bytes to merge ranks.
+ * <p>
+ * All token bytes are kept in a single pool and looked up through an open-addressing table, so a rank can be
+ * found for any slice of a byte array without allocating a key.
+ * </p>
+ */
+public final class BpeVocabulary {
+
+    /**
+     * Returned for byte sequences which are not tokens of the vocabulary.
+     */
+    public static final int NO_RANK = Integer.MAX_VALUE;
+
+    private final byte[] pool;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int[] ranks;
+    private final int[] table;
+    private final int mask;
+
+    private BpeVocabulary(byte[] pool, int[] offsets, int[] lengths, int[] ranks, int size) {
+        this.pool = pool;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.ranks = ranks;
+
+        int capacity = Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = hash(pool, offsets[entry], lengths[entry]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = entry + 1;
+        }
+    }
+
+    /**
+     * Parses a vocabulary in the {@code .tiktoken} format: one {@code <base64 token> <rank>} pair per line.
+     *
+     * @param content the file content
+     * @return the vocabulary
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static BpeVocabulary parse(String content) {
+        final Base64.Decoder decoder = Base64.getDecoder();
+        int size = 0;
+        int[] offsets = new int[1 << 16];
+        int[] lengths = new int[1 << 16];
+        int[] ranks = new int[1 << 16];
+        byte[] pool = new byte[1 << 20];
+        int poolSize = 0;
+
+        int lineStart = 0;
+        final int length = content.length();
+        while (lineStart < length) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+            int end = lineEnd;
+            if (end > lineStart && content.charAt(end - 1) == '\r') {
+                end--;
+            }
+            if (end > lineStart) {
+                int separator = content.indexOf(' ', lineStart);
+                if (separator < 0 || separator >= end) {
+                    throw new IllegalArgumentException("Malformed vocabulary line: '" + content.substring(lineStart, end) + "'");
+                }
+                byte[] token = decoder.decode(content.substring(lineStart, separator));
+                int rank = Integer.parseInt(content.substring(separator + 1, end).trim());
+
+                if (size == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, size * 2);
+                    lengths = Arrays.copyOf(lengths, size * 2);
+                    ranks = Arrays.copyOf(ranks, size * 2);
+                }
+                if (poolSize + token.length > pool.length) {
+                    pool = Arrays.copyOf(pool, Math.max(pool.length * 2, poolSize + token.length));
+                }
+                System.arraycopy(token, 0, pool, poolSize, token.length);
+                offsets[size] = poolSize;
+                lengths[size] = token.length;
+                ranks[size] = rank;
+                poolSize += token.length;
+                size++;
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        if (size == 0) {
+            throw new IllegalArgumentException("Vocabulary is empty");
+        }
+        return new BpeVocabulary(Arrays.copyOf(pool, poolSize), Arrays.copyOf(offsets, size), Arrays.copyOf(lengths, size), Arrays.copyOf(ranks, size), size);
+    }
+
+    /**
+     * Finds the rank of a byte sequence.
+     *
+     * @param bytes  the buffer
+     * @param offset the start of the sequence
+     * @param length the length of the sequence
+     * @return the rank, or {@link #NO_RANK} if the sequence is not a token
+     */
+    public int rank(byte[] bytes, int offset, int length) {
+        int slot = hash(bytes, offset, length) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            entry--;
+            if (lengths[entry] == length && equal(bytes, offset, pool, offsets[entry], length)) {
+                return ranks[entry];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_RANK;
+    }
+
+    /**
+     * Gets the number of tokens in the vocabulary.
+     * @return the vocabulary size
+     */
+    public int size() {
+        return ranks.length;
+    }
+
+    private static boolean equal(byte[] left, int leftOffset, byte[] right, int rightOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (left[leftOffset + i] != right[rightOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        // FNV-1a followed by a finalizer, so that short keys spread over the whole table
+        int hash = 0x811c9dc5;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
@@ -0,0 +1,45 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.token;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Heuristic estimator dividing the number of characters by an average number of characters per token.
+ * <p>
+ * Files are estimated from their size without being read, assuming one byte per character.
+ * </p>
+ */
+public class CharacterRatioTokenEstimatorImpl implements TokenEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CharacterRatioTokenEstimatorImpl.class);
+
+    private final double charactersPerToken;
+
+    public CharacterRatioTokenEstimatorImpl(double charactersPerToken) {
+        if (!(charactersPerToken > 0)) {
+            throw new IllegalArgumentException("charactersPerToken must be positive: " + charactersPerToken);
+        }
+        this.charactersPerToken = charactersPerToken;
+        logger.debug("CharacterRatioTokenEstimatorImpl initialized with {} characters per token.", charactersPerToken);
+    }
+
+    @Override
+    public int estimate(String text) {
+        return text == null ? 0 : toTokens(text.length());
+    }
+
+    @Override
+    public int estimate(Path file, Charset charset) throws IOException {
+        return toTokens(Files.size(file));
+    }
+
+    private int toTokens(long characters) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(characters / charactersPerToken));
+    }
+}
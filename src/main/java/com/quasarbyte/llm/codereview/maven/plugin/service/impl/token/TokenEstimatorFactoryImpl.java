@@ -0,0 +1,107 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.token;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.TokenizerEncodingEnum;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ResourceLoader;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimatorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates token estimators.
+ * <p>
+ * No vocabulary is bundled with the plugin: exact BPE counts require {@code tokenizerVocabularyLocation}, without it
+ * tokens are estimated from a characters per token ratio.
+ * </p>
+ * <p>
+ * BPE tokenizers are shared by all executions in the same class loader, so the vocabulary is parsed and file
+ * counts are cached once per build rather than once per module. Only the most recently used tokenizers are kept,
+ * and a tokenizer loaded from a file is reloaded once the file changes, so a long-lived class loader such as a
+ * Maven daemon neither accumulates vocabularies nor keeps a stale one.
+ * </p>
+ */
+public class TokenEstimatorFactoryImpl implements TokenEstimatorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenEstimatorFactoryImpl.class);
+
+    private static final int MAX_CACHED_TOKENIZERS = 2;
+
+    private static final Map<String, TokenEstimator> TOKENIZERS = new LinkedHashMap<String, TokenEstimator>(4, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenEstimator> eldest) {
+            return size() > MAX_CACHED_TOKENIZERS;
+        }
+    };
+
+    private final ResourceLoader resourceLoader;
+
+    public TokenEstimatorFactoryImpl(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+        logger.debug("TokenEstimatorFactoryImpl initialized.");
+    }
+
+    @Override
+    public TokenEstimator create(String vocabularyLocation, TokenizerEncodingEnum encoding, double charactersPerToken) throws IOException {
+        if (vocabularyLocation == null || vocabularyLocation.trim().isEmpty()) {
+            logger.info("No tokenizer vocabulary configured, estimating {} characters per token. Set tokenizerVocabularyLocation to count tokens exactly.", charactersPerToken);
+            return new CharacterRatioTokenEstimatorImpl(charactersPerToken);
+        }
+
+        final TokenizerEncodingEnum effectiveEncoding = encoding != null ? encoding : TokenizerEncodingEnum.CL100K_BASE;
+        final String location = vocabularyLocation.trim();
+        final String key = effectiveEncoding + "|" + location + "|" + stampOf(location);
+
+        TokenEstimator tokenizer;
+        synchronized (TOKENIZERS) {
+            tokenizer = TOKENIZERS.get(key);
+        }
+        if (tokenizer != null) {
+            logger.debug("Reusing {} tokenizer loaded from '{}'.", effectiveEncoding, location);
+            return tokenizer;
+        }
+
+        long started = System.nanoTime();
+        BpeVocabulary vocabulary;
+        try {
+            vocabulary = BpeVocabulary.parse(resourceLoader.load(location));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("Invalid tokenizer vocabulary '%s': %s", location, e.getMessage()), e);
+        }
+        tokenizer = new BpeTokenEstimatorImpl(vocabulary, effectiveEncoding);
+        logger.info("Loaded {} tokenizer with {} tokens from '{}' in {} ms.",
+                effectiveEncoding, vocabulary.size(), location, (System.nanoTime() - started) / 1_000_000);
+
+        synchronized (TOKENIZERS) {
+            TokenEstimator existing = TOKENIZERS.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            TOKENIZERS.put(key, tokenizer);
+        }
+        return tokenizer;
+    }
+
+    /**
+     * Gets the modification time and size of a vocabulary file; classpath resources do not change while their
+     * class loader is alive.
+     */
+    private static String stampOf(String location) {
+        if (location.startsWith("classpath:")) {
+            return "";
+        }
+        Path path = Paths.get(location.startsWith("file:") ? location.substring("file:".length()) : location);
+        try {
+            return Files.getLastModifiedTime(path).toMillis() + ":" + Files.size(path);
+        } catch (IOException e) {
+            // Reported by the resource loader when the vocabulary is loaded
+            return "";
+        }
+    }
+}
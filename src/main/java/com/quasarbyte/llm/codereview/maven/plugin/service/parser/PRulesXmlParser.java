@@ -2,8 +2,14 @@ package com.quasarbyte.llm.codereview.maven.plugin.service.parser;
 
 import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface PRulesXmlParser {
     List<PRule> parseRules(String xml) throws Exception;
+
+    /**
+     * Parses rules from a stream; the encoding is taken from the XML declaration. The stream is not closed.
+     */
+    List<PRule> parseRules(InputStream xml) throws Exception;
 }
@@ -0,0 +1,43 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.planning;
+
+/**
+ * Token limits a single review request has to fit into.
+ */
+public class BatchBudget {
+
+    private final int contextWindowTokens;
+    private final int outputReserveTokens;
+    private final int requestOverheadTokens;
+    private final int fileOverheadTokens;
+
+    public BatchBudget(int contextWindowTokens, int outputReserveTokens, int requestOverheadTokens, int fileOverheadTokens) {
+        this.contextWindowTokens = contextWindowTokens;
+        this.outputReserveTokens = outputReserveTokens;
+        this.requestOverheadTokens = requestOverheadTokens;
+        this.fileOverheadTokens = fileOverheadTokens;
+    }
+
+    public int getContextWindowTokens() {
+        return contextWindowTokens;
+    }
+
+    public int getOutputReserveTokens() {
+        return outputReserveTokens;
+    }
+
+    public int getRequestOverheadTokens() {
+        return requestOverheadTokens;
+    }
+
+    public int getFileOverheadTokens() {
+        return fileOverheadTokens;
+    }
+
+    /**
+     * Gets the number of input tokens available to a request.
+     * @return context window minus output reserve
+     */
+    public int getInputTokens() {
+        return contextWindowTokens - outputReserveTokens;
+    }
+}
@@ -0,0 +1,49 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.planning;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+/**
+ * The result of batch planning.
+ */
+public class BatchPlan {
+
+    private final ReviewParameter parameter;
+    private final Integer rulesBatchSize;
+    private final int requestCount;
+    private final int oversizedFileCount;
+
+    public BatchPlan(ReviewParameter parameter, Integer rulesBatchSize, int requestCount, int oversizedFileCount) {
+        this.parameter = parameter;
+        this.rulesBatchSize = rulesBatchSize;
+        this.requestCount = requestCount;
+        this.oversizedFileCount = oversizedFileCount;
+    }
+
+    /**
+     * Gets the planned review parameter, whose file groups are split into batches that fit the budget.
+     * @return the planned review parameter
+     */
+    public ReviewParameter getParameter() {
+        return parameter;
+    }
+
+    public Integer getRulesBatchSize() {
+        return rulesBatchSize;
+    }
+
+    /**
+     * Gets the estimated number of LLM requests.
+     * @return the number of requests
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Gets the number of files which do not fit the budget even when sent alone with a single rule.
+     * @return the number of oversized files
+     */
+    public int getOversizedFileCount() {
+        return oversizedFileCount;
+    }
+}
@@ -0,0 +1,20 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.planning;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.io.IOException;
+
+/**
+ * Chooses file and rule batch sizes from token estimates instead of fixed counts.
+ */
+public interface BatchPlanner {
+    /**
+     * Tiles the files x rules matrix of every file group into the fewest requests that fit the budget.
+     *
+     * @param parameter the mapped review parameter
+     * @param budget    the token budget of a single request
+     * @return the plan
+     * @throws IOException if files cannot be resolved or read
+     */
+    BatchPlan plan(ReviewParameter parameter, BatchBudget budget) throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.pmapper;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Loads the rule files and the Rhino script referenced anywhere in a review parameter before it is mapped.
+ * <p>
+ * Every distinct resource is read once, concurrently, so that the mappers afterwards resolve their references from
+ * a warm {@link com.quasarbyte.llm.codereview.maven.plugin.service.CachingPRulesFileReader} and resource cache.
+ * </p>
+ */
+public interface PReviewParameterPreloader {
+
+    /**
+     * Loads the referenced resources. Failures are not reported here; the mapping reads the resource again and
+     * reports the error in its usual way.
+     *
+     * @param parameter       the review parameter, may be {@code null}
+     * @param executorService runs the loads; the preloader bounds how many run at the same time
+     * @return the number of distinct resources that were loaded successfully
+     */
+    int preload(PReviewParameter parameter, ExecutorService executorService);
+}
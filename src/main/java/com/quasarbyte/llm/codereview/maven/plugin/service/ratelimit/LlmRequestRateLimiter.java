@@ -0,0 +1,26 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit;
+
+/**
+ * Holds back the HTTP requests of an LLM client until its rate limits allow them.
+ */
+public interface LlmRequestRateLimiter {
+    /**
+     * Identifies the limits, e.g. a digest of the API key; requests limited under the same key share them.
+     * @return the key
+     */
+    String getKey();
+
+    /**
+     * Reserves one request and the tokens of the request and its response, and waits until they are available.
+     *
+     * @param requestBody the body of the request as it is sent to the LLM endpoint
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void acquire(byte[] requestBody) throws InterruptedException;
+
+    /**
+     * Gets the total time requests have been held back so far, which tells whether a slow call was throttled.
+     * @return the time in nanoseconds
+     */
+    long getWaitNanos();
+}
@@ -0,0 +1,24 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit;
+
+/**
+ * Rate limit of a number of permits per minute, e.g. requests or LLM tokens.
+ */
+public interface TokenBucket {
+    /**
+     * Reserves permits without blocking.
+     * <p>
+     * The reservation always succeeds; the caller has to wait the returned time before using the permits.
+     * Reservations larger than the bucket capacity are allowed and simply wait longer.
+     * </p>
+     *
+     * @param permits the number of permits, at least 0
+     * @return the time to wait in nanoseconds, 0 if the permits are available now
+     */
+    long reserve(long permits);
+
+    /**
+     * Gets the sustained rate.
+     * @return the number of permits per minute
+     */
+    long getPermitsPerMinute();
+}
@@ -0,0 +1,21 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit;
+
+/**
+ * Shares token buckets between clients and plugin executions, so that all requests made with the same
+ * credentials count against the same provider limit.
+ */
+public interface TokenBucketRegistry {
+    /**
+     * Gets the bucket registered under the key, or creates it with the given rate.
+     *
+     * @param key               the bucket key, e.g. a digest of the API key and the limit kind
+     * @param permitsPerMinute  the rate of a new bucket
+     * @return the shared bucket
+     */
+    TokenBucket getOrCreate(String key, long permitsPerMinute);
+
+    /**
+     * Forgets all buckets, e.g. at the end of the Maven session.
+     */
+    void clear();
+}
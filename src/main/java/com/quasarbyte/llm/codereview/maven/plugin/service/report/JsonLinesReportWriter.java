@@ -0,0 +1,26 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.report;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultListener;
+
+import java.io.Closeable;
+
+/**
+ * Appends the items of every review result to a JSON Lines report while the review runs.
+ * <p>
+ * Each line is one result item. Lines are flushed after every result, so a build that is killed still
+ * leaves the items reviewed so far on disk.
+ * </p>
+ */
+public interface JsonLinesReportWriter extends ReviewResultListener, Closeable {
+
+    /**
+     * @return the number of lines written so far
+     */
+    long getLineCount();
+
+    /**
+     * Flushes the remaining lines and releases the underlying stream.
+     */
+    @Override
+    void close();
+}
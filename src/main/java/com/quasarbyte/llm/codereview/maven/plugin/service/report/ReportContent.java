@@ -0,0 +1,17 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.report;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the body of a report to a character stream, so that the report never has to exist as a whole in memory.
+ */
+@FunctionalInterface
+public interface ReportContent {
+    /**
+     * Writes the report.
+     *
+     * @param writer the stream to write to, must not be closed by the content
+     */
+    void writeTo(Writer writer) throws IOException;
+}
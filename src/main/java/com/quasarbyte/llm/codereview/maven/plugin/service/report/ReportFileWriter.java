@@ -0,0 +1,15 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.report;
+
+/**
+ * Writes report content to a file or to the standard streams.
+ */
+public interface ReportFileWriter {
+    /**
+     * Writes the content to the target, replacing an existing file.
+     *
+     * @param filePath the file path, or {@code STDOUT} / {@code STDERR} (case-insensitive)
+     * @param content  the content of the report
+     * @throws com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException if the report cannot be written
+     */
+    void write(String filePath, ReportContent content);
+}
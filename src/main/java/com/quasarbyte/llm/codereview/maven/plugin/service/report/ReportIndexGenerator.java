@@ -0,0 +1,13 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.report;
+
+import java.util.List;
+
+/**
+ * Generates the index page of a sharded report, linking every page together with its severity counts.
+ */
+public interface ReportIndexGenerator {
+
+    String generateHtmlIndex(List<ReportShard> shards);
+
+    String generateMarkdownIndex(List<ReportShard> shards);
+}
@@ -0,0 +1,48 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.report;
+
+/**
+ * Describes one page of a sharded report for its index page.
+ */
+public class ReportShard {
+
+    private final String fileName;
+    private final int itemCount;
+    private final long infoCount;
+    private final long warningCount;
+    private final long criticalCount;
+
+    /**
+     * @param fileName      the file name of the page, relative to the index page
+     * @param itemCount     the number of result items on the page
+     * @param infoCount     the number of info findings on the page
+     * @param warningCount  the number of warnings on the page
+     * @param criticalCount the number of critical findings on the page
+     */
+    public ReportShard(String fileName, int itemCount, long infoCount, long warningCount, long criticalCount) {
+        this.fileName = fileName;
+        this.itemCount = itemCount;
+        this.infoCount = infoCount;
+        this.warningCount = warningCount;
+        this.criticalCount = criticalCount;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public long getInfoCount() {
+        return infoCount;
+    }
+
+    public long getWarningCount() {
+        return warningCount;
+    }
+
+    public long getCriticalCount() {
+        return criticalCount;
+    }
+}
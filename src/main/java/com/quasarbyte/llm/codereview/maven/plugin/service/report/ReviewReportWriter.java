@@ -0,0 +1,28 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.report;
+
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes a review result as a human-readable report, one item at a time, so that no report has to exist as a whole
+ * in memory.
+ */
+public interface ReviewReportWriter {
+
+    /**
+     * Writes a header row followed by one row per item.
+     */
+    void writeCsv(ReviewResult result, Writer writer) throws IOException;
+
+    /**
+     * Writes a severity summary followed by one section per item.
+     */
+    void writeMarkdown(ReviewResult result, Writer writer) throws IOException;
+
+    /**
+     * Writes a severity summary followed by a table with one row per item.
+     */
+    void writeHtml(ReviewResult result, Writer writer) throws IOException;
+}
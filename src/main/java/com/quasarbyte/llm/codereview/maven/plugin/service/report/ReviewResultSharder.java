@@ -0,0 +1,19 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.report;
+
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+import java.util.List;
+
+/**
+ * Splits a review result into smaller results that can be rendered as separate report pages.
+ */
+public interface ReviewResultSharder {
+    /**
+     * Splits the result into consecutive shards of at most {@code shardSize} items.
+     *
+     * @param result    the result to split
+     * @param shardSize the maximum number of items per shard, at least 1
+     * @return the shards in item order; a single shard holding the original result if it is small enough
+     */
+    List<ReviewResult> split(ReviewResult result, int shardSize);
+}
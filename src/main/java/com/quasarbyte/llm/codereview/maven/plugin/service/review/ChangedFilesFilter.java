@@ -0,0 +1,24 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Restricts a review parameter to a set of changed files.
+ */
+public interface ChangedFilesFilter {
+    /**
+     * Creates a copy of the review parameter where every file group lists only its changed files.
+     * File groups without changed files and targets without file groups are removed.
+     *
+     * @param parameter    the mapped review parameter
+     * @param changedFiles absolute, normalized paths of changed files
+     * @return the filtered copy, or empty if no file group contains a changed file
+     * @throws IOException if the paths of a file group cannot be resolved
+     */
+    Optional<ReviewParameter> filter(ReviewParameter parameter, Set<Path> changedFiles) throws IOException;
+}
@@ -0,0 +1,22 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.review;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Turns a review parameter configured for a single module into one review over all modules of a reactor.
+ */
+public interface ReactorReviewParameterExpander {
+    /**
+     * Creates a copy of the review parameter with one copy of every review target per module.
+     * Relative file group paths of a copy are resolved against the module base directory, and the target
+     * name is prefixed with the module name. Targets whose paths are all absolute are kept once.
+     *
+     * @param parameter the review parameter
+     * @param modules   module names mapped to their base directories, in reactor order
+     * @return the expanded copy
+     */
+    PReviewParameter expand(PReviewParameter parameter, Map<String, Path> modules);
+}
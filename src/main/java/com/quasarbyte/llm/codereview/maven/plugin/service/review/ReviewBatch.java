@@ -0,0 +1,56 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A part of a {@link ReviewUnit} which can be sent to the SDK on its own: a copy of the unit parameter whose
+ * file group explicitly lists the files of the batch.
+ * <p>
+ * The file group keeps its {@code filesBatchSize} and the parameter its {@code rulesBatchSize}, so the SDK
+ * makes the same requests for the batch as it would for these files in the whole review.
+ * </p>
+ */
+public class ReviewBatch {
+
+    private final ReviewUnit unit;
+    private final ReviewParameter parameter;
+    private final List<Path> files;
+    private final Charset charset;
+    private final int requestCount;
+
+    public ReviewBatch(ReviewUnit unit, ReviewParameter parameter, List<Path> files, Charset charset, int requestCount) {
+        this.unit = unit;
+        this.parameter = parameter;
+        this.files = files;
+        this.charset = charset;
+        this.requestCount = requestCount;
+    }
+
+    public ReviewUnit getUnit() {
+        return unit;
+    }
+
+    public ReviewParameter getParameter() {
+        return parameter;
+    }
+
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Gets the number of LLM requests the SDK makes for the batch: one per file batch and rules batch.
+     * @return the number of requests, at least 1
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+}
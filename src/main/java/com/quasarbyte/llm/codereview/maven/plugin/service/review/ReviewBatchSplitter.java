@@ -0,0 +1,23 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.util.List;
+
+/**
+ * Splits a review parameter into {@link ReviewBatch}es, so that parts of a file group can be reviewed, routed
+ * or stopped independently.
+ */
+public interface ReviewBatchSplitter {
+    /**
+     * Splits every file group into batches of at most {@code fileBatchesPerBatch} file batches, a file batch being
+     * the {@code filesBatchSize} files the SDK sends in one request. File groups without matching files are left out.
+     *
+     * @param parameter           the review parameter
+     * @param fileBatchesPerBatch the number of file batches per batch, at least 1
+     * @return the batches in file group order
+     * @throws com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException if the files
+     *                            of a file group cannot be resolved
+     */
+    List<ReviewBatch> split(ReviewParameter parameter, int fileBatchesPerBatch);
+}
@@ -0,0 +1,12 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+
+import java.util.List;
+
+/**
+ * Splits a review parameter into independent {@link ReviewUnit}s, one per file group of each target.
+ */
+public interface ReviewParameterSplitter {
+    List<ReviewUnit> split(ReviewParameter parameter);
+}
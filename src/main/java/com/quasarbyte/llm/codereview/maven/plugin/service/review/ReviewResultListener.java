@@ -0,0 +1,18 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+/**
+ * Receives the result of every part of a review as soon as it is available, before the results are merged.
+ * <p>
+ * Implementations must be thread-safe, parts of a review finish on many threads at once.
+ * </p>
+ */
+public interface ReviewResultListener {
+    /**
+     * Called once for every finished part of the review.
+     *
+     * @param result the result of the part
+     */
+    void onResult(ReviewResult result);
+}
@@ -0,0 +1,18 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+
+import java.util.List;
+
+/**
+ * Merges review results of several {@link ReviewUnit}s into a single result.
+ */
+public interface ReviewResultMerger {
+    /**
+     * Merges the results, keeping the order of their items.
+     *
+     * @param results the results to merge, must contain at least one element
+     * @return the merged result
+     */
+    ReviewResult merge(List<ReviewResult> results);
+}
@@ -0,0 +1,78 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.review;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+
+import java.util.List;
+
+/**
+ * A self-contained part of a review: a single file group of a single review target.
+ * <p>
+ * The {@link #getParameter() parameter} is a copy of the original review parameter which contains
+ * only this target with only this file group, so it can be reviewed independently.
+ * </p>
+ */
+public class ReviewUnit {
+
+    private final int targetIndex;
+    private final int fileGroupIndex;
+    private final ReviewTarget target;
+    private final FileGroup fileGroup;
+    private final ReviewParameter parameter;
+
+    public ReviewUnit(int targetIndex, int fileGroupIndex, ReviewTarget target, FileGroup fileGroup, ReviewParameter parameter) {
+        this.targetIndex = targetIndex;
+        this.fileGroupIndex = fileGroupIndex;
+        this.target = target;
+        this.fileGroup = fileGroup;
+        this.parameter = parameter;
+    }
+
+    public int getTargetIndex() {
+        return targetIndex;
+    }
+
+    public int getFileGroupIndex() {
+        return fileGroupIndex;
+    }
+
+    public ReviewTarget getTarget() {
+        return target;
+    }
+
+    public FileGroup getFileGroup() {
+        return fileGroup;
+    }
+
+    public ReviewParameter getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Gets the number of requests made for every file batch of the unit: one per rules batch.
+     * @return the number of rules batches, at least 1
+     */
+    public int getRulesBatchCount() {
+        int rules = size(parameter.getRules()) + size(target.getRules()) + size(fileGroup.getRules());
+        Integer rulesBatchSize = parameter.getRulesBatchSize();
+        if (rulesBatchSize == null || rulesBatchSize <= 0 || rules == 0) {
+            return 1;
+        }
+        return (rules + rulesBatchSize - 1) / rulesBatchSize;
+    }
+
+    /**
+     * Gets a human-readable name of the unit for logging.
+     * @return the unit name
+     */
+    public String getName() {
+        String targetName = target.getReviewTargetName() != null ? target.getReviewTargetName() : "target#" + targetIndex;
+        String fileGroupName = fileGroup.getFileGroupName() != null ? fileGroup.getFileGroupName() : "fileGroup#" + fileGroupIndex;
+        return targetName + "/" + fileGroupName;
+    }
+
+    private static int size(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Owns the single configured {@link ObjectMapper} of the plugin together with pre-built readers and writers.
+ * <p>
+ * Readers and writers are immutable and thread-safe, so one instance can be shared by all services and threads.
+ * </p>
+ */
+public interface SerializationService {
+
+    /**
+     * @return the shared mapper; callers must not reconfigure it
+     */
+    ObjectMapper getObjectMapper();
+
+    /**
+     * @return a reader for {@code List<PRule>} documents
+     */
+    ObjectReader getRulesReader();
+
+    /**
+     * @return a reader for {@link com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult} documents
+     */
+    ObjectReader getReviewResultReader();
+
+    /**
+     * @return a writer for {@link com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult} values that leaves the target open
+     */
+    ObjectWriter getReviewResultWriter();
+
+    /**
+     * @return a writer for configuration models, used for logging and diagnostics
+     */
+    ObjectWriter getConfigurationWriter();
+}
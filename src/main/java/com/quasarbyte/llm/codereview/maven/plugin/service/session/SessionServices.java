@@ -0,0 +1,33 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.session;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.client.LlmClientRegistry;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.TokenBucketRegistry;
+
+/**
+ * Registries shared by all plugin executions of one Maven session: LLM clients, rate limits and circuit breakers.
+ */
+public class SessionServices {
+
+    private final LlmClientRegistry llmClientRegistry;
+    private final TokenBucketRegistry tokenBucketRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    public SessionServices(LlmClientRegistry llmClientRegistry, TokenBucketRegistry tokenBucketRegistry, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.llmClientRegistry = llmClientRegistry;
+        this.tokenBucketRegistry = tokenBucketRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+    }
+
+    public LlmClientRegistry getLlmClientRegistry() {
+        return llmClientRegistry;
+    }
+
+    public TokenBucketRegistry getTokenBucketRegistry() {
+        return tokenBucketRegistry;
+    }
+
+    public CircuitBreakerRegistry getCircuitBreakerRegistry() {
+        return circuitBreakerRegistry;
+    }
+}
@@ -0,0 +1,25 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.session;
+
+/**
+ * Scopes shared registries to a Maven session.
+ * <p>
+ * Plugin classes can outlive a build, e.g. in the Maven daemon or in embedded Maven, so state such as open circuit
+ * breakers or consumed rate limits must not be kept in static fields, where the next build would inherit it.
+ * </p>
+ */
+public interface SessionServicesRegistry {
+
+    /**
+     * Gets the services of the session, creating them for the first execution of the session.
+     *
+     * @param session the Maven session, compared by identity; {@code null} creates services which are not shared
+     * @return the services of the session
+     */
+    SessionServices get(Object session);
+
+    /**
+     * Gets the number of sessions whose services are still reachable.
+     * @return the number of sessions
+     */
+    int size();
+}
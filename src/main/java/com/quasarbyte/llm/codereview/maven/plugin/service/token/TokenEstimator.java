@@ -0,0 +1,28 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.token;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+/**
+ * Estimates the number of tokens a text occupies in a model context.
+ */
+public interface TokenEstimator {
+    /**
+     * Estimates the number of tokens of a text.
+     *
+     * @param text the text, may be {@code null}
+     * @return the number of tokens, {@code 0} for {@code null}
+     */
+    int estimate(String text);
+
+    /**
+     * Estimates the number of tokens of a file.
+     *
+     * @param file    the file
+     * @param charset the encoding of the file
+     * @return the number of tokens
+     * @throws IOException if the file cannot be read
+     */
+    int estimate(Path file, Charset charset) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.token;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.TokenizerEncodingEnum;
+
+import java.io.IOException;
+
+/**
+ * Creates token estimators.
+ */
+public interface TokenEstimatorFactory {
+    /**
+     * Creates an exact BPE tokenizer if a vocabulary location is given, a heuristic estimator otherwise.
+     *
+     * @param vocabularyLocation location of a {@code .tiktoken} vocabulary, may be {@code null}
+     * @param encoding           encoding of the vocabulary, {@code null} for {@code cl100k_base}
+     * @param charactersPerToken average characters per token of the heuristic estimator
+     * @return the estimator
+     * @throws IOException if the vocabulary cannot be loaded
+     */
+    TokenEstimator create(String vocabularyLocation, TokenizerEncodingEnum encoding, double charactersPerToken) throws IOException;
+}
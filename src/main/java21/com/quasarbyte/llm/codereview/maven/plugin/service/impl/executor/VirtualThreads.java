@@ -0,0 +1,34 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads.
+ * <p>
+ * This is the Java 21 variant, packaged into {@code META-INF/versions/21} of the multi-release JAR.
+ * </p>
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Checks whether virtual threads are available in the running JVM.
+     * @return {@code true} if virtual threads can be created
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task.
+     * @param namePrefix the prefix of thread names
+     * @return the executor
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+    }
+}
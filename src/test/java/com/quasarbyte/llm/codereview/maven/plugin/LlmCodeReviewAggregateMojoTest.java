@@ -0,0 +1,57 @@
+package com.quasarbyte.llm.codereview.maven.plugin;
+
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmCodeReviewAggregateMojoTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testPomProjectContainingModulesIsSkipped() {
+        MavenProject root = project("root", "pom", directory);
+        MavenProject core = project("core", "jar", directory.resolve("core"));
+        MavenProject web = project("web", "war", directory.resolve("web"));
+        List<MavenProject> reactorProjects = Arrays.asList(root, core, web);
+
+        assertTrue(LlmCodeReviewAggregateMojo.isAggregatorOfOtherModules(root, reactorProjects));
+        assertFalse(LlmCodeReviewAggregateMojo.isAggregatorOfOtherModules(core, reactorProjects));
+        assertFalse(LlmCodeReviewAggregateMojo.isAggregatorOfOtherModules(web, reactorProjects));
+    }
+
+    @Test
+    void testPomProjectWithoutNestedModulesIsKept() {
+        MavenProject standalone = project("standalone", "pom", directory);
+        MavenProject parent = project("parent", "pom", directory.resolve("parent"));
+        MavenProject sibling = project("sibling", "jar", directory.resolve("sibling"));
+
+        assertFalse(LlmCodeReviewAggregateMojo.isAggregatorOfOtherModules(standalone, Collections.singletonList(standalone)));
+        // A parent referenced through relativePath, but not containing the module directory
+        assertFalse(LlmCodeReviewAggregateMojo.isAggregatorOfOtherModules(parent, Arrays.asList(parent, sibling)));
+    }
+
+    @Test
+    void testJarProjectContainingAnotherProjectIsKept() {
+        MavenProject outer = project("outer", "jar", directory);
+        MavenProject inner = project("inner", "jar", directory.resolve("inner"));
+
+        assertFalse(LlmCodeReviewAggregateMojo.isAggregatorOfOtherModules(outer, Arrays.asList(outer, inner)));
+    }
+
+    private static MavenProject project(String artifactId, String packaging, Path baseDirectory) {
+        MavenProject project = new MavenProject();
+        project.setArtifactId(artifactId);
+        project.setPackaging(packaging);
+        project.setFile(baseDirectory.resolve("pom.xml").toFile());
+        return project;
+    }
+}
@@ -1,7 +1,9 @@
 package com.quasarbyte.llm.codereview.maven.plugin;
 
 import com.quasarbyte.llm.codereview.maven.plugin.model.*;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.FileGroupPathResolverImpl;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -15,9 +17,11 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +30,9 @@ class LlmCodeReviewMojoTest {
 
     private static final Logger logger = LoggerFactory.getLogger(LlmCodeReviewMojoTest.class);
 
+    private static final String EXAMPLES_DIRECTORY = "src/test/resources/com/quasarbyte/llm/codereview/maven/plugin/examples";
+    private static final List<String> EXAMPLE_FILES = Arrays.asList("ExampleOne.java", "ExampleTwo.java");
+
     private MockWebServer mockWebServer;
 
     @BeforeEach
@@ -50,6 +57,72 @@ class LlmCodeReviewMojoTest {
                 .setBody(chatCompletionResponse)
         );
 
+        LlmCodeReviewMojo mojo = createMojo(Collections.singletonList("src/test/resources/com/quasarbyte/llm/codereview/maven/plugin/examples/ExampleOne.java"));
+
+        // --- Run the pipeline ---
+        assertDoesNotThrow(mojo::execute);
+
+        // --- Verify HTTP requests ---
+        try {
+            // POST /v1/chat/completions
+            RecordedRequest requestOne = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+            assertNotNull(requestOne, "No HTTP request to mock server (POST /v1/chat/completions)");
+            Assertions.assertEquals("/v1/chat/completions", requestOne.getPath(), "Second request path should be /v1/chat/completions");
+            Assertions.assertEquals("POST", requestOne.getMethod(), "Second request should be POST");
+
+            // Check the body of the POST request
+            String body = requestOne.getBody().readUtf8();
+            logger.info("body is {}", body);
+            assertTrue(body.contains("ExampleOne.java"));
+
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The cache, budget and batch planners resolve file groups with {@link FileGroupPathResolverImpl}, while the
+     * review itself is resolved by the SDK. Both must select the same files for the patterns documented in the README.
+     */
+    @Test
+    void testFileGroupPathResolverMatchesSdkForReadmePatterns() throws Exception {
+        String chatCompletionResponse = loadTestResource(EXAMPLES_DIRECTORY + "/chatCompletionResponse.json");
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .addHeader("Content-Type", "application/json")
+                        .setBody(chatCompletionResponse);
+            }
+        });
+
+        List<String> patterns = Arrays.asList(
+                EXAMPLES_DIRECTORY + "/**.java",
+                EXAMPLES_DIRECTORY + "/**/*.java",
+                EXAMPLES_DIRECTORY + "/*.java",
+                EXAMPLES_DIRECTORY + "/a/**/Example*.java");
+
+        for (String pattern : patterns) {
+            List<Path> resolved = new FileGroupPathResolverImpl().resolve(Collections.singletonList(pattern), null);
+
+            assertDoesNotThrow(createMojo(Collections.singletonList(pattern))::execute, pattern);
+
+            StringBuilder bodies = new StringBuilder();
+            RecordedRequest request;
+            while ((request = mockWebServer.takeRequest(1, TimeUnit.SECONDS)) != null) {
+                bodies.append(request.getBody().readUtf8());
+            }
+
+            for (String exampleFile : EXAMPLE_FILES) {
+                boolean resolvedByPlugin = resolved.stream().anyMatch(path -> path.getFileName().toString().equals(exampleFile));
+                boolean sentBySdk = bodies.indexOf(exampleFile) >= 0;
+                assertEquals(resolvedByPlugin, sentBySdk, "Pattern '" + pattern + "', file " + exampleFile);
+            }
+        }
+    }
+
+    private LlmCodeReviewMojo createMojo(List<String> paths) {
         // --- Mojo setup ---
         LlmCodeReviewMojo mojo = new LlmCodeReviewMojo();
 
@@ -80,7 +153,7 @@ class LlmCodeReviewMojoTest {
 
         // --- FILE GROUP ---
         PFileGroup fileGroup = new PFileGroup();
-        fileGroup.setPaths(Collections.singletonList("src/test/resources/com/quasarbyte/llm/codereview/maven/plugin/examples/ExampleOne.java"));
+        fileGroup.setPaths(paths);
         // Don't set rules on file group since they're now at the top level
 
         // --- REVIEW TARGET ---
@@ -111,25 +184,7 @@ class LlmCodeReviewMojoTest {
         mojo.setBuildFailureConfiguration(buildFailureConfiguration);
         mojo.setReportsConfiguration(reportsConfiguration);
 
-        // --- Run the pipeline ---
-        assertDoesNotThrow(mojo::execute);
-
-        // --- Verify HTTP requests ---
-        try {
-            // POST /v1/chat/completions
-            RecordedRequest requestOne = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
-            assertNotNull(requestOne, "No HTTP request to mock server (POST /v1/chat/completions)");
-            Assertions.assertEquals("/v1/chat/completions", requestOne.getPath(), "Second request path should be /v1/chat/completions");
-            Assertions.assertEquals("POST", requestOne.getMethod(), "Second request should be POST");
-
-            // Check the body of the POST request
-            String body = requestOne.getBody().readUtf8();
-            logger.info("body is {}", body);
-            assertTrue(body.contains("ExampleOne.java"));
-
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+        return mojo;
     }
 
     /**
@@ -0,0 +1,73 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverloadClassifierTest {
+
+    @Test
+    void testTypedStatusDecides() {
+        assertTrue(OverloadClassifier.isOverload(new StatusException(429, "Error")));
+        assertTrue(OverloadClassifier.isOverload(new StatusException(503, "Error")));
+        assertTrue(OverloadClassifier.isOverload(new StatusException(408, "Error")));
+        assertFalse(OverloadClassifier.isOverload(new StatusException(400, "Rate limit of the organization: invalid value")));
+        assertFalse(OverloadClassifier.isOverload(new StatusException(401, "Too many requests without a key")));
+    }
+
+    @Test
+    void testTypedStatusOfCauseDecides() {
+        assertTrue(OverloadClassifier.isOverload(new ExecutionException(new StatusException(429, "Error"))));
+        assertFalse(OverloadClassifier.isOverload(new RuntimeException("timeout", new StatusException(404, "Not found"))));
+    }
+
+    @Test
+    void testStatusOutsideHttpRangeFallsBackToText() {
+        assertTrue(OverloadClassifier.isOverload(new StatusException(0, "Connection timed out")));
+        assertFalse(OverloadClassifier.isOverload(new StatusException(0, "Connection refused")));
+    }
+
+    @Test
+    void testTimeoutExceptionsAreOverload() {
+        assertTrue(OverloadClassifier.isOverload(new IOException(new SocketTimeoutException("Read"))));
+        assertTrue(OverloadClassifier.isOverload(new TimeoutException()));
+    }
+
+    @Test
+    void testUntypedFailuresAreClassifiedByText() {
+        assertTrue(OverloadClassifier.isOverload(new IllegalStateException("HTTP status 503 from endpoint")));
+        assertTrue(OverloadClassifier.isOverload(new IllegalStateException("Received 429")));
+        assertTrue(OverloadClassifier.isOverload(new RuntimeException(new IllegalStateException("Rate limit reached"))));
+        assertFalse(OverloadClassifier.isOverload(new IllegalStateException("Invalid JSON in line 503")));
+        assertFalse(OverloadClassifier.isOverload(new IllegalArgumentException("Bad request")));
+        assertFalse(OverloadClassifier.isOverload(null));
+    }
+
+    @Test
+    void testOverloadStatuses() {
+        assertTrue(OverloadClassifier.isOverloadStatus(429));
+        assertTrue(OverloadClassifier.isOverloadStatus(500));
+        assertTrue(OverloadClassifier.isOverloadStatus(599));
+        assertFalse(OverloadClassifier.isOverloadStatus(200));
+        assertFalse(OverloadClassifier.isOverloadStatus(400));
+    }
+
+    public static class StatusException extends RuntimeException {
+
+        private final int statusCode;
+
+        StatusException(int statusCode, String message) {
+            super(message);
+            this.statusCode = statusCode;
+        }
+
+        public int statusCode() {
+            return statusCode;
+        }
+    }
+}
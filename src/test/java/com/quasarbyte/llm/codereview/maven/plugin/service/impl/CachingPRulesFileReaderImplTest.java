@@ -0,0 +1,143 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
+import com.quasarbyte.llm.codereview.maven.plugin.service.PRulesFileReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingPRulesFileReaderImplTest {
+
+    @TempDir
+    Path directory;
+
+    private final CountingReader delegate = new CountingReader();
+    private final CachingPRulesFileReaderImpl reader = new CachingPRulesFileReaderImpl(delegate);
+
+    @Test
+    void testEquivalentPathsShareOneEntry() throws Exception {
+        Path file = write("rules/rules.json", "[]");
+
+        List<PRule> first = reader.readPRules(file.toString());
+        List<PRule> second = reader.readPRules(directory.resolve("rules/../rules/./rules.json").toString());
+        List<PRule> third = reader.readPRules("file:" + file);
+        List<PRule> fourth = reader.readPRules("  " + file + "  ");
+
+        assertEquals(1, delegate.calls);
+        assertSame(first, second);
+        assertSame(first, third);
+        assertSame(first, fourth);
+        assertEquals(3, reader.getHitCount());
+        assertEquals(1, reader.getMissCount());
+    }
+
+    @Test
+    void testClasspathLocationsIgnoreLeadingSlash() throws Exception {
+        List<PRule> first = reader.readPRules("classpath:rules/default.json");
+        List<PRule> second = reader.readPRules("classpath:/rules/default.json");
+
+        assertEquals(1, delegate.calls);
+        assertSame(first, second);
+    }
+
+    @Test
+    void testModifiedTimeChangeInvalidatesEntry() throws Exception {
+        Path file = write("rules.json", "[1]");
+        reader.readPRules(file.toString());
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+        reader.readPRules(file.toString());
+        reader.readPRules(file.toString());
+
+        assertEquals(2, delegate.calls);
+        assertEquals(2, reader.getMissCount());
+        assertEquals(1, reader.getHitCount());
+    }
+
+    @Test
+    void testSizeChangeInvalidatesEntryWithSameModifiedTime() throws Exception {
+        Path file = write("rules.json", "[1]");
+        FileTime modified = Files.getLastModifiedTime(file);
+        reader.readPRules(file.toString());
+
+        Files.write(file, "[1, 2]".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, modified);
+        reader.readPRules(file.toString());
+
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void testDeletedFileIsReadAgain() throws Exception {
+        Path file = write("rules.json", "[]");
+        reader.readPRules(file.toString());
+        Files.delete(file);
+
+        reader.readPRules(file.toString());
+        reader.readPRules(file.toString());
+
+        assertEquals(3, delegate.calls);
+        assertEquals(0, reader.getHitCount());
+    }
+
+    @Test
+    void testReturnedListsAreUnmodifiable() throws Exception {
+        Path file = write("rules.json", "[]");
+
+        List<PRule> miss = reader.readPRules(file.toString());
+        List<PRule> hit = reader.readPRules(file.toString());
+
+        assertThrows(UnsupportedOperationException.class, () -> miss.add(new PRule()));
+        assertThrows(UnsupportedOperationException.class, () -> hit.remove(0));
+        assertThrows(UnsupportedOperationException.class, hit::clear);
+        assertEquals(1, hit.size());
+    }
+
+    @Test
+    void testClearDropsEntries() throws Exception {
+        Path file = write("rules.json", "[]");
+        reader.readPRules(file.toString());
+
+        reader.clear();
+        reader.readPRules(file.toString());
+
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void testBlankLocationIsDelegatedWithoutCaching() throws Exception {
+        reader.readPRules(" ");
+        reader.readPRules(" ");
+
+        assertEquals(2, delegate.calls);
+        assertEquals(0, reader.getMissCount());
+    }
+
+    private Path write(String relativePath, String content) throws IOException {
+        Path file = directory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static final class CountingReader implements PRulesFileReader {
+        private int calls;
+
+        @Override
+        public List<PRule> readPRules(String filePath) {
+            calls++;
+            List<PRule> rules = new ArrayList<>();
+            rules.add(new PRule().setCode("r" + calls));
+            return rules;
+        }
+    }
+}
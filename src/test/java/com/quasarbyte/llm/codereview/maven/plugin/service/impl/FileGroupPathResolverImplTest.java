@@ -0,0 +1,90 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileGroupPathResolverImplTest {
+
+    @TempDir
+    Path directory;
+
+    private final FileGroupPathResolverImpl resolver = new FileGroupPathResolverImpl();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        createFile("src/Root.java");
+        createFile("src/main/Main.java");
+        createFile("src/main/a/b/Deep.java");
+        createFile("src/main/a/b/notes.txt");
+        createFile("src/test/MainTest.java");
+    }
+
+    @Test
+    void testReadmePatternMatchesFilesInAllDirectories() throws IOException {
+        assertEquals(Arrays.asList("src/main/Main.java", "src/main/a/b/Deep.java"), resolve("src/main/**.java"));
+    }
+
+    @Test
+    void testDoubleStarSlashRequiresAtLeastOneDirectory() throws IOException {
+        assertEquals(Arrays.asList("src/main/Main.java", "src/main/a/b/Deep.java", "src/test/MainTest.java"), resolve("src/**/*.java"));
+    }
+
+    @Test
+    void testSingleStarDoesNotCrossDirectories() throws IOException {
+        assertEquals(Collections.singletonList("src/Root.java"), resolve("src/*.java"));
+    }
+
+    @Test
+    void testLiteralPath() throws IOException {
+        assertEquals(Collections.singletonList("src/main/Main.java"), resolve("src/main/Main.java"));
+        assertEquals(Collections.emptyList(), resolve("src/main/Missing.java"));
+    }
+
+    @Test
+    void testExcludePatternsAndDirectories() throws IOException {
+        List<Path> excludedByPattern = resolver.resolve(Collections.singletonList(pattern("src/**.java")),
+                Collections.singletonList(pattern("src/main/a/**")));
+        assertEquals(Arrays.asList("src/Root.java", "src/main/Main.java", "src/test/MainTest.java"), relative(excludedByPattern));
+
+        List<Path> excludedByDirectory = resolver.resolve(Collections.singletonList(pattern("src/**.java")),
+                Collections.singletonList(pattern("src/main")));
+        assertEquals(Arrays.asList("src/Root.java", "src/test/MainTest.java"), relative(excludedByDirectory));
+    }
+
+    @Test
+    void testResultIsSortedAndDistinct() throws IOException {
+        List<Path> files = resolver.resolve(Arrays.asList(pattern("src/main/**.java"), pattern("src/main/Main.java"), " "), null);
+        assertEquals(Arrays.asList("src/main/Main.java", "src/main/a/b/Deep.java"), relative(files));
+    }
+
+    private List<String> resolve(String pattern) throws IOException {
+        return relative(resolver.resolve(Collections.singletonList(pattern(pattern)), null));
+    }
+
+    private String pattern(String relativePattern) {
+        return directory.toString().replace('\\', '/') + "/" + relativePattern;
+    }
+
+    private List<String> relative(List<Path> files) {
+        return files.stream()
+                .map(file -> directory.relativize(file).toString().replace('\\', '/'))
+                .collect(Collectors.toList());
+    }
+
+    private void createFile(String relativePath) throws IOException {
+        Path file = directory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, Collections.singletonList("// " + relativePath));
+    }
+}
@@ -0,0 +1,241 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.budget;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.BudgetPlan;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.ReviewBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.SpendBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterSplitterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Files are named after their token count, e.g. {@code t100-a} has 100 tokens.
+ */
+class BudgetPlannerImplTest {
+
+    private static final int OUTPUT_TOKENS_PER_REQUEST = 10;
+
+    private final BudgetPlannerImpl budgetPlanner = new BudgetPlannerImpl(new ReviewParameterSplitterImpl(),
+            (paths, excludePaths) -> {
+                List<Path> files = new ArrayList<>();
+                for (String path : paths) {
+                    files.add(Paths.get(path));
+                }
+                return files;
+            });
+
+    private final TokenEstimator tokenEstimator = new TokenEstimator() {
+        @Override
+        public int estimate(String text) {
+            return text.length();
+        }
+
+        @Override
+        public int estimate(Path file, Charset charset) {
+            String name = file.getFileName().toString();
+            return Integer.parseInt(name.substring(1, name.indexOf('-')));
+        }
+    };
+
+    @Test
+    void testWithinBudget() throws Exception {
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 1, "t100-a", "t100-b")));
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, reviewBudget(new SpendBudget(200L, null, null)), tokenEstimator, true);
+
+        assertSame(parameter, plan.getParameter());
+        assertTrue(plan.getViolations().isEmpty());
+        assertEquals(200, plan.getPlannedSpend().getInputTokens());
+        assertEquals(2, plan.getPlannedSpend().getRequests());
+        assertEquals(2 * OUTPUT_TOKENS_PER_REQUEST, plan.getPlannedSpend().getOutputTokens());
+        assertEquals(0, plan.getSkippedFileCount());
+    }
+
+    @Test
+    void testViolationWithoutTrimKeepsTheParameter() throws Exception {
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 1, "t100-a", "t100-b")));
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, reviewBudget(new SpendBudget(150L, null, null)), tokenEstimator, false);
+
+        assertSame(parameter, plan.getParameter());
+        assertEquals(Collections.singletonList("review: 200 input tokens exceed the quota of 150"), plan.getViolations());
+        assertEquals(200, plan.getAcceptedSpend().getInputTokens());
+        assertEquals(0, plan.getSkippedFileCount());
+    }
+
+    @Test
+    void testTrimAcceptsBatchesInOrderUntilTheBudgetIsFull() throws Exception {
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 1, "t100-a", "t100-b", "t100-c")));
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, reviewBudget(new SpendBudget(250L, null, null)), tokenEstimator, true);
+
+        assertEquals(1, plan.getViolations().size());
+        assertEquals(300, plan.getPlannedSpend().getInputTokens());
+        assertEquals(200, plan.getAcceptedSpend().getInputTokens());
+        assertEquals(1, plan.getSkippedFileCount());
+        assertEquals(Arrays.asList("t100-a", "t100-b"), paths(plan.getParameter(), 0, 0));
+        assertEquals(Integer.valueOf(1), plan.getParameter().getTargets().get(0).getFileGroups().get(0).getFilesBatchSize());
+    }
+
+    @Test
+    void testTrimEndsTheFileGroupAtTheFirstBatchThatDoesNotFit() throws Exception {
+        // The small last file would fit, but taking it would change how the remaining files are batched
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 1, "t100-a", "t300-b", "t50-c")));
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, reviewBudget(new SpendBudget(200L, null, null)), tokenEstimator, true);
+
+        assertEquals(Collections.singletonList("t100-a"), paths(plan.getParameter(), 0, 0));
+        assertEquals(100, plan.getAcceptedSpend().getInputTokens());
+        assertEquals(2, plan.getSkippedFileCount());
+    }
+
+    @Test
+    void testTrimTrimsWholeBatches() throws Exception {
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 2, "t100-a", "t100-b", "t100-c", "t100-d")));
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, reviewBudget(new SpendBudget(300L, null, null)), tokenEstimator, true);
+
+        assertEquals(Arrays.asList("t100-a", "t100-b"), paths(plan.getParameter(), 0, 0));
+        assertEquals(1, plan.getAcceptedSpend().getRequests());
+        assertEquals(2, plan.getSkippedFileCount());
+    }
+
+    @Test
+    void testTrimAppliesTargetAndFileGroupBudgets() throws Exception {
+        ReviewParameter parameter = parameter(
+                target("api", fileGroup("main", 1, "t100-a", "t100-b"), fileGroup("test", 1, "t100-c", "t100-d")),
+                target("web", fileGroup("main", 1, "t100-e")));
+        Map<String, SpendBudget> targetBudgets = new HashMap<>();
+        targetBudgets.put("api", new SpendBudget(300L, null, null));
+        Map<String, SpendBudget> fileGroupBudgets = new HashMap<>();
+        fileGroupBudgets.put(ReviewBudget.fileGroupKey("api", "main"), new SpendBudget(100L, null, null));
+        ReviewBudget budget = new ReviewBudget(null, targetBudgets, fileGroupBudgets, OUTPUT_TOKENS_PER_REQUEST, 0, 0, 0, 0);
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, budget, tokenEstimator, true);
+
+        assertEquals(2, plan.getViolations().size());
+        assertEquals(2, plan.getParameter().getTargets().size());
+        assertEquals(Collections.singletonList("t100-a"), paths(plan.getParameter(), 0, 0));
+        assertEquals(Arrays.asList("t100-c", "t100-d"), paths(plan.getParameter(), 0, 1));
+        assertEquals(Collections.singletonList("t100-e"), paths(plan.getParameter(), 1, 0));
+        assertEquals(1, plan.getSkippedFileCount());
+        assertEquals(400, plan.getAcceptedSpend().getInputTokens());
+    }
+
+    @Test
+    void testTrimDropsFileGroupsWithoutRoom() throws Exception {
+        ReviewParameter parameter = parameter(
+                target("api", fileGroup("main", 1, "t500-a")),
+                target("web", fileGroup("main", 1, "t100-b")));
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, reviewBudget(new SpendBudget(200L, null, null)), tokenEstimator, true);
+
+        assertEquals(1, plan.getParameter().getTargets().size());
+        assertEquals("web", plan.getParameter().getTargets().get(0).getReviewTargetName());
+        assertEquals(1, plan.getSkippedFileCount());
+    }
+
+    @Test
+    void testTrimWithoutRoomForAnyFile() throws Exception {
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 1, "t500-a", "t500-b")));
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, reviewBudget(new SpendBudget(100L, null, null)), tokenEstimator, true);
+
+        assertNull(plan.getParameter());
+        assertEquals(2, plan.getSkippedFileCount());
+        assertEquals(0, plan.getAcceptedSpend().getInputTokens());
+    }
+
+    @Test
+    void testTrimByOutputTokensAndCost() throws Exception {
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 1, "t100-a", "t100-b", "t100-c")));
+        // 1.0 per million input tokens and 100.0 per million output tokens: a batch costs 0.0001 + 0.001
+        ReviewBudget budget = new ReviewBudget(new SpendBudget(null, 20L, 0.0025), null, null,
+                OUTPUT_TOKENS_PER_REQUEST, 0, 0, 1.0, 100.0);
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, budget, tokenEstimator, true);
+
+        assertEquals(Arrays.asList("t100-a", "t100-b"), paths(plan.getParameter(), 0, 0));
+        assertEquals(0.0022, plan.getAcceptedSpend().getCost(), 1e-9);
+    }
+
+    @Test
+    void testRulesBatchesAndOverheadsMultiplyRequests() throws Exception {
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 2, "t100-a", "t100-b")));
+        parameter.setRules(Arrays.asList(rule("R1"), rule("R2"), rule("R3")));
+        parameter.setRulesBatchSize(2);
+        ReviewBudget budget = new ReviewBudget(null, null, null, OUTPUT_TOKENS_PER_REQUEST, 50, 5, 0, 0);
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, budget, tokenEstimator, false);
+
+        // Two requests, each with both files, their framing and the request overhead
+        assertEquals(2, plan.getPlannedSpend().getRequests());
+        assertEquals(2 * (200 + 2 * 5 + 50), plan.getPlannedSpend().getInputTokens());
+        assertEquals(2 * OUTPUT_TOKENS_PER_REQUEST, plan.getPlannedSpend().getOutputTokens());
+    }
+
+    @Test
+    void testExtraLoadRatioIsAddedToEveryBatch() throws Exception {
+        ReviewParameter parameter = parameter(target("api", fileGroup("main", 1, "t100-a", "t100-b")));
+        ReviewBudget budget = new ReviewBudget(new SpendBudget(210L, null, null), null, null,
+                OUTPUT_TOKENS_PER_REQUEST, 0, 0, 0, 0, 0.1);
+
+        BudgetPlan plan = budgetPlanner.plan(parameter, budget, tokenEstimator, true);
+
+        assertEquals(220, plan.getPlannedSpend().getInputTokens());
+        assertEquals(22, plan.getPlannedSpend().getOutputTokens());
+        assertEquals(Collections.singletonList("t100-a"), paths(plan.getParameter(), 0, 0));
+    }
+
+    private static ReviewBudget reviewBudget(SpendBudget reviewBudget) {
+        return new ReviewBudget(reviewBudget, null, null, OUTPUT_TOKENS_PER_REQUEST, 0, 0, 0, 0);
+    }
+
+    private static ReviewParameter parameter(ReviewTarget... targets) {
+        ReviewParameter parameter = new ReviewParameter();
+        parameter.setReviewName("budget");
+        parameter.setTargets(Arrays.asList(targets));
+        return parameter;
+    }
+
+    private static ReviewTarget target(String name, FileGroup... fileGroups) {
+        ReviewTarget target = new ReviewTarget();
+        target.setReviewTargetName(name);
+        target.setFileGroups(Arrays.asList(fileGroups));
+        return target;
+    }
+
+    private static FileGroup fileGroup(String name, int filesBatchSize, String... paths) {
+        FileGroup fileGroup = new FileGroup();
+        fileGroup.setFileGroupName(name);
+        fileGroup.setFilesBatchSize(filesBatchSize);
+        fileGroup.setPaths(Arrays.asList(paths));
+        return fileGroup;
+    }
+
+    private static Rule rule(String code) {
+        Rule rule = new Rule();
+        rule.setCode(code);
+        rule.setDescription("Rule " + code);
+        return rule;
+    }
+
+    private static List<String> paths(ReviewParameter parameter, int targetIndex, int fileGroupIndex) {
+        return parameter.getTargets().get(targetIndex).getFileGroups().get(fileGroupIndex).getPaths();
+    }
+}
@@ -0,0 +1,147 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.budget;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.BudgetExceededException;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ValidationException;
+import com.quasarbyte.llm.codereview.maven.plugin.model.BudgetExceededActionEnum;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PFileGroup;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PLlmClientConfiguration;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PLlmQuota;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PModelPrice;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewTarget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.BudgetPlan;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.ReviewBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.budget.SpendEstimate;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewBudgetServiceImplTest {
+
+    private final TokenEstimator tokenEstimator = new TokenEstimator() {
+        @Override
+        public int estimate(String text) {
+            return text.length();
+        }
+
+        @Override
+        public int estimate(Path file, Charset charset) {
+            return 0;
+        }
+    };
+
+    private final ReviewParameter reviewParameter = new ReviewParameter()
+            .setLlmChatCompletionConfiguration(new LlmChatCompletionConfiguration().setModel("small"));
+
+    private List<String> violations = Collections.emptyList();
+    private ReviewBudget plannedBudget;
+    private TokenEstimator plannedTokenEstimator;
+    private Boolean plannedTrim;
+
+    private final ReviewBudgetServiceImpl reviewBudgetService = new ReviewBudgetServiceImpl((parameter, budget, estimator, trim) -> {
+        plannedBudget = budget;
+        plannedTokenEstimator = estimator;
+        plannedTrim = trim;
+        SpendEstimate spend = new SpendEstimate(1, 100, 10, 0);
+        return new BudgetPlan(trim && !violations.isEmpty() ? null : parameter, spend, spend, violations, 0);
+    });
+
+    @Test
+    void testIsEnabledByAQuotaOnAnyLevel() {
+        assertFalse(reviewBudgetService.isEnabled(configured(null, target("api", new PLlmQuota().setRequestQuota(5L)))));
+        assertTrue(reviewBudgetService.isEnabled(configured(null, target("api", null,
+                new PFileGroup().setFileGroupName("main").setLlmQuota(new PLlmQuota().setInputTokenQuota(10L))))));
+    }
+
+    @Test
+    void testPassesTheBudgetsOfTheReviewTargetsAndFileGroupsToThePlanner() throws Exception {
+        PReviewParameter configured = configured(new PLlmQuota().setInputTokenQuota(1000L),
+                target("api", new PLlmQuota().setInputTokenQuota(500L),
+                        new PFileGroup().setFileGroupName("main").setLlmQuota(new PLlmQuota().setInputTokenQuota(200L))));
+
+        BudgetPlan plan = check(configured, Collections.singletonList(new PLlmClientConfiguration()));
+
+        assertSame(reviewParameter, plan.getParameter());
+        assertSame(tokenEstimator, plannedTokenEstimator);
+        assertFalse(plannedTrim);
+        assertEquals(Long.valueOf(1000), plannedBudget.getReviewBudget().getInputTokens());
+        assertEquals(Long.valueOf(500), plannedBudget.getTargetBudget("api").getInputTokens());
+        assertEquals(Long.valueOf(200), plannedBudget.getFileGroupBudget("api", "main").getInputTokens());
+        assertEquals(20, plannedBudget.getOutputTokensPerRequest());
+        assertEquals(30, plannedBudget.getRequestOverheadTokens());
+        assertEquals(5, plannedBudget.getFileOverheadTokens());
+        assertEquals(0.25, plannedBudget.getExtraLoadRatio());
+    }
+
+    @Test
+    void testFailsWhenABudgetIsExceeded() {
+        violations = Collections.singletonList("review: 100 input tokens exceed the quota of 50");
+
+        BudgetExceededException e = assertThrows(BudgetExceededException.class,
+                () -> check(configured(new PLlmQuota().setInputTokenQuota(50L)), Collections.singletonList(new PLlmClientConfiguration())));
+
+        assertEquals(violations, e.getViolations());
+        assertEquals("The planned spend exceeds 1 budgets: review: 100 input tokens exceed the quota of 50", e.getMessage());
+    }
+
+    @Test
+    void testTrimsWhenTheReviewQuotaAsksToTrim() throws Exception {
+        violations = Collections.singletonList("review: 100 input tokens exceed the quota of 50");
+
+        BudgetPlan plan = check(configured(new PLlmQuota().setInputTokenQuota(50L).setExceededAction(BudgetExceededActionEnum.TRIM)),
+                Collections.singletonList(new PLlmClientConfiguration()));
+
+        assertTrue(plannedTrim);
+        assertNull(plan.getParameter());
+    }
+
+    @Test
+    void testPricesWithTheHighestPricesOfTheClientModels() throws Exception {
+        PLlmQuota quota = new PLlmQuota().setCostQuota(10.0).setModelPrices(Arrays.asList(
+                price("small", 1.0, 8.0), price("large", 5.0, 4.0)));
+
+        check(configured(quota), Arrays.asList(new PLlmClientConfiguration(), new PLlmClientConfiguration().setPricingModel("large")));
+
+        assertEquals(5.0, plannedBudget.getInputPricePerMillionTokens());
+        assertEquals(8.0, plannedBudget.getOutputPricePerMillionTokens());
+    }
+
+    @Test
+    void testRejectsACostQuotaWithoutAPriceForTheModel() {
+        PLlmQuota quota = new PLlmQuota().setCostQuota(10.0).setModelPrices(Collections.singletonList(price("large", 5.0, 4.0)));
+
+        assertThrows(ValidationException.class, () -> check(configured(quota), Collections.singletonList(new PLlmClientConfiguration())));
+    }
+
+    @Test
+    void testRejectsATargetQuotaWithoutATargetName() {
+        PReviewParameter configured = configured(null, target(null, new PLlmQuota().setInputTokenQuota(10L)));
+
+        assertThrows(ValidationException.class, () -> check(configured, Collections.singletonList(new PLlmClientConfiguration())));
+    }
+
+    private BudgetPlan check(PReviewParameter configured, List<PLlmClientConfiguration> clients) throws Exception {
+        return reviewBudgetService.check(configured, reviewParameter, clients, tokenEstimator, 20, 30, 5, 0.25);
+    }
+
+    private static PReviewParameter configured(PLlmQuota quota, PReviewTarget... targets) {
+        return new PReviewParameter().setLlmQuota(quota).setTargets(Arrays.asList(targets));
+    }
+
+    private static PReviewTarget target(String name, PLlmQuota quota, PFileGroup... fileGroups) {
+        return new PReviewTarget().setReviewTargetName(name).setLlmQuota(quota).setFileGroups(Arrays.asList(fileGroups));
+    }
+
+    private static PModelPrice price(String model, double inputPrice, double outputPrice) {
+        return new PModelPrice().setModel(model).setInputPricePerMillionTokens(inputPrice).setOutputPricePerMillionTokens(outputPrice);
+    }
+}
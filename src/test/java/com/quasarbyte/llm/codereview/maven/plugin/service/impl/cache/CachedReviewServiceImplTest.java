@@ -0,0 +1,213 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.cache.ReviewCache;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.FileGroupPathResolverImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterSplitterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultMerger;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedReviewServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    private final ReviewResultMerger merger = results -> {
+        List<String> names = new ArrayList<>();
+        for (ReviewResult result : results) {
+            names.add(result.getName());
+        }
+        return result(String.join(",", names));
+    };
+
+    // Uses the file group name as the cache key
+    private final CachedReviewServiceImpl service = new CachedReviewServiceImpl(new ReviewParameterSplitterImpl(),
+            new FileGroupPathResolverImpl(), (unit, baseDirectory, files) -> unit.getFileGroup().getFileGroupName(), merger);
+
+    private final MapCache cache = new MapCache();
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void mergesHitsAndMissesInFileGroupOrderAndCachesMisses() throws IOException {
+        cache.entries.put("b", result("cached b"));
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+
+        ReviewResult result = service.review(parameter("a", "b", "c"), cache, directory, p -> {
+            reviewed.add(name(p));
+            return result("reviewed " + name(p));
+        }, null, null, Runnable::run, 1);
+
+        assertEquals("reviewed a,cached b,reviewed c", result.getName());
+        assertEquals(Arrays.asList("a", "c"), reviewed);
+        assertEquals("reviewed c", cache.entries.get("c").getName());
+    }
+
+    @Test
+    void countsHitsTowardsTheFailFastMonitor() throws IOException {
+        cache.entries.put("a", result("cached a"));
+        cache.entries.put("b", result("cached b"));
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+        TrippingMonitor monitor = new TrippingMonitor(2);
+
+        ReviewStoppedException e = assertThrows(ReviewStoppedException.class,
+                () -> service.review(parameter("a", "b", "c"), cache, directory, p -> {
+                    reviewed.add(name(p));
+                    return result(name(p));
+                }, null, monitor, Runnable::run, 1));
+
+        assertTrue(reviewed.isEmpty());
+        assertEquals("cached a,cached b", e.getPartialResult().getName());
+        assertFalse(cache.entries.containsKey("c"));
+    }
+
+    @Test
+    void startsNoMissOnceTheMonitorTrips() throws IOException {
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+        TrippingMonitor monitor = new TrippingMonitor(1);
+
+        ReviewStoppedException e = assertThrows(ReviewStoppedException.class,
+                () -> service.review(parameter("a", "b", "c"), cache, directory, p -> {
+                    reviewed.add(name(p));
+                    ReviewResult result = result(name(p));
+                    // The reviewer reports its own results to the monitor
+                    monitor.onBatchResult(result);
+                    return result;
+                }, null, monitor, Runnable::run, 1));
+
+        assertEquals(Collections.singletonList("a"), reviewed);
+        assertEquals("a", e.getPartialResult().getName());
+    }
+
+    @Test
+    void keepsThePartialResultOfAStoppedMissWithoutCachingIt() throws IOException {
+        TrippingMonitor monitor = new TrippingMonitor(1);
+
+        ReviewStoppedException e = assertThrows(ReviewStoppedException.class,
+                () -> service.review(parameter("a", "b"), cache, directory, p -> {
+                    monitor.onBatchResult(result(name(p)));
+                    throw new ReviewStoppedException("stopped", result("half of " + name(p)));
+                }, null, monitor, Runnable::run, 1));
+
+        assertEquals("half of a", e.getPartialResult().getName());
+        assertTrue(cache.entries.isEmpty());
+    }
+
+    @Test
+    void reviewsMissesConcurrently() throws IOException {
+        CountDownLatch running = new CountDownLatch(3);
+
+        ReviewResult result = service.review(parameter("a", "b", "c"), cache, directory, p -> {
+            running.countDown();
+            try {
+                // Only returns if all three misses are in flight at the same time
+                assertTrue(running.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return result(name(p));
+        }, null, null, executorService, 3);
+
+        assertEquals("a,b,c", result.getName());
+    }
+
+    private static String name(ReviewParameter parameter) {
+        return parameter.getTargets().get(0).getFileGroups().get(0).getFileGroupName();
+    }
+
+    private ReviewParameter parameter(String... names) throws IOException {
+        List<FileGroup> fileGroups = new ArrayList<>();
+        for (String name : names) {
+            Files.createDirectories(directory.resolve(name));
+            Files.write(directory.resolve(name).resolve("A.java"), new byte[0]);
+            FileGroup fileGroup = new FileGroup();
+            fileGroup.setFileGroupName(name);
+            fileGroup.setPaths(Collections.singletonList(directory.toString().replace('\\', '/') + "/" + name + "/*.java"));
+            fileGroups.add(fileGroup);
+        }
+        ReviewTarget target = new ReviewTarget();
+        target.setFileGroups(fileGroups);
+        ReviewParameter parameter = new ReviewParameter();
+        parameter.setTargets(Collections.singletonList(target));
+        return parameter;
+    }
+
+    private static ReviewResult result(String name) {
+        ReviewResult result = new ReviewResult();
+        result.setName(name);
+        return result;
+    }
+
+    private static final class MapCache implements ReviewCache {
+        private final Map<String, ReviewResult> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<ReviewResult> get(String key) {
+            return Optional.ofNullable(entries.get(key));
+        }
+
+        @Override
+        public void put(String key, ReviewResult result) {
+            entries.putIfAbsent(key, result);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class TrippingMonitor implements FailFastMonitor {
+        private final int tripAfter;
+        private int results;
+
+        private TrippingMonitor(int tripAfter) {
+            this.tripAfter = tripAfter;
+        }
+
+        @Override
+        public synchronized boolean onBatchResult(ReviewResult result) {
+            results++;
+            return results == tripAfter;
+        }
+
+        @Override
+        public synchronized boolean isTripped() {
+            return results >= tripAfter;
+        }
+
+        @Override
+        public synchronized String getReason() {
+            return isTripped() ? "tripped after " + tripAfter : null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewUnit;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewCacheKeyCalculatorImplTest {
+
+    @TempDir
+    Path directory;
+
+    private final ReviewCacheKeyCalculatorImpl calculator = new ReviewCacheKeyCalculatorImpl(new ObjectMapper());
+
+    @Test
+    void testKeyDoesNotDependOnProjectLocation() throws IOException {
+        Path first = write(directory.resolve("checkout-1"), "src/main/java/App.java", "class App {}");
+        Path second = write(directory.resolve("checkout-2"), "src/main/java/App.java", "class App {}");
+
+        assertEquals(calculator.calculate(unit(), directory.resolve("checkout-1"), Collections.singletonList(first)),
+                calculator.calculate(unit(), directory.resolve("checkout-2"), Collections.singletonList(second)));
+    }
+
+    @Test
+    void testKeyDependsOnRelativePath() throws IOException {
+        Path first = write(directory, "src/main/java/App.java", "class App {}");
+        Path second = write(directory, "src/test/java/App.java", "class App {}");
+
+        assertNotEquals(calculator.calculate(unit(), directory, Collections.singletonList(first)),
+                calculator.calculate(unit(), directory, Collections.singletonList(second)));
+    }
+
+    @Test
+    void testKeyDependsOnContent() throws IOException {
+        Path file = write(directory, "src/main/java/App.java", "class App {}");
+        String key = calculator.calculate(unit(), directory, Collections.singletonList(file));
+
+        write(directory, "src/main/java/App.java", "class App { int changed; }");
+
+        assertNotEquals(key, calculator.calculate(unit(), directory, Collections.singletonList(file)));
+    }
+
+    @Test
+    void testRelativeAndAbsoluteFilePathsShareKey() throws IOException {
+        Path file = write(directory, "src/main/java/App.java", "class App {}");
+        Path relativeFile = Paths.get("").toAbsolutePath().relativize(file);
+
+        assertEquals(calculator.calculate(unit(), directory, Collections.singletonList(file)),
+                calculator.calculate(unit(), directory, Collections.singletonList(relativeFile)));
+    }
+
+    private static Path write(Path baseDirectory, String relativePath, String content) throws IOException {
+        Path file = baseDirectory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static ReviewUnit unit() {
+        FileGroup fileGroup = new FileGroup();
+        fileGroup.setFileGroupName("sources");
+        ReviewTarget target = new ReviewTarget();
+        target.setReviewTargetName("module");
+        target.setFileGroups(Collections.singletonList(fileGroup));
+        ReviewParameter parameter = new ReviewParameter();
+        parameter.setTargets(Collections.singletonList(target));
+        return new ReviewUnit(0, 0, target, fileGroup, parameter);
+    }
+}
@@ -0,0 +1,198 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentFileStoreTest {
+
+    private static final String NAME = "reviews";
+    private static final int INDEX_ENTRY_LENGTH = SegmentFileStore.KEY_LENGTH + 8 + 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testPutGetAndReopen() throws IOException {
+        try (SegmentFileStore store = open()) {
+            assertTrue(store.put(key(1), value("one")));
+            assertTrue(store.put(key(2), value("two")));
+            assertFalse(store.put(key(1), value("other")), "An existing key must not be overwritten");
+            assertEquals("one", text(store.get(key(1))));
+            assertNull(store.get(key(3)));
+        }
+
+        try (SegmentFileStore store = open()) {
+            assertEquals(2, store.size());
+            assertEquals("one", text(store.get(key(1))));
+            assertEquals("two", text(store.get(key(2))));
+        }
+    }
+
+    @Test
+    void testTornTailIsTruncated() throws IOException {
+        try (SegmentFileStore store = open()) {
+            store.put(key(1), value("one"));
+            store.put(key(2), value("two"));
+        }
+        long segmentSize = Files.size(segmentFile());
+
+        // A record header promising more payload than was written, as left by a killed build
+        byte[] tornRecord = new byte[SegmentFileStore.KEY_LENGTH + 4 + 2];
+        System.arraycopy(key(3), 0, tornRecord, 0, SegmentFileStore.KEY_LENGTH);
+        tornRecord[SegmentFileStore.KEY_LENGTH + 3] = 100;
+        Files.write(segmentFile(), tornRecord, StandardOpenOption.APPEND);
+
+        try (SegmentFileStore store = open()) {
+            assertEquals(segmentSize, Files.size(segmentFile()));
+            assertEquals(2, store.size());
+            assertNull(store.get(key(3)));
+            assertTrue(store.put(key(3), value("three")));
+        }
+
+        try (SegmentFileStore store = open()) {
+            assertEquals(3, store.size());
+            assertEquals("two", text(store.get(key(2))));
+            assertEquals("three", text(store.get(key(3))));
+        }
+    }
+
+    @Test
+    void testMissingIndexEntriesAreRebuiltFromSegment() throws IOException {
+        try (SegmentFileStore store = open()) {
+            store.put(key(1), value("one"));
+            store.put(key(2), value("two"));
+            store.put(key(3), value("three"));
+        }
+        truncate(indexFile(), INDEX_ENTRY_LENGTH);
+
+        try (SegmentFileStore store = open()) {
+            assertEquals(3, store.size());
+            assertEquals("one", text(store.get(key(1))));
+            assertEquals("two", text(store.get(key(2))));
+            assertEquals("three", text(store.get(key(3))));
+        }
+        assertEquals(3L * INDEX_ENTRY_LENGTH, Files.size(indexFile()));
+    }
+
+    @Test
+    void testLostIndexIsRebuiltFromSegment() throws IOException {
+        try (SegmentFileStore store = open()) {
+            store.put(key(1), value("one"));
+            store.put(key(2), value("two"));
+        }
+        Files.delete(indexFile());
+
+        try (SegmentFileStore store = open()) {
+            assertEquals(2, store.size());
+            assertEquals("two", text(store.get(key(2))));
+        }
+    }
+
+    @Test
+    void testTornAndInvalidIndexEntriesAreDropped() throws IOException {
+        try (SegmentFileStore store = open()) {
+            store.put(key(1), value("one"));
+            store.put(key(2), value("two"));
+        }
+        // An entry pointing past the end of the segment followed by half an entry
+        byte[] invalidEntries = new byte[INDEX_ENTRY_LENGTH + INDEX_ENTRY_LENGTH / 2];
+        System.arraycopy(key(9), 0, invalidEntries, 0, SegmentFileStore.KEY_LENGTH);
+        invalidEntries[SegmentFileStore.KEY_LENGTH + 5] = 1;
+        Files.write(indexFile(), invalidEntries, StandardOpenOption.APPEND);
+
+        try (SegmentFileStore store = open()) {
+            assertEquals(2, store.size());
+            assertNull(store.get(key(9)));
+            assertEquals("one", text(store.get(key(1))));
+        }
+        assertEquals(2L * INDEX_ENTRY_LENGTH, Files.size(indexFile()));
+    }
+
+    @Test
+    void testSecondOpenIsReadOnly() throws IOException {
+        try (SegmentFileStore writer = open()) {
+            writer.put(key(1), value("one"));
+            try (SegmentFileStore reader = open()) {
+                assertTrue(reader.isReadOnly());
+                assertEquals("one", text(reader.get(key(1))));
+                assertFalse(reader.put(key(2), value("two")));
+            }
+            assertFalse(writer.isReadOnly());
+            assertTrue(writer.put(key(2), value("two")));
+        }
+    }
+
+    @Test
+    void testManyEntriesSurviveTableResize() throws IOException {
+        int count = 5000;
+        try (SegmentFileStore store = open()) {
+            for (int i = 0; i < count; i++) {
+                store.put(key(i), value("value-" + i));
+            }
+        }
+        try (SegmentFileStore store = open()) {
+            assertEquals(count, store.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals("value-" + i, text(store.get(key(i))));
+            }
+        }
+    }
+
+    @Test
+    void testKeyLengthIsValidated() throws IOException {
+        try (SegmentFileStore store = open()) {
+            assertThrows(IllegalArgumentException.class, () -> store.get(new byte[8]));
+            assertThrows(IllegalArgumentException.class, () -> store.put(null, value("one")));
+        }
+    }
+
+    private SegmentFileStore open() throws IOException {
+        return new SegmentFileStore(directory, NAME);
+    }
+
+    private Path segmentFile() {
+        return directory.resolve(NAME + ".seg");
+    }
+
+    private Path indexFile() {
+        return directory.resolve(NAME + ".idx");
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    /**
+     * Creates a key whose 8 byte prefix differs for every seed, like the SHA-256 keys of the review cache.
+     */
+    private static byte[] key(int seed) {
+        byte[] key = new byte[SegmentFileStore.KEY_LENGTH];
+        long mixed = seed * 0x9E3779B97F4A7C15L + 1;
+        for (int i = 0; i < SegmentFileStore.KEY_LENGTH; i++) {
+            key[i] = (byte) (mixed >>> ((i % 8) * 8));
+            if (i % 8 == 7) {
+                mixed = mixed * 31 + i;
+            }
+        }
+        return key;
+    }
+
+    private static byte[] value(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
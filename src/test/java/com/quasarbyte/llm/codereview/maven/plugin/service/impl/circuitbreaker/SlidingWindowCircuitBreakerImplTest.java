@@ -0,0 +1,167 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.circuitbreaker;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerState;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCircuitBreakerImplTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+    private static final long WAIT = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void testStaysClosedBelowMinimumNumberOfCalls() {
+        CircuitBreaker circuitBreaker = create(4, 4);
+
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onError(circuitBreaker.tryAcquirePermission(), FAST);
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.isCallPermitted());
+    }
+
+    @Test
+    void testOpensAtFailureRateThreshold() {
+        CircuitBreaker circuitBreaker = create(4, 4);
+
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), FAST);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), FAST);
+        circuitBreaker.onError(circuitBreaker.tryAcquirePermission(), FAST);
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        circuitBreaker.onError(circuitBreaker.tryAcquirePermission(), FAST);
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.isCallPermitted());
+        assertEquals(CircuitBreaker.NOT_PERMITTED, circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.getRemainingOpenNanos() > 0);
+    }
+
+    @Test
+    void testOpensAtSlowCallRateThreshold() {
+        CircuitBreaker circuitBreaker = create(4, 4);
+
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), FAST);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), FAST);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), SLOW);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), SLOW);
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void testSlidingWindowEvictsOldOutcomes() {
+        CircuitBreaker circuitBreaker = create(4, 4);
+
+        circuitBreaker.onError(circuitBreaker.tryAcquirePermission(), FAST);
+        for (int i = 0; i < 8; i++) {
+            circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), FAST);
+        }
+        // One failure in the window of four is below the 50% threshold
+        circuitBreaker.onError(circuitBreaker.tryAcquirePermission(), FAST);
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testHalfOpenClosesAfterSuccessfulTrialCalls() throws InterruptedException {
+        CircuitBreaker circuitBreaker = create(4, 2);
+        open(circuitBreaker);
+
+        TimeUnit.NANOSECONDS.sleep(WAIT + FAST);
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+        long first = circuitBreaker.tryAcquirePermission();
+        long second = circuitBreaker.tryAcquirePermission();
+        assertNotEquals(CircuitBreaker.NOT_PERMITTED, first);
+        assertNotEquals(CircuitBreaker.NOT_PERMITTED, second);
+        assertEquals(CircuitBreaker.NOT_PERMITTED, circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.isCallPermitted());
+
+        circuitBreaker.onSuccess(first, FAST);
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess(second, FAST);
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.isCallPermitted());
+    }
+
+    @Test
+    void testHalfOpenReopensAfterFailedTrialCall() throws InterruptedException {
+        CircuitBreaker circuitBreaker = create(4, 2);
+        open(circuitBreaker);
+
+        TimeUnit.NANOSECONDS.sleep(WAIT + FAST);
+        long first = circuitBreaker.tryAcquirePermission();
+        long second = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess(first, FAST);
+        circuitBreaker.onError(second, FAST);
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.getRemainingOpenNanos() > 0);
+    }
+
+    @Test
+    void testIgnoresOutcomesOfCallsPermittedBeforeTheCircuitOpened() throws InterruptedException {
+        CircuitBreaker circuitBreaker = create(4, 2);
+        long stale = circuitBreaker.tryAcquirePermission();
+        open(circuitBreaker);
+
+        // While open
+        circuitBreaker.onError(stale, SLOW);
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+
+        TimeUnit.NANOSECONDS.sleep(WAIT + FAST);
+        long trial = circuitBreaker.tryAcquirePermission();
+        // While half-open, a slow call started when the circuit was closed must not reopen it
+        circuitBreaker.onError(stale, SLOW);
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+
+        circuitBreaker.onSuccess(trial, FAST);
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission(), FAST);
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+
+        // After closing again
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onError(stale, FAST);
+        }
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testHalfOpenIssuesNewTrialCallsWhenTrialsNeverReport() throws InterruptedException {
+        CircuitBreaker circuitBreaker = create(4, 1);
+        open(circuitBreaker);
+
+        TimeUnit.NANOSECONDS.sleep(WAIT + FAST);
+        long lost = circuitBreaker.tryAcquirePermission();
+        assertNotEquals(CircuitBreaker.NOT_PERMITTED, lost);
+        assertEquals(CircuitBreaker.NOT_PERMITTED, circuitBreaker.tryAcquirePermission());
+
+        TimeUnit.NANOSECONDS.sleep(WAIT + FAST);
+        long trial = circuitBreaker.tryAcquirePermission();
+        assertNotEquals(CircuitBreaker.NOT_PERMITTED, trial);
+
+        // The trial of the previous half-open period no longer counts
+        circuitBreaker.onError(lost, FAST);
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onSuccess(trial, FAST);
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+    }
+
+    private static CircuitBreaker create(int slidingWindowSize, int permittedCallsInHalfOpenState) {
+        return new SlidingWindowCircuitBreakerImpl("test", new CircuitBreakerPolicy(50, 50, TimeUnit.SECONDS.toNanos(1),
+                slidingWindowSize, slidingWindowSize, WAIT, permittedCallsInHalfOpenState));
+    }
+
+    private static void open(CircuitBreaker circuitBreaker) {
+        while (circuitBreaker.getState() != CircuitBreakerState.OPEN) {
+            circuitBreaker.onError(circuitBreaker.tryAcquirePermission(), FAST);
+        }
+    }
+}
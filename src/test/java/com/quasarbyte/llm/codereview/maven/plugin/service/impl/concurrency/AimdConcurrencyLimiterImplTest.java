@@ -0,0 +1,136 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.concurrency;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.concurrency.ConcurrencyLimiter.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdConcurrencyLimiterImplTest {
+
+    @Test
+    void testInitialLimitIsKeptWithinBounds() {
+        assertEquals(4, new AimdConcurrencyLimiterImpl(1, 8, 4).getLimit());
+        assertEquals(2, new AimdConcurrencyLimiterImpl(2, 8, 1).getLimit());
+        assertEquals(8, new AimdConcurrencyLimiterImpl(1, 8, 20).getLimit());
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiterImpl(0, 8, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiterImpl(4, 2, 4));
+    }
+
+    @Test
+    void testIncreasesByOneWhenLimitIsUsed() throws InterruptedException {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(1, 8, 2);
+
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        limiter.release(first, Outcome.SUCCESS);
+
+        assertEquals(3, limiter.getLimit());
+        // One of three permits in flight, the limit is not used
+        limiter.release(second, Outcome.SUCCESS);
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void testDoesNotIncreaseWhenLimitIsNotUsed() throws InterruptedException {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(1, 8, 4);
+
+        limiter.release(limiter.acquire(), Outcome.SUCCESS);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testDoesNotIncreaseWhenLatencyGrows() throws InterruptedException {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(1, 8, 1);
+
+        limiter.acquire();
+        limiter.release(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(10), Outcome.SUCCESS);
+        assertEquals(2, limiter.getLimit());
+
+        limiter.acquire();
+        limiter.acquire();
+        limiter.release(System.nanoTime() - TimeUnit.SECONDS.toNanos(1), Outcome.SUCCESS);
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void testNeverExceedsCeiling() throws InterruptedException {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(1, 2, 2);
+
+        for (int i = 0; i < 5; i++) {
+            long first = limiter.acquire();
+            long second = limiter.acquire();
+            limiter.release(first, Outcome.SUCCESS);
+            limiter.release(second, Outcome.SUCCESS);
+        }
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void testHalvesOnOverloadOncePerRoundTrip() throws InterruptedException {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(1, 16, 16);
+
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        limiter.release(first, Outcome.OVERLOAD);
+        assertEquals(8, limiter.getLimit());
+
+        // Started before the decrease, part of the same congestion episode
+        limiter.release(second, Outcome.OVERLOAD);
+        assertEquals(8, limiter.getLimit());
+
+        limiter.release(limiter.acquire(), Outcome.OVERLOAD);
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testNeverDropsBelowFloor() throws InterruptedException {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(3, 8, 4);
+
+        limiter.release(limiter.acquire(), Outcome.OVERLOAD);
+        assertEquals(3, limiter.getLimit());
+        limiter.release(limiter.acquire(), Outcome.OVERLOAD);
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void testOtherFailuresKeepLimit() throws InterruptedException {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(1, 8, 4);
+
+        limiter.release(limiter.acquire(), Outcome.FAILURE);
+
+        assertEquals(4, limiter.getLimit());
+        assertTrue(limiter.getSummary().contains("1 failed"), limiter.getSummary());
+    }
+
+    @Test
+    void testAcquireWaitsForPermit() throws InterruptedException {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(1, 1, 1);
+        long first = limiter.acquire();
+        AtomicBoolean acquired = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.release(limiter.acquire(), Outcome.SUCCESS);
+                acquired.set(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        });
+        waiter.start();
+
+        assertFalse(done.await(100, TimeUnit.MILLISECONDS));
+        limiter.release(first, Outcome.SUCCESS);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(acquired.get());
+    }
+}
@@ -0,0 +1,134 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerState;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.WeightedLlmClient;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.circuitbreaker.SlidingWindowCircuitBreakerImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch.ClientSlots.Slot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientSlotsTest {
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testAcquiresInProportionToTheWeights() throws InterruptedException {
+        ClientSlots slots = new ClientSlots(Arrays.asList(client("a", 2, Integer.MAX_VALUE), client("b", 1, Integer.MAX_VALUE)));
+
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            indexes.add(slots.acquire().getIndex());
+        }
+
+        // The lower index wins ties, so the heavier client takes the first two slots
+        assertEquals(Arrays.asList(0, 0, 1, 0, 0, 1), indexes);
+    }
+
+    @Test
+    void testPrefersTheClientWithFewerOutstandingRequestsAfterRelease() throws InterruptedException {
+        ClientSlots slots = new ClientSlots(Arrays.asList(client("a", 1, Integer.MAX_VALUE), client("b", 1, Integer.MAX_VALUE)));
+        Slot first = slots.acquire();
+        Slot second = slots.acquire();
+
+        slots.release(first, 0);
+
+        assertEquals(0, first.getIndex());
+        assertEquals(1, second.getIndex());
+        assertEquals(0, slots.acquire().getIndex());
+    }
+
+    @Test
+    void testSkipsClientsAtTheirMaxConcurrency() throws InterruptedException {
+        ClientSlots slots = new ClientSlots(Arrays.asList(client("a", 10, 1), client("b", 1, Integer.MAX_VALUE)));
+
+        assertEquals(0, slots.acquire().getIndex());
+        assertEquals(1, slots.acquire().getIndex());
+        assertEquals(1, slots.acquire().getIndex());
+    }
+
+    @Test
+    void testSkipsExcludedClients() throws InterruptedException {
+        ClientSlots slots = new ClientSlots(Arrays.asList(client("a", 10, Integer.MAX_VALUE), client("b", 1, Integer.MAX_VALUE)));
+
+        assertEquals(1, slots.acquire(Collections.singleton(0)).getIndex());
+        assertNull(slots.acquire(new HashSet<>(Arrays.asList(0, 1))));
+    }
+
+    @Test
+    void testWaitsUntilASlotIsReleased() throws Exception {
+        ClientSlots slots = new ClientSlots(Collections.singletonList(client("a", 1, 1)));
+        Slot first = slots.acquire();
+
+        Future<Slot> second = executorService.submit(() -> slots.acquire());
+        assertThrows(TimeoutException.class, () -> second.get(100, TimeUnit.MILLISECONDS));
+        slots.release(first, 0);
+
+        assertEquals(0, second.get(10, TimeUnit.SECONDS).getIndex());
+    }
+
+    @Test
+    void testTryAcquireExcludingTakesAnotherClientWithoutWaiting() throws InterruptedException {
+        ClientSlots slots = new ClientSlots(Arrays.asList(client("a", 1, 1), client("b", 1, 1)));
+        Slot first = slots.acquire();
+
+        Slot hedge = slots.tryAcquireExcluding(first);
+
+        assertEquals(1, hedge.getIndex());
+        assertNull(slots.tryAcquireExcluding(first));
+    }
+
+    @Test
+    void testSkipsClientsWhoseCircuitIsOpen() throws InterruptedException {
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        while (circuitBreaker.getState() != CircuitBreakerState.OPEN) {
+            circuitBreaker.onError(circuitBreaker.tryAcquirePermission(), 0);
+        }
+        ClientSlots slots = new ClientSlots(Arrays.asList(
+                new WeightedLlmClient("a", null, 10, Integer.MAX_VALUE, circuitBreaker), client("b", 1, Integer.MAX_VALUE)));
+
+        assertEquals(1, slots.acquire().getIndex());
+        assertEquals(1, slots.acquire().getIndex());
+    }
+
+    @Test
+    void testTakesACircuitBreakerPermission() throws InterruptedException {
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        ClientSlots slots = new ClientSlots(Arrays.asList(
+                new WeightedLlmClient("a", null, 1, Integer.MAX_VALUE, circuitBreaker), client("b", 1, Integer.MAX_VALUE)));
+
+        Slot withBreaker = slots.acquire();
+        Slot withoutBreaker = slots.acquire();
+
+        assertNotEquals(CircuitBreaker.NOT_PERMITTED, withBreaker.getPermission());
+        assertEquals(CircuitBreaker.NOT_PERMITTED, withoutBreaker.getPermission());
+    }
+
+    private static WeightedLlmClient client(String name, int weight, int maxConcurrency) {
+        return new WeightedLlmClient(name, null, weight, maxConcurrency);
+    }
+
+    private static CircuitBreaker circuitBreaker() {
+        return new SlidingWindowCircuitBreakerImpl("test", new CircuitBreakerPolicy(50, 100, TimeUnit.SECONDS.toNanos(1),
+                2, 2, TimeUnit.MINUTES.toNanos(10), 1));
+    }
+}
@@ -0,0 +1,296 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.HedgingPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.WeightedLlmClient;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch.ClientSlots.Slot;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.SharedRequestQuota;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.LlmRequestRateLimiter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewBatch;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmQuota;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingCoordinatorTest {
+
+    // Hedges a batch as soon as it is slower than the fastest sample
+    private static final HedgingPolicy POLICY = new HedgingPolicy(1, 1, 1);
+
+    // A is so much heavier that it takes the first attempt of every batch, B is always free for a hedge
+    private final ClientSlots slots = new ClientSlots(Arrays.asList(
+            new WeightedLlmClient("A", null, 100, Integer.MAX_VALUE), new WeightedLlmClient("B", null, 1, Integer.MAX_VALUE)));
+
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean interruptedOnStart = new AtomicBoolean();
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private HedgingCoordinator coordinator;
+
+    @AfterEach
+    void tearDown() {
+        if (coordinator != null) {
+            coordinator.close();
+        }
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testUsesTheFirstSuccessfulResponseAndCancelsTheOtherAttempt() throws Exception {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        coordinator = coordinator(POLICY, unlimited(), (batch, slot) -> {
+            if (name(slot).equals("B") || calls.size() == 1) {
+                return result(name(slot));
+            }
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                throw new IllegalStateException(e);
+            }
+            return result(name(slot));
+        });
+
+        assertEquals("A", coordinator.review(batch()).getName());
+        assertEquals("B", coordinator.review(batch()).getName());
+
+        assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("A", "A", "B"), sorted(calls));
+    }
+
+    @Test
+    void testReleasesTheSlotOfTheCancelledAttemptWithoutLeakingTheInterrupt() throws Exception {
+        ClientSlots singleSlots = new ClientSlots(Arrays.asList(
+                new WeightedLlmClient("A", null, 100, 1), new WeightedLlmClient("B", null, 1, Integer.MAX_VALUE)));
+        AtomicBoolean slow = new AtomicBoolean();
+        coordinator = coordinator(POLICY, singleSlots, unlimited(), (batch, slot) -> {
+            if (slow.get() && name(slot).equals("A")) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return result(name(slot));
+        });
+        coordinator.review(batch());
+        awaitFree(singleSlots);
+        slow.set(true);
+
+        assertEquals("B", coordinator.review(batch()).getName());
+
+        // A allows one request, so this waits until the cancelled attempt has released its slot
+        awaitFree(singleSlots);
+        slow.set(false);
+        for (int i = 0; i < 5; i++) {
+            coordinator.review(batch());
+        }
+        assertFalse(interruptedOnStart.get());
+    }
+
+    @Test
+    void testUsesThePrimaryResponseWhenTheHedgeFails() {
+        CountDownLatch hedged = new CountDownLatch(1);
+        coordinator = coordinator(POLICY, unlimited(), (batch, slot) -> {
+            if (calls.size() == 1) {
+                return result(name(slot));
+            }
+            if (name(slot).equals("B")) {
+                hedged.countDown();
+                throw new IllegalStateException("hedge failed");
+            }
+            await(hedged);
+            return result(name(slot));
+        });
+        coordinator.review(batch());
+
+        assertEquals("A", coordinator.review(batch()).getName());
+        assertEquals(Arrays.asList("A", "A", "B"), sorted(calls));
+    }
+
+    @Test
+    void testFailsWhenEveryAttemptFailed() {
+        CountDownLatch hedged = new CountDownLatch(1);
+        coordinator = coordinator(POLICY, unlimited(), (batch, slot) -> {
+            if (calls.size() == 1) {
+                return result(name(slot));
+            }
+            if (name(slot).equals("B")) {
+                hedged.countDown();
+                throw new IllegalStateException("hedge failed");
+            }
+            await(hedged);
+            throw new IllegalStateException("primary failed");
+        });
+        coordinator.review(batch());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> coordinator.review(batch()));
+
+        assertTrue(e.getMessage().endsWith(" failed"), e.getMessage());
+        assertEquals(Arrays.asList("A", "A", "B"), sorted(calls));
+    }
+
+    @Test
+    void testHedgesNoMoreThanTheExtraLoadRatio() {
+        coordinator = coordinator(new HedgingPolicy(1, 0.5, 1), unlimited(), slowPrimary());
+
+        List<String> winners = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            winners.add(coordinator.review(batch()).getName());
+        }
+
+        // The first batch provides the sample, then a hedge is allowed for every second batch
+        assertEquals(Arrays.asList("A", "B", "A", "B", "A"), winners);
+    }
+
+    @Test
+    void testDoesNotHedgeBeforeTheMinimumNumberOfSamples() {
+        coordinator = coordinator(new HedgingPolicy(1, 1, 3), unlimited(), slowPrimary());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("A", coordinator.review(batch()).getName());
+        }
+
+        assertFalse(calls.contains("B"));
+    }
+
+    @Test
+    void testDoesNotHedgeWithoutSpareRequestQuota() {
+        ReviewParameter parameter = new ReviewParameter();
+        parameter.setLlmQuota(new LlmQuota().setRequestQuota(2L));
+        coordinator = coordinator(POLICY, SharedRequestQuota.of(parameter, 2), slowPrimary());
+
+        assertEquals("A", coordinator.review(batch()).getName());
+        assertEquals("A", coordinator.review(batch()).getName());
+
+        assertEquals(Arrays.asList("A", "A"), calls);
+    }
+
+    @Test
+    void testIgnoresTheLatencyOfThrottledCalls() {
+        ThrottlingRateLimiter rateLimiter = new ThrottlingRateLimiter();
+        ClientSlots throttledSlots = new ClientSlots(Arrays.asList(
+                new WeightedLlmClient("A", null, 100, Integer.MAX_VALUE, null, rateLimiter),
+                new WeightedLlmClient("B", null, 1, Integer.MAX_VALUE)));
+        BiFunction<ReviewBatch, Slot, ReviewResult> reviewer = slowPrimary();
+        coordinator = coordinator(POLICY, throttledSlots, unlimited(), (batch, slot) -> {
+            // The first call is fast, but was held back by the rate limits
+            if (calls.size() == 1) {
+                rateLimiter.waitNanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            }
+            return reviewer.apply(batch, slot);
+        });
+
+        coordinator.review(batch());
+        coordinator.review(batch());
+
+        assertEquals(Arrays.asList("A", "A"), calls);
+    }
+
+    private HedgingCoordinator coordinator(HedgingPolicy policy, SharedRequestQuota requestQuota,
+                                           BiFunction<ReviewBatch, Slot, ReviewResult> reviewer) {
+        return coordinator(policy, slots, requestQuota, reviewer);
+    }
+
+    private HedgingCoordinator coordinator(HedgingPolicy policy, ClientSlots clientSlots, SharedRequestQuota requestQuota,
+                                           BiFunction<ReviewBatch, Slot, ReviewResult> reviewer) {
+        return new HedgingCoordinator(policy, clientSlots, requestQuota, (batch, slot) -> {
+            if (Thread.currentThread().isInterrupted()) {
+                interruptedOnStart.set(true);
+            }
+            calls.add(name(slot));
+            return reviewer.apply(batch, slot);
+        });
+    }
+
+    /**
+     * Answers the first call at once to provide a short sample, then lets the primary attempt take long enough
+     * for a hedge to win.
+     */
+    private BiFunction<ReviewBatch, Slot, ReviewResult> slowPrimary() {
+        return (batch, slot) -> {
+            if (calls.size() > 1 && name(slot).equals("A")) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return result(name(slot));
+        };
+    }
+
+    /**
+     * Waits until the first client has a free slot.
+     */
+    private void awaitFree(ClientSlots clientSlots) throws Exception {
+        Future<Slot> slot = executorService.submit(() -> clientSlots.acquire(Collections.singleton(1)));
+        clientSlots.release(slot.get(10, TimeUnit.SECONDS), 0);
+    }
+
+    private static List<String> sorted(List<String> calls) {
+        List<String> sorted = new ArrayList<>(calls);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static SharedRequestQuota unlimited() {
+        return SharedRequestQuota.of(new ReviewParameter(), 1);
+    }
+
+    private static ReviewBatch batch() {
+        return new ReviewBatch(null, new ReviewParameter(), Collections.emptyList(), null, 1);
+    }
+
+    private static String name(Slot slot) {
+        return slot.getClient().getName();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ReviewResult result(String name) {
+        ReviewResult result = new ReviewResult();
+        result.setName(name);
+        return result;
+    }
+
+    private static final class ThrottlingRateLimiter implements LlmRequestRateLimiter {
+
+        private final AtomicLong waitNanos = new AtomicLong();
+
+        @Override
+        public String getKey() {
+            return "throttling";
+        }
+
+        @Override
+        public void acquire(byte[] requestBody) {
+        }
+
+        @Override
+        public long getWaitNanos() {
+            return waitNanos.get();
+        }
+    }
+}
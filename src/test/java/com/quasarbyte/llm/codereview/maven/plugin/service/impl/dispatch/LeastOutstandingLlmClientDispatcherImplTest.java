@@ -0,0 +1,274 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.dispatch;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreaker;
+import com.quasarbyte.llm.codereview.maven.plugin.service.circuitbreaker.CircuitBreakerPolicy;
+import com.quasarbyte.llm.codereview.maven.plugin.service.dispatch.WeightedLlmClient;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.FileGroupPathResolverImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.circuitbreaker.SlidingWindowCircuitBreakerImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewBatchSplitterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterSplitterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultMerger;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmQuota;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeastOutstandingLlmClientDispatcherImplTest {
+
+    @TempDir
+    Path directory;
+
+    // Merges results by concatenating their names, so that the reviewed batches can be asserted
+    private final ReviewResultMerger merger = results -> {
+        List<String> names = new ArrayList<>();
+        for (ReviewResult result : results) {
+            names.add(result.getName());
+        }
+        return result(String.join(",", names));
+    };
+
+    private final LlmClient clientA = mock(LlmClient.class);
+    private final LlmClient clientB = mock(LlmClient.class);
+    private final ReviewService reviewService = mock(ReviewService.class);
+    private final List<String> reviewed = new CopyOnWriteArrayList<>();
+
+    private final LeastOutstandingLlmClientDispatcherImpl dispatcher = new LeastOutstandingLlmClientDispatcherImpl(reviewService,
+            new ReviewBatchSplitterImpl(new ReviewParameterSplitterImpl(), new FileGroupPathResolverImpl()), merger);
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testSendsBatchSizeFileBatchesPerReview() throws IOException {
+        answer(null);
+
+        ReviewResult result = dispatcher.review(parameter(fileGroup("a", 1, "a1", "a2", "a3", "a4")),
+                Collections.singletonList(new WeightedLlmClient("A", clientA, 1, 1)), null, Runnable::run, 2, null, null, null);
+
+        assertEquals("a1+a2,a3+a4", result.getName());
+        assertEquals(Arrays.asList("A:a1+a2", "A:a3+a4"), reviewed);
+    }
+
+    @Test
+    void testDistributesConcurrentBatchesInProportionToTheWeights() throws IOException {
+        CountDownLatch running = new CountDownLatch(3);
+        answer(() -> {
+            running.countDown();
+            // Only returns if all three batches are in flight at the same time
+            assertTrue(running.await(10, TimeUnit.SECONDS));
+        });
+
+        dispatcher.review(parameter(fileGroup("a", 1, "a1", "a2", "a3")),
+                Arrays.asList(new WeightedLlmClient("A", clientA, 2, 10), new WeightedLlmClient("B", clientB, 1, 10)),
+                null, executorService, 1, null, null, null);
+
+        assertEquals(2, count("A:"));
+        assertEquals(1, count("B:"));
+    }
+
+    @Test
+    void testRetriesAFailedBatchOnAnotherClientWithinTheSpareQuota() throws IOException {
+        List<Long> quotas = new CopyOnWriteArrayList<>();
+        when(reviewService.review(any(), any(), any())).thenAnswer(invocation -> {
+            ReviewParameter parameter = invocation.getArgument(0);
+            quotas.add(parameter.getLlmQuota().getRequestQuota());
+            String name = (invocation.getArgument(1) == clientA ? "A:" : "B:") + names(parameter);
+            reviewed.add(name);
+            if (name.startsWith("A:")) {
+                throw new IllegalStateException("endpoint failed");
+            }
+            return result(name);
+        });
+        ReviewParameter parameter = parameter(fileGroup("a", 1, "a1"));
+        parameter.setLlmQuota(new LlmQuota().setRequestQuota(2L));
+
+        ReviewResult result = dispatcher.review(parameter,
+                Arrays.asList(new WeightedLlmClient("A", clientA, 10, 10, circuitBreaker()), new WeightedLlmClient("B", clientB, 1, 10)),
+                null, Runnable::run, 1, null, null, null);
+
+        assertEquals("B:a1", result.getName());
+        assertEquals(Arrays.asList("A:a1", "B:a1"), reviewed);
+        assertEquals(Arrays.asList(1L, 1L), quotas);
+    }
+
+    @Test
+    void testDoesNotRetryWithoutSpareQuota() throws IOException {
+        answer(() -> {
+            throw new IllegalStateException("endpoint failed");
+        });
+        ReviewParameter parameter = parameter(fileGroup("a", 1, "a1"));
+        parameter.setLlmQuota(new LlmQuota().setRequestQuota(1L));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> dispatcher.review(parameter,
+                Arrays.asList(new WeightedLlmClient("A", clientA, 10, 10, circuitBreaker()), new WeightedLlmClient("B", clientB, 1, 10)),
+                null, Runnable::run, 1, null, null, null));
+
+        assertEquals("endpoint failed", e.getMessage());
+        assertEquals(Collections.singletonList("A:a1"), reviewed);
+    }
+
+    @Test
+    void testDoesNotRetryOnClientsWithoutCircuitBreaker() throws IOException {
+        answer(() -> {
+            throw new IllegalStateException("endpoint failed");
+        });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> dispatcher.review(parameter(fileGroup("a", 1, "a1")),
+                Arrays.asList(new WeightedLlmClient("A", clientA, 10, 10), new WeightedLlmClient("B", clientB, 1, 10)),
+                null, Runnable::run, 1, null, null, null));
+
+        assertEquals("endpoint failed", e.getMessage());
+        assertEquals(Collections.singletonList("A:a1"), reviewed);
+    }
+
+    @Test
+    void testLimitsEveryBatchToItsPlannedRequests() throws IOException {
+        List<Long> quotas = new CopyOnWriteArrayList<>();
+        when(reviewService.review(any(), any(), any())).thenAnswer(invocation -> {
+            ReviewParameter parameter = invocation.getArgument(0);
+            quotas.add(parameter.getLlmQuota().getRequestQuota());
+            return result(names(parameter));
+        });
+        ReviewParameter parameter = parameter(fileGroup("a", 2, "a1", "a2", "a3"));
+        parameter.setRules(Arrays.asList(rule("r1"), rule("r2"), rule("r3")));
+        parameter.setRulesBatchSize(2);
+        parameter.setLlmQuota(new LlmQuota().setRequestQuota(4L));
+
+        dispatcher.review(parameter, Collections.singletonList(new WeightedLlmClient("A", clientA, 1, 1)),
+                null, Runnable::run, 1, null, null, null);
+
+        // a1+a2 and a3 with two rules batches each
+        assertEquals(Arrays.asList(2L, 2L), quotas);
+    }
+
+    @Test
+    void testFailsBeforeSendingAnythingWhenTheReviewExceedsTheRequestQuota() throws IOException {
+        answer(null);
+        ReviewParameter parameter = parameter(fileGroup("a", 1, "a1", "a2", "a3"));
+        parameter.setLlmQuota(new LlmQuota().setRequestQuota(2L));
+
+        LlmCodeReviewMavenPluginException e = assertThrows(LlmCodeReviewMavenPluginException.class, () -> dispatcher.review(parameter,
+                Collections.singletonList(new WeightedLlmClient("A", clientA, 1, 1)), null, Runnable::run, 1, null, null, null));
+
+        assertTrue(e.getMessage().contains("3 requests"), e.getMessage());
+        assertTrue(reviewed.isEmpty());
+    }
+
+    @Test
+    void testReviewsAParameterWithoutMatchingFilesWithTheFirstClient() {
+        List<ReviewParameter> parameters = new ArrayList<>();
+        when(reviewService.review(any(), any(), any())).thenAnswer(invocation -> {
+            parameters.add(invocation.getArgument(0));
+            reviewed.add(invocation.getArgument(1) == clientA ? "A" : "B");
+            return result("as is");
+        });
+        FileGroup fileGroup = new FileGroup();
+        fileGroup.setFileGroupName("empty");
+        fileGroup.setPaths(Collections.singletonList(directory.toString().replace('\\', '/') + "/missing/*.java"));
+        ReviewParameter parameter = parameter(fileGroup);
+
+        ReviewResult result = dispatcher.review(parameter,
+                Arrays.asList(new WeightedLlmClient("A", clientA, 1, 1), new WeightedLlmClient("B", clientB, 1, 1)),
+                null, Runnable::run, 1, null, null, null);
+
+        assertEquals("as is", result.getName());
+        assertEquals(Collections.singletonList(parameter), parameters);
+        assertEquals(Collections.singletonList("A"), reviewed);
+    }
+
+    private void answer(Action action) {
+        when(reviewService.review(any(), any(), any())).thenAnswer(invocation -> {
+            String name = (invocation.getArgument(1) == clientA ? "A:" : "B:") + names(invocation.getArgument(0));
+            reviewed.add(name);
+            if (action != null) {
+                action.run();
+            }
+            return result(name.substring(2));
+        });
+    }
+
+    private long count(String prefix) {
+        return reviewed.stream().filter(name -> name.startsWith(prefix)).count();
+    }
+
+    private static String names(ReviewParameter parameter) {
+        List<String> names = new ArrayList<>();
+        for (String path : parameter.getTargets().get(0).getFileGroups().get(0).getPaths()) {
+            String fileName = Paths.get(path).getFileName().toString();
+            names.add(fileName.substring(0, fileName.length() - ".java".length()));
+        }
+        return String.join("+", names);
+    }
+
+    private FileGroup fileGroup(String name, int filesBatchSize, String... fileNames) throws IOException {
+        Files.createDirectories(directory.resolve(name));
+        for (String fileName : fileNames) {
+            Files.write(directory.resolve(name).resolve(fileName + ".java"), new byte[0]);
+        }
+        FileGroup fileGroup = new FileGroup();
+        fileGroup.setFileGroupName(name);
+        fileGroup.setPaths(Collections.singletonList(directory.toString().replace('\\', '/') + "/" + name + "/*.java"));
+        fileGroup.setFilesBatchSize(filesBatchSize);
+        return fileGroup;
+    }
+
+    private static ReviewParameter parameter(FileGroup... fileGroups) {
+        ReviewTarget target = new ReviewTarget();
+        target.setFileGroups(Arrays.asList(fileGroups));
+        ReviewParameter parameter = new ReviewParameter();
+        parameter.setTargets(Collections.singletonList(target));
+        return parameter;
+    }
+
+    private static Rule rule(String code) {
+        Rule rule = new Rule();
+        rule.setCode(code);
+        return rule;
+    }
+
+    private static ReviewResult result(String name) {
+        ReviewResult result = new ReviewResult();
+        result.setName(name);
+        return result;
+    }
+
+    private static CircuitBreaker circuitBreaker() {
+        return new SlidingWindowCircuitBreakerImpl("test", new CircuitBreakerPolicy(50, 100, TimeUnit.SECONDS.toNanos(1),
+                10, 10, TimeUnit.MINUTES.toNanos(10), 1));
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+}
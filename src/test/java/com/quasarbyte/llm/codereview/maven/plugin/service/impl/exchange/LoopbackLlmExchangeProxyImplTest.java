@@ -0,0 +1,271 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.exchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.model.LlmExchangeCacheModeEnum;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.LlmRequestRateLimiter;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoopbackLlmExchangeProxyImplTest {
+
+    private static final String COMPLETION = "{\"model\":\"gpt-4o\",\"messages\":[{\"role\":\"user\",\"content\":\"Review\"}]}";
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    private HttpServer upstream;
+    private LoopbackLlmExchangeProxyImpl proxy;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        upstream.createContext("/", exchange -> {
+            upstreamRequests.incrementAndGet();
+            byte[] body = "{\"choices\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        upstream.start();
+        proxy = new LoopbackLlmExchangeProxyImpl(directory, LlmExchangeCacheModeEnum.REPLAY_OR_CALL,
+                new LlmExchangeKeyCalculatorImpl(objectMapper), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        proxy.close();
+        upstream.stop(0);
+    }
+
+    @Test
+    void testRecordsAndReplaysCompletion() throws IOException {
+        String baseUrl = proxy.route("http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1", null);
+
+        assertEquals(200, post(baseUrl + "/chat/completions", COMPLETION, null).status);
+        assertEquals(200, post(baseUrl + "/chat/completions", COMPLETION, null).status);
+
+        assertEquals(1, upstreamRequests.get());
+        assertEquals("1 replayed, 1 recorded, 0 missing, 0 failed", proxy.getSummary());
+    }
+
+    @Test
+    void testDoesNotReplayRecordingOfAnotherEndpoint() throws IOException {
+        String firstBaseUrl = proxy.route("http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1", null);
+        String secondBaseUrl = proxy.route("http://127.0.0.1:" + upstream.getAddress().getPort() + "/v2", null);
+
+        assertEquals(200, post(firstBaseUrl + "/chat/completions", COMPLETION, null).status);
+        assertEquals(200, post(secondBaseUrl + "/chat/completions", COMPLETION, null).status);
+
+        assertEquals(2, upstreamRequests.get());
+        assertEquals("0 replayed, 2 recorded, 0 missing, 0 failed", proxy.getSummary());
+    }
+
+    @Test
+    void testRejectsStreamingRequestBody() throws IOException {
+        String baseUrl = proxy.route("http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1", null);
+
+        Response response = post(baseUrl + "/chat/completions",
+                "{\"model\":\"gpt-4o\",\"stream\":true,\"messages\":[]}", null);
+
+        assertEquals(400, response.status);
+        assertTrue(response.body.contains("does not support streaming"), response.body);
+        assertEquals(0, upstreamRequests.get());
+    }
+
+    @Test
+    void testRejectsEventStreamAccept() throws IOException {
+        String baseUrl = proxy.route("http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1", null);
+
+        Response response = post(baseUrl + "/chat/completions", COMPLETION, "text/event-stream");
+
+        assertEquals(400, response.status);
+        assertEquals(0, upstreamRequests.get());
+    }
+
+    @Test
+    void testReportsProxyAuthenticationRequired() throws IOException {
+        HttpServer authenticatingProxy = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        authenticatingProxy.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Proxy-Authenticate", "Basic realm=\"proxy\"");
+            exchange.sendResponseHeaders(407, -1);
+            exchange.close();
+        });
+        authenticatingProxy.start();
+        try {
+            String baseUrl = proxy.route("http://llm.example.com/v1",
+                    new Proxy(Proxy.Type.HTTP, authenticatingProxy.getAddress()));
+
+            Response response = post(baseUrl + "/chat/completions", COMPLETION, null);
+
+            assertEquals(502, response.status);
+            assertTrue(response.body.contains("requires authentication"), response.body);
+        } finally {
+            authenticatingProxy.stop(0);
+        }
+    }
+
+    @Test
+    void testForwardsWithoutCacheMode() throws IOException {
+        LoopbackLlmExchangeProxyImpl gateway = new LoopbackLlmExchangeProxyImpl(objectMapper);
+        try {
+            String baseUrl = gateway.route("http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1", null);
+
+            assertEquals(200, post(baseUrl + "/chat/completions", COMPLETION, null).status);
+            assertEquals(200, post(baseUrl + "/chat/completions", COMPLETION, null).status);
+
+            assertEquals(2, upstreamRequests.get());
+            assertEquals("2 forwarded, 0 failed", gateway.getSummary());
+        } finally {
+            gateway.close();
+        }
+    }
+
+    @Test
+    void testAppliesRateLimiterToForwardedRequestsOnly() throws IOException {
+        RecordingRateLimiter rateLimiter = new RecordingRateLimiter("key");
+        String baseUrl = proxy.route("http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1", null, rateLimiter);
+
+        assertEquals(200, post(baseUrl + "/chat/completions", COMPLETION, null).status);
+        assertEquals(200, post(baseUrl + "/chat/completions", COMPLETION, null).status);
+
+        // The second request is replayed and never reaches the endpoint
+        assertEquals(1, upstreamRequests.get());
+        assertEquals(1, rateLimiter.bodies.size());
+        assertEquals(COMPLETION, rateLimiter.bodies.get(0));
+    }
+
+    @Test
+    void testRoutesClientsWithDifferentLimitsSeparately() throws IOException {
+        RecordingRateLimiter first = new RecordingRateLimiter("first");
+        RecordingRateLimiter second = new RecordingRateLimiter("second");
+        LoopbackLlmExchangeProxyImpl gateway = new LoopbackLlmExchangeProxyImpl(objectMapper);
+        try {
+            String upstreamUrl = "http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1";
+            String firstBaseUrl = gateway.route(upstreamUrl, null, first);
+            String secondBaseUrl = gateway.route(upstreamUrl, null, second);
+
+            assertNotEquals(firstBaseUrl, secondBaseUrl);
+            assertEquals(200, post(secondBaseUrl + "/chat/completions", COMPLETION, null).status);
+
+            assertTrue(first.bodies.isEmpty());
+            assertEquals(1, second.bodies.size());
+        } finally {
+            gateway.close();
+        }
+    }
+
+    @Test
+    void testFailsRequestWhenInterruptedWhileWaitingForTheRateLimit() throws IOException {
+        String baseUrl = proxy.route("http://127.0.0.1:" + upstream.getAddress().getPort() + "/v1", null, new LlmRequestRateLimiter() {
+            @Override
+            public String getKey() {
+                return "interrupted";
+            }
+
+            @Override
+            public void acquire(byte[] requestBody) throws InterruptedException {
+                throw new InterruptedException("stopped");
+            }
+
+            @Override
+            public long getWaitNanos() {
+                return 0;
+            }
+        });
+
+        Response response = post(baseUrl + "/chat/completions", COMPLETION, null);
+
+        assertEquals(502, response.status);
+        assertEquals(0, upstreamRequests.get());
+    }
+
+    private static Response post(String url, String body, String accept) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection(Proxy.NO_PROXY);
+        try {
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "application/json");
+            if (accept != null) {
+                connection.setRequestProperty("Accept", accept);
+            }
+            connection.setDoOutput(true);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            int status = connection.getResponseCode();
+            InputStream inputStream = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            if (inputStream != null) {
+                try (InputStream in = inputStream) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) >= 0) {
+                        outputStream.write(buffer, 0, read);
+                    }
+                }
+            }
+            return new Response(status, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static final class RecordingRateLimiter implements LlmRequestRateLimiter {
+
+        private final String key;
+        private final List<String> bodies = new CopyOnWriteArrayList<>();
+
+        private RecordingRateLimiter(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public void acquire(byte[] requestBody) {
+            bodies.add(new String(requestBody, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public long getWaitNanos() {
+            return 0;
+        }
+    }
+
+    private static final class Response {
+
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.concurrency.ConcurrencyLimiter;
+import com.quasarbyte.llm.codereview.maven.plugin.service.concurrency.ConcurrencyLimiter.Outcome;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.concurrency.AimdConcurrencyLimiterImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitedExecutorServiceTest {
+
+    private final ExecutorService delegate = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void testRunsNoMoreTasksThanTheLimit() throws Exception {
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService(delegate,
+                new AimdConcurrencyLimiterImpl(2, 2, 2));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, peak.get());
+    }
+
+    @Test
+    void testReportsOutcomesOfSubmittedTasks() throws Exception {
+        RecordingLimiter limiter = new RecordingLimiter();
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService(delegate, limiter);
+
+        assertEquals("ok", executor.submit(() -> "ok").get(5, TimeUnit.SECONDS));
+        ExecutionException overload = assertThrows(ExecutionException.class,
+                () -> executor.submit(() -> {
+                    throw new SocketTimeoutException("Read timed out");
+                }).get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> executor.submit(() -> {
+                    throw new IllegalArgumentException("Invalid request");
+                }).get(5, TimeUnit.SECONDS));
+
+        assertTrue(overload.getCause() instanceof SocketTimeoutException);
+        assertTrue(failure.getCause() instanceof IllegalArgumentException);
+        assertEquals(Arrays.asList(Outcome.SUCCESS, Outcome.OVERLOAD, Outcome.FAILURE), limiter.outcomes);
+    }
+
+    @Test
+    void testOverloadLowersLimitOfAimdLimiter() throws Exception {
+        AimdConcurrencyLimiterImpl limiter = new AimdConcurrencyLimiterImpl(1, 8, 8);
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService(delegate, limiter);
+
+        assertThrows(ExecutionException.class, () -> executor.submit(() -> {
+            throw new IllegalStateException("HTTP status 429: Too Many Requests");
+        }).get(5, TimeUnit.SECONDS));
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testLimitsExecutedRunnables() throws Exception {
+        RecordingLimiter limiter = new RecordingLimiter();
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService(delegate, limiter);
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Outcome.SUCCESS), limiter.outcomes);
+    }
+
+    private static final class RecordingLimiter implements ConcurrencyLimiter {
+
+        private final List<Outcome> outcomes = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public long acquire() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void release(long startNanos, Outcome outcome) {
+            outcomes.add(outcome);
+        }
+
+        @Override
+        public int getLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public String getSummary() {
+            return outcomes.toString();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutorServiceRegistryImplTest {
+
+    private final ExecutorServiceRegistryImpl registry = new ExecutorServiceRegistryImpl(1000);
+
+    @Test
+    void testConcurrentLeasesShareOnePool() {
+        AtomicInteger created = new AtomicInteger();
+        ExecutorService first = registry.lease("fixed-2", () -> newPool(created));
+        ExecutorService second = registry.lease("fixed-2", () -> newPool(created));
+
+        assertEquals(1, created.get());
+        assertEquals(1, registry.getStatistics().size());
+        assertEquals(2, registry.getStatistics().get(0).getLeaseCount());
+
+        first.shutdown();
+        second.shutdown();
+    }
+
+    @Test
+    void testPoolIsShutDownWhenLastLeaseIsReleased() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        ExecutorService first = registry.lease("fixed-2", () -> newPool(created));
+        ExecutorService second = registry.lease("fixed-2", () -> newPool(created));
+
+        first.shutdown();
+        assertEquals(1, registry.getStatistics().size(), "The pool is still leased by the second execution");
+        assertEquals("done", second.submit(() -> "done").get(1, TimeUnit.SECONDS));
+
+        second.shutdown();
+        assertTrue(registry.getStatistics().isEmpty());
+
+        ExecutorService third = registry.lease("fixed-2", () -> newPool(created));
+        assertEquals(2, created.get(), "A released pool is replaced, not reused");
+        assertEquals("done", third.submit(() -> "done").get(1, TimeUnit.SECONDS));
+        third.shutdown();
+    }
+
+    @Test
+    void testQueuedTasksCompleteAfterRelease() throws Exception {
+        ExecutorService lease = registry.lease("fixed-1", () -> Executors.newFixedThreadPool(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        lease.submit(() -> {
+            started.countDown();
+            proceed.await();
+            return null;
+        });
+        Future<String> queued = lease.submit(() -> "queued");
+        started.await(1, TimeUnit.SECONDS);
+
+        lease.shutdown();
+        assertFalse(lease.isTerminated());
+        proceed.countDown();
+
+        assertTrue(lease.awaitTermination(1, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get());
+    }
+
+    @Test
+    void testShutdownNowInterruptsTasksOfTheLastLease() throws Exception {
+        ExecutorService lease = registry.lease("fixed-1", () -> Executors.newFixedThreadPool(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        lease.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        started.await(1, TimeUnit.SECONDS);
+
+        lease.shutdownNow();
+
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testReleasedLeaseRejectsTasks() {
+        ExecutorService lease = registry.lease("fixed-1", () -> Executors.newFixedThreadPool(1));
+        lease.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> lease.execute(() -> {
+        }));
+    }
+
+    private static ExecutorService newPool(AtomicInteger created) {
+        created.incrementAndGet();
+        return Executors.newFixedThreadPool(2);
+    }
+}
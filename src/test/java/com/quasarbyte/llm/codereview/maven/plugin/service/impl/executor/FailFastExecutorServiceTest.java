@@ -0,0 +1,99 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.executor;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailFastExecutorServiceTest {
+
+    private final ExecutorService delegate = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void testRunsTasksWhileTheMonitorHasNotTripped() throws Exception {
+        FailFastExecutorService executor = new FailFastExecutorService(delegate, new SwitchMonitor());
+
+        assertEquals("done", executor.submit(() -> "done").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancelsQueuedTasksOnceTheMonitorTrips() throws Exception {
+        SwitchMonitor monitor = new SwitchMonitor();
+        FailFastExecutorService executor = new FailFastExecutorService(delegate, monitor);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        Future<?> running = executor.submit(() -> {
+            runs.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        Future<?> queued = executor.submit(runs::incrementAndGet);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        monitor.tripped.set(true);
+        release.countDown();
+
+        running.get(5, TimeUnit.SECONDS);
+        assertThrows(CancellationException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.isCancelled());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testRejectsExecuteOnceTheMonitorTripped() {
+        SwitchMonitor monitor = new SwitchMonitor();
+        FailFastExecutorService executor = new FailFastExecutorService(delegate, monitor);
+        monitor.tripped.set(true);
+
+        RejectedExecutionException e = assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertTrue(e.getMessage().contains("threshold reached"));
+    }
+
+    @Test
+    void testDelegatesShutdown() throws Exception {
+        FailFastExecutorService executor = new FailFastExecutorService(delegate, new SwitchMonitor());
+
+        executor.shutdown();
+
+        assertTrue(delegate.isShutdown());
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private static final class SwitchMonitor implements FailFastMonitor {
+        private final AtomicBoolean tripped = new AtomicBoolean();
+
+        @Override
+        public boolean onBatchResult(ReviewResult result) {
+            return false;
+        }
+
+        @Override
+        public boolean isTripped() {
+            return tripped.get();
+        }
+
+        @Override
+        public String getReason() {
+            return "threshold reached";
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.failfast;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.ReviewStoppedException;
+import com.quasarbyte.llm.codereview.maven.plugin.service.failfast.FailFastMonitor;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.FileGroupPathResolverImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewBatchSplitterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.review.ReviewParameterSplitterImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.review.ReviewResultMerger;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmQuota;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchFailFastReviewServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    // Merges results by concatenating their names, so that the reviewed batches can be asserted
+    private final ReviewResultMerger merger = results -> {
+        List<String> names = new ArrayList<>();
+        for (ReviewResult result : results) {
+            names.add(result.getName());
+        }
+        return result(String.join(",", names));
+    };
+
+    private final BatchFailFastReviewServiceImpl service = new BatchFailFastReviewServiceImpl(
+            new ReviewBatchSplitterImpl(new ReviewParameterSplitterImpl(), new FileGroupPathResolverImpl()), merger);
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void reviewsEveryFileBatchWhenTheMonitorDoesNotTrip() throws IOException {
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+        TrippingMonitor monitor = new TrippingMonitor(Integer.MAX_VALUE);
+
+        ReviewResult result = service.review(parameter(fileGroup("a", 1, "a1", "a2", "a3"), fileGroup("b", 2, "b1", "b2")),
+                reviewer(reviewed), monitor, Runnable::run, 1);
+
+        assertEquals("a1,a2,a3,b1+b2", result.getName());
+        assertEquals(Arrays.asList("a1", "a2", "a3", "b1+b2"), reviewed);
+        assertEquals(4, monitor.results);
+    }
+
+    @Test
+    void stopsASingleFileGroupBetweenFileBatches() throws IOException {
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+        TrippingMonitor monitor = new TrippingMonitor(2);
+
+        ReviewStoppedException e = assertThrows(ReviewStoppedException.class,
+                () -> service.review(parameter(fileGroup("a", 1, "a1", "a2", "a3", "a4")), reviewer(reviewed), monitor, Runnable::run, 1));
+
+        assertEquals(Arrays.asList("a1", "a2"), reviewed);
+        assertEquals("a1,a2", e.getPartialResult().getName());
+        assertTrue(e.getMessage().contains("tripped"));
+    }
+
+    @Test
+    void returnsTheResultWhenTheLastBatchTripsTheMonitor() throws IOException {
+        ReviewResult result = service.review(parameter(fileGroup("a", 1, "a1", "a2")), reviewer(new ArrayList<>()),
+                new TrippingMonitor(2), Runnable::run, 1);
+
+        assertEquals("a1,a2", result.getName());
+    }
+
+    @Test
+    void startsNothingOnceTheMonitorHasTripped() throws IOException {
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+        TrippingMonitor monitor = new TrippingMonitor(1);
+        monitor.onBatchResult(result("cached"));
+
+        ReviewStoppedException e = assertThrows(ReviewStoppedException.class,
+                () -> service.review(parameter(fileGroup("a", 1, "a1")), reviewer(reviewed), monitor, Runnable::run, 1));
+
+        assertTrue(reviewed.isEmpty());
+        assertNull(e.getPartialResult());
+    }
+
+    @Test
+    void reviewsBatchesConcurrently() throws Exception {
+        CountDownLatch running = new CountDownLatch(3);
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+
+        ReviewResult result = service.review(parameter(fileGroup("a", 1, "a1", "a2", "a3")), p -> {
+            running.countDown();
+            try {
+                // Only returns if all three batches are in flight at the same time
+                assertTrue(running.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return reviewer(reviewed).apply(p);
+        }, new TrippingMonitor(Integer.MAX_VALUE), executorService, 3);
+
+        assertEquals("a1,a2,a3", result.getName());
+    }
+
+    @Test
+    void ignoresFailuresOfBatchesDrainedAfterTheMonitorTripped() throws IOException {
+        TrippingMonitor monitor = new TrippingMonitor(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+
+        ReviewStoppedException e = assertThrows(ReviewStoppedException.class,
+                () -> service.review(parameter(fileGroup("a", 1, "a1", "a2", "a3")), p -> {
+                    String name = names(p);
+                    try {
+                        if (name.equals("a1")) {
+                            assertTrue(secondStarted.await(10, TimeUnit.SECONDS));
+                            return result(name);
+                        }
+                        secondStarted.countDown();
+                        while (!monitor.isTripped()) {
+                            Thread.sleep(1);
+                        }
+                    } catch (InterruptedException interrupted) {
+                        throw new IllegalStateException(interrupted);
+                    }
+                    throw new IllegalStateException("queued requests drained");
+                }, monitor, executorService, 2));
+
+        assertEquals("a1", e.getPartialResult().getName());
+    }
+
+    @Test
+    void stopsStartingBatchesAfterAFailure() throws IOException {
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> service.review(parameter(fileGroup("a", 1, "a1", "a2", "a3")), p -> {
+                    reviewed.add(names(p));
+                    throw new IllegalStateException("endpoint failed");
+                }, new TrippingMonitor(Integer.MAX_VALUE), Runnable::run, 1));
+
+        assertEquals("endpoint failed", e.getMessage());
+        assertEquals(Collections.singletonList("a1"), reviewed);
+    }
+
+    @Test
+    void limitsEveryBatchToItsShareOfTheRequestQuota() throws IOException {
+        List<Long> quotas = new CopyOnWriteArrayList<>();
+        ReviewParameter parameter = parameter(fileGroup("a", 2, "a1", "a2", "a3"));
+        parameter.setRules(Arrays.asList(rule("r1"), rule("r2"), rule("r3")));
+        parameter.setRulesBatchSize(2);
+        parameter.setLlmQuota(new LlmQuota().setRequestQuota(4L));
+
+        service.review(parameter, p -> {
+            quotas.add(p.getLlmQuota().getRequestQuota());
+            return result(names(p));
+        }, new TrippingMonitor(Integer.MAX_VALUE), Runnable::run, 1);
+
+        // a1+a2 and a3 with two rules batches each
+        assertEquals(Arrays.asList(2L, 2L), quotas);
+    }
+
+    @Test
+    void failsBeforeSendingAnythingWhenTheReviewExceedsTheRequestQuota() throws IOException {
+        List<String> reviewed = new CopyOnWriteArrayList<>();
+        ReviewParameter parameter = parameter(fileGroup("a", 1, "a1", "a2", "a3"));
+        parameter.setLlmQuota(new LlmQuota().setRequestQuota(2L));
+
+        LlmCodeReviewMavenPluginException e = assertThrows(LlmCodeReviewMavenPluginException.class,
+                () -> service.review(parameter, reviewer(reviewed), new TrippingMonitor(Integer.MAX_VALUE), Runnable::run, 1));
+
+        assertTrue(e.getMessage().contains("3 requests"), e.getMessage());
+        assertTrue(reviewed.isEmpty());
+    }
+
+    @Test
+    void reviewsAParameterWithoutMatchingFilesAsIs() {
+        FileGroup fileGroup = new FileGroup();
+        fileGroup.setFileGroupName("empty");
+        fileGroup.setPaths(Collections.singletonList(directory.toString().replace('\\', '/') + "/missing/*.java"));
+        ReviewParameter parameter = parameter(fileGroup);
+        List<ReviewParameter> reviewed = new ArrayList<>();
+        TrippingMonitor monitor = new TrippingMonitor(Integer.MAX_VALUE);
+
+        ReviewResult result = service.review(parameter, p -> {
+            reviewed.add(p);
+            return result("as is");
+        }, monitor, Runnable::run, 1);
+
+        assertEquals("as is", result.getName());
+        assertEquals(Collections.singletonList(parameter), reviewed);
+        assertEquals(1, monitor.results);
+    }
+
+    private static Function<ReviewParameter, ReviewResult> reviewer(List<String> reviewed) {
+        return p -> {
+            String name = names(p);
+            reviewed.add(name);
+            return result(name);
+        };
+    }
+
+    private static String names(ReviewParameter parameter) {
+        List<String> names = new ArrayList<>();
+        for (String path : parameter.getTargets().get(0).getFileGroups().get(0).getPaths()) {
+            String fileName = Paths.get(path).getFileName().toString();
+            names.add(fileName.substring(0, fileName.length() - ".java".length()));
+        }
+        return String.join("+", names);
+    }
+
+    private FileGroup fileGroup(String name, int filesBatchSize, String... fileNames) throws IOException {
+        Files.createDirectories(directory.resolve(name));
+        for (String fileName : fileNames) {
+            Files.write(directory.resolve(name).resolve(fileName + ".java"), new byte[0]);
+        }
+        FileGroup fileGroup = new FileGroup();
+        fileGroup.setFileGroupName(name);
+        fileGroup.setPaths(Collections.singletonList(directory.toString().replace('\\', '/') + "/" + name + "/*.java"));
+        fileGroup.setFilesBatchSize(filesBatchSize);
+        return fileGroup;
+    }
+
+    private static ReviewParameter parameter(FileGroup... fileGroups) {
+        ReviewTarget target = new ReviewTarget();
+        target.setFileGroups(Arrays.asList(fileGroups));
+        ReviewParameter parameter = new ReviewParameter();
+        parameter.setTargets(Collections.singletonList(target));
+        return parameter;
+    }
+
+    private static Rule rule(String code) {
+        Rule rule = new Rule();
+        rule.setCode(code);
+        return rule;
+    }
+
+    private static ReviewResult result(String name) {
+        ReviewResult result = new ReviewResult();
+        result.setName(name);
+        return result;
+    }
+
+    private static final class TrippingMonitor implements FailFastMonitor {
+        private final int tripAfter;
+        private int results;
+
+        private TrippingMonitor(int tripAfter) {
+            this.tripAfter = tripAfter;
+        }
+
+        @Override
+        public synchronized boolean onBatchResult(ReviewResult result) {
+            results++;
+            return results == tripAfter;
+        }
+
+        @Override
+        public synchronized boolean isTripped() {
+            return results >= tripAfter;
+        }
+
+        @Override
+        public synchronized String getReason() {
+            return isTripped() ? "tripped after " + tripAfter : null;
+        }
+    }
+}
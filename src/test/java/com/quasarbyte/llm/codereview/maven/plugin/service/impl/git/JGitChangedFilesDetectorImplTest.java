@@ -0,0 +1,152 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.git;
+
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JGitChangedFilesDetectorImplTest {
+
+    private static final PersonIdent AUTHOR = new PersonIdent("Test", "test@example.com");
+
+    @TempDir
+    Path directory;
+
+    private final JGitChangedFilesDetectorImpl detector = new JGitChangedFilesDetectorImpl();
+    private Git git;
+
+    @BeforeEach
+    void setUp() throws IOException, GitAPIException {
+        git = Git.init().setDirectory(directory.toFile()).setInitialBranch("main").call();
+        write("src/A.java", "class A {}");
+        write("src/B.java", "class B {}");
+        write("src/Old.java", "class Old {}");
+        write("src/Keep.java", "class Keep {}");
+        write(".gitignore", "*.log\n");
+        commit("Initial commit");
+        git.branchCreate().setName("base").call();
+    }
+
+    @AfterEach
+    void tearDown() {
+        git.close();
+    }
+
+    @Test
+    void testFindsModifiedAddedAndRenamedFilesButNotDeletedOnes() throws IOException, GitAPIException {
+        write("src/A.java", "class A { int changed; }");
+        write("src/C.java", "class C {}");
+        git.rm().addFilepattern("src/B.java").call();
+        Files.move(directory.resolve("src/Old.java"), directory.resolve("src/New.java"));
+        git.rm().addFilepattern("src/Old.java").call();
+        commit("Change files");
+
+        assertEquals(relative("src/A.java", "src/C.java", "src/New.java"), find("base", false, false));
+    }
+
+    @Test
+    void testMergeBaseIgnoresChangesOnTheBaseBranch() throws IOException, GitAPIException {
+        git.checkout().setCreateBranch(true).setName("feature").call();
+        write("src/A.java", "class A { int feature; }");
+        commit("Feature change");
+
+        git.checkout().setName("main").call();
+        write("src/Keep.java", "class Keep { int upstream; }");
+        commit("Upstream change");
+        git.checkout().setName("feature").call();
+
+        assertEquals(relative("src/A.java"), find("main", true, false));
+        assertEquals(relative("src/A.java", "src/Keep.java"), find("main", false, false));
+    }
+
+    @Test
+    void testIncludesUncommittedAndUntrackedButNotIgnoredFiles() throws IOException {
+        write("src/A.java", "class A { int uncommitted; }");
+        write("src/Untracked.java", "class Untracked {}");
+        write("build.log", "ignored");
+
+        assertEquals(relative("src/A.java", "src/Untracked.java"), find("base", true, true));
+        assertEquals(Collections.emptySet(), find("base", true, false));
+    }
+
+    @Test
+    void testUncommittedDeletionIsNotReported() throws IOException {
+        Files.delete(directory.resolve("src/B.java"));
+
+        assertEquals(Collections.emptySet(), find("base", true, true));
+    }
+
+    @Test
+    void testChangeRevertedInWorkingTreeIsNotReported() throws IOException, GitAPIException {
+        write("src/A.java", "class A { int changed; }");
+        commit("Change A");
+        write("src/A.java", "class A {}");
+
+        assertEquals(relative("src/A.java"), find("base", true, false));
+        assertEquals(Collections.emptySet(), find("base", true, true));
+    }
+
+    @Test
+    void testFindsRepositoryFromSubdirectory() throws IOException, GitAPIException {
+        write("src/A.java", "class A { int changed; }");
+        commit("Change A");
+
+        Set<Path> changedFiles = detector.findChangedFiles(directory.resolve("src"), "base", true, false);
+
+        assertEquals(Collections.singleton(directory.toRealPath().resolve("src/A.java")), realPaths(changedFiles));
+    }
+
+    @Test
+    void testUnknownBaseRefIsReported() {
+        LlmCodeReviewMavenPluginException e = assertThrows(LlmCodeReviewMavenPluginException.class,
+                () -> detector.findChangedFiles(directory, "origin/missing", true, true));
+        assertTrue(e.getMessage().contains("origin/missing"), e.getMessage());
+    }
+
+    private Set<String> find(String baseRef, boolean useMergeBase, boolean includeUncommittedChanges) throws IOException {
+        Set<String> relativePaths = new TreeSet<>();
+        for (Path file : realPaths(detector.findChangedFiles(directory, baseRef, useMergeBase, includeUncommittedChanges))) {
+            relativePaths.add(directory.toRealPath().relativize(file).toString().replace('\\', '/'));
+        }
+        return relativePaths;
+    }
+
+    private static Set<Path> realPaths(Set<Path> files) throws IOException {
+        Set<Path> realPaths = new HashSet<>();
+        for (Path file : files) {
+            realPaths.add(file.toRealPath());
+        }
+        return realPaths;
+    }
+
+    private static Set<String> relative(String... paths) {
+        return new TreeSet<>(Arrays.asList(paths));
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = directory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void commit(String message) throws GitAPIException {
+        git.add().addFilepattern(".").call();
+        git.commit().setMessage(message).setAuthor(AUTHOR).setCommitter(AUTHOR).call();
+    }
+}
@@ -0,0 +1,81 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.ResourceLoader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingResourceLoaderImplTest {
+
+    private final CountingLoader delegate = new CountingLoader();
+    private final CachingResourceLoaderImpl loader = new CachingResourceLoaderImpl(delegate);
+
+    @Test
+    void testLoadsEveryLocationOnce() throws IOException {
+        String first = loader.load("scripts/mapper.js");
+        String second = loader.load(" scripts/mapper.js ");
+
+        assertSame(first, second);
+        assertEquals(1, delegate.loads.size());
+    }
+
+    @Test
+    void testCachesEveryCodePageSeparately() throws IOException {
+        loader.load("scripts/mapper.js");
+        loader.load("scripts/mapper.js", "ISO-8859-1");
+        loader.load("scripts/mapper.js", "ISO-8859-1");
+
+        assertEquals(2, delegate.loads.size());
+    }
+
+    @Test
+    void testDoesNotCacheFailedLoads() {
+        delegate.failing = true;
+        assertThrows(IOException.class, () -> loader.load("scripts/mapper.js"));
+
+        delegate.failing = false;
+        assertDoesNotThrow(() -> loader.load("scripts/mapper.js"));
+        assertEquals(2, delegate.loads.size());
+    }
+
+    @Test
+    void testDoesNotBufferStreams() throws IOException {
+        loader.openStream("scripts/mapper.js").close();
+        loader.openStream("scripts/mapper.js").close();
+
+        assertEquals(2, delegate.streams);
+    }
+
+    private static final class CountingLoader implements ResourceLoader {
+
+        private final List<String> loads = new ArrayList<>();
+        private boolean failing;
+        private int streams;
+
+        @Override
+        public String load(String location) throws IOException {
+            return load(location, null);
+        }
+
+        @Override
+        public String load(String location, String codePage) throws IOException {
+            loads.add(location);
+            if (failing) {
+                throw new IOException("cannot read " + location);
+            }
+            return new String("body of " + location.trim());
+        }
+
+        @Override
+        public InputStream openStream(String location) {
+            streams++;
+            return new ByteArrayInputStream(new byte[0]);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PRuleList;
+import com.quasarbyte.llm.codereview.maven.plugin.service.parser.PRulesXmlParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JAXB based {@link PRulesXmlParser}, the reference the StAX parser is checked against: it reads rules through the
+ * JAXB mapping of {@link PRuleList}, which defines the rules file format.
+ * <p>
+ * The {@link JAXBContext} is created on first use and shared by all instances; unmarshallers are created per call
+ * because they are not thread-safe.
+ * </p>
+ */
+class JaxbPRulesXmlParser implements PRulesXmlParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(JaxbPRulesXmlParser.class);
+
+    private static volatile JAXBContext jaxbContext;
+
+    @Override
+    public List<PRule> parseRules(String xml) throws Exception {
+        logger.info("Parsing rules from XML. XML length: {}", xml != null ? xml.length() : "null");
+
+        if (xml == null) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return toRules(createUnmarshaller().unmarshal(new StringReader(xml)));
+        } catch (Exception e) {
+            logger.error("Failed to parse rules from XML: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<PRule> parseRules(InputStream xml) throws Exception {
+        logger.info("Parsing rules from XML stream.");
+
+        if (xml == null) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return toRules(createUnmarshaller().unmarshal(xml));
+        } catch (Exception e) {
+            logger.error("Failed to parse rules from XML: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private static Unmarshaller createUnmarshaller() throws JAXBException {
+        Unmarshaller unmarshaller = getJaxbContext().createUnmarshaller();
+        logger.debug("Created Unmarshaller for PRuleList.");
+        return unmarshaller;
+    }
+
+    private static JAXBContext getJaxbContext() throws JAXBException {
+        JAXBContext context = jaxbContext;
+        if (context == null) {
+            synchronized (JaxbPRulesXmlParser.class) {
+                context = jaxbContext;
+                if (context == null) {
+                    context = JAXBContext.newInstance(PRuleList.class);
+                    jaxbContext = context;
+                    logger.debug("Created JAXBContext for PRuleList.");
+                }
+            }
+        }
+        return context;
+    }
+
+    private static List<PRule> toRules(Object unmarshalled) {
+        PRuleList ruleList = (PRuleList) unmarshalled;
+        if (ruleList == null) {
+            logger.warn("Parsed PRuleList is null.");
+            return null;
+        }
+        List<PRule> rules = ruleList.getRules();
+        logger.info("Successfully parsed {} rules from XML.", rules != null ? rules.size() : 0);
+        return rules;
+    }
+}
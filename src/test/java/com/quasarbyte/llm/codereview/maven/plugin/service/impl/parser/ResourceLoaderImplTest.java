@@ -0,0 +1,187 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceLoaderImplTest {
+
+    private static final String RESOURCE_PATH = "rules/rules.txt";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadsLargeFile() throws Exception {
+        String text = largeText(300 * 1024);
+        Path file = directory.resolve("large.txt");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+
+        ResourceLoaderImpl loader = new ResourceLoaderImpl();
+
+        assertEquals(text, loader.load(file.toString()));
+        assertEquals(text, loader.load("file:" + file));
+    }
+
+    @Test
+    void loadsFileWithCodePage() throws Exception {
+        Path file = directory.resolve("latin1.txt");
+        Files.write(file, "café".getBytes(StandardCharsets.ISO_8859_1));
+
+        assertEquals("café", new ResourceLoaderImpl().load(file.toString(), "ISO-8859-1"));
+    }
+
+    @Test
+    void replacesMalformedInput() throws Exception {
+        byte[] bytes = {'a', (byte) 0xC3, 'b', (byte) 0xFF, 'c'};
+        Path file = directory.resolve("malformed.txt");
+        Files.write(file, bytes);
+
+        ResourceLoaderImpl loader = new ResourceLoaderImpl(new FixedResourceClassLoader(bytes, bytes.length));
+
+        assertEquals("a\uFFFDb\uFFFDc", loader.load(file.toString()));
+        assertEquals("a\uFFFDb\uFFFDc", loader.load("classpath:" + RESOURCE_PATH));
+    }
+
+    @Test
+    void loadsClasspathResourceWithoutUrlCaches() throws Exception {
+        byte[] bytes = "rules".getBytes(StandardCharsets.UTF_8);
+        FixedResourceClassLoader classLoader = new FixedResourceClassLoader(bytes, bytes.length);
+
+        assertEquals("rules", new ResourceLoaderImpl(classLoader).load("classpath:/" + RESOURCE_PATH));
+        assertFalse(classLoader.connection.getUseCaches());
+    }
+
+    @Test
+    void opensClasspathResourceStreamWithoutUrlCaches() throws Exception {
+        byte[] bytes = "rules".getBytes(StandardCharsets.UTF_8);
+        FixedResourceClassLoader classLoader = new FixedResourceClassLoader(bytes, bytes.length);
+
+        try (InputStream in = new ResourceLoaderImpl(classLoader).openStream("classpath:" + RESOURCE_PATH)) {
+            byte[] read = new byte[bytes.length];
+            assertEquals(bytes.length, in.read(read));
+            assertArrayEquals(bytes, read);
+        }
+        assertFalse(classLoader.connection.getUseCaches());
+    }
+
+    @Test
+    void failsToOpenMissingClasspathResource() {
+        ResourceLoaderImpl loader = new ResourceLoaderImpl(new FixedResourceClassLoader(new byte[0], 0));
+
+        IOException e = assertThrows(IOException.class, () -> loader.openStream("classpath:missing.txt"));
+        assertTrue(e.getMessage().contains("missing.txt"));
+    }
+
+    @Test
+    void loadsClasspathResourceLongerThanItsContentLength() throws Exception {
+        String text = largeText(20 * 1024);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(text, new ResourceLoaderImpl(new FixedResourceClassLoader(bytes, 100)).load("classpath:" + RESOURCE_PATH));
+        assertEquals(text, new ResourceLoaderImpl(new FixedResourceClassLoader(bytes, 0)).load("classpath:" + RESOURCE_PATH));
+    }
+
+    @Test
+    void loadsClasspathResourceShorterThanItsContentLength() throws Exception {
+        byte[] bytes = "short".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("short", new ResourceLoaderImpl(new FixedResourceClassLoader(bytes, 1024)).load("classpath:" + RESOURCE_PATH));
+        assertEquals("short", new ResourceLoaderImpl(new FixedResourceClassLoader(bytes, Long.MAX_VALUE)).load("classpath:" + RESOURCE_PATH));
+    }
+
+    @Test
+    void loadsClasspathResourceWithoutContentLength() throws Exception {
+        String text = largeText(300 * 1024);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(text, new ResourceLoaderImpl(new FixedResourceClassLoader(bytes, -1)).load("classpath:" + RESOURCE_PATH));
+    }
+
+    @Test
+    void failsForMissingClasspathResource() {
+        ResourceLoaderImpl loader = new ResourceLoaderImpl(new FixedResourceClassLoader(new byte[0], 0));
+
+        IOException e = assertThrows(IOException.class, () -> loader.load("classpath:missing.txt"));
+        assertTrue(e.getMessage().contains("missing.txt"));
+    }
+
+    @Test
+    void rejectsEmptyLocation() {
+        assertThrows(IllegalArgumentException.class, () -> new ResourceLoaderImpl().load(""));
+    }
+
+    private static String largeText(int minLength) {
+        StringBuilder builder = new StringBuilder(minLength + 64);
+        int line = 0;
+        while (builder.length() < minLength) {
+            builder.append("Rule line ").append(line++).append(" – ümläut and €\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Serves a single resource whose connection reports the given content length, whatever the actual size.
+     */
+    private static final class FixedResourceClassLoader extends ClassLoader {
+        private final byte[] bytes;
+        private final long contentLength;
+        private URLConnection connection;
+
+        private FixedResourceClassLoader(byte[] bytes, long contentLength) {
+            super(null);
+            this.bytes = bytes;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public URL getResource(String name) {
+            return findResource(name);
+        }
+
+        @Override
+        protected URL findResource(String name) {
+            if (!RESOURCE_PATH.equals(name)) {
+                return null;
+            }
+            try {
+                return new URL("test", null, -1, name, new URLStreamHandler() {
+                    @Override
+                    protected URLConnection openConnection(URL url) {
+                        connection = new URLConnection(url) {
+                            @Override
+                            public void connect() {
+                                connected = true;
+                            }
+
+                            @Override
+                            public long getContentLengthLong() {
+                                return contentLength;
+                            }
+
+                            @Override
+                            public InputStream getInputStream() {
+                                return new ByteArrayInputStream(bytes);
+                            }
+                        };
+                        return connection;
+                    }
+                });
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PRule;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaxPRulesXmlParserImplTest {
+
+    private final StaxPRulesXmlParserImpl staxParser = new StaxPRulesXmlParserImpl();
+    private final JaxbPRulesXmlParser jaxbParser = new JaxbPRulesXmlParser();
+
+    @Test
+    void parsesRules() throws Exception {
+        List<PRule> rules = staxParser.parseRules(resource("rules.xml"));
+
+        assertEquals(Arrays.asList(
+                "NAMING|Use meaningful names for classes, methods and variables.|warning",
+                "NULL_CHECK|Check method arguments for null before dereferencing them.|critical",
+                "LOGGING|Log exceptions with their stack trace.|info"), describe(rules));
+    }
+
+    @Test
+    void matchesJaxbForRules() throws Exception {
+        assertParity("rules.xml");
+    }
+
+    @Test
+    void matchesJaxbForCommentsUnknownElementsCdataAndEntities() throws Exception {
+        assertParity("rules-mixed-content.xml");
+
+        List<String> rules = describe(staxParser.parseRules(resource("rules-mixed-content.xml")));
+        assertEquals(5, rules.size());
+        assertEquals("ENTITIES|Compare with <equals> & not with ==, see “Effective Java”.|warning", rules.get(0));
+        assertEquals("CDATA|Never catch <Throwable> & ignore it. Rethrow instead.|critical", rules.get(1));
+        assertEquals("null|null|null", rules.get(3));
+        assertEquals("LAST|null|null", rules.get(4));
+    }
+
+    @Test
+    void matchesJaxbForAnEmptyRuleList() throws Exception {
+        assertParity("rules-empty.xml");
+    }
+
+    @Test
+    void rejectsAnUnexpectedRootElementLikeJaxb() {
+        assertThrows(Exception.class, () -> jaxbParser.parseRules(resource("rules-unexpected-root.xml")));
+        XMLStreamException e = assertThrows(XMLStreamException.class, () -> staxParser.parseRules(resource("rules-unexpected-root.xml")));
+        assertTrue(e.getMessage().contains("Unexpected root element 'rule'"), e.getMessage());
+        assertThrows(XMLStreamException.class, () -> staxParser.parseRules(text("rules-unexpected-root.xml")));
+    }
+
+    @Test
+    void rejectsANamespacedRootElementLikeJaxb() {
+        assertThrows(Exception.class, () -> jaxbParser.parseRules(resource("rules-namespaced.xml")));
+        assertThrows(XMLStreamException.class, () -> staxParser.parseRules(resource("rules-namespaced.xml")));
+        assertThrows(XMLStreamException.class, () -> staxParser.parseRules(text("rules-namespaced.xml")));
+    }
+
+    @Test
+    void readsRulesAfterALargePrologFromAStreamWithoutMarkSupport() throws Exception {
+        byte[] xml = withLargeProlog("rules.xml");
+
+        List<PRule> rules = staxParser.parseRules(new NoMarkInputStream(new ByteArrayInputStream(xml)));
+
+        assertEquals(describe(jaxbParser.parseRules(new ByteArrayInputStream(xml))), describe(rules));
+        assertEquals(3, rules.size());
+    }
+
+    @Test
+    void reportsAnUnexpectedRootElementAfterALargeProlog() throws Exception {
+        byte[] xml = withLargeProlog("rules-unexpected-root.xml");
+
+        XMLStreamException e = assertThrows(XMLStreamException.class,
+                () -> staxParser.parseRules(new NoMarkInputStream(new ByteArrayInputStream(xml))));
+        assertTrue(e.getMessage().contains("Unexpected root element"), e.getMessage());
+    }
+
+    @Test
+    void returnsAnEmptyListForNull() throws Exception {
+        assertEquals(Collections.emptyList(), staxParser.parseRules((String) null));
+        assertEquals(Collections.emptyList(), staxParser.parseRules((InputStream) null));
+    }
+
+    private void assertParity(String name) throws Exception {
+        List<String> expected = describe(jaxbParser.parseRules(resource(name)));
+        assertEquals(expected, describe(staxParser.parseRules(resource(name))));
+        assertEquals(expected, describe(staxParser.parseRules(text(name))));
+        assertEquals(expected, describe(jaxbParser.parseRules(text(name))));
+    }
+
+    // JAXB leaves the list null for an empty <rules/>, callers treat that as an empty list
+    private static List<String> describe(List<PRule> rules) {
+        List<String> descriptions = new ArrayList<>();
+        if (rules != null) {
+            for (PRule rule : rules) {
+                descriptions.add(rule.getCode() + "|" + rule.getDescription() + "|" + rule.getSeverity());
+            }
+        }
+        return descriptions;
+    }
+
+    private static byte[] withLargeProlog(String name) throws IOException {
+        String xml = text(name);
+        int declarationEnd = xml.indexOf("?>") + 2;
+        StringBuilder comment = new StringBuilder("\n<!--");
+        while (comment.length() < 300 * 1024) {
+            comment.append(" padding before the root element");
+        }
+        comment.append(" -->\n");
+        return (xml.substring(0, declarationEnd) + comment + xml.substring(declarationEnd)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream resource(String name) {
+        InputStream in = StaxPRulesXmlParserImplTest.class.getResourceAsStream(name);
+        assertNotNull(in, name);
+        return in;
+    }
+
+    private static String text(String name) throws IOException {
+        try (InputStream in = resource(name)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class NoMarkInputStream extends FilterInputStream {
+        private NoMarkInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
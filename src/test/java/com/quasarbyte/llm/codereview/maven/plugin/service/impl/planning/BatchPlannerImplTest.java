@@ -0,0 +1,194 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.planning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.planning.BatchBudget;
+import com.quasarbyte.llm.codereview.maven.plugin.service.planning.BatchPlan;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Files and rules are named after their token count, e.g. file {@code t100-a} and rule {@code r20-a} have
+ * 100 and 20 tokens; prompts count one token per character.
+ */
+class BatchPlannerImplTest {
+
+    private static final Pattern RULE_TOKENS = Pattern.compile("\"code\":\"r(\\d+)-");
+
+    private final BatchPlannerImpl batchPlanner = new BatchPlannerImpl(
+            (paths, excludePaths) -> {
+                List<Path> files = new ArrayList<>();
+                for (String path : paths) {
+                    files.add(Paths.get(path));
+                }
+                return files;
+            },
+            new TokenEstimator() {
+                @Override
+                public int estimate(String text) {
+                    Matcher matcher = RULE_TOKENS.matcher(text);
+                    return matcher.find() ? Integer.parseInt(matcher.group(1)) : text.length();
+                }
+
+                @Override
+                public int estimate(Path file, Charset charset) {
+                    String name = file.getFileName().toString();
+                    return Integer.parseInt(name.substring(1, name.indexOf('-')));
+                }
+            },
+            new ObjectMapper());
+
+    @Test
+    void testOversizedFileIsSentAlone() throws Exception {
+        ReviewParameter parameter = parameter(null, target("api", fileGroup("main", null, "t1500-a", "t300-b", "t300-c")));
+
+        BatchPlan plan = batchPlanner.plan(parameter, new BatchBudget(1200, 200, 0, 0));
+
+        assertEquals(1, plan.getOversizedFileCount());
+        assertEquals(2, plan.getRequestCount());
+        assertEquals(Arrays.asList(Collections.singletonList("t1500-a"), Arrays.asList("t300-b", "t300-c")), batches(plan));
+    }
+
+    @Test
+    void testOutputReserveShrinksBatches() throws Exception {
+        ReviewParameter parameter = parameter(null, target("api", fileGroup("main", null, "t300-a", "t300-b", "t300-c")));
+
+        BatchPlan withoutReserve = batchPlanner.plan(parameter, new BatchBudget(700, 0, 0, 0));
+        BatchPlan withReserve = batchPlanner.plan(parameter, new BatchBudget(700, 200, 0, 0));
+
+        assertEquals(2, withoutReserve.getRequestCount());
+        assertEquals(3, withReserve.getRequestCount());
+        assertEquals(0, withReserve.getOversizedFileCount());
+    }
+
+    @Test
+    void testRequestAndFileOverheadsAreCounted() throws Exception {
+        ReviewParameter parameter = parameter(null, target("api", fileGroup("main", null, "t40-a", "t40-b")));
+
+        assertEquals(1, batchPlanner.plan(parameter, new BatchBudget(100, 0, 0, 10)).getRequestCount());
+        assertEquals(2, batchPlanner.plan(parameter, new BatchBudget(100, 0, 1, 10)).getRequestCount());
+    }
+
+    @Test
+    void testPromptsAreCounted() throws Exception {
+        ReviewParameter parameter = parameter(null, target("api", fileGroup("main", null, "t40-a", "t40-b")));
+        parameter.setSystemPrompts(Collections.singletonList("0123456789"));
+
+        assertEquals(2, batchPlanner.plan(parameter, new BatchBudget(80, 0, 0, 0)).getRequestCount());
+        assertEquals(1, batchPlanner.plan(parameter, new BatchBudget(90, 0, 0, 0)).getRequestCount());
+    }
+
+    @Test
+    void testChoosesRulesBatchSizeWithFewestRequests() throws Exception {
+        // rules batch size, requests, file tokens, rule tokens; the budget is 100 input tokens
+        assertMinimalPlan(4, 2, files(50, 50), rules(10, 10, 10, 10));
+        assertMinimalPlan(2, 2, files(30, 30, 30, 30), rules(20, 20));
+        assertMinimalPlan(2, 3, files(40, 40, 40), rules(30, 30));
+        assertMinimalPlan(1, 4, files(70), rules(20, 20, 20, 20));
+        assertMinimalPlan(1, 8, files(25, 25, 25, 25, 25, 25, 25, 25), rules(45, 45));
+        assertMinimalPlan(2, 4, files(40, 40), rules(30, 30, 30, 30));
+    }
+
+    @Test
+    void testEveryBatchIsAFileGroupOfItsOwnSize() throws Exception {
+        ReviewParameter parameter = parameter(rules(10, 10), target("api", fileGroup("main", null, "t40-a", "t40-b", "t40-c")));
+
+        BatchPlan plan = batchPlanner.plan(parameter, new BatchBudget(100, 0, 0, 0));
+
+        assertEquals(Integer.valueOf(2), plan.getRulesBatchSize());
+        assertEquals(Integer.valueOf(2), plan.getParameter().getRulesBatchSize());
+        for (FileGroup fileGroup : plan.getParameter().getTargets().get(0).getFileGroups()) {
+            assertEquals("main", fileGroup.getFileGroupName());
+            assertEquals(Integer.valueOf(fileGroup.getPaths().size()), fileGroup.getFilesBatchSize());
+        }
+        assertEquals(2, plan.getRequestCount());
+    }
+
+    @Test
+    void testTargetsWithoutFilesAreRemoved() throws Exception {
+        ReviewParameter parameter = parameter(null,
+                target("empty", fileGroup("none", null)),
+                target("api", fileGroup("main", null, "t10-a")));
+
+        BatchPlan plan = batchPlanner.plan(parameter, new BatchBudget(100, 0, 0, 0));
+
+        assertEquals(1, plan.getParameter().getTargets().size());
+        assertEquals("api", plan.getParameter().getTargets().get(0).getReviewTargetName());
+        assertNull(plan.getRulesBatchSize());
+        assertEquals(1, plan.getRequestCount());
+    }
+
+    private void assertMinimalPlan(int expectedRulesBatchSize, int expectedRequests, String[] files, List<Rule> rules) throws Exception {
+        BatchPlan plan = batchPlanner.plan(parameter(rules, target("api", fileGroup("main", null, files))),
+                new BatchBudget(100, 0, 0, 0));
+
+        String scenario = Arrays.toString(files) + " with " + rules.size() + " rules";
+        assertEquals(Integer.valueOf(expectedRulesBatchSize), plan.getRulesBatchSize(), scenario);
+        assertEquals(expectedRequests, plan.getRequestCount(), scenario);
+        assertEquals(0, plan.getOversizedFileCount(), scenario);
+    }
+
+    private static List<List<String>> batches(BatchPlan plan) {
+        List<List<String>> batches = new ArrayList<>();
+        for (FileGroup fileGroup : plan.getParameter().getTargets().get(0).getFileGroups()) {
+            batches.add(fileGroup.getPaths());
+        }
+        return batches;
+    }
+
+    private static String[] files(int... tokens) {
+        String[] files = new String[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            files[i] = "t" + tokens[i] + "-" + (char) ('a' + i);
+        }
+        return files;
+    }
+
+    private static List<Rule> rules(int... tokens) {
+        List<Rule> rules = new ArrayList<>();
+        for (int i = 0; i < tokens.length; i++) {
+            Rule rule = new Rule();
+            rule.setCode("r" + tokens[i] + "-" + (char) ('a' + i));
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    private static ReviewParameter parameter(List<Rule> rules, ReviewTarget... targets) {
+        ReviewParameter parameter = new ReviewParameter();
+        parameter.setReviewName("review");
+        parameter.setRules(rules);
+        parameter.setTargets(Arrays.asList(targets));
+        return parameter;
+    }
+
+    private static ReviewTarget target(String name, FileGroup... fileGroups) {
+        ReviewTarget target = new ReviewTarget();
+        target.setReviewTargetName(name);
+        target.setFileGroups(Arrays.asList(fileGroups));
+        return target;
+    }
+
+    private static FileGroup fileGroup(String name, List<Rule> rules, String... paths) {
+        FileGroup fileGroup = new FileGroup();
+        fileGroup.setFileGroupName(name);
+        fileGroup.setRules(rules);
+        fileGroup.setPaths(Arrays.asList(paths));
+        return fileGroup;
+    }
+}
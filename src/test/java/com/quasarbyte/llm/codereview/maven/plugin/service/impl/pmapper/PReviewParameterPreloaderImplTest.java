@@ -0,0 +1,121 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.pmapper;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PFileGroup;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewTarget;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PRhinoConfiguration;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ResourceLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PReviewParameterPreloaderImplTest {
+
+    private final List<String> loads = new CopyOnWriteArrayList<>();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    private final PReviewParameterPreloaderImpl preloader = new PReviewParameterPreloaderImpl(path -> {
+        load(path);
+        if (path.startsWith("broken")) {
+            throw new IllegalStateException("cannot parse " + path);
+        }
+        return Collections.emptyList();
+    }, new ScriptLoader(), 2);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testLoadsEveryDistinctRulesFileAndTheScriptOnce() {
+        PReviewParameter parameter = new PReviewParameter()
+                .setRulesFilePaths(Arrays.asList("a.json", " b.json "))
+                .setRhinoConfiguration(new PRhinoConfiguration().setScriptFilePath("mapper.js").setFunctionName("map"))
+                .setTargets(Arrays.asList(
+                        new PReviewTarget().setRulesFilePaths(Collections.singletonList("b.json"))
+                                .setFileGroups(Arrays.asList(new PFileGroup().setRulesFilePaths(Arrays.asList("a.json", "c.json")))),
+                        new PReviewTarget().setRulesFilePaths(Collections.singletonList("c.json"))));
+
+        assertEquals(4, preloader.preload(parameter, executorService));
+
+        List<String> sorted = new ArrayList<>(loads);
+        Collections.sort(sorted);
+        assertEquals(Arrays.asList("a.json", "b.json", "c.json", "mapper.js"), sorted);
+    }
+
+    @Test
+    void testRunsNoMoreThanMaxThreadsLoadsAtTheSameTime() {
+        PReviewParameter parameter = new PReviewParameter()
+                .setRulesFilePaths(Arrays.asList("a.json", "b.json", "c.json", "d.json", "e.json", "f.json"));
+
+        assertEquals(6, preloader.preload(parameter, executorService));
+
+        assertTrue(maxRunning.get() <= 2, "max running: " + maxRunning.get());
+        assertTrue(threads.size() <= 2, "threads: " + threads);
+    }
+
+    @Test
+    void testDoesNotCountFailedLoads() {
+        PReviewParameter parameter = new PReviewParameter().setRulesFilePaths(Arrays.asList("a.json", "broken.json", "c.json"));
+
+        assertEquals(2, preloader.preload(parameter, executorService));
+        assertEquals(3, loads.size());
+    }
+
+    @Test
+    void testLeavesASingleResourceToTheMapping() {
+        PReviewParameter parameter = new PReviewParameter().setRulesFilePaths(Arrays.asList("a.json", "a.json"));
+
+        assertEquals(0, preloader.preload(parameter, executorService));
+        assertTrue(loads.isEmpty());
+    }
+
+    private void load(String path) {
+        threads.add(Thread.currentThread().getName());
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+        loads.add(path);
+    }
+
+    private final class ScriptLoader implements ResourceLoader {
+
+        @Override
+        public String load(String location) {
+            PReviewParameterPreloaderImplTest.this.load(location);
+            return "function map() {}";
+        }
+
+        @Override
+        public String load(String location, String codePage) {
+            return load(location);
+        }
+
+        @Override
+        public InputStream openStream(String location) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GcraTokenBucketImplTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    // Reservations are computed from the clock, allow for the time the test itself takes
+    private static final long TOLERANCE = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void testFullBucketAllowsBurstOfOneMinute() {
+        GcraTokenBucketImpl bucket = new GcraTokenBucketImpl(60);
+
+        for (int i = 0; i < 60; i++) {
+            assertEquals(0, bucket.reserve(1), "Permit " + i + " of the burst");
+        }
+        assertWait(SECOND, bucket.reserve(1));
+    }
+
+    @Test
+    void testSustainedRateAfterBurst() {
+        GcraTokenBucketImpl bucket = new GcraTokenBucketImpl(60);
+        bucket.reserve(60);
+
+        // Every further permit has to wait one more emission interval: 60 per minute is one per second
+        for (int i = 1; i <= 30; i++) {
+            assertWait(i * SECOND, bucket.reserve(1));
+        }
+    }
+
+    @Test
+    void testLargeReservationWaitsBeyondCapacity() {
+        GcraTokenBucketImpl bucket = new GcraTokenBucketImpl(600);
+
+        assertWait(TimeUnit.MINUTES.toNanos(1), bucket.reserve(1200));
+        assertWait(TimeUnit.MINUTES.toNanos(1) + TimeUnit.MILLISECONDS.toNanos(100), bucket.reserve(1));
+    }
+
+    @Test
+    void testZeroPermitsDoNotWaitOrConsume() {
+        GcraTokenBucketImpl bucket = new GcraTokenBucketImpl(1);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(1));
+        assertEquals(0, bucket.reserve(0));
+        assertWait(TimeUnit.MINUTES.toNanos(1), bucket.reserve(1));
+    }
+
+    @Test
+    void testConcurrentReservationsAreNotLost() throws Exception {
+        GcraTokenBucketImpl bucket = new GcraTokenBucketImpl(60);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < 800; i++) {
+                futures.add(executorService.submit(() -> bucket.reserve(1)));
+            }
+            long maxWait = 0;
+            for (Future<Long> future : futures) {
+                maxWait = Math.max(maxWait, future.get());
+            }
+            // 60 permits of burst, the remaining 740 are paid off at one per second
+            assertWait(740 * SECOND, maxWait);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GcraTokenBucketImpl(0));
+        assertThrows(IllegalArgumentException.class, () -> new GcraTokenBucketImpl(60).reserve(-1));
+        assertEquals(60, new GcraTokenBucketImpl(60).getPermitsPerMinute());
+    }
+
+    private static void assertWait(long expectedNanos, long actualNanos) {
+        assertTrue(actualNanos <= expectedNanos && actualNanos > expectedNanos - TOLERANCE,
+                "Expected a wait of about " + expectedNanos + " ns, got " + actualNanos + " ns");
+    }
+}
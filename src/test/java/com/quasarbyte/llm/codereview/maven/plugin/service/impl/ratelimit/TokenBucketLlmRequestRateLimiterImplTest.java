@@ -0,0 +1,144 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.ratelimit.TokenBucket;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLlmRequestRateLimiterImplTest {
+
+    // One token per character, so that the expected counts can be read off the request text
+    private static final TokenEstimator CHARACTERS = new TokenEstimator() {
+        @Override
+        public int estimate(String text) {
+            return text != null ? text.length() : 0;
+        }
+
+        @Override
+        public int estimate(Path file, Charset charset) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testChargesTextOverheadAndMaxTokens() {
+        TokenBucketLlmRequestRateLimiterImpl limiter = limiter(null, new RecordingBucket(0));
+
+        long tokens = limiter.estimateTokens(body("{\"model\":\"m\",\"max_tokens\":300,\"messages\":[{\"role\":\"user\",\"content\":\"abcd\"}]}"));
+
+        // "m\n" + "user\n" + "abcd\n" = 12, plus 100 overhead, plus 300 output
+        assertEquals(412, tokens);
+    }
+
+    @Test
+    void testPrefersMaxCompletionTokens() {
+        TokenBucketLlmRequestRateLimiterImpl limiter = limiter(null, new RecordingBucket(0));
+
+        long tokens = limiter.estimateTokens(body("{\"max_completion_tokens\":50,\"max_tokens\":300}"));
+
+        assertEquals(150, tokens);
+    }
+
+    @Test
+    void testReservesDefaultOutputTokensIfTheRequestSetsNone() {
+        TokenBucketLlmRequestRateLimiterImpl limiter = limiter(null, new RecordingBucket(0));
+
+        assertEquals(2 + 100 + 1000, limiter.estimateTokens(body("{\"content\":\"a\"}")));
+    }
+
+    @Test
+    void testChargesBodyWhichIsNotJson() {
+        TokenBucketLlmRequestRateLimiterImpl limiter = limiter(null, new RecordingBucket(0));
+
+        assertEquals(5 + 100 + 1000, limiter.estimateTokens(body("plain")));
+        assertEquals(5 + 100 + 1000, limiter.estimateTokens(body("{oops")));
+    }
+
+    @Test
+    void testReservesOneRequestAndTheEstimatedTokens() throws InterruptedException {
+        RecordingBucket requests = new RecordingBucket(0);
+        RecordingBucket tokens = new RecordingBucket(0);
+
+        limiter(requests, tokens).acquire(body("{\"max_tokens\":10}"));
+
+        assertEquals(Collections.singletonList(1L), requests.reservations);
+        assertEquals(Collections.singletonList(110L), tokens.reservations);
+    }
+
+    @Test
+    void testLimitsRequestsWithoutTokenEstimator() throws InterruptedException {
+        RecordingBucket requests = new RecordingBucket(0);
+
+        new TokenBucketLlmRequestRateLimiterImpl("key", requests, null, null, 100, 1000, objectMapper).acquire(body("{}"));
+
+        assertEquals(Collections.singletonList(1L), requests.reservations);
+    }
+
+    @Test
+    void testWaitsForTheLongerReservation() throws InterruptedException {
+        TokenBucketLlmRequestRateLimiterImpl limiter = limiter(new RecordingBucket(TimeUnit.MILLISECONDS.toNanos(10)),
+                new RecordingBucket(TimeUnit.MILLISECONDS.toNanos(60)));
+
+        long start = System.nanoTime();
+        limiter.acquire(body("{}"));
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(60));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(60), limiter.getWaitNanos());
+    }
+
+    @Test
+    void testDoesNotCountRequestsWhichWereNotHeldBack() throws InterruptedException {
+        TokenBucketLlmRequestRateLimiterImpl limiter = limiter(new RecordingBucket(0), new RecordingBucket(0));
+
+        limiter.acquire(body("{}"));
+
+        assertEquals(0, limiter.getWaitNanos());
+    }
+
+    @Test
+    void testRequiresTokenEstimatorWithTokenBucket() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenBucketLlmRequestRateLimiterImpl("key", null, new RecordingBucket(0), null, 100, 1000, objectMapper));
+    }
+
+    private TokenBucketLlmRequestRateLimiterImpl limiter(TokenBucket requests, TokenBucket tokens) {
+        return new TokenBucketLlmRequestRateLimiterImpl("key", requests, tokens, CHARACTERS, 100, 1000, objectMapper);
+    }
+
+    private static byte[] body(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class RecordingBucket implements TokenBucket {
+
+        private final long waitNanos;
+        private final List<Long> reservations = new ArrayList<>();
+
+        private RecordingBucket(long waitNanos) {
+            this.waitNanos = waitNanos;
+        }
+
+        @Override
+        public long reserve(long permits) {
+            reservations.add(permits);
+            return waitNanos;
+        }
+
+        @Override
+        public long getPermitsPerMinute() {
+            return 60;
+        }
+    }
+}
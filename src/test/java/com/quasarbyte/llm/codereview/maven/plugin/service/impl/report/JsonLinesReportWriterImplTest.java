@@ -0,0 +1,176 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.exception.LlmCodeReviewMavenPluginException;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLinesReportWriterImplTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void testAppendsOneLinePerItemAndFlushesEveryResult() throws IOException {
+        RecordingOutputStream outputStream = new RecordingOutputStream();
+        JsonLinesReportWriterImpl writer = new JsonLinesReportWriterImpl(outputStream, true, objectMapper);
+
+        writer.onResult(result(3));
+        assertEquals(3, lines(outputStream.toString()).size());
+        assertEquals(1, outputStream.flushes);
+
+        writer.onResult(result(2));
+        assertEquals(5, lines(outputStream.toString()).size());
+        assertEquals(2, outputStream.flushes);
+        assertEquals(5, writer.getLineCount());
+
+        writer.close();
+        assertTrue(outputStream.closed);
+        for (String line : lines(outputStream.toString())) {
+            assertTrue(objectMapper.readTree(line).isObject(), line);
+        }
+    }
+
+    @Test
+    void testKeepsPartialReportWhenReviewIsAborted() throws IOException {
+        Path file = directory.resolve("report.jsonl");
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            JsonLinesReportWriterImpl writer = new JsonLinesReportWriterImpl(outputStream, true, objectMapper);
+            writer.onResult(result(2));
+            writer.onResult(result(1));
+
+            // The review fails here and the writer is never closed, the stream is only released by the JVM
+            assertEquals(3, lines(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).size());
+        }
+    }
+
+    @Test
+    void testWritesResultWithoutItemsArrayAsOneLine() {
+        RecordingOutputStream outputStream = new RecordingOutputStream();
+        JsonLinesReportWriterImpl writer = new JsonLinesReportWriterImpl(outputStream, true, objectMapper);
+
+        writer.onResult(resultOf("{\"items\":null}"));
+        writer.onResult(null);
+
+        assertEquals(1, writer.getLineCount());
+        assertEquals(1, lines(outputStream.toString()).size());
+    }
+
+    @Test
+    void testDoesNotCloseStandardStreams() {
+        RecordingOutputStream outputStream = new RecordingOutputStream();
+        JsonLinesReportWriterImpl writer = new JsonLinesReportWriterImpl(outputStream, false, objectMapper);
+
+        writer.onResult(result(1));
+        writer.close();
+
+        assertFalse(outputStream.closed);
+        assertEquals(2, outputStream.flushes);
+    }
+
+    @Test
+    void testConcurrentResultsDoNotInterleaveLines() throws Exception {
+        RecordingOutputStream outputStream = new RecordingOutputStream();
+        JsonLinesReportWriterImpl writer = new JsonLinesReportWriterImpl(outputStream, true, objectMapper);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                futures.add(executorService.submit(() -> writer.onResult(result(25))));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        writer.close();
+
+        List<String> lines = lines(outputStream.toString());
+        assertEquals(1000, lines.size());
+        assertEquals(1000, writer.getLineCount());
+        for (String line : lines) {
+            assertTrue(objectMapper.readTree(line).isObject(), line);
+        }
+    }
+
+    @Test
+    void testReportsWriteFailure() {
+        JsonLinesReportWriterImpl writer = new JsonLinesReportWriterImpl(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Disk full");
+            }
+        }, true, objectMapper);
+
+        LlmCodeReviewMavenPluginException e = assertThrows(LlmCodeReviewMavenPluginException.class, () -> writer.onResult(result(1)));
+        assertTrue(e.getMessage().contains("Disk full"), e.getMessage());
+    }
+
+    private ReviewResult result(int itemCount) {
+        StringBuilder json = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            json.append(i > 0 ? "," : "").append("{\"index\":").append(i).append('}');
+        }
+        return resultOf(json.append("]}").toString());
+    }
+
+    private ReviewResult resultOf(String json) {
+        try {
+            return objectMapper.readValue(json, ReviewResult.class);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(line);
+            }
+        }
+        assertTrue(text.isEmpty() || text.endsWith("\n"), "The last line is incomplete");
+        return lines;
+    }
+
+    private static final class RecordingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+        private boolean closed;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return new String(toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.report.ReportShard;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportIndexGeneratorImplTest {
+
+    private final ReportIndexGeneratorImpl generator = new ReportIndexGeneratorImpl();
+
+    private final List<ReportShard> shards = Arrays.asList(
+            new ReportShard("report-0001.md", 100, 10, 5, 1),
+            new ReportShard("report-0002.md", 100, 20, 0, 2),
+            new ReportShard("report-0003.md", 7, 0, 3, 0));
+
+    @Test
+    void testMarkdownIndexLinksEveryPageWithItsCounts() {
+        String markdown = generator.generateMarkdownIndex(shards);
+
+        assertTrue(markdown.contains("| [report-0001.md](report-0001.md) | 100 | 10 | 5 | 1 |\n"), markdown);
+        assertTrue(markdown.contains("| [report-0002.md](report-0002.md) | 100 | 20 | 0 | 2 |\n"), markdown);
+        assertTrue(markdown.contains("| [report-0003.md](report-0003.md) | 7 | 0 | 3 | 0 |\n"), markdown);
+        assertTrue(markdown.endsWith("| **Total** | 207 | 30 | 8 | 3 |\n"), markdown);
+        assertTrue(markdown.indexOf("report-0001.md") < markdown.indexOf("report-0002.md"));
+        assertTrue(markdown.indexOf("report-0002.md") < markdown.indexOf("report-0003.md"));
+    }
+
+    @Test
+    void testHtmlIndexLinksEveryPageWithItsCounts() {
+        String html = generator.generateHtmlIndex(shards);
+
+        assertTrue(html.contains("<tr><td><a href=\"report-0001.md\">report-0001.md</a></td><td>100</td><td>10</td><td>5</td><td>1</td></tr>"), html);
+        assertTrue(html.contains("<tr><td><a href=\"report-0003.md\">report-0003.md</a></td><td>7</td><td>0</td><td>3</td><td>0</td></tr>"), html);
+        assertTrue(html.contains("<tr><th>Total</th><td>207</td><td>30</td><td>8</td><td>3</td></tr>"), html);
+        assertTrue(html.trim().endsWith("</html>"), html);
+    }
+
+    @Test
+    void testLinksAreEscaped() {
+        List<ReportShard> special = Arrays.asList(new ReportShard("my report <1>&\".html", 1, 1, 0, 0));
+
+        assertTrue(generator.generateHtmlIndex(special).contains("<a href=\"my report &lt;1&gt;&amp;&quot;.html\">"));
+        assertTrue(generator.generateMarkdownIndex(special).contains("(my%20report%20<1>&\".html)"));
+    }
+
+    @Test
+    void testEmptyIndexHasZeroTotals() {
+        assertTrue(generator.generateMarkdownIndex(Arrays.<ReportShard>asList()).endsWith("| **Total** | 0 | 0 | 0 | 0 |\n"));
+        assertTrue(generator.generateHtmlIndex(Arrays.<ReportShard>asList()).contains("<tr><th>Total</th><td>0</td><td>0</td><td>0</td><td>0</td></tr>"));
+    }
+}
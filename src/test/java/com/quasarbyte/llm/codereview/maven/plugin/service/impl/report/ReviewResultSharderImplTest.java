@@ -0,0 +1,90 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewResultSharderImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ReviewResultSharderImpl sharder = new ReviewResultSharderImpl(objectMapper);
+
+    @Test
+    void testSplitsItemsIntoConsecutiveShards() throws IOException {
+        ReviewResult result = result(5);
+
+        List<ReviewResult> shards = sharder.split(result, 2);
+
+        assertEquals(Arrays.asList(2, 2, 1), sizes(shards));
+        assertEquals(objectMapper.valueToTree(result).get("items"), concatenatedItems(shards));
+    }
+
+    @Test
+    void testExactMultipleHasNoEmptyShard() throws IOException {
+        assertEquals(Arrays.asList(3, 3), sizes(sharder.split(result(6), 3)));
+        assertEquals(Arrays.asList(1, 1, 1), sizes(sharder.split(result(3), 1)));
+    }
+
+    @Test
+    void testResultWithinShardSizeIsNotCopied() throws IOException {
+        ReviewResult result = result(3);
+
+        assertSame(result, sharder.split(result, 3).get(0));
+        assertEquals(1, sharder.split(result, 10).size());
+        ReviewResult empty = result(0);
+        assertSame(empty, sharder.split(empty, 1).get(0));
+    }
+
+    @Test
+    void testOtherPropertiesAreCopiedToEveryShard() throws IOException {
+        ReviewResult result = result(4);
+        JsonNode expected = objectMapper.valueToTree(result);
+        ((ObjectNode) expected).remove("items");
+
+        for (ReviewResult shard : sharder.split(result, 3)) {
+            JsonNode actual = objectMapper.valueToTree(shard);
+            ((ObjectNode) actual).remove("items");
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testRejectsShardSizeBelowOne() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> sharder.split(result(2), 0));
+    }
+
+    private ReviewResult result(int itemCount) throws IOException {
+        StringBuilder json = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            json.append(i > 0 ? "," : "").append("{\"index\":").append(i).append('}');
+        }
+        return objectMapper.readValue(json.append("]}").toString(), ReviewResult.class);
+    }
+
+    private static List<Integer> sizes(List<ReviewResult> shards) {
+        List<Integer> sizes = new ArrayList<>();
+        for (ReviewResult shard : shards) {
+            sizes.add(shard.getItems().size());
+        }
+        return sizes;
+    }
+
+    private ArrayNode concatenatedItems(List<ReviewResult> shards) {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (ReviewResult shard : shards) {
+            items.addAll((ArrayNode) objectMapper.valueToTree(shard).get("items"));
+        }
+        return items;
+    }
+}
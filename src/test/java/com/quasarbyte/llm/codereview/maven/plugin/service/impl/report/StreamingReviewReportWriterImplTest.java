@@ -0,0 +1,146 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
+import com.quasarbyte.llm.codereview.sdk.model.statistics.SeverityStatistics;
+import com.quasarbyte.llm.codereview.sdk.service.SeverityStatisticsCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StreamingReviewReportWriterImplTest {
+
+    private final SeverityStatisticsCalculator severityStatisticsCalculator = mock(SeverityStatisticsCalculator.class);
+
+    private final StreamingReviewReportWriterImpl reportWriter = new StreamingReviewReportWriterImpl(
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT), severityStatisticsCalculator);
+
+    StreamingReviewReportWriterImplTest() {
+        SeverityStatistics statistics = mock(SeverityStatistics.class);
+        when(severityStatisticsCalculator.calculate(any())).thenAnswer(invocation -> statistics);
+    }
+
+    @Test
+    void testCsvHasOneRowPerItemWithTheColumnsOfTheItemType() throws IOException {
+        String csv = csv(result(new Finding("A.java", null, "plain"), new Finding("B.java", 7, "has, comma and \"quotes\"")));
+
+        assertEquals("file,line,comment\n"
+                + "A.java,,plain\n"
+                + "B.java,7,\"has, comma and \"\"quotes\"\"\"\n", csv);
+    }
+
+    @Test
+    void testCsvQuotesLineBreaksAndWritesNestedValuesAsCompactJson() throws IOException {
+        String csv = csv(result(item("file", "A.java", "comment", "first\nsecond", "lines", Arrays.asList(1, 2))));
+
+        assertEquals("file,comment,lines\n"
+                + "A.java,\"first\nsecond\",\"[1,2]\"\n", csv);
+    }
+
+    @Test
+    void testCsvOfAResultWithoutItemsIsEmpty() throws IOException {
+        assertEquals("", csv(result()));
+    }
+
+    @Test
+    void testMarkdownHasASectionPerItem() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        reportWriter.writeMarkdown(result(item("file", "A_B.java", "comment", "Use *final*"),
+                item("file", "C.java", "suggestion", "int a;\nint b;")), writer);
+
+        String markdown = writer.toString();
+        assertTrue(markdown.startsWith("# LLM Code Review Report\n\n"), markdown);
+        assertTrue(markdown.contains("| 2 | 0 | 0 | 0 |\n"), markdown);
+        assertTrue(markdown.contains("## Item 1\n\n- **file**: A\\_B.java\n- **comment**: Use \\*final\\*\n"), markdown);
+        assertTrue(markdown.contains("## Item 2\n\n- **file**: C.java\n- **suggestion**:\n\n  ```\n  int a;\n  int b;\n  ```\n"), markdown);
+    }
+
+    @Test
+    void testMarkdownFenceIsLongerThanTheBackticksOfTheValue() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        reportWriter.writeMarkdown(result(item("suggestion", "```java\nint a;\n```")), writer);
+
+        assertTrue(writer.toString().contains("  ````\n  ```java\n  int a;\n  ```\n  ````\n"), writer.toString());
+    }
+
+    @Test
+    void testMarkdownOfAResultWithoutItems() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        reportWriter.writeMarkdown(result(), writer);
+
+        assertTrue(writer.toString().endsWith("| 0 | 0 | 0 | 0 |\n\nNo review comments.\n"), writer.toString());
+    }
+
+    @Test
+    void testHtmlHasARowPerItemAndEscapesValues() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        reportWriter.writeHtml(result(new Finding("A.java", 3, "List<String> & \"more\""), new Finding("B.java", null, null)), writer);
+
+        String html = writer.toString();
+        assertTrue(html.contains("<tr><th>#</th><th>file</th><th>line</th><th>comment</th></tr>\n"), html);
+        assertTrue(html.contains("<tr><td>1</td><td>A.java</td><td>3</td><td>List&lt;String&gt; &amp; &quot;more&quot;</td></tr>\n"), html);
+        assertTrue(html.contains("<tr><td>2</td><td>B.java</td><td></td><td></td></tr>\n"), html);
+        assertTrue(html.trim().endsWith("</html>"), html);
+    }
+
+    private String csv(ReviewResult result) throws IOException {
+        StringWriter writer = new StringWriter();
+        reportWriter.writeCsv(result, writer);
+        return writer.toString();
+    }
+
+    // The writer only sees the JSON of the items, so beans and maps stand in for the SDK item type
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ReviewResult result(Object... items) {
+        ReviewResult result = new ReviewResult();
+        result.setItems((List) Arrays.asList(items));
+        return result;
+    }
+
+    private static Map<String, Object> item(Object... keysAndValues) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            item.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return item;
+    }
+
+    public static final class Finding {
+        private final String file;
+        private final Integer line;
+        private final String comment;
+
+        Finding(String file, Integer line, String comment) {
+            this.file = file;
+            this.line = line;
+            this.comment = comment;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public Integer getLine() {
+            return line;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+    }
+}
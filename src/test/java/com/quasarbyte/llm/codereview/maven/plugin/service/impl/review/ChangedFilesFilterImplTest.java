@@ -0,0 +1,165 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.FileGroupPathResolverImpl;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangedFilesFilterImplTest {
+
+    @TempDir
+    Path directory;
+
+    private final ChangedFilesFilterImpl filter = new ChangedFilesFilterImpl(new FileGroupPathResolverImpl());
+
+    @BeforeEach
+    void setUp() throws IOException {
+        createFile("src/main/Main.java");
+        createFile("src/main/Service.java");
+        createFile("src/main/generated/Generated.java");
+        createFile("src/test/MainTest.java");
+    }
+
+    @Test
+    void testKeepsOnlyChangedFilesOfEachFileGroup() throws IOException {
+        ReviewParameter parameter = parameter(
+                target("main", fileGroup("sources", Collections.singletonList(pattern("src/main/**.java")), null)),
+                target("test", fileGroup("tests", Collections.singletonList(pattern("src/test/**.java")), null)));
+
+        Optional<ReviewParameter> filtered = filter.filter(parameter, changed("src/main/Service.java", "src/test/MainTest.java"));
+
+        assertTrue(filtered.isPresent());
+        assertEquals(Collections.singletonList("src/main/Service.java"), relativePaths(filtered.get(), 0, 0));
+        assertEquals(Collections.singletonList("src/test/MainTest.java"), relativePaths(filtered.get(), 1, 0));
+    }
+
+    @Test
+    void testExcludePathsStillApplyToChangedFiles() throws IOException {
+        FileGroup fileGroup = fileGroup("sources", Collections.singletonList(pattern("src/main/**.java")),
+                Collections.singletonList(pattern("src/main/generated")));
+        ReviewParameter parameter = parameter(target("main", fileGroup));
+
+        Optional<ReviewParameter> filtered = filter.filter(parameter,
+                changed("src/main/Main.java", "src/main/generated/Generated.java"));
+
+        assertTrue(filtered.isPresent());
+        FileGroup filteredFileGroup = filtered.get().getTargets().get(0).getFileGroups().get(0);
+        assertEquals(Collections.singletonList("src/main/Main.java"), relativePaths(filtered.get(), 0, 0));
+        assertEquals(fileGroup.getExcludePaths(), filteredFileGroup.getExcludePaths());
+        assertEquals("sources", filteredFileGroup.getFileGroupName());
+    }
+
+    @Test
+    void testDropsFileGroupsAndTargetsWithoutChangedFiles() throws IOException {
+        ReviewParameter parameter = parameter(
+                target("main",
+                        fileGroup("sources", Collections.singletonList(pattern("src/main/*.java")), null),
+                        fileGroup("generated", Collections.singletonList(pattern("src/main/generated/*.java")), null)),
+                target("test", fileGroup("tests", Collections.singletonList(pattern("src/test/**.java")), null)));
+
+        Optional<ReviewParameter> filtered = filter.filter(parameter, changed("src/main/generated/Generated.java"));
+
+        assertTrue(filtered.isPresent());
+        assertEquals(1, filtered.get().getTargets().size());
+        assertEquals("main", filtered.get().getTargets().get(0).getReviewTargetName());
+        assertEquals(1, filtered.get().getTargets().get(0).getFileGroups().size());
+        assertEquals("generated", filtered.get().getTargets().get(0).getFileGroups().get(0).getFileGroupName());
+    }
+
+    @Test
+    void testChangedFilesOutsideAllFileGroupsGiveEmptyResult() throws IOException {
+        ReviewParameter parameter = parameter(
+                target("main", fileGroup("sources", Collections.singletonList(pattern("src/main/**.java")),
+                        Collections.singletonList(pattern("src/main/generated/**")))));
+
+        assertFalse(filter.filter(parameter, changed("src/main/generated/Generated.java", "pom.xml")).isPresent());
+        assertFalse(filter.filter(parameter, Collections.emptySet()).isPresent());
+        assertFalse(filter.filter(new ReviewParameter(), changed("src/main/Main.java")).isPresent());
+    }
+
+    @Test
+    void testDeletedFilesAreNotReviewed() throws IOException {
+        ReviewParameter parameter = parameter(
+                target("main", fileGroup("sources", Collections.singletonList(pattern("src/main/**.java")), null)));
+
+        // A file deleted in the working tree is reported by neither the detector nor the resolver
+        Optional<ReviewParameter> filtered = filter.filter(parameter, changed("src/main/Removed.java", "src/main/Main.java"));
+
+        assertTrue(filtered.isPresent());
+        assertEquals(Collections.singletonList("src/main/Main.java"), relativePaths(filtered.get(), 0, 0));
+    }
+
+    @Test
+    void testOriginalParameterIsNotModified() throws IOException {
+        List<String> paths = Collections.singletonList(pattern("src/main/**.java"));
+        ReviewParameter parameter = parameter(target("main", fileGroup("sources", paths, null)));
+
+        filter.filter(parameter, changed("src/main/Main.java"));
+
+        assertSame(paths, parameter.getTargets().get(0).getFileGroups().get(0).getPaths());
+    }
+
+    private Set<Path> changed(String... relativePaths) {
+        Set<Path> changedFiles = new HashSet<>();
+        for (String relativePath : relativePaths) {
+            changedFiles.add(directory.resolve(relativePath).toAbsolutePath().normalize());
+        }
+        return changedFiles;
+    }
+
+    private List<String> relativePaths(ReviewParameter parameter, int targetIndex, int fileGroupIndex) {
+        List<String> relativePaths = new ArrayList<>();
+        for (String path : parameter.getTargets().get(targetIndex).getFileGroups().get(fileGroupIndex).getPaths()) {
+            relativePaths.add(directory.relativize(directory.resolve(path)).toString().replace('\\', '/'));
+        }
+        return relativePaths;
+    }
+
+    private String pattern(String relativePattern) {
+        return directory.toString().replace('\\', '/') + "/" + relativePattern;
+    }
+
+    private void createFile(String relativePath) throws IOException {
+        Path file = directory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, Collections.singletonList("// " + relativePath));
+    }
+
+    private static ReviewParameter parameter(ReviewTarget... targets) {
+        ReviewParameter parameter = new ReviewParameter();
+        parameter.setReviewName("review");
+        parameter.setTargets(Arrays.asList(targets));
+        return parameter;
+    }
+
+    private static ReviewTarget target(String name, FileGroup... fileGroups) {
+        ReviewTarget target = new ReviewTarget();
+        target.setReviewTargetName(name);
+        target.setFileGroups(Arrays.asList(fileGroups));
+        return target;
+    }
+
+    private static FileGroup fileGroup(String name, List<String> paths, List<String> excludePaths) {
+        FileGroup fileGroup = new FileGroup();
+        fileGroup.setFileGroupName(name);
+        fileGroup.setPaths(paths);
+        fileGroup.setExcludePaths(excludePaths);
+        return fileGroup;
+    }
+}
@@ -0,0 +1,151 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.review;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.PFileGroup;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewParameter;
+import com.quasarbyte.llm.codereview.maven.plugin.model.PReviewTarget;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactorReviewParameterExpanderImplTest {
+
+    @TempDir
+    Path directory;
+
+    private final ReactorReviewParameterExpanderImpl expander = new ReactorReviewParameterExpanderImpl();
+
+    @Test
+    void testRelativePathsAreResolvedAgainstEveryModule() {
+        PReviewParameter parameter = parameter(target("sources",
+                fileGroup(Arrays.asList("src/main/**.java", "./pom.xml"), Collections.singletonList("src/main/generated"))));
+
+        PReviewParameter expanded = expander.expand(parameter, modules("core", "api"));
+
+        assertEquals(2, expanded.getTargets().size());
+        PFileGroup core = expanded.getTargets().get(0).getFileGroups().get(0);
+        assertEquals(Arrays.asList(base("core") + "/src/main/**.java", base("core") + "/pom.xml"), core.getPaths());
+        assertEquals(Collections.singletonList(base("core") + "/src/main/generated"), core.getExcludePaths());
+        PFileGroup api = expanded.getTargets().get(1).getFileGroups().get(0);
+        assertEquals(Arrays.asList(base("api") + "/src/main/**.java", base("api") + "/pom.xml"), api.getPaths());
+    }
+
+    @Test
+    void testTargetNamesArePrefixedWithModuleName() {
+        PReviewParameter parameter = parameter(
+                target("sources", fileGroup(Collections.singletonList("src/**.java"), null)),
+                target(null, fileGroup(Collections.singletonList("test/**.java"), null)));
+
+        PReviewParameter expanded = expander.expand(parameter, modules("core", "api"));
+
+        assertEquals(Arrays.asList("core: sources", "api: sources", "core", "api"), targetNames(expanded));
+    }
+
+    @Test
+    void testTargetsWithOnlyAbsolutePathsAreKeptOnce() {
+        String absolute = base("shared") + "/src/**.java";
+        PReviewTarget target = target("shared", fileGroup(Collections.singletonList(absolute), null));
+
+        PReviewParameter expanded = expander.expand(parameter(target), modules("core", "api"));
+
+        assertEquals(1, expanded.getTargets().size());
+        assertSame(target, expanded.getTargets().get(0));
+    }
+
+    @Test
+    void testAbsolutePathsOfMixedTargetAreNotRebased() {
+        String absolute = base("shared") + "/Common.java";
+        PReviewParameter parameter = parameter(target("mixed",
+                fileGroup(Arrays.asList("src/**.java", absolute, "C:\\work\\Windows.java"), Collections.singletonList(absolute))));
+
+        PReviewParameter expanded = expander.expand(parameter, modules("core"));
+
+        PFileGroup fileGroup = expanded.getTargets().get(0).getFileGroups().get(0);
+        assertEquals(Arrays.asList(base("core") + "/src/**.java", absolute, "C:\\work\\Windows.java"), fileGroup.getPaths());
+        assertEquals(Collections.singletonList(absolute), fileGroup.getExcludePaths());
+    }
+
+    @Test
+    void testModulesSharingDirectoryAreReviewedOnce() {
+        Map<String, Path> modules = new LinkedHashMap<>();
+        modules.put("root", directory.resolve("root"));
+        modules.put("alias", directory.resolve("root/../root/."));
+        modules.put("core", directory.resolve("core"));
+
+        PReviewParameter expanded = expander.expand(parameter(target("sources", fileGroup(Collections.singletonList("src/**.java"), null))), modules);
+
+        assertEquals(Arrays.asList("root: sources", "core: sources"), targetNames(expanded));
+    }
+
+    @Test
+    void testCopiesSettingsAndLeavesOriginalUnchanged() {
+        List<String> paths = Collections.singletonList("src/**.java");
+        PFileGroup fileGroup = fileGroup(paths, null).setFileGroupName("java").setFilesBatchSize(3).setCodePage("UTF-8");
+        PReviewParameter parameter = parameter(target("sources", fileGroup))
+                .setReviewName("review")
+                .setRulesBatchSize(5)
+                .setSystemPrompts(Collections.singletonList("system"));
+
+        PReviewParameter expanded = expander.expand(parameter, modules("core"));
+
+        assertEquals("review", expanded.getReviewName());
+        assertEquals(Integer.valueOf(5), expanded.getRulesBatchSize());
+        assertEquals(Collections.singletonList("system"), expanded.getSystemPrompts());
+        PFileGroup copy = expanded.getTargets().get(0).getFileGroups().get(0);
+        assertEquals("java", copy.getFileGroupName());
+        assertEquals(Integer.valueOf(3), copy.getFilesBatchSize());
+        assertEquals("UTF-8", copy.getCodePage());
+        assertSame(paths, fileGroup.getPaths());
+        assertEquals("sources", parameter.getTargets().get(0).getReviewTargetName());
+    }
+
+    @Test
+    void testNothingToExpand() {
+        PReviewParameter parameter = parameter(target("sources", fileGroup(Collections.singletonList("src/**.java"), null)));
+
+        assertNull(expander.expand(null, modules("core")));
+        assertSame(parameter, expander.expand(parameter, Collections.emptyMap()));
+        assertSame(parameter, expander.expand(parameter, null));
+        PReviewParameter withoutTargets = new PReviewParameter();
+        assertSame(withoutTargets, expander.expand(withoutTargets, modules("core")));
+    }
+
+    private Map<String, Path> modules(String... names) {
+        Map<String, Path> modules = new LinkedHashMap<>();
+        for (String name : names) {
+            modules.put(name, directory.resolve(name));
+        }
+        return modules;
+    }
+
+    private String base(String module) {
+        return directory.resolve(module).toAbsolutePath().normalize().toString().replace('\\', '/');
+    }
+
+    private static List<String> targetNames(PReviewParameter parameter) {
+        String[] names = new String[parameter.getTargets().size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = parameter.getTargets().get(i).getReviewTargetName();
+        }
+        return Arrays.asList(names);
+    }
+
+    private static PReviewParameter parameter(PReviewTarget... targets) {
+        return new PReviewParameter().setTargets(Arrays.asList(targets));
+    }
+
+    private static PReviewTarget target(String name, PFileGroup... fileGroups) {
+        return new PReviewTarget().setReviewTargetName(name).setFileGroups(Arrays.asList(fileGroups));
+    }
+
+    private static PFileGroup fileGroup(List<String> paths, List<String> excludePaths) {
+        return new PFileGroup().setPaths(paths).setExcludePaths(excludePaths);
+    }
+}
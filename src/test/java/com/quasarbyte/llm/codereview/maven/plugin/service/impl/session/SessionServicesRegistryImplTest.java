@@ -0,0 +1,45 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.maven.plugin.service.session.SessionServices;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionServicesRegistryImplTest {
+
+    private final SessionServicesRegistryImpl registry = new SessionServicesRegistryImpl(new ObjectMapper());
+
+    @Test
+    void testExecutionsOfOneSessionShareServices() {
+        Object session = new Object();
+
+        SessionServices first = registry.get(session);
+        SessionServices second = registry.get(session);
+
+        assertSame(first, second);
+        assertSame(first.getLlmClientRegistry(), second.getLlmClientRegistry());
+        assertSame(first.getTokenBucketRegistry(), second.getTokenBucketRegistry());
+        assertSame(first.getCircuitBreakerRegistry(), second.getCircuitBreakerRegistry());
+    }
+
+    @Test
+    void testNextSessionDoesNotInheritState() {
+        Object firstSession = new Object();
+        Object secondSession = new Object();
+
+        SessionServices first = registry.get(firstSession);
+        first.getTokenBucketRegistry().getOrCreate("key", 60);
+
+        SessionServices second = registry.get(secondSession);
+        assertNotSame(first, second);
+        assertNotSame(first.getTokenBucketRegistry().getOrCreate("key", 60), second.getTokenBucketRegistry().getOrCreate("key", 60));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void testExecutionWithoutSessionIsNotShared() {
+        assertNotSame(registry.get(null), registry.get(null));
+        assertEquals(0, registry.size());
+    }
+}
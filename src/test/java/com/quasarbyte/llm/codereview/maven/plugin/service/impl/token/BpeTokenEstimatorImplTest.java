@@ -0,0 +1,191 @@
+package com.quasarbyte.llm.codereview.maven.plugin.service.impl.token;
+
+import com.quasarbyte.llm.codereview.maven.plugin.model.TokenizerEncodingEnum;
+import com.quasarbyte.llm.codereview.maven.plugin.service.impl.parser.ResourceLoaderImpl;
+import com.quasarbyte.llm.codereview.maven.plugin.service.token.TokenEstimator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The golden counts need the {@code tiktoken} vocabularies, which are not bundled. Point the
+ * {@code tokenizer.cl100k} and {@code tokenizer.o200k} system properties, or the {@code TOKENIZER_CL100K} and
+ * {@code TOKENIZER_O200K} environment variables, at {@code cl100k_base.tiktoken} and {@code o200k_base.tiktoken}
+ * to run them.
+ */
+class BpeTokenEstimatorImplTest {
+
+    private static final String ALPHABET = "abc";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCl100kGoldenCounts() throws IOException {
+        TokenEstimator estimator = tiktokenEstimator("tokenizer.cl100k", "TOKENIZER_CL100K", TokenizerEncodingEnum.CL100K_BASE);
+
+        assertEquals(2, estimator.estimate("hello world"));
+        assertEquals(6, estimator.estimate("tiktoken is great!"));
+        assertEquals(7, estimator.estimate("2 + 2 = 4"));
+    }
+
+    @Test
+    void testO200kGoldenCounts() throws IOException {
+        TokenEstimator estimator = tiktokenEstimator("tokenizer.o200k", "TOKENIZER_O200K", TokenizerEncodingEnum.O200K_BASE);
+
+        assertEquals(2, estimator.estimate("hello world"));
+        assertEquals(6, estimator.estimate("tiktoken is great!"));
+    }
+
+    @Test
+    void testEmptyAndNullTextHaveNoTokens() {
+        TokenEstimator estimator = new BpeTokenEstimatorImpl(syntheticVocabulary(), TokenizerEncodingEnum.CL100K_BASE);
+
+        assertEquals(0, estimator.estimate((String) null));
+        assertEquals(0, estimator.estimate(""));
+    }
+
+    /**
+     * Pieces longer than 256 bytes are merged through a heap; both merge paths must match the reference algorithm,
+     * which repeatedly merges the leftmost adjacent pair with the lowest rank.
+     */
+    @Test
+    void testMergePathsMatchReferenceBpe() {
+        BpeVocabulary vocabulary = syntheticVocabulary();
+        TokenEstimator estimator = new BpeTokenEstimatorImpl(vocabulary, TokenizerEncodingEnum.CL100K_BASE);
+        Random random = new Random(42);
+
+        for (int length : new int[]{2, 7, 100, 255, 256, 257, 300, 1000, 5000}) {
+            for (int attempt = 0; attempt < 5; attempt++) {
+                String piece = randomWord(random, length);
+                assertEquals(referenceCount(vocabulary, piece.getBytes(StandardCharsets.UTF_8)), estimator.estimate(piece),
+                        "Piece of " + length + " letters");
+            }
+        }
+    }
+
+    @Test
+    void testFileCountMatchesTextCount() throws IOException {
+        TokenEstimator estimator = new BpeTokenEstimatorImpl(syntheticVocabulary(), TokenizerEncodingEnum.CL100K_BASE);
+        String text = randomWord(new Random(7), 600) + " " + randomWord(new Random(8), 20);
+        Path file = directory.resolve("Example.java");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(estimator.estimate(text), estimator.estimate(file, StandardCharsets.UTF_8));
+        assertEquals(estimator.estimate(text), estimator.estimate(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFactoryReloadsChangedVocabulary() throws IOException {
+        TokenEstimatorFactoryImpl factory = new TokenEstimatorFactoryImpl(new ResourceLoaderImpl());
+        Path file = directory.resolve("synthetic.tiktoken");
+        Files.write(file, vocabularyLines(false), StandardCharsets.UTF_8);
+
+        TokenEstimator first = factory.create(file.toString(), TokenizerEncodingEnum.CL100K_BASE, 4.0);
+        assertSame(first, factory.create(file.toString(), TokenizerEncodingEnum.CL100K_BASE, 4.0));
+
+        Files.write(file, vocabularyLines(true), StandardCharsets.UTF_8);
+        assertNotSame(first, factory.create(file.toString(), TokenizerEncodingEnum.CL100K_BASE, 4.0));
+    }
+
+    @Test
+    void testFactoryWithoutVocabularyEstimatesFromCharacters() throws IOException {
+        TokenEstimator estimator = new TokenEstimatorFactoryImpl(new ResourceLoaderImpl()).create(" ", null, 4.0);
+
+        assertTrue(estimator instanceof CharacterRatioTokenEstimatorImpl);
+    }
+
+    private static TokenEstimator tiktokenEstimator(String property, String variable, TokenizerEncodingEnum encoding) throws IOException {
+        String location = System.getProperty(property, System.getenv(variable));
+        assumeTrue(location != null && !location.trim().isEmpty(), "Set " + property + " to run the golden count test");
+        return new TokenEstimatorFactoryImpl(new ResourceLoaderImpl()).create(location, encoding, 4.0);
+    }
+
+    private static BpeVocabulary syntheticVocabulary() {
+        return BpeVocabulary.parse(String.join("\n", vocabularyLines(false)));
+    }
+
+    /**
+     * All single bytes, then every word of two to four letters over {@value #ALPHABET} with shuffled ranks.
+     */
+    private static List<String> vocabularyLines(boolean withExtraToken) {
+        List<String> words = new ArrayList<>();
+        for (int length = 2; length <= 4; length++) {
+            addWords(words, "", length);
+        }
+        Collections.shuffle(words, new Random(1));
+        if (withExtraToken) {
+            words.add("aaaaa");
+        }
+
+        List<String> lines = new ArrayList<>();
+        Base64.Encoder encoder = Base64.getEncoder();
+        for (int b = 0; b < 256; b++) {
+            lines.add(encoder.encodeToString(new byte[]{(byte) b}) + " " + b);
+        }
+        for (int i = 0; i < words.size(); i++) {
+            lines.add(encoder.encodeToString(words.get(i).getBytes(StandardCharsets.UTF_8)) + " " + (256 + i));
+        }
+        return lines;
+    }
+
+    private static void addWords(List<String> words, String prefix, int length) {
+        if (prefix.length() == length) {
+            words.add(prefix);
+            return;
+        }
+        for (char c : ALPHABET.toCharArray()) {
+            addWords(words, prefix + c, length);
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return word.toString();
+    }
+
+    private static int referenceCount(BpeVocabulary vocabulary, byte[] piece) {
+        List<byte[]> parts = new ArrayList<>();
+        for (byte b : piece) {
+            parts.add(new byte[]{b});
+        }
+        while (true) {
+            int minRank = BpeVocabulary.NO_RANK;
+            int minIndex = -1;
+            for (int i = 0; i < parts.size() - 1; i++) {
+                byte[] pair = concat(parts.get(i), parts.get(i + 1));
+                int rank = vocabulary.rank(pair, 0, pair.length);
+                if (rank < minRank) {
+                    minRank = rank;
+                    minIndex = i;
+                }
+            }
+            if (minIndex < 0) {
+                return parts.size();
+            }
+            parts.set(minIndex, concat(parts.get(minIndex), parts.remove(minIndex + 1)));
+        }
+    }
+
+    private static byte[] concat(byte[] left, byte[] right) {
+        byte[] result = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, result, left.length, right.length);
+        return result;
+    }
+}